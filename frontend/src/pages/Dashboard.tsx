@@ -1,30 +1,65 @@
-import { useQuery } from '@tanstack/react-query';
+import { useEffect } from 'react';
+import { useQuery, useQueryClient } from '@tanstack/react-query';
 import { AlertCircle, Server, FileText, Users, RefreshCw } from 'lucide-react';
 import { kafkaApi } from '../services/kafkaApi';
 
 const Dashboard = () => {
+  const queryClient = useQueryClient();
+
+  // Changes are pushed by the server, so queries are only refetched when something they show has changed
+  useEffect(() => {
+    const resyncAll = () => {
+      queryClient.invalidateQueries({ queryKey: ['topics'] });
+      queryClient.invalidateQueries({ queryKey: ['consumerGroups'] });
+      queryClient.invalidateQueries({ queryKey: ['cluster'] });
+      queryClient.invalidateQueries({ queryKey: ['underReplicated'] });
+    };
+    return kafkaApi.subscribeClusterEvents({
+      onDelta: (delta) => {
+        if (delta.resync) {
+          resyncAll();
+          return;
+        }
+        if (delta.topicsAdded?.length || delta.topicsRemoved?.length) {
+          queryClient.invalidateQueries({ queryKey: ['topics'] });
+        }
+        if (delta.groups?.length) {
+          queryClient.invalidateQueries({ queryKey: ['consumerGroups'] });
+        }
+        if (delta.brokersJoined?.length || delta.brokersLeft?.length) {
+          queryClient.invalidateQueries({ queryKey: ['cluster'] });
+        }
+        if (delta.partitions?.length) {
+          queryClient.invalidateQueries({ queryKey: ['underReplicated'] });
+        }
+      },
+      onResync: resyncAll,
+    });
+  }, [queryClient]);
+
   const { data: topics, isLoading: topicsLoading, refetch: refetchTopics } = useQuery({
-    queryKey: ['topics'],
-    queryFn: () => kafkaApi.listTopics(),
-    refetchInterval: 30000, // Refresh every 30 seconds
+    queryKey: ['topics', 'summary'],
+    // Only the count and the first few names are shown, so fetch a single small page
+    queryFn: () => kafkaApi.listTopicsPage({ limit: 5 }),
+    staleTime: Infinity,
   });
 
   const { data: consumerGroups, isLoading: groupsLoading, refetch: refetchGroups } = useQuery({
     queryKey: ['consumerGroups'],
     queryFn: () => kafkaApi.listConsumerGroups(),
-    refetchInterval: 30000,
+    staleTime: Infinity,
   });
 
   const { data: cluster, isLoading: clusterLoading, refetch: refetchCluster } = useQuery({
     queryKey: ['cluster'],
     queryFn: () => kafkaApi.getClusterInfo(),
-    refetchInterval: 30000,
+    staleTime: Infinity,
   });
 
   const { data: underReplicated, refetch: refetchUnderReplicated } = useQuery({
     queryKey: ['underReplicated'],
     queryFn: () => kafkaApi.getUnderReplicatedPartitions(),
-    refetchInterval: 30000,
+    staleTime: Infinity,
   });
 
   const handleRefreshAll = () => {
@@ -37,7 +72,7 @@ const Dashboard = () => {
   const stats = [
     {
       name: 'Total Topics',
-      value: topics?.length ?? 0,
+      value: topics?.total ?? 0,
       icon: FileText,
       color: 'bg-blue-500',
       loading: topicsLoading,
@@ -162,13 +197,13 @@ const Dashboard = () => {
       )}
 
       {/* Recent Topics */}
-      {topics && topics.length > 0 && (
+      {topics && topics.content.length > 0 && (
         <div className="bg-white dark:bg-gray-800 rounded-lg shadow border border-gray-200 dark:border-gray-700 p-6">
           <h2 className="text-lg font-semibold text-gray-900 dark:text-white mb-4">
             Recent Topics
           </h2>
           <div className="space-y-2">
-            {topics.slice(0, 5).map((topic: any) => (
+            {topics.content.map((topic: any) => (
               <div
                 key={topic.name}
                 className="flex items-center justify-between p-3 bg-gray-50 dark:bg-gray-700/50 rounded-lg"
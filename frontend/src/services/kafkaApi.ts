@@ -4,16 +4,32 @@ const API_BASE_URL = '/api';
 
 export interface Topic {
   name: string;
+  partitions: number;
   status: string;
   message: string;
-  _links?: {
-    self: { href: string };
-    delete: { href: string };
-  };
+  links?: Array<{ rel: string; href: string }>;
 }
 
+export interface TopicPage {
+  content: Topic[];
+  total: number;
+  nextCursor?: string;
+}
+
+export interface TopicQuery {
+  prefix?: string;
+  pattern?: string;
+  sort?: 'asc' | 'desc';
+  cursor?: string;
+  limit?: number;
+}
+
+// Brokers are listed once; partitions refer to them by id (leader is -1 when there is none)
 export interface TopicDescription {
   name: string;
+  topicId?: string;
+  internal: boolean;
+  brokers: ClusterNode[];
   partitions: Array<{
     partition: number;
     leader: number;
@@ -22,12 +38,85 @@ export interface TopicDescription {
   }>;
 }
 
+export interface ConsumerGroupDescription {
+  groupId: string;
+  simple: boolean;
+  state?: string;
+  partitionAssignor?: string;
+  coordinator?: ClusterNode;
+  members: Array<{
+    memberId: string;
+    groupInstanceId?: string;
+    clientId: string;
+    host: string;
+    // Topic name -> assigned partitions
+    assignment: Record<string, number[]>;
+  }>;
+}
+
 export interface ConsumerGroup {
   groupId: string;
   isSimpleConsumerGroup: boolean;
   state?: string;
 }
 
+export interface PartitionLag {
+  partition: number;
+  committedOffset: number;
+  endOffset: number;
+  lag: number;
+}
+
+export interface GroupLag {
+  groupId: string;
+  lag: number;
+  topics: { topic: string; lag: number; partitions: PartitionLag[] }[];
+  computedAt: string;
+}
+
+export interface GroupLagSummary {
+  groupId: string;
+  lag: number;
+  topics: number;
+  partitions: number;
+}
+
+export interface SeriesHistory {
+  series: string;
+  unit: string;
+  from: string;
+  to: string;
+  bucketMs: number;
+  buckets: { start: string; min: number; max: number; avg: number; samples: number }[];
+}
+
+export interface ClusterTotals {
+  brokers: number;
+  topics: number;
+  consumerGroups: number;
+  underReplicatedPartitions: number;
+}
+
+export interface ClusterDelta {
+  sequence: number;
+  fetchedAt: string;
+  topicsAdded?: string[];
+  topicsRemoved?: string[];
+  partitions?: { topic: string; partition: number; state: string }[];
+  brokersJoined?: ClusterNode[];
+  brokersLeft?: number[];
+  groups?: { groupId: string; previousState?: string; state?: string }[];
+  resync?: boolean;
+  totals: ClusterTotals;
+}
+
+export interface ClusterEventHandlers {
+  onTotals?: (totals: ClusterTotals) => void;
+  onDelta?: (delta: ClusterDelta) => void;
+  // The stream fell behind or reconnected; reload everything
+  onResync?: () => void;
+}
+
 export interface ClusterNode {
   id: number;
   host: string;
@@ -48,16 +137,36 @@ class KafkaApiService {
     return response.data.content || [];
   }
 
+  async listTopicsPage(query: TopicQuery = {}): Promise<TopicPage> {
+    const response = await axios.get(`${API_BASE_URL}/topics`, { params: query });
+    return response.data;
+  }
+
   async getTopic(name: string): Promise<TopicDescription> {
     const response = await axios.get(`${API_BASE_URL}/topics/${name}`);
     return response.data;
   }
 
+  async describeTopics(names: string[]): Promise<{ topics: Record<string, TopicDescription>; missing: string[] }> {
+    const response = await axios.post(`${API_BASE_URL}/topics/describe`, { topics: names });
+    return response.data;
+  }
+
   async createTopic(data: CreateTopicRequest) {
     const response = await axios.post(`${API_BASE_URL}/topics`, data);
     return response.data;
   }
 
+  async createTopics(topics: CreateTopicRequest[]) {
+    const response = await axios.post(`${API_BASE_URL}/topics/bulk`, { topics });
+    return response.data;
+  }
+
+  async deleteTopics(names: string[]) {
+    const response = await axios.post(`${API_BASE_URL}/topics/bulk-delete`, { topics: names });
+    return response.data;
+  }
+
   async deleteTopic(name: string) {
     const response = await axios.delete(`${API_BASE_URL}/topics/${name}`);
     return response.data;
@@ -74,17 +183,55 @@ class KafkaApiService {
     return response.data || [];
   }
 
-  async getConsumerGroup(groupId: string) {
+  async getConsumerGroup(groupId: string): Promise<ConsumerGroupDescription> {
     const response = await axios.get(`${API_BASE_URL}/consumer-groups/${groupId}`);
     return response.data;
   }
 
+  async getConsumerGroupLag(groupId: string): Promise<GroupLag> {
+    const response = await axios.get(`${API_BASE_URL}/consumer-groups/${groupId}/lag`);
+    return response.data;
+  }
+
+  async getTopGroupLag(limit = 10): Promise<{ groups: GroupLagSummary[] }> {
+    const response = await axios.get(`${API_BASE_URL}/consumer-groups/lag/top`, { params: { limit } });
+    return response.data;
+  }
+
+  async getConsumerGroupLagHistory(groupId: string, buckets = 60): Promise<SeriesHistory> {
+    const response = await axios.get(`${API_BASE_URL}/consumer-groups/${groupId}/lag/history`, { params: { buckets } });
+    return response.data;
+  }
+
+  async getTopicThroughput(topicName: string, buckets = 60): Promise<SeriesHistory> {
+    const response = await axios.get(`${API_BASE_URL}/topics/${topicName}/throughput`, { params: { buckets } });
+    return response.data;
+  }
+
   // Cluster
   async getClusterInfo() {
     const response = await axios.get(`${API_BASE_URL}/cluster`);
     return response.data;
   }
 
+  // Push channel: one shared server-side watch loop, only changes are sent.
+  // Returns a function that closes the subscription.
+  subscribeClusterEvents(handlers: ClusterEventHandlers): () => void {
+    const source = new EventSource(`${API_BASE_URL}/events`);
+    let connectedBefore = false;
+    source.onopen = () => {
+      // EventSource reconnects on its own; changes made while disconnected were missed
+      if (connectedBefore) {
+        handlers.onResync?.();
+      }
+      connectedBefore = true;
+    };
+    source.addEventListener('totals', (event) => handlers.onTotals?.(JSON.parse((event as MessageEvent).data)));
+    source.addEventListener('delta', (event) => handlers.onDelta?.(JSON.parse((event as MessageEvent).data)));
+    source.addEventListener('resync', () => handlers.onResync?.());
+    return () => source.close();
+  }
+
   // Health
   async getHealth() {
     const response = await axios.get(`/actuator/health`);
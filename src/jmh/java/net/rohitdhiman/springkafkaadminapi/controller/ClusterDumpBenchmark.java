@@ -0,0 +1,139 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode time of {@code GET /api/cluster/dump} for 2000 topics of 12 partitions and 500 consumer groups,
+ * per format and Content-Encoding. The encoded size of each combination is reported as the {@code bytes}
+ * counter next to the timing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ClusterDumpBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"identity", "gzip", "zstd"})
+    public String encoding;
+
+    private ClusterSnapshot snapshot;
+    private ObjectWriter writer;
+    private String contentEncoding;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Node> brokers = new ArrayList<>();
+        for (int id = 1; id <= 9; id++) {
+            brokers.add(new Node(id, "broker-" + id + ".kafka.internal", 9092, "rack-" + (id % 3)));
+        }
+        Map<String, TopicDescription> topics = new HashMap<>();
+        for (int t = 0; t < 2000; t++) {
+            List<TopicPartitionInfo> partitions = new ArrayList<>();
+            for (int p = 0; p < 12; p++) {
+                int first = (t + p) % 9;
+                List<Node> replicas = List.of(brokers.get(first), brokers.get((first + 1) % 9),
+                        brokers.get((first + 2) % 9));
+                partitions.add(new TopicPartitionInfo(p, replicas.get(0), replicas, replicas));
+            }
+            String name = String.format("tenant-%02d.events-%04d", t % 40, t);
+            topics.put(name, new TopicDescription(name, false, partitions));
+        }
+        List<ConsumerGroupListing> groups = new ArrayList<>();
+        for (int g = 0; g < 500; g++) {
+            groups.add(new ConsumerGroupListing("service-" + g, false, Optional.of(ConsumerGroupState.STABLE)));
+        }
+        List<NodeInfo> nodes = brokers.stream().map(NodeInfo::new).toList();
+        snapshot = ClusterSnapshot.of(new ClusterInfo("bench", nodes.get(0), nodes), topics, groups, Instant.now());
+
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+        writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        contentEncoding = encoding.equals("identity") ? null : encoding;
+    }
+
+    /** Size of the last encoded dump; every dump of a combination has the same size. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long bytes;
+    }
+
+    @Benchmark
+    public void dump(Blackhole blackhole, EncodedSize size) throws IOException {
+        CountingOutputStream sink = new CountingOutputStream(blackhole);
+        dump(sink);
+        size.bytes = sink.count;
+    }
+
+    private void dump(OutputStream sink) throws IOException {
+        try (JsonGenerator json = writer.createGenerator(ClusterDumpController.encode(sink, contentEncoding))) {
+            ClusterDumpController.writeDump(json, writer, snapshot);
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+        private long count;
+
+        private CountingOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+            blackhole.consume(b);
+        }
+    }
+}
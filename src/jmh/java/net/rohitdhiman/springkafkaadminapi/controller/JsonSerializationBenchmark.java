@@ -0,0 +1,159 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.rohitdhiman.springkafkaadminapi.config.KafkaJacksonModule;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.ConsumerGroupDetails;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDetails;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicPage;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.TopicQuery;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberAssignment;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the response bodies on the busiest endpoints, with the object mapper Spring
+ * Boot configures for MVC. Output goes to a discarding stream so only the serializer is measured.
+ * Topic and group descriptions are measured in both shapes: the compact DTOs (including the conversion
+ * from the Kafka type, as on the request path) and the legacy shape with every node nested in full.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "1000"})
+    public int partitionCount;
+
+    private ObjectMapper mapper;
+    private OutputStream sink;
+    private TopicDescription topic;
+    private ConsumerGroupDescription group;
+    private TopicDetails topicDetails;
+    private ClusterInfo cluster;
+    private TopicPage page;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        mapper = Jackson2ObjectMapperBuilder.json().modules(new KafkaJacksonModule()).build();
+        sink = new OutputStream() {
+            @Override
+            public void write(int b) {
+                blackhole.consume(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                blackhole.consume(len);
+            }
+        };
+
+        List<Node> brokers = new ArrayList<>();
+        for (int id = 1; id <= 9; id++) {
+            brokers.add(new Node(id, "broker-" + id + ".kafka.internal", 9092, "rack-" + (id % 3)));
+        }
+
+        List<TopicPartitionInfo> partitions = new ArrayList<>();
+        for (int p = 0; p < partitionCount; p++) {
+            List<Node> replicas = List.of(brokers.get(p % 9), brokers.get((p + 1) % 9), brokers.get((p + 2) % 9));
+            partitions.add(new TopicPartitionInfo(p, replicas.get(0), replicas, replicas));
+        }
+        topic = new TopicDescription("orders", false, partitions);
+        topicDetails = TopicDetails.of(topic);
+
+        List<MemberDescription> members = new ArrayList<>();
+        for (int m = 0; m < 20; m++) {
+            Set<TopicPartition> assigned = new HashSet<>();
+            assigned.add(new TopicPartition("orders", m));
+            assigned.add(new TopicPartition("orders", m + 20));
+            members.add(new MemberDescription("consumer-" + m + "-3f9c2a", Optional.empty(), "consumer-" + m,
+                    "/10.0.0." + m, new MemberAssignment(assigned)));
+        }
+        group = new ConsumerGroupDescription("order-processor", false, members, "range", ConsumerGroupState.STABLE,
+                brokers.get(0));
+
+        List<NodeInfo> nodes = brokers.stream().map(NodeInfo::new).toList();
+        cluster = new ClusterInfo("kafka-bench-cluster", nodes.get(0), nodes);
+
+        Map<String, TopicDescription> topics = new TreeMap<>();
+        for (int i = 0; i < 100; i++) {
+            String name = String.format("topic-%03d", i);
+            topics.put(name, new TopicDescription(name, false, partitions.subList(0, 12)));
+        }
+        ClusterSnapshot snapshot = ClusterSnapshot.of(cluster, topics, List.of(), Instant.now());
+        String topicsHref = "http://localhost:8080/api/topics";
+        page = KafkaController.topicPage(snapshot, TopicQuery.of(null, null, null, null), 100, topicsHref,
+                UriComponentsBuilder.fromUriString(topicsHref));
+    }
+
+    @Benchmark
+    public void topicLegacy() throws IOException {
+        mapper.writeValue(sink, topic);
+    }
+
+    @Benchmark
+    public void topicDetails() throws IOException {
+        mapper.writeValue(sink, topicDetails);
+    }
+
+    @Benchmark
+    public void topicDetailsFromDescription() throws IOException {
+        mapper.writeValue(sink, TopicDetails.of(topic));
+    }
+
+    @Benchmark
+    public void consumerGroupLegacy() throws IOException {
+        mapper.writeValue(sink, group);
+    }
+
+    @Benchmark
+    public void consumerGroupDetails() throws IOException {
+        mapper.writeValue(sink, ConsumerGroupDetails.of(group));
+    }
+
+    @Benchmark
+    public void clusterInfo() throws IOException {
+        mapper.writeValue(sink, cluster);
+    }
+
+    @Benchmark
+    public void topicPage() throws IOException {
+        mapper.writeValue(sink, page);
+    }
+}
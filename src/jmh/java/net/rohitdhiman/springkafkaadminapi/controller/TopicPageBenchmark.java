@@ -0,0 +1,98 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicPage;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.TopicQuery;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Assembly of one {@code GET /api/topics} page with its HATEOAS links from the metadata snapshot: the
+ * first page, a page resumed from a cursor deep into the listing, and a prefix plus regex filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TopicPageBenchmark {
+
+    private static final String TOPICS_HREF = "http://localhost:8080/api/topics";
+
+    @Param({"1000", "10000"})
+    public int topics;
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    private ClusterSnapshot snapshot;
+    private TopicQuery firstPage;
+    private TopicQuery deepPage;
+    private TopicQuery filtered;
+
+    @Setup
+    public void setUp() {
+        Node broker = new Node(1, "broker-1", 9092);
+        List<TopicPartitionInfo> partitions = new ArrayList<>();
+        for (int p = 0; p < 12; p++) {
+            partitions.add(new TopicPartitionInfo(p, broker, List.of(broker), List.of(broker)));
+        }
+        Map<String, TopicDescription> descriptions = new TreeMap<>();
+        for (int i = 0; i < topics; i++) {
+            String name = (i % 4 == 0 ? "orders." : "events.") + String.format("%06d", i);
+            descriptions.put(name, new TopicDescription(name, false, partitions));
+        }
+        NodeInfo node = new NodeInfo(broker);
+        snapshot = ClusterSnapshot.of(new ClusterInfo("bench", node, List.of(node)), descriptions, List.of(),
+                Instant.now());
+
+        firstPage = TopicQuery.of(null, null, null, null);
+        String middle = new ArrayList<>(snapshot.topics().keySet()).get(topics / 2);
+        deepPage = new TopicQuery(null, null, false, middle);
+        filtered = TopicQuery.of("orders.", ".*[02468]$", "desc", null);
+    }
+
+    @Benchmark
+    public TopicPage firstPage() {
+        return page(firstPage);
+    }
+
+    @Benchmark
+    public TopicPage deepPage() {
+        return page(deepPage);
+    }
+
+    @Benchmark
+    public TopicPage filteredPage() {
+        return page(filtered);
+    }
+
+    private TopicPage page(TopicQuery query) {
+        // A fresh builder per request, as ServletUriComponentsBuilder.fromCurrentRequest() would give.
+        UriComponentsBuilder pageLink = UriComponentsBuilder.fromUriString(TOPICS_HREF + "?limit=" + pageSize);
+        return KafkaController.topicPage(snapshot, query, pageSize, TOPICS_HREF, pageLink);
+    }
+}
@@ -0,0 +1,102 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Under-replicated partition detection over clusters of 10k to 500k partitions (50 per topic, about 1%
+ * under-replicated): the full scan of a {@link ClusterSnapshot}, the {@link PartitionHealthIndex} update
+ * applied on each metadata refresh, and the index read served by {@code /api/topics/under-replicated}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PartitionHealthBenchmark {
+
+    private static final int PARTITIONS_PER_TOPIC = 50;
+    private static final int UNDER_REPLICATED_EVERY = 100;
+
+    @Param({"10000", "100000", "500000"})
+    public int partitions;
+
+    private ClusterSnapshot snapshot;
+    private Map<String, TopicDescription> steady;
+    private Map<String, TopicDescription> churned;
+    private PartitionHealthIndex index;
+    private boolean flip;
+
+    @Setup
+    public void setUp() {
+        List<Node> brokers = List.of(new Node(1, "broker-1", 9092), new Node(2, "broker-2", 9092),
+                new Node(3, "broker-3", 9092));
+        steady = new HashMap<>();
+        for (int topic = 0, partition = 0; partition < partitions; topic++) {
+            String name = String.format("topic-%06d", topic);
+            List<TopicPartitionInfo> infos = new ArrayList<>(PARTITIONS_PER_TOPIC);
+            for (int p = 0; p < PARTITIONS_PER_TOPIC && partition < partitions; p++, partition++) {
+                List<Node> isr = partition % UNDER_REPLICATED_EVERY == 0 ? brokers.subList(0, 2) : brokers;
+                infos.add(new TopicPartitionInfo(p, brokers.get(p % 3), brokers, isr));
+            }
+            steady.put(name, new TopicDescription(name, false, infos));
+        }
+
+        // Same cluster with one topic's partitions all shrunk, to measure a refresh that carries changes.
+        churned = new HashMap<>(steady);
+        TopicDescription first = steady.get("topic-000000");
+        List<TopicPartitionInfo> shrunk = first.partitions().stream()
+                .map(info -> new TopicPartitionInfo(info.partition(), info.leader(), info.replicas(),
+                        info.replicas().subList(0, 1)))
+                .toList();
+        churned.put(first.name(), new TopicDescription(first.name(), false, shrunk));
+
+        List<NodeInfo> nodes = brokers.stream().map(NodeInfo::new).toList();
+        snapshot = ClusterSnapshot.of(new ClusterInfo("bench", nodes.get(0), nodes), steady, List.of(), Instant.now());
+        index = new PartitionHealthIndex(50_000);
+        index.apply(steady);
+    }
+
+    @Benchmark
+    public Map<String, List<Integer>> snapshotScan() {
+        return snapshot.underReplicatedPartitions();
+    }
+
+    @Benchmark
+    public long indexApplyUnchanged() {
+        return index.apply(steady);
+    }
+
+    @Benchmark
+    public long indexApplyWithChanges() {
+        flip = !flip;
+        return index.apply(flip ? churned : steady);
+    }
+
+    @Benchmark
+    public Map<String, List<Integer>> indexRead() {
+        return index.underReplicatedPartitions();
+    }
+}
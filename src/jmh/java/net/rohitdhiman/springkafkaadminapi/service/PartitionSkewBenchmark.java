@@ -0,0 +1,75 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PartitionSkewAnalyzer} over clusters of 15k and 150k partitions (replication factor 3, 50 per topic)
+ * on 12 brokers in 3 racks, with about 2% of the partitions led by a non-preferred replica. This is the work
+ * added to every metadata refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PartitionSkewBenchmark {
+
+    private static final int PARTITIONS_PER_TOPIC = 50;
+    private static final int BROKERS = 12;
+    private static final int DRIFTED_EVERY = 50;
+
+    @Param({"15000", "150000"})
+    public int partitions;
+
+    private ClusterSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        List<Node> brokers = new ArrayList<>();
+        for (int id = 1; id <= BROKERS; id++) {
+            brokers.add(new Node(id, "broker-" + id, 9092, "rack-" + id % 3));
+        }
+        Map<String, TopicDescription> topics = new HashMap<>();
+        for (int topic = 0, partition = 0; partition < partitions; topic++) {
+            String name = String.format("topic-%05d", topic);
+            List<TopicPartitionInfo> infos = new ArrayList<>(PARTITIONS_PER_TOPIC);
+            for (int p = 0; p < PARTITIONS_PER_TOPIC && partition < partitions; p++, partition++) {
+                List<Node> replicas = List.of(brokers.get(partition % BROKERS),
+                        brokers.get((partition + 1) % BROKERS), brokers.get((partition + 2) % BROKERS));
+                Node leader = replicas.get(partition % DRIFTED_EVERY == 0 ? 1 : 0);
+                infos.add(new TopicPartitionInfo(p, leader, replicas, replicas));
+            }
+            topics.put(name, new TopicDescription(name, false, infos));
+        }
+        List<NodeInfo> nodes = brokers.stream().map(NodeInfo::new).toList();
+        snapshot = ClusterSnapshot.of(new ClusterInfo("bench", nodes.get(0), nodes), topics, List.of(), Instant.now());
+    }
+
+    @Benchmark
+    public Object analyze() {
+        return PartitionSkewAnalyzer.analyze(snapshot);
+    }
+}
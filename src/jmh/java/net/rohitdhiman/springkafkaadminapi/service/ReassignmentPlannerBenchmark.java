@@ -0,0 +1,74 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReassignmentPlanner} over clusters of 20k to 200k partitions (replication factor 3, 50 per topic) that
+ * just gained a seventh broker: replicas and leaders are spread from the six original brokers, over two racks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ReassignmentPlannerBenchmark {
+
+    private static final int PARTITIONS_PER_TOPIC = 50;
+    private static final int ORIGINAL_BROKERS = 6;
+
+    @Param({"20000", "200000"})
+    public int partitions;
+
+    private ClusterSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        List<Node> brokers = new ArrayList<>();
+        for (int id = 1; id <= ORIGINAL_BROKERS + 1; id++) {
+            brokers.add(new Node(id, "broker-" + id, 9092, id % 2 == 0 ? "rack-a" : "rack-b"));
+        }
+        Map<String, TopicDescription> topics = new HashMap<>();
+        for (int topic = 0, partition = 0; partition < partitions; topic++) {
+            String name = String.format("topic-%05d", topic);
+            List<TopicPartitionInfo> infos = new ArrayList<>(PARTITIONS_PER_TOPIC);
+            for (int p = 0; p < PARTITIONS_PER_TOPIC && partition < partitions; p++, partition++) {
+                List<Node> replicas = List.of(brokers.get(partition % ORIGINAL_BROKERS),
+                        brokers.get((partition + 1) % ORIGINAL_BROKERS),
+                        brokers.get((partition + 2) % ORIGINAL_BROKERS));
+                infos.add(new TopicPartitionInfo(p, replicas.get(0), replicas, replicas));
+            }
+            topics.put(name, new TopicDescription(name, false, infos));
+        }
+        List<NodeInfo> nodes = brokers.stream().map(NodeInfo::new).toList();
+        snapshot = ClusterSnapshot.of(new ClusterInfo("bench", nodes.get(0), nodes), topics, List.of(), Instant.now());
+    }
+
+    @Benchmark
+    public ReassignmentPlan planNewBroker() {
+        return ReassignmentPlanner.plan(snapshot, null, null);
+    }
+}
@@ -0,0 +1,39 @@
+package net.rohitdhiman.springkafkaadminapi.config;
+
+import net.rohitdhiman.springkafkaadminapi.service.AdminOperation;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-operation deadlines for AdminClient calls. Operations without an explicit entry use {@code default-timeout}.
+ */
+@ConfigurationProperties(prefix = "kafka.admin.timeouts")
+public class AdminTimeoutProperties {
+
+    private Duration defaultTimeout = Duration.ofSeconds(30);
+
+    private Map<AdminOperation, Duration> operations = new EnumMap<>(AdminOperation.class);
+
+    public Duration forOperation(AdminOperation operation) {
+        return operations.getOrDefault(operation, defaultTimeout);
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public void setDefaultTimeout(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public Map<AdminOperation, Duration> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(Map<AdminOperation, Duration> operations) {
+        this.operations = operations;
+    }
+}
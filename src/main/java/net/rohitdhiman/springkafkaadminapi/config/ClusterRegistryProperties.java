@@ -0,0 +1,93 @@
+package net.rohitdhiman.springkafkaadminapi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Additional Kafka clusters served next to the default one ({@code spring.kafka.bootstrap-servers}),
+ * keyed by the name used in {@code /api/clusters/{cluster}/...} routes.
+ */
+@ConfigurationProperties(prefix = "kafka.admin.registry")
+public class ClusterRegistryProperties {
+
+    private Map<String, Cluster> clusters = new LinkedHashMap<>();
+
+    // AdminClients of named clusters unused for this long are closed, and recreated on the next request.
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(5);
+
+    // Deadline for each cluster's part of a federated request; slower clusters are reported unavailable.
+    private Duration federationTimeout = Duration.ofSeconds(10);
+
+    public Map<String, Cluster> getClusters() {
+        return clusters;
+    }
+
+    public void setClusters(Map<String, Cluster> clusters) {
+        this.clusters = clusters;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public Duration getHealthCheckTimeout() {
+        return healthCheckTimeout;
+    }
+
+    public void setHealthCheckTimeout(Duration healthCheckTimeout) {
+        this.healthCheckTimeout = healthCheckTimeout;
+    }
+
+    public Duration getFederationTimeout() {
+        return federationTimeout;
+    }
+
+    public void setFederationTimeout(Duration federationTimeout) {
+        this.federationTimeout = federationTimeout;
+    }
+
+    public static class Cluster {
+
+        private String bootstrapServers;
+
+        // This cluster's own AdminClient concurrency budget, separate from every other cluster's.
+        private int maxInFlight = 16;
+
+        // Extra AdminClient settings, e.g. security.protocol or sasl.jaas.config.
+        private Map<String, String> properties = new HashMap<>();
+
+        public String getBootstrapServers() {
+            return bootstrapServers;
+        }
+
+        public void setBootstrapServers(String bootstrapServers) {
+            this.bootstrapServers = bootstrapServers;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        public void setProperties(Map<String, String> properties) {
+            this.properties = properties;
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package net.rohitdhiman.springkafkaadminapi.config;
 
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterRegistry;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Properties;
 
 @Configuration
+@EnableConfigurationProperties({AdminTimeoutProperties.class, ClusterRegistryProperties.class})
 public class KafkaConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -20,4 +25,19 @@ public class KafkaConfig {
         props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         return AdminClient.create(props);
     }
+
+    /**
+     * Publishes the AdminClient's own metrics (request latency, connections, I/O) as {@code kafka.admin.client.*}
+     * meters. Registry clusters bind theirs when their client is opened.
+     */
+    @Bean
+    public KafkaClientMetrics adminClientMetrics(AdminClient adminClient) {
+        return new KafkaClientMetrics(adminClient, Tags.of("cluster", ClusterRegistry.DEFAULT_CLUSTER));
+    }
+
+    /** Picked up by Spring Boot's Jackson auto-configuration for the legacy description shape. */
+    @Bean
+    public KafkaJacksonModule kafkaJacksonModule() {
+        return new KafkaJacksonModule();
+    }
 }
@@ -0,0 +1,149 @@
+package net.rohitdhiman.springkafkaadminapi.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.acl.AclOperation;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes Kafka's own {@link TopicDescription}, {@link ConsumerGroupDescription} and {@link Node} in the
+ * legacy response shape ({@code ?legacy=true}): every node nested in full wherever it appears, field names
+ * following the Kafka accessors. These classes have no bean getters, so without this module Jackson would
+ * write little more than {@code {"internal":false}} for them.
+ */
+public class KafkaJacksonModule extends SimpleModule {
+
+    public KafkaJacksonModule() {
+        super("KafkaJacksonModule");
+        addSerializer(Node.class, new NodeSerializer());
+        addSerializer(TopicDescription.class, new TopicDescriptionSerializer());
+        addSerializer(ConsumerGroupDescription.class, new ConsumerGroupDescriptionSerializer());
+    }
+
+    static class NodeSerializer extends StdSerializer<Node> {
+
+        NodeSerializer() {
+            super(Node.class);
+        }
+
+        @Override
+        public void serialize(Node node, JsonGenerator json, SerializerProvider provider) throws IOException {
+            json.writeStartObject();
+            json.writeNumberField("id", node.id());
+            json.writeStringField("host", node.host());
+            json.writeNumberField("port", node.port());
+            json.writeStringField("rack", node.rack());
+            json.writeEndObject();
+        }
+    }
+
+    static class TopicDescriptionSerializer extends StdSerializer<TopicDescription> {
+
+        TopicDescriptionSerializer() {
+            super(TopicDescription.class);
+        }
+
+        @Override
+        public void serialize(TopicDescription topic, JsonGenerator json, SerializerProvider provider)
+                throws IOException {
+            json.writeStartObject();
+            json.writeStringField("name", topic.name());
+            json.writeBooleanField("internal", topic.isInternal());
+            json.writeArrayFieldStart("partitions");
+            for (TopicPartitionInfo partition : topic.partitions()) {
+                json.writeStartObject();
+                json.writeNumberField("partition", partition.partition());
+                json.writeFieldName("leader");
+                writeNode(json, partition.leader(), provider);
+                writeNodes(json, "replicas", partition.replicas(), provider);
+                writeNodes(json, "isr", partition.isr(), provider);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            writeOperations(json, topic.authorizedOperations());
+            json.writeStringField("topicId", topic.topicId() == null ? null : topic.topicId().toString());
+            json.writeEndObject();
+        }
+    }
+
+    static class ConsumerGroupDescriptionSerializer extends StdSerializer<ConsumerGroupDescription> {
+
+        ConsumerGroupDescriptionSerializer() {
+            super(ConsumerGroupDescription.class);
+        }
+
+        @Override
+        public void serialize(ConsumerGroupDescription group, JsonGenerator json, SerializerProvider provider)
+                throws IOException {
+            json.writeStartObject();
+            json.writeStringField("groupId", group.groupId());
+            json.writeBooleanField("isSimpleConsumerGroup", group.isSimpleConsumerGroup());
+            json.writeArrayFieldStart("members");
+            for (MemberDescription member : group.members()) {
+                json.writeStartObject();
+                json.writeStringField("consumerId", member.consumerId());
+                json.writeStringField("groupInstanceId", member.groupInstanceId().orElse(null));
+                json.writeStringField("clientId", member.clientId());
+                json.writeStringField("host", member.host());
+                json.writeObjectFieldStart("assignment");
+                json.writeArrayFieldStart("topicPartitions");
+                for (TopicPartition partition : member.assignment().topicPartitions()) {
+                    json.writeStartObject();
+                    json.writeStringField("topic", partition.topic());
+                    json.writeNumberField("partition", partition.partition());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeStringField("partitionAssignor", group.partitionAssignor());
+            json.writeStringField("state", group.state() == null ? null : group.state().name());
+            json.writeFieldName("coordinator");
+            writeNode(json, group.coordinator(), provider);
+            writeOperations(json, group.authorizedOperations());
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeNode(JsonGenerator json, Node node, SerializerProvider provider) throws IOException {
+        if (node == null) {
+            json.writeNull();
+        } else {
+            provider.findValueSerializer(Node.class).serialize(node, json, provider);
+        }
+    }
+
+    private static void writeNodes(JsonGenerator json, String field, List<Node> nodes, SerializerProvider provider)
+            throws IOException {
+        json.writeArrayFieldStart(field);
+        for (Node node : nodes) {
+            writeNode(json, node, provider);
+        }
+        json.writeEndArray();
+    }
+
+    private static void writeOperations(JsonGenerator json, Set<AclOperation> operations) throws IOException {
+        if (operations == null) {
+            json.writeNullField("authorizedOperations");
+            return;
+        }
+        json.writeArrayFieldStart("authorizedOperations");
+        for (AclOperation operation : operations) {
+            json.writeString(operation.name());
+        }
+        json.writeEndArray();
+    }
+}
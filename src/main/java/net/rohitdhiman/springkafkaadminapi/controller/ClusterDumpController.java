@@ -0,0 +1,196 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.luben.zstd.ZstdOutputStream;
+import net.rohitdhiman.springkafkaadminapi.config.BinaryFormatsConfig;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDetails;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams the whole cached cluster state in one response: cluster info, every topic with its partitions
+ * (as {@link TopicDetails}) and every consumer group. Meant for automation that mirrors the cluster
+ * periodically, so the document is written topic by topic instead of being built in memory first.
+ * <p>
+ * The format follows {@code Accept} (JSON, CBOR or Smile) and the body is compressed with zstd or gzip
+ * when {@code Accept-Encoding} allows it, zstd winning at equal preference.
+ */
+@RestController
+@RequestMapping("/api")
+public class ClusterDumpController {
+
+    static final String ZSTD = "zstd";
+    static final String GZIP = "gzip";
+    private static final List<MediaType> FORMATS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR,
+            BinaryFormatsConfig.APPLICATION_SMILE);
+
+    private final ClusterMetadataCache metadataCache;
+    private final ObjectWriter jsonWriter;
+    private final ObjectWriter cborWriter;
+    private final ObjectWriter smileWriter;
+
+    public ClusterDumpController(ClusterMetadataCache metadataCache, ObjectMapper objectMapper,
+                                 MappingJackson2CborHttpMessageConverter cborConverter,
+                                 MappingJackson2SmileHttpMessageConverter smileConverter) {
+        this.metadataCache = metadataCache;
+        this.jsonWriter = dumpWriter(objectMapper);
+        this.cborWriter = dumpWriter(cborConverter.getObjectMapper());
+        this.smileWriter = dumpWriter(smileConverter.getObjectMapper());
+    }
+
+    // Flushing after every topic would cut a compressed stream into tiny blocks.
+    private static ObjectWriter dumpWriter(ObjectMapper mapper) {
+        return mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @GetMapping(value = "/cluster/dump", produces = {MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, BinaryFormatsConfig.APPLICATION_SMILE_VALUE})
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> dump(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        MediaType contentType = contentType(accept);
+        ObjectWriter writer = contentType.equals(MediaType.APPLICATION_CBOR) ? cborWriter
+                : contentType.equals(BinaryFormatsConfig.APPLICATION_SMILE) ? smileWriter
+                : jsonWriter;
+        return dump(writer, contentType, acceptEncoding);
+    }
+
+    private CompletableFuture<ResponseEntity<StreamingResponseBody>> dump(ObjectWriter writer, MediaType contentType,
+                                                                          String acceptEncoding) {
+        String encoding = contentEncoding(acceptEncoding);
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> {
+                    StreamingResponseBody body = outputStream -> {
+                        try (JsonGenerator json = writer.createGenerator(encode(outputStream, encoding))) {
+                            writeDump(json, writer, snapshot);
+                        }
+                    };
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .contentType(contentType)
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                            .header(KafkaController.METADATA_AGE_HEADER,
+                                    String.valueOf(snapshot.age(Instant.now()).toMillis()))
+                            .header(KafkaController.METADATA_FETCHED_AT_HEADER, snapshot.fetchedAt().toString());
+                    if (encoding != null) {
+                        // Also keeps the container from compressing the body a second time.
+                        response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+                    }
+                    return response.body(body);
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    static void writeDump(JsonGenerator json, ObjectWriter writer, ClusterSnapshot snapshot) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("fetchedAt", snapshot.fetchedAt().toString());
+        json.writeFieldName("cluster");
+        writer.writeValue(json, snapshot.cluster());
+        json.writeArrayFieldStart("topics");
+        for (TopicDescription description : snapshot.topics().values()) {
+            writer.writeValue(json, TopicDetails.of(description));
+        }
+        json.writeEndArray();
+        json.writeArrayFieldStart("consumerGroups");
+        for (ConsumerGroupListing group : snapshot.consumerGroups()) {
+            json.writeStartObject();
+            json.writeStringField("groupId", group.groupId());
+            json.writeBooleanField("simple", group.isSimpleConsumerGroup());
+            if (group.state().isPresent()) {
+                json.writeStringField("state", group.state().get().name());
+            }
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    /**
+     * The first of JSON, CBOR and Smile acceptable to {@code Accept}, by quality; wildcards select JSON.
+     * Only called once the mapping has matched, so one of them is always acceptable.
+     */
+    static MediaType contentType(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            for (MediaType supported : FORMATS) {
+                if (type.getQualityValue() > 0 && type.includes(supported)) {
+                    return supported;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    static OutputStream encode(OutputStream outputStream, String encoding) throws IOException {
+        if (ZSTD.equals(encoding)) {
+            return new ZstdOutputStream(outputStream);
+        }
+        if (GZIP.equals(encoding)) {
+            return new GZIPOutputStream(outputStream, 8192);
+        }
+        return outputStream;
+    }
+
+    /**
+     * The preferred coding of {@code Accept-Encoding} that this endpoint can produce, or null for none.
+     * Codings with {@code q=0} are refused; zstd wins a tie with gzip.
+     */
+    static String contentEncoding(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        String best = null;
+        double bestQuality = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parameters = element.split(";");
+            String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+            if (!coding.equals(ZSTD) && !coding.equals(GZIP)) {
+                continue;
+            }
+            double quality = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (quality > bestQuality || (quality > 0 && quality == bestQuality && coding.equals(ZSTD))) {
+                best = coding;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,33 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.service.ClusterEventStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent event stream of cluster changes, replacing dashboard polling. See {@link ClusterEventStream}.
+ */
+@RestController
+@RequestMapping("/api")
+public class ClusterEventsController {
+
+    private final ClusterEventStream eventStream;
+
+    public ClusterEventsController(ClusterEventStream eventStream) {
+        this.eventStream = eventStream;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events() {
+        SseEmitter emitter = eventStream.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -0,0 +1,305 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.config.ClusterRegistryProperties;
+import net.rohitdhiman.springkafkaadminapi.controller.KafkaController.CreateTopicRequest;
+import net.rohitdhiman.springkafkaadminapi.controller.KafkaController.DescribeTopicsRequest;
+import net.rohitdhiman.springkafkaadminapi.controller.KafkaController.MessageResponse;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterSummary;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterTotals;
+import net.rohitdhiman.springkafkaadminapi.dto.FederatedSummary;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDescriptions;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicPage;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.exception.TopicAlreadyExistsException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterContext;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterRegistry;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import net.rohitdhiman.springkafkaadminapi.service.PartitionHealthIndex;
+import net.rohitdhiman.springkafkaadminapi.service.TopicQuery;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cluster, topic and consumer group routes of {@link KafkaController} for any registered cluster, at
+ * {@code /api/clusters/{cluster}/...}, plus the cluster list and a federated summary across all clusters.
+ * Each cluster is served through its own {@link ClusterContext}, so its calls only use its own budget.
+ */
+@RestController
+@RequestMapping("/api/clusters")
+public class ClusterRoutesController {
+
+    private final ClusterRegistry registry;
+    private final ClusterRegistryProperties registryProperties;
+    private final int maxPageSize;
+
+    public ClusterRoutesController(ClusterRegistry registry, ClusterRegistryProperties registryProperties,
+                                   @Value("${kafka.admin.topics.max-page-size:1000}") int maxPageSize) {
+        this.registry = registry;
+        this.registryProperties = registryProperties;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ClusterStatus>> listClusters() {
+        return ResponseEntity.ok(registry.status());
+    }
+
+    /**
+     * Asks every cluster for its metadata snapshot at once and merges the results. A cluster that fails or
+     * does not answer within {@code kafka.admin.registry.federation-timeout} is listed as unavailable and
+     * left out of the totals; it never fails the whole response.
+     */
+    @GetMapping("/summary")
+    public CompletableFuture<ResponseEntity<FederatedSummary>> federatedSummary() {
+        long timeoutMs = registryProperties.getFederationTimeout().toMillis();
+        List<CompletableFuture<ClusterSummary>> summaries = new ArrayList<>();
+        for (String name : registry.names()) {
+            summaries.add(summary(name, timeoutMs));
+        }
+
+        return CompletableFuture.allOf(summaries.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<ClusterSummary> clusters = summaries.stream().map(CompletableFuture::join).toList();
+                    int available = 0;
+                    int brokers = 0;
+                    int topics = 0;
+                    int groups = 0;
+                    int underReplicated = 0;
+                    for (ClusterSummary cluster : clusters) {
+                        if (cluster.available()) {
+                            available++;
+                            brokers += cluster.totals().brokers();
+                            topics += cluster.totals().topics();
+                            groups += cluster.totals().consumerGroups();
+                            underReplicated += cluster.totals().underReplicatedPartitions();
+                        }
+                    }
+                    return ResponseEntity.ok(new FederatedSummary(clusters, available,
+                            new ClusterTotals(brokers, topics, groups, underReplicated)));
+                });
+    }
+
+    @GetMapping("/{cluster}/cluster")
+    public CompletableFuture<ResponseEntity<ClusterInfo>> describeCluster(@PathVariable String cluster) {
+        return registry.get(cluster).metadataCache().snapshot()
+                .thenApply(snapshot -> KafkaController.fromSnapshot(snapshot, snapshot.cluster()))
+                .exceptionally(KafkaController::failure);
+    }
+
+    @PostMapping("/{cluster}/cluster/refresh")
+    public CompletableFuture<ResponseEntity<KafkaController.MetadataRefreshResponse>> refreshMetadata(
+            @PathVariable String cluster) {
+        return registry.get(cluster).metadataCache().refresh()
+                .thenApply(snapshot -> {
+                    int brokers = snapshot.cluster() != null ? snapshot.cluster().nodes().size() : 0;
+                    var response = new KafkaController.MetadataRefreshResponse(snapshot.fetchedAt(), brokers,
+                            snapshot.topics().size(), snapshot.consumerGroups().size());
+                    return KafkaController.fromSnapshot(snapshot, response);
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    @GetMapping("/{cluster}/topics")
+    public CompletableFuture<ResponseEntity<TopicPage>> listTopics(
+            @PathVariable String cluster,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String pattern,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        ClusterContext context = registry.get(cluster);
+        TopicQuery query = TopicQuery.of(prefix, pattern, sort, cursor);
+        int pageSize = limit == null ? maxPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        String topicsHref = topicsHref(cluster);
+        UriComponentsBuilder pageLink = ServletUriComponentsBuilder.fromCurrentRequest();
+
+        return context.metadataCache().snapshot()
+                .thenApply(snapshot -> KafkaController.fromSnapshot(snapshot,
+                        KafkaController.topicPage(snapshot, query, pageSize, topicsHref, pageLink)))
+                .exceptionally(KafkaController::failure);
+    }
+
+    @PostMapping("/{cluster}/topics")
+    public CompletableFuture<ResponseEntity<MessageResponse>> createTopic(@PathVariable String cluster,
+                                                                          @RequestBody CreateTopicRequest request) {
+        ClusterContext context = registry.get(cluster);
+        return context.kafkaService()
+                .createTopic(request.topicName(), request.numPartitions(), request.replicationFactor())
+                .thenApply(ignored -> {
+                    context.metadataCache().invalidate();
+                    var response = new MessageResponse("Topic '" + request.topicName() + "' created successfully.");
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+                })
+                .exceptionally(error -> {
+                    Throwable cause = KafkaFutures.unwrap(error);
+                    if (cause instanceof TopicAlreadyExistsException) {
+                        return ResponseEntity.status(HttpStatus.CONFLICT)
+                                .body(new MessageResponse("Topic '" + request.topicName() + "' already exists."));
+                    }
+                    return ResponseEntity.status(KafkaController.statusFor(cause))
+                            .body(new MessageResponse("Error creating topic: " + cause.getMessage()));
+                });
+    }
+
+    @GetMapping("/{cluster}/topics/under-replicated")
+    public CompletableFuture<ResponseEntity<Map<String, List<Integer>>>> getUnderReplicatedPartitions(
+            @PathVariable String cluster) {
+        ClusterContext context = registry.get(cluster);
+        return context.metadataCache().snapshot()
+                .thenApply(snapshot -> KafkaController.fromSnapshot(snapshot,
+                        context.healthIndex().underReplicatedPartitions()))
+                .exceptionally(KafkaController::failure);
+    }
+
+    @GetMapping("/{cluster}/topics/{topicName}")
+    public CompletableFuture<ResponseEntity<?>> describeTopic(@PathVariable String cluster,
+                                                              @PathVariable String topicName,
+                                                              @RequestParam(defaultValue = "false") boolean legacy) {
+        ClusterContext context = registry.get(cluster);
+        return context.metadataCache().snapshot()
+                .thenCompose(snapshot -> {
+                    TopicDescription cached = snapshot.topics().get(topicName);
+                    if (cached != null) {
+                        return CompletableFuture.<ResponseEntity<?>>completedFuture(
+                                KafkaController.fromSnapshot(snapshot, KafkaController.topicView(cached, legacy)));
+                    }
+                    return context.kafkaService().describeExistingTopics(List.of(topicName))
+                            .<ResponseEntity<?>>thenApply(live -> live.containsKey(topicName)
+                                    ? ResponseEntity.ok(KafkaController.topicView(live.get(topicName), legacy))
+                                    : KafkaController.topicNotFound(topicName));
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    @PostMapping("/{cluster}/topics/describe")
+    public CompletableFuture<ResponseEntity<TopicDescriptions<Object>>> describeTopics(
+            @PathVariable String cluster, @RequestBody DescribeTopicsRequest request,
+            @RequestParam(defaultValue = "false") boolean legacy) {
+        if (request.topics() == null || request.topics().isEmpty()) {
+            throw new InvalidRequestException("At least one topic name is required.");
+        }
+        ClusterContext context = registry.get(cluster);
+        return context.metadataCache().snapshot()
+                .thenCompose(snapshot -> {
+                    Map<String, Object> found = new LinkedHashMap<>();
+                    List<String> notCached = new ArrayList<>();
+                    for (String topicName : new LinkedHashSet<>(request.topics())) {
+                        TopicDescription cached = snapshot.topics().get(topicName);
+                        if (cached != null) {
+                            found.put(topicName, KafkaController.topicView(cached, legacy));
+                        } else {
+                            notCached.add(topicName);
+                        }
+                    }
+                    if (notCached.isEmpty()) {
+                        return CompletableFuture.completedFuture(
+                                KafkaController.fromSnapshot(snapshot, new TopicDescriptions<>(found, List.of())));
+                    }
+                    return context.kafkaService().describeExistingTopics(notCached).thenApply(live -> {
+                        List<String> missing = new ArrayList<>();
+                        for (String topicName : notCached) {
+                            TopicDescription description = live.get(topicName);
+                            if (description != null) {
+                                found.put(topicName, KafkaController.topicView(description, legacy));
+                            } else {
+                                missing.add(topicName);
+                            }
+                        }
+                        return KafkaController.fromSnapshot(snapshot, new TopicDescriptions<>(found, missing));
+                    });
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    @DeleteMapping("/{cluster}/topics/{topicName}")
+    public CompletableFuture<ResponseEntity<MessageResponse>> deleteTopic(@PathVariable String cluster,
+                                                                          @PathVariable String topicName) {
+        ClusterContext context = registry.get(cluster);
+        return context.kafkaService().deleteTopic(topicName)
+                .thenApply(ignored -> {
+                    context.metadataCache().invalidate();
+                    return ResponseEntity.ok(new MessageResponse("Topic " + topicName + " deleted successfully."));
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    @GetMapping("/{cluster}/consumer-groups")
+    public CompletableFuture<ResponseEntity<Collection<ConsumerGroupListing>>> listConsumerGroups(
+            @PathVariable String cluster) {
+        return registry.get(cluster).metadataCache().snapshot()
+                .thenApply(snapshot -> KafkaController.fromSnapshot(snapshot,
+                        (Collection<ConsumerGroupListing>) snapshot.consumerGroups()))
+                .exceptionally(KafkaController::failure);
+    }
+
+    @GetMapping("/{cluster}/consumer-groups/{groupId}")
+    public CompletableFuture<ResponseEntity<?>> describeConsumerGroup(
+            @PathVariable String cluster, @PathVariable String groupId,
+            @RequestParam(defaultValue = "false") boolean legacy) {
+        return registry.get(cluster).kafkaService().describeConsumerGroups(List.of(groupId))
+                .<ResponseEntity<?>>thenApply(descriptions -> {
+                    ConsumerGroupDescription description = descriptions.get(groupId);
+                    return description != null
+                            ? ResponseEntity.ok(KafkaController.groupView(description, legacy))
+                            : ResponseEntity.notFound().build();
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    private static String topicsHref(String cluster) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/clusters/{cluster}/topics")
+                .buildAndExpand(cluster)
+                .toUriString();
+    }
+
+    private CompletableFuture<ClusterSummary> summary(String name, long timeoutMs) {
+        ClusterContext context;
+        CompletableFuture<ClusterSnapshot> snapshot;
+        try {
+            context = registry.get(name);
+            snapshot = context.metadataCache().snapshot();
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(unavailable(name, e));
+        }
+        // The snapshot may be the cache's shared in-flight load; only this request's copy times out.
+        return snapshot.copy()
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .thenApply(loaded -> summaryOf(name, loaded, context.healthIndex()))
+                .exceptionally(error -> unavailable(name, error));
+    }
+
+    private static ClusterSummary summaryOf(String name, ClusterSnapshot snapshot, PartitionHealthIndex healthIndex) {
+        ClusterInfo cluster = snapshot.cluster();
+        ClusterTotals totals = new ClusterTotals(cluster != null ? cluster.nodes().size() : 0,
+                snapshot.topics().size(), snapshot.consumerGroups().size(), healthIndex.underReplicatedCount());
+        return new ClusterSummary(name, true, cluster != null ? cluster.clusterId() : null, totals,
+                snapshot.age(Instant.now()).toMillis(), null);
+    }
+
+    private static ClusterSummary unavailable(String name, Throwable error) {
+        Throwable cause = KafkaFutures.unwrap(error);
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return new ClusterSummary(name, false, null, null, null, message);
+    }
+}
@@ -0,0 +1,85 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigChange;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftReport;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigResourceType;
+import net.rohitdhiman.springkafkaadminapi.dto.ResourceConfig;
+import net.rohitdhiman.springkafkaadminapi.service.ConfigService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Topic and broker configs through {@link ConfigService}: reads (non-default values unless
+ * {@code includeDefaults=true}), batched changes with an optional validate-only dry run, and the drift report.
+ */
+@RestController
+@RequestMapping("/api/configs")
+public class ConfigController {
+
+    private final ConfigService configService;
+
+    public ConfigController(ConfigService configService) {
+        this.configService = configService;
+    }
+
+    @GetMapping("/topics/{topicName}")
+    public CompletableFuture<ResponseEntity<ResourceConfig>> topicConfig(
+            @PathVariable String topicName, @RequestParam(defaultValue = "false") boolean includeDefaults) {
+        return single(ConfigResourceType.TOPIC, topicName, includeDefaults);
+    }
+
+    @GetMapping("/brokers/{brokerId}")
+    public CompletableFuture<ResponseEntity<ResourceConfig>> brokerConfig(
+            @PathVariable String brokerId, @RequestParam(defaultValue = "false") boolean includeDefaults) {
+        return single(ConfigResourceType.BROKER, brokerId, includeDefaults);
+    }
+
+    public record DescribeConfigsRequest(List<String> topics) {}
+
+    /**
+     * Configs of many topics; those not cached are described together in one AdminClient call.
+     */
+    @PostMapping("/topics/describe")
+    public CompletableFuture<ResponseEntity<List<ResourceConfig>>> topicConfigs(
+            @RequestBody DescribeConfigsRequest request, @RequestParam(defaultValue = "false") boolean includeDefaults) {
+        return configService.describe(ConfigResourceType.TOPIC, request.topics(), includeDefaults)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(KafkaController::failure);
+    }
+
+    public record AlterConfigsRequest(List<ConfigChange> changes) {}
+
+    /**
+     * Sets and deletes configs of many topics and brokers. Always answers 200 with a per-resource result;
+     * with {@code validateOnly=true} the brokers only check the changes.
+     */
+    @PostMapping("/alter")
+    public CompletableFuture<ResponseEntity<ConfigAlterResult>> alterConfigs(
+            @RequestBody AlterConfigsRequest request, @RequestParam(defaultValue = "false") boolean validateOnly) {
+        return configService.alter(request.changes(), validateOnly)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(KafkaController::failure);
+    }
+
+    @PostMapping("/drift")
+    public CompletableFuture<ResponseEntity<ConfigDriftReport>> drift(@RequestBody ConfigDriftRequest request) {
+        return configService.drift(request)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(KafkaController::failure);
+    }
+
+    // A resource that could not be described (e.g. an unknown topic or broker) answers 404.
+    private CompletableFuture<ResponseEntity<ResourceConfig>> single(ConfigResourceType type, String name,
+                                                                     boolean includeDefaults) {
+        return configService.describe(type, List.of(name), includeDefaults)
+                .thenApply(configs -> configs.get(0).error() == null
+                        ? ResponseEntity.ok(configs.get(0))
+                        : ResponseEntity.notFound().<ResourceConfig>build())
+                .exceptionally(KafkaController::failure);
+    }
+}
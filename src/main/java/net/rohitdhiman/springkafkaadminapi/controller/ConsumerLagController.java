@@ -0,0 +1,48 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLag;
+import net.rohitdhiman.springkafkaadminapi.dto.TopGroupLag;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.ConsumerLagService;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Consumer group lag endpoints, served from the latest {@link ConsumerLagService} refresh.
+ */
+@RestController
+@RequestMapping("/api")
+public class ConsumerLagController {
+
+    private static final int MAX_TOP_LIMIT = 1000;
+
+    private final ConsumerLagService lagService;
+
+    public ConsumerLagController(ConsumerLagService lagService) {
+        this.lagService = lagService;
+    }
+
+    @GetMapping("/consumer-groups/lag/top")
+    public CompletableFuture<ResponseEntity<TopGroupLag>> topGroupLag(@RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_TOP_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_TOP_LIMIT + ".");
+        }
+        return lagService.snapshot()
+                .thenApply(snapshot -> ResponseEntity.ok(new TopGroupLag(snapshot.top(limit), snapshot.stats())))
+                .exceptionally(ConsumerLagController::failure);
+    }
+
+    @GetMapping("/consumer-groups/{groupId}/lag")
+    public CompletableFuture<ResponseEntity<GroupLag>> groupLag(@PathVariable String groupId) {
+        return lagService.groupLag(groupId)
+                .thenApply(lag -> lag != null ? ResponseEntity.ok(lag) : ResponseEntity.notFound().<GroupLag>build())
+                .exceptionally(ConsumerLagController::failure);
+    }
+
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        return ResponseEntity.status(KafkaController.statusFor(KafkaFutures.unwrap(error))).build();
+    }
+}
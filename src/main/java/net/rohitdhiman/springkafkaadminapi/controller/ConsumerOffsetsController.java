@@ -0,0 +1,35 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetResult;
+import net.rohitdhiman.springkafkaadminapi.service.ConsumerOffsetResets;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Consumer group offset operations, run by {@link ConsumerOffsetResets}.
+ */
+@RestController
+@RequestMapping("/api")
+public class ConsumerOffsetsController {
+
+    private final ConsumerOffsetResets offsetResets;
+
+    public ConsumerOffsetsController(ConsumerOffsetResets offsetResets) {
+        this.offsetResets = offsetResets;
+    }
+
+    /**
+     * Resets the offsets of many groups at once. Always answers 200 with a per-group result (PLANNED, RESET,
+     * ACTIVE or FAILED); {@code dryRun=true} only plans the reset.
+     */
+    @PostMapping("/consumer-groups/offsets/reset")
+    public CompletableFuture<ResponseEntity<OffsetResetResult>> resetOffsets(
+            @RequestBody OffsetResetRequest request, @RequestParam(defaultValue = "false") boolean dryRun) {
+        return offsetResets.reset(request, dryRun)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(KafkaController::failure);
+    }
+}
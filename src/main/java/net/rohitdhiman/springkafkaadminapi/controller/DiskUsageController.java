@@ -0,0 +1,107 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.BrokerDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.DiskUsagePage;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.DiskUsageService;
+import net.rohitdhiman.springkafkaadminapi.service.DiskUsageSnapshot.Order;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bytes on disk per broker, topic and partition, served from the latest {@link DiskUsageService} refresh.
+ * Topic and partition listings are sorted by {@code size} (default) or {@code growth} and paged with
+ * {@code offset} and {@code limit}.
+ */
+@RestController
+@RequestMapping("/api/disk-usage")
+public class DiskUsageController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final DiskUsageService diskUsageService;
+
+    public DiskUsageController(DiskUsageService diskUsageService) {
+        this.diskUsageService = diskUsageService;
+    }
+
+    @GetMapping("/brokers")
+    public CompletableFuture<ResponseEntity<DiskUsagePage<BrokerDiskUsage>>> brokers() {
+        return diskUsageService.snapshot()
+                .thenApply(snapshot -> ResponseEntity.ok(snapshot.brokerPage()))
+                .exceptionally(DiskUsageController::failure);
+    }
+
+    @GetMapping("/topics")
+    public CompletableFuture<ResponseEntity<DiskUsagePage<TopicDiskUsage>>> topics(
+            @RequestParam(defaultValue = "size") String sort,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        Order order = order(sort);
+        checkPage(offset, limit);
+        return diskUsageService.snapshot()
+                .thenApply(snapshot -> ResponseEntity.ok(snapshot.topicPage(order, offset, limit)))
+                .exceptionally(DiskUsageController::failure);
+    }
+
+    @GetMapping("/partitions")
+    public CompletableFuture<ResponseEntity<DiskUsagePage<PartitionDiskUsage>>> partitions(
+            @RequestParam(defaultValue = "size") String sort,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "50") int limit) {
+        Order order = order(sort);
+        checkPage(offset, limit);
+        return diskUsageService.snapshot()
+                .thenApply(snapshot -> ResponseEntity.ok(snapshot.partitionPage(order, offset, limit)))
+                .exceptionally(DiskUsageController::failure);
+    }
+
+    @GetMapping("/topics/{topicName}/partitions")
+    public CompletableFuture<ResponseEntity<DiskUsagePage<PartitionDiskUsage>>> topicPartitions(
+            @PathVariable String topicName) {
+        return diskUsageService.snapshot()
+                .thenApply(snapshot -> {
+                    DiskUsagePage<PartitionDiskUsage> page = snapshot.topicPartitions(topicName);
+                    return page != null ? ResponseEntity.ok(page)
+                            : ResponseEntity.notFound().<DiskUsagePage<PartitionDiskUsage>>build();
+                })
+                .exceptionally(DiskUsageController::failure);
+    }
+
+    /**
+     * Describes every broker's log directories now instead of waiting for the next scheduled refresh.
+     */
+    @PostMapping("/refresh")
+    public CompletableFuture<ResponseEntity<DiskUsagePage<BrokerDiskUsage>>> refresh() {
+        return diskUsageService.refresh()
+                .thenApply(snapshot -> ResponseEntity.ok(snapshot.brokerPage()))
+                .exceptionally(DiskUsageController::failure);
+    }
+
+    private static Order order(String sort) {
+        try {
+            return Order.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("sort must be size or growth.");
+        }
+    }
+
+    private static void checkPage(int offset, int limit) {
+        if (offset < 0) {
+            throw new InvalidRequestException("offset must not be negative.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+    }
+
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        return ResponseEntity.status(KafkaController.statusFor(KafkaFutures.unwrap(error))).build();
+    }
+}
@@ -0,0 +1,69 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff;
+import net.rohitdhiman.springkafkaadminapi.dto.SeriesHistory;
+import net.rohitdhiman.springkafkaadminapi.service.LagHistoryService;
+import net.rohitdhiman.springkafkaadminapi.service.MetadataStore;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Range queries over the lag and throughput history and the recorded cluster metadata. Both are held locally,
+ * in memory and in the {@link MetadataStore} respectively, so these handlers answer directly rather than through
+ * a future. {@code from} defaults to one hour before {@code to}, which defaults to now.
+ */
+@RestController
+@RequestMapping("/api")
+public class HistoryController {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofHours(1);
+
+    private final LagHistoryService historyService;
+    private final MetadataStore metadataStore;
+
+    public HistoryController(LagHistoryService historyService, MetadataStore metadataStore) {
+        this.historyService = historyService;
+        this.metadataStore = metadataStore;
+    }
+
+    @GetMapping("/consumer-groups/{groupId}/lag/history")
+    public ResponseEntity<SeriesHistory> groupLagHistory(
+            @PathVariable String groupId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "60") int buckets) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_RANGE);
+        return ResponseEntity.ok(historyService.groupLag(groupId, start, end, buckets));
+    }
+
+    @GetMapping("/topics/{topicName}/throughput")
+    public ResponseEntity<SeriesHistory> topicThroughput(
+            @PathVariable String topicName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "60") int buckets) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_RANGE);
+        return ResponseEntity.ok(historyService.topicThroughput(topicName, start, end, buckets));
+    }
+
+    /**
+     * Topics created and deleted, partition count changes and consumer groups created and deleted between the
+     * metadata current at {@code from} and at {@code to}, with the ISR changes recorded in between.
+     */
+    @GetMapping("/cluster/history/diff")
+    public ResponseEntity<MetadataDiff> metadataDiff(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to)
+            throws IOException {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_RANGE);
+        return ResponseEntity.ok(metadataStore.diff(start, end));
+    }
+}
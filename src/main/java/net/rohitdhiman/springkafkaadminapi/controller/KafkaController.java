@@ -1,169 +1,442 @@
 package net.rohitdhiman.springkafkaadminapi.controller;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.rohitdhiman.springkafkaadminapi.dto.BulkTopicResult;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChanges;
+import net.rohitdhiman.springkafkaadminapi.dto.ConsumerGroupDetails;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDescriptions;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDetails;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicPage;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicSpec;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicSummary;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.exception.TopicAlreadyExistsException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
 import net.rohitdhiman.springkafkaadminapi.service.KafkaService;
+import net.rohitdhiman.springkafkaadminapi.service.PartitionHealthIndex;
+import net.rohitdhiman.springkafkaadminapi.service.TopicBulkOperations;
+import net.rohitdhiman.springkafkaadminapi.service.TopicDescribeCoalescer;
+import net.rohitdhiman.springkafkaadminapi.service.TopicQuery;
 import org.apache.kafka.clients.admin.ConsumerGroupDescription;
 import org.apache.kafka.clients.admin.ConsumerGroupListing;
 import org.apache.kafka.clients.admin.TopicDescription;
-import org.springframework.hateoas.CollectionModel;
-import org.springframework.hateoas.EntityModel;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
+/**
+ * REST endpoints for the Kafka cluster. Every handler returns a {@link CompletableFuture}, so the
+ * servlet thread is released while the AdminClient works and the response is written when it completes.
+ */
 @RestController
 @RequestMapping("/api")
 public class KafkaController {
 
+    // Headers reporting how old the cached metadata behind a response is.
+    public static final String METADATA_AGE_HEADER = "X-Metadata-Age-Ms";
+    public static final String METADATA_FETCHED_AT_HEADER = "X-Metadata-Fetched-At";
+    public static final String HEALTH_INDEX_VERSION_HEADER = "X-Health-Index-Version";
+
+    private static final String TOPIC_STATUS = "available";
+    private static final String TOPIC_MESSAGE = "Kafka topic resource";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final PartitionHealthIndex healthIndex;
+    private final TopicDescribeCoalescer describeCoalescer;
+    private final TopicBulkOperations bulkOperations;
+    private final int maxPageSize;
 
-    public KafkaController(KafkaService kafkaService) {
+    public KafkaController(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                           PartitionHealthIndex healthIndex, TopicDescribeCoalescer describeCoalescer,
+                           TopicBulkOperations bulkOperations,
+                           @Value("${kafka.admin.topics.max-page-size:1000}") int maxPageSize) {
         this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.healthIndex = healthIndex;
+        this.describeCoalescer = describeCoalescer;
+        this.bulkOperations = bulkOperations;
+        this.maxPageSize = maxPageSize;
     }
 
     @GetMapping("/cluster")
-    public ResponseEntity<net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo> describeCluster() {
-        try {
-            net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo clusterInfo = kafkaService.describeCluster();
-            return ResponseEntity.ok(clusterInfo);
-        } catch (ExecutionException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public CompletableFuture<ResponseEntity<net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo>> describeCluster() {
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> fromSnapshot(snapshot, snapshot.cluster()))
+                .exceptionally(KafkaController::failure);
+    }
+
+    public record MetadataRefreshResponse(Instant fetchedAt, int brokers, int topics, int consumerGroups) {}
+
+    @PostMapping("/cluster/refresh")
+    public CompletableFuture<ResponseEntity<MetadataRefreshResponse>> refreshMetadata() {
+        return metadataCache.refresh()
+                .thenApply(snapshot -> {
+                    int brokers = snapshot.cluster() != null ? snapshot.cluster().nodes().size() : 0;
+                    var response = new MetadataRefreshResponse(snapshot.fetchedAt(), brokers,
+                            snapshot.topics().size(), snapshot.consumerGroups().size());
+                    return fromSnapshot(snapshot, response);
+                })
+                .exceptionally(KafkaController::failure);
     }
 
     @GetMapping("/consumer-groups")
-    public ResponseEntity<Collection<ConsumerGroupListing>> listConsumerGroups() {
-        try {
-            Collection<ConsumerGroupListing> consumerGroups = kafkaService.listConsumerGroups();
-            return ResponseEntity.ok(consumerGroups);
-        } catch (ExecutionException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public CompletableFuture<ResponseEntity<Collection<ConsumerGroupListing>>> listConsumerGroups() {
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> fromSnapshot(snapshot, (Collection<ConsumerGroupListing>) snapshot.consumerGroups()))
+                .exceptionally(KafkaController::failure);
     }
 
+    /**
+     * Describes one consumer group as {@link ConsumerGroupDetails}; {@code legacy=true} returns the previous
+     * shape, Kafka's {@code ConsumerGroupDescription} field for field.
+     */
     @GetMapping("/consumer-groups/{groupId}")
-    public ResponseEntity<ConsumerGroupDescription> describeConsumerGroup(@PathVariable String groupId) {
-        try {
-            Map<String, ConsumerGroupDescription> description = kafkaService.describeConsumerGroups(List.of(groupId));
-            ConsumerGroupDescription consumerGroupDescription = description.get(groupId);
+    public CompletableFuture<ResponseEntity<?>> describeConsumerGroup(@PathVariable String groupId,
+                                                                      @RequestParam(defaultValue = "false") boolean legacy) {
+        return kafkaService.describeConsumerGroups(List.of(groupId))
+                .<ResponseEntity<?>>thenApply(description -> {
+                    ConsumerGroupDescription consumerGroupDescription = description.get(groupId);
 
-            if (consumerGroupDescription == null) {
-                return ResponseEntity.notFound().build();
-            }
-            return ResponseEntity.ok(consumerGroupDescription);
-        } catch (ExecutionException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+                    if (consumerGroupDescription == null) {
+                        return ResponseEntity.notFound().build();
+                    }
+                    return ResponseEntity.ok(groupView(consumerGroupDescription, legacy));
+                })
+                .exceptionally(KafkaController::failure);
     }
 
     @GetMapping("/topics/under-replicated")
-    public ResponseEntity<Map<String, List<Integer>>> getUnderReplicatedPartitions() {
-        try {
-            Map<String, List<Integer>> underReplicatedPartitions = kafkaService.findUnderReplicatedPartitions();
-            return ResponseEntity.ok(underReplicatedPartitions);
-        } catch (ExecutionException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public CompletableFuture<ResponseEntity<Map<String, List<Integer>>>> getUnderReplicatedPartitions() {
+        // Makes sure a snapshot exists (and so the index is populated); the index itself is updated on refresh.
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> {
+                    long version = healthIndex.version();
+                    Map<String, List<Integer>> underReplicatedPartitions = healthIndex.underReplicatedPartitions();
+                    return ResponseEntity.ok()
+                            .header(HEALTH_INDEX_VERSION_HEADER, String.valueOf(version))
+                            .header(METADATA_AGE_HEADER, String.valueOf(snapshot.age(Instant.now()).toMillis()))
+                            .body(underReplicatedPartitions);
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    @GetMapping("/topics/under-replicated/changes")
+    public CompletableFuture<ResponseEntity<PartitionHealthChanges>> getPartitionHealthChanges(
+            @RequestParam(defaultValue = "0") long since) {
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> ResponseEntity.ok(healthIndex.changesSince(since)))
+                .exceptionally(KafkaController::failure);
     }
 
     public record CreateTopicRequest(String topicName, Integer numPartitions, Short replicationFactor) {}
 
     public record MessageResponse(String message) {}
 
+    /**
+     * Lists topics from the metadata snapshot a page at a time. {@code prefix} and {@code pattern} (a regex
+     * matched against the whole name) filter, {@code sort} is {@code asc} or {@code desc} by name, and
+     * {@code cursor} is the {@code nextCursor} of the previous page.
+     */
     @GetMapping("/topics")
-    public ResponseEntity<CollectionModel<EntityModel<Map<String, Object>>>> listTopics() {
-        try {
-            List<String> topics = kafkaService.listTopics().names().get()
-                    .stream()
-                    .collect(Collectors.toList());
-
-            List<EntityModel<Map<String, Object>>> topicResources = topics.stream().map(topicName -> {
-                Map<String, Object> topicInfo = Map.of(
-                        "name", topicName,
-                        "status", "available",
-                        "message", "Kafka topic resource"
-                );
-                EntityModel<Map<String, Object>> resource = EntityModel.of(topicInfo);
-                
-                // HATEOAS links
-                resource.add(linkTo(methodOn(KafkaController.class).describeTopic(topicName)).withSelfRel());
-                resource.add(linkTo(methodOn(KafkaController.class).deleteTopic(topicName)).withRel("delete"));
-                
-                return resource;
-            }).collect(Collectors.toList());
-
-            CollectionModel<EntityModel<Map<String, Object>>> collectionModel = CollectionModel.of(topicResources);
-            collectionModel.add(linkTo(methodOn(KafkaController.class).listTopics()).withSelfRel());
-            return ResponseEntity.ok(collectionModel);
-        } catch (ExecutionException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    public CompletableFuture<ResponseEntity<TopicPage>> listTopics(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String pattern,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TopicQuery query = TopicQuery.of(prefix, pattern, sort, cursor);
+        int pageSize = limit == null ? maxPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        // Resolved on the request thread: the continuation may run where no current request is bound.
+        String topicsHref = topicsHref();
+        UriComponentsBuilder pageLink = ServletUriComponentsBuilder.fromCurrentRequest();
+
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> fromSnapshot(snapshot, topicPage(snapshot, query, pageSize, topicsHref, pageLink)))
+                .exceptionally(KafkaController::failure);
+    }
+
+    // One page of a topic listing; shared with the per-cluster routes.
+    static TopicPage topicPage(ClusterSnapshot snapshot, TopicQuery query, int pageSize, String topicsHref,
+                               UriComponentsBuilder pageLink) {
+        NavigableMap<String, TopicDescription> topics = snapshot.topics();
+        List<TopicSummary> content = new ArrayList<>(Math.min(pageSize, topics.size()));
+        String nextCursor = null;
+
+        // One extra name tells whether another page follows.
+        Iterator<String> names = query.names(topics).limit(pageSize + 1L).iterator();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (content.size() == pageSize) {
+                nextCursor = TopicQuery.encodeCursor(content.get(pageSize - 1).name());
+                break;
+            }
+            String href = topicsHref + "/" + name;
+            content.add(new TopicSummary(name, topics.get(name).partitions().size(),
+                    TOPIC_STATUS, TOPIC_MESSAGE, List.of(Link.of(href), Link.of(href, "delete"))));
         }
+
+        List<Link> links = new ArrayList<>(2);
+        links.add(Link.of(pageLink.cloneBuilder().build().toUriString()));
+        if (nextCursor != null) {
+            links.add(Link.of(pageLink.cloneBuilder().replaceQueryParam("cursor", nextCursor)
+                    .build().toUriString(), IanaLinkRelations.NEXT));
+        }
+        return new TopicPage(content, query.count(topics), nextCursor, links);
+    }
+
+    /**
+     * Streams the same listing as newline-delimited JSON, writing each topic as it is reached instead of
+     * building the collection. Takes the same filters; without {@code limit} every matching topic is written.
+     */
+    @GetMapping(value = "/topics", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> streamTopics(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String pattern,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TopicQuery query = TopicQuery.of(prefix, pattern, sort, cursor);
+        long maxTopics = limit == null ? Long.MAX_VALUE : Math.max(1, limit);
+        String topicsHref = topicsHref();
+
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> {
+                    NavigableMap<String, TopicDescription> topics = snapshot.topics();
+                    StreamingResponseBody body = outputStream -> {
+                        try (JsonGenerator json = JSON_FACTORY.createGenerator(outputStream)) {
+                            Iterator<String> names = query.names(topics).limit(maxTopics).iterator();
+                            while (names.hasNext()) {
+                                String name = names.next();
+                                writeTopicLine(json, name, topics.get(name).partitions().size(), topicsHref + "/" + name);
+                            }
+                        }
+                    };
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .header(METADATA_AGE_HEADER, String.valueOf(snapshot.age(Instant.now()).toMillis()))
+                            .header(METADATA_FETCHED_AT_HEADER, snapshot.fetchedAt().toString())
+                            .body(body);
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    // Same fields as TopicSummary, written without an intermediate object.
+    private static void writeTopicLine(JsonGenerator json, String name, int partitions, String href) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("name", name);
+        json.writeNumberField("partitions", partitions);
+        json.writeStringField("status", TOPIC_STATUS);
+        json.writeStringField("message", TOPIC_MESSAGE);
+        json.writeArrayFieldStart("links");
+        writeLink(json, "self", href);
+        writeLink(json, "delete", href);
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static void writeLink(JsonGenerator json, String rel, String href) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("rel", rel);
+        json.writeStringField("href", href);
+        json.writeEndObject();
+    }
+
+    // Base of every topic link, built once per request; each topic's link is this plus "/" + name.
+    private static String topicsHref() {
+        return linkTo(KafkaController.class).slash("topics").toUri().toString();
     }
 
     @PostMapping("/topics")
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<MessageResponse> createTopic(@RequestBody CreateTopicRequest request) {
-        try {
-            kafkaService.createTopic(request.topicName(), request.numPartitions(), request.replicationFactor());
-            var response = new MessageResponse("Topic '" + request.topicName() + "' created successfully.");
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-        } catch (net.rohitdhiman.springkafkaadminapi.exception.TopicAlreadyExistsException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
-                    .body(new MessageResponse("Topic '" + request.topicName() + "' already exists."));
-        } catch (ExecutionException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponse("Error creating topic: " + e.getMessage()));
-        }
+    public CompletableFuture<ResponseEntity<MessageResponse>> createTopic(@RequestBody CreateTopicRequest request) {
+        return kafkaService.createTopic(request.topicName(), request.numPartitions(), request.replicationFactor())
+                .thenApply(ignored -> {
+                    metadataCache.invalidate();
+                    var response = new MessageResponse("Topic '" + request.topicName() + "' created successfully.");
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+                })
+                .exceptionally(error -> {
+                    Throwable cause = KafkaFutures.unwrap(error);
+                    if (cause instanceof TopicAlreadyExistsException) {
+                        return ResponseEntity.status(HttpStatus.CONFLICT)
+                                .body(new MessageResponse("Topic '" + request.topicName() + "' already exists."));
+                    }
+                    return ResponseEntity.status(statusFor(cause))
+                            .body(new MessageResponse("Error creating topic: " + cause.getMessage()));
+                });
     }
 
+    /**
+     * Describes one topic as {@link TopicDetails}: brokers listed once, replicas and ISR as broker ids.
+     * {@code legacy=true} returns the previous shape with every node nested in full.
+     */
     @GetMapping("/topics/{topicName}")
-    public ResponseEntity<?> describeTopic(@PathVariable String topicName) {
-        try {
-            Map<String, TopicDescription> description = kafkaService.describeTopics(List.of(topicName));
-            TopicDescription topicDescription = description.get(topicName);
-
-            if (topicDescription == null) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(new MessageResponse("Topic '" + topicName + "' not found."));
-            }
-            return ResponseEntity.ok(topicDescription);
-        } catch (ExecutionException e) {
-            if (e.getCause() != null && e.getCause().getClass().getSimpleName().equals("UnknownTopicOrPartitionException")) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(new MessageResponse("Topic '" + topicName + "' not found."));
-            }
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponse("Error describing topic: " + e.getMessage()));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new MessageResponse("Request interrupted."));
+    public CompletableFuture<ResponseEntity<?>> describeTopic(@PathVariable String topicName,
+                                                              @RequestParam(defaultValue = "false") boolean legacy) {
+        return metadataCache.snapshot()
+                .thenCompose(snapshot -> {
+                    TopicDescription cached = snapshot.topics().get(topicName);
+                    if (cached != null) {
+                        return CompletableFuture.<ResponseEntity<?>>completedFuture(
+                                fromSnapshot(snapshot, topicView(cached, legacy)));
+                    }
+
+                    // Not in the snapshot yet (e.g. created since the last refresh), so ask the brokers,
+                    // batched with other single-topic lookups arriving at the same time.
+                    return describeCoalescer.describe(topicName)
+                            .<ResponseEntity<?>>thenApply(description -> ResponseEntity.ok(topicView(description, legacy)));
+                })
+                .exceptionally(error -> {
+                    Throwable cause = KafkaFutures.unwrap(error);
+                    if (cause instanceof UnknownTopicOrPartitionException) {
+                        return topicNotFound(topicName);
+                    }
+                    return ResponseEntity.status(statusFor(cause))
+                            .body(new MessageResponse("Error describing topic: " + cause.getMessage()));
+                });
+    }
+
+    public record BulkCreateTopicsRequest(List<TopicSpec> topics) {}
+
+    public record BulkDeleteTopicsRequest(List<String> topics) {}
+
+    /**
+     * Creates many topics at once. Always answers 200 with a per-topic result (CREATED, EXISTS or FAILED).
+     */
+    @PostMapping("/topics/bulk")
+    public CompletableFuture<ResponseEntity<BulkTopicResult>> createTopics(@RequestBody BulkCreateTopicsRequest request) {
+        return bulkOperations.createTopics(request.topics())
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(KafkaController::failure);
+    }
+
+    /**
+     * Deletes many topics at once. Always answers 200 with a per-topic result (DELETED, NOT_FOUND or FAILED).
+     */
+    @PostMapping("/topics/bulk-delete")
+    public CompletableFuture<ResponseEntity<BulkTopicResult>> deleteTopics(@RequestBody BulkDeleteTopicsRequest request) {
+        return bulkOperations.deleteTopics(request.topics())
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(KafkaController::failure);
+    }
+
+    public record DescribeTopicsRequest(List<String> topics) {}
+
+    /**
+     * Describes many topics in one request. Topics in the metadata snapshot are answered from it; the rest
+     * are described together in a single AdminClient call. {@code legacy=true} as for a single topic.
+     */
+    @PostMapping("/topics/describe")
+    public CompletableFuture<ResponseEntity<TopicDescriptions<Object>>> describeTopics(
+            @RequestBody DescribeTopicsRequest request, @RequestParam(defaultValue = "false") boolean legacy) {
+        if (request.topics() == null || request.topics().isEmpty()) {
+            throw new InvalidRequestException("At least one topic name is required.");
         }
+        Set<String> requested = new LinkedHashSet<>(request.topics());
+
+        return metadataCache.snapshot()
+                .thenCompose(snapshot -> {
+                    Map<String, Object> found = new LinkedHashMap<>();
+                    List<String> notCached = new ArrayList<>();
+                    for (String topicName : requested) {
+                        TopicDescription cached = snapshot.topics().get(topicName);
+                        if (cached != null) {
+                            found.put(topicName, topicView(cached, legacy));
+                        } else {
+                            notCached.add(topicName);
+                        }
+                    }
+                    if (notCached.isEmpty()) {
+                        return CompletableFuture.completedFuture(
+                                fromSnapshot(snapshot, new TopicDescriptions<>(found, List.of())));
+                    }
+
+                    return kafkaService.describeExistingTopics(notCached).thenApply(live -> {
+                        List<String> missing = new ArrayList<>();
+                        for (String topicName : notCached) {
+                            TopicDescription description = live.get(topicName);
+                            if (description != null) {
+                                found.put(topicName, topicView(description, legacy));
+                            } else {
+                                missing.add(topicName);
+                            }
+                        }
+                        return fromSnapshot(snapshot, new TopicDescriptions<>(found, missing));
+                    });
+                })
+                .exceptionally(KafkaController::failure);
     }
 
     @DeleteMapping("/topics/{topicName}")
-    public ResponseEntity<MessageResponse> deleteTopic(@PathVariable String topicName) {
-        try {
-            kafkaService.deleteTopic(topicName);
-            MessageResponse response = new MessageResponse("Topic " + topicName + " deleted successfully.");
-            return ResponseEntity.ok(response);
-        } catch (ExecutionException | InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public CompletableFuture<ResponseEntity<MessageResponse>> deleteTopic(@PathVariable String topicName) {
+        return kafkaService.deleteTopic(topicName)
+                .thenApply(ignored -> {
+                    metadataCache.invalidate();
+                    MessageResponse response = new MessageResponse("Topic " + topicName + " deleted successfully.");
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(KafkaController::failure);
+    }
+
+    // Compact DTOs by default; the legacy shape is Kafka's own type, written by KafkaJacksonModule.
+    static Object topicView(TopicDescription description, boolean legacy) {
+        return legacy ? description : TopicDetails.of(description);
+    }
+
+    static Object groupView(ConsumerGroupDescription description, boolean legacy) {
+        return legacy ? description : ConsumerGroupDetails.of(description);
+    }
+
+    static ResponseEntity<?> topicNotFound(String topicName) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new MessageResponse("Topic '" + topicName + "' not found."));
+    }
+
+    static <T> ResponseEntity<T> fromSnapshot(ClusterSnapshot snapshot, T body) {
+        return ResponseEntity.ok()
+                .header(METADATA_AGE_HEADER, String.valueOf(snapshot.age(Instant.now()).toMillis()))
+                .header(METADATA_FETCHED_AT_HEADER, snapshot.fetchedAt().toString())
+                .body(body);
+    }
+
+    static <T> ResponseEntity<T> failure(Throwable error) {
+        return ResponseEntity.status(statusFor(KafkaFutures.unwrap(error))).build();
+    }
+
+    // An operation that ran past its deadline is reported as a gateway timeout rather than a server error.
+    static HttpStatus statusFor(Throwable cause) {
+        return cause instanceof TimeoutException || cause instanceof org.apache.kafka.common.errors.TimeoutException
+                ? HttpStatus.GATEWAY_TIMEOUT
+                : HttpStatus.INTERNAL_SERVER_ERROR;
     }
 }
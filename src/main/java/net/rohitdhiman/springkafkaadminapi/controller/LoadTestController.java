@@ -0,0 +1,70 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestStatus;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.exception.LoadTestInProgressException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import net.rohitdhiman.springkafkaadminapi.service.LoadGenerator;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Load tests a topic with synthetic records from {@link LoadGenerator}: start a run, poll its throughput and
+ * latency, or cancel it.
+ */
+@RestController
+@RequestMapping("/api/topics/{topicName}/load")
+public class LoadTestController {
+
+    private final LoadGenerator loadGenerator;
+    private final ClusterMetadataCache metadataCache;
+
+    public LoadTestController(LoadGenerator loadGenerator, ClusterMetadataCache metadataCache) {
+        this.loadGenerator = loadGenerator;
+        this.metadataCache = metadataCache;
+    }
+
+    /**
+     * Starts producing to an existing topic. Answers 202 with the run's status, or 409 if another run is still
+     * producing.
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<LoadTestStatus>> start(@PathVariable String topicName,
+                                                                   @RequestBody LoadTestRequest request) {
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> {
+                    if (!snapshot.topics().containsKey(topicName)) {
+                        return ResponseEntity.notFound().<LoadTestStatus>build();
+                    }
+                    return ResponseEntity.status(HttpStatus.ACCEPTED).body(loadGenerator.start(topicName, request));
+                })
+                .exceptionally(LoadTestController::failure);
+    }
+
+    @GetMapping
+    public ResponseEntity<LoadTestStatus> status(@PathVariable String topicName) {
+        LoadTestStatus status = loadGenerator.status(topicName);
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping
+    public ResponseEntity<LoadTestStatus> cancel(@PathVariable String topicName) {
+        LoadTestStatus status = loadGenerator.cancel(topicName);
+        return status != null ? ResponseEntity.status(HttpStatus.ACCEPTED).body(status)
+                : ResponseEntity.notFound().build();
+    }
+
+    // Request errors are rethrown so the exception handlers answer 400 or 409.
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        Throwable cause = KafkaFutures.unwrap(error);
+        if (cause instanceof InvalidRequestException || cause instanceof LoadTestInProgressException) {
+            throw (RuntimeException) cause;
+        }
+        return KafkaController.failure(cause);
+    }
+}
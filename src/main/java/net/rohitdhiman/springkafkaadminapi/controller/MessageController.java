@@ -0,0 +1,190 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Query;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Range;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Result;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Peeks at the records of a topic through {@link MessageBrowser}: from an offset or a timestamp of one partition,
+ * from a timestamp on every partition, or the last records of one or every partition.
+ * <p>
+ * The response is written while the records are read. Keys, values and headers are only decoded when listed in
+ * {@code include} (key and value by default), as UTF-8 text or, with {@code encoding=base64}, straight from the
+ * record's bytes. After the records come the ranges that were read, with each partition's next offset for paging,
+ * and why the read stopped.
+ */
+@RestController
+@RequestMapping("/api/topics/{topicName}/messages")
+public class MessageController {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final MessageBrowser messageBrowser;
+    private final ClusterMetadataCache metadataCache;
+
+    public MessageController(MessageBrowser messageBrowser, ClusterMetadataCache metadataCache) {
+        this.messageBrowser = messageBrowser;
+        this.metadataCache = metadataCache;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> messages(
+            @PathVariable String topicName,
+            @RequestParam(required = false) Integer partition,
+            @RequestParam(required = false) Long offset,
+            @RequestParam(required = false) Long timestamp,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long maxBytes,
+            @RequestParam(defaultValue = "key,value") String include,
+            @RequestParam(defaultValue = "utf8") String encoding) {
+        Rendering rendering = Rendering.of(include, encoding);
+        return metadataCache.snapshot()
+                .thenCompose(snapshot -> {
+                    TopicDescription description = snapshot.topics().get(topicName);
+                    if (description == null) {
+                        return CompletableFuture.completedFuture(
+                                ResponseEntity.notFound().<StreamingResponseBody>build());
+                    }
+                    Query query = messageBrowser.query(topicName, description.partitions().size(), partition, offset,
+                            timestamp, limit, maxBytes);
+                    return messageBrowser.plan(query).thenApply(ranges -> {
+                        StreamingResponseBody body = outputStream -> {
+                            try (JsonGenerator json = JSON_FACTORY.createGenerator(outputStream)) {
+                                writeMessages(json, query, ranges, rendering);
+                            }
+                        };
+                        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+                    });
+                })
+                .exceptionally(MessageController::failure);
+    }
+
+    private void writeMessages(JsonGenerator json, Query query, List<Range> ranges, Rendering rendering)
+            throws IOException {
+        json.writeStartObject();
+        json.writeStringField("topic", query.topic());
+        json.writeArrayFieldStart("records");
+        Result result = messageBrowser.read(query, ranges, record -> writeRecord(json, record, rendering));
+        json.writeEndArray();
+        json.writeNumberField("count", result.records());
+        json.writeNumberField("bytes", result.bytes());
+        json.writeStringField("outcome", result.outcome().name());
+        if (result.error() != null) {
+            json.writeStringField("error", result.error());
+        }
+        json.writeArrayFieldStart("partitions");
+        for (Range range : ranges) {
+            json.writeStartObject();
+            json.writeNumberField("partition", range.partition());
+            json.writeNumberField("from", range.from());
+            json.writeNumberField("to", range.to());
+            json.writeNumberField("next", result.nextOffsets().getOrDefault(range.partition(), range.from()));
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    static void writeRecord(JsonGenerator json, ConsumerRecord<byte[], byte[]> record, Rendering rendering)
+            throws IOException {
+        json.writeStartObject();
+        writeRecordFields(json, record, rendering);
+        json.writeEndObject();
+    }
+
+    static void writeRecordFields(JsonGenerator json, ConsumerRecord<byte[], byte[]> record, Rendering rendering)
+            throws IOException {
+        json.writeNumberField("partition", record.partition());
+        json.writeNumberField("offset", record.offset());
+        json.writeNumberField("timestamp", record.timestamp());
+        json.writeStringField("timestampType", record.timestampType().name());
+        if (rendering.key()) {
+            json.writeFieldName("key");
+            writeBytes(json, record.key(), rendering.base64());
+        }
+        if (rendering.value()) {
+            json.writeFieldName("value");
+            writeBytes(json, record.value(), rendering.base64());
+        }
+        if (rendering.headers()) {
+            json.writeArrayFieldStart("headers");
+            for (Header header : record.headers()) {
+                json.writeStartObject();
+                json.writeStringField("key", header.key());
+                json.writeFieldName("value");
+                writeBytes(json, header.value(), rendering.base64());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+    }
+
+    private static void writeBytes(JsonGenerator json, byte[] bytes, boolean base64) throws IOException {
+        if (bytes == null) {
+            json.writeNull();
+        } else if (base64) {
+            json.writeBinary(bytes);
+        } else {
+            json.writeString(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    /** Which parts of a record are written, and how their bytes are shown. */
+    record Rendering(boolean key, boolean value, boolean headers, boolean base64) {
+
+        static Rendering of(String include, String encoding) {
+            boolean key = false;
+            boolean value = false;
+            boolean headers = false;
+            for (String part : include.split(",")) {
+                switch (part.trim().toLowerCase(Locale.ROOT)) {
+                    case "key" -> key = true;
+                    case "value" -> value = true;
+                    case "headers" -> headers = true;
+                    case "" -> { }
+                    default -> throw new InvalidRequestException(
+                            "include takes key, value and headers, not '" + part.trim() + "'.");
+                }
+            }
+            boolean base64;
+            switch (encoding.toLowerCase(Locale.ROOT)) {
+                case "utf8", "utf-8" -> base64 = false;
+                case "base64" -> base64 = true;
+                default -> throw new InvalidRequestException("encoding must be utf8 or base64.");
+            }
+            return new Rendering(key, value, headers, base64);
+        }
+    }
+
+    // Invalid partitions and offsets are rethrown so the exception handler answers 400.
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        Throwable cause = KafkaFutures.unwrap(error);
+        if (cause instanceof InvalidRequestException invalid) {
+            throw invalid;
+        }
+        return KafkaController.failure(cause);
+    }
+}
@@ -0,0 +1,121 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import net.rohitdhiman.springkafkaadminapi.controller.MessageController.Rendering;
+import net.rohitdhiman.springkafkaadminapi.dto.MessageSearchRequest;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.PartitionRange;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Progress;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Query;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Summary;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Searches topics for records through {@link MessageSearch} and streams newline-delimited JSON while the
+ * partitions are scanned: a {@code match} line per matching record, a {@code progress} line every
+ * {@code kafka.admin.search.progress-interval-ms}, and a final {@code done} line with the outcome.
+ * Each line is flushed, so a client that disconnects cancels the scan at the next line.
+ */
+@RestController
+@RequestMapping("/api/messages")
+public class MessageSearchController {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final MessageSearch messageSearch;
+
+    public MessageSearchController(MessageSearch messageSearch) {
+        this.messageSearch = messageSearch;
+    }
+
+    @PostMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> search(
+            @RequestBody MessageSearchRequest request,
+            @RequestParam(defaultValue = "key,value") String include,
+            @RequestParam(defaultValue = "utf8") String encoding) {
+        Rendering rendering = Rendering.of(include, encoding);
+        Query query = messageSearch.query(request);
+        return messageSearch.plan(query)
+                .thenApply(ranges -> {
+                    StreamingResponseBody body = outputStream -> writeSearch(outputStream, query, ranges, rendering);
+                    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+                })
+                .exceptionally(MessageSearchController::failure);
+    }
+
+    private void writeSearch(OutputStream outputStream, Query query, List<PartitionRange> ranges, Rendering rendering)
+            throws IOException {
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(outputStream)) {
+            Summary summary = messageSearch.search(query, ranges, new MessageSearch.SearchListener() {
+                @Override
+                public void match(ConsumerRecord<byte[], byte[]> record) throws IOException {
+                    json.writeStartObject();
+                    json.writeStringField("type", "match");
+                    json.writeStringField("topic", record.topic());
+                    MessageController.writeRecordFields(json, record, rendering);
+                    json.writeEndObject();
+                    endLine(json);
+                }
+
+                @Override
+                public void progress(Progress progress) throws IOException {
+                    json.writeStartObject();
+                    json.writeStringField("type", "progress");
+                    writeProgress(json, progress);
+                    json.writeEndObject();
+                    endLine(json);
+                }
+            });
+            json.writeStartObject();
+            json.writeStringField("type", "done");
+            json.writeStringField("outcome", summary.outcome().name());
+            if (summary.error() != null) {
+                json.writeStringField("error", summary.error());
+            }
+            writeProgress(json, summary.progress());
+            json.writeEndObject();
+            endLine(json);
+        }
+    }
+
+    private static void writeProgress(JsonGenerator json, Progress progress) throws IOException {
+        json.writeNumberField("partitionsDone", progress.partitionsDone());
+        json.writeNumberField("partitions", progress.partitions());
+        json.writeNumberField("scannedRecords", progress.scannedRecords());
+        json.writeNumberField("offsets", progress.offsets());
+        json.writeNumberField("scannedBytes", progress.scannedBytes());
+        json.writeNumberField("matches", progress.matches());
+        json.writeNumberField("elapsedMs", progress.elapsedMs());
+        json.writeNumberField("megabytesPerSecond", progress.megabytesPerSecond());
+    }
+
+    private static void endLine(JsonGenerator json) throws IOException {
+        json.writeRaw('\n');
+        json.flush();
+    }
+
+    // Invalid searches and unknown topics are rethrown so the exception handler answers 400.
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        Throwable cause = KafkaFutures.unwrap(error);
+        if (cause instanceof InvalidRequestException invalid) {
+            throw invalid;
+        }
+        return KafkaController.failure(cause);
+    }
+}
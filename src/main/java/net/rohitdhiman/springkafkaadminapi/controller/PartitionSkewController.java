@@ -0,0 +1,61 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionSkewReport;
+import net.rohitdhiman.springkafkaadminapi.dto.PreferredLeaderElectionResult;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import net.rohitdhiman.springkafkaadminapi.service.PartitionSkewAnalyzer;
+import net.rohitdhiman.springkafkaadminapi.service.PreferredLeaderElections;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Replica and leader balance of the cluster, served from the {@link PartitionSkewAnalyzer} analysis of the
+ * cached metadata, and the preferred leader election that fixes leadership drift.
+ */
+@RestController
+@RequestMapping("/api/cluster/skew")
+public class PartitionSkewController {
+
+    private final ClusterMetadataCache metadataCache;
+    private final PartitionSkewAnalyzer analyzer;
+    private final PreferredLeaderElections elections;
+
+    public PartitionSkewController(ClusterMetadataCache metadataCache, PartitionSkewAnalyzer analyzer,
+                                   PreferredLeaderElections elections) {
+        this.metadataCache = metadataCache;
+        this.analyzer = analyzer;
+        this.elections = elections;
+    }
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<PartitionSkewReport>> skew() {
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> ResponseEntity.ok(analyzer.report(snapshot)))
+                .exceptionally(PartitionSkewController::failure);
+    }
+
+    /**
+     * Elects the preferred leader of every partition that has drifted from it, optionally only for some topics.
+     */
+    @PostMapping("/elect-preferred-leaders")
+    public CompletableFuture<ResponseEntity<PreferredLeaderElectionResult>> electPreferredLeaders(
+            @RequestParam(required = false) List<String> topics) {
+        return elections.electPreferredLeaders(topics)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(PartitionSkewController::failure);
+    }
+
+    // Unknown topics are rethrown so the exception handler answers 400.
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        Throwable cause = KafkaFutures.unwrap(error);
+        if (cause instanceof InvalidRequestException invalid) {
+            throw invalid;
+        }
+        return KafkaController.failure(cause);
+    }
+}
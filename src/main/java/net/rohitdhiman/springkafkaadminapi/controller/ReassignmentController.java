@@ -0,0 +1,82 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentStatus;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.exception.ReassignmentInProgressException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import net.rohitdhiman.springkafkaadminapi.service.ReassignmentExecutor;
+import net.rohitdhiman.springkafkaadminapi.service.ReassignmentPlanner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Partition reassignment: plans computed by {@link ReassignmentPlanner} from the metadata snapshot, and their
+ * throttled execution by {@link ReassignmentExecutor}.
+ */
+@RestController
+@RequestMapping("/api/reassignments")
+public class ReassignmentController {
+
+    private final ClusterMetadataCache metadataCache;
+    private final ReassignmentExecutor executor;
+
+    public ReassignmentController(ClusterMetadataCache metadataCache, ReassignmentExecutor executor) {
+        this.metadataCache = metadataCache;
+        this.executor = executor;
+    }
+
+    /**
+     * Computes a balanced assignment without changing anything.
+     */
+    @PostMapping("/plan")
+    public CompletableFuture<ResponseEntity<ReassignmentPlan>> plan(@RequestBody ReassignmentRequest request) {
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> ResponseEntity.ok(
+                        ReassignmentPlanner.plan(snapshot, request.brokers(), request.topics())))
+                .exceptionally(ReassignmentController::failure);
+    }
+
+    /**
+     * Plans against the current metadata and starts executing the plan. Answers 202 with the execution's
+     * status, or 409 if another execution is still running.
+     */
+    @PostMapping("/execute")
+    public CompletableFuture<ResponseEntity<ReassignmentStatus>> execute(@RequestBody ReassignmentRequest request) {
+        return metadataCache.refresh()
+                .thenApply(snapshot -> {
+                    ReassignmentPlan plan = ReassignmentPlanner.plan(snapshot, request.brokers(), request.topics());
+                    ReassignmentStatus status = executor.start(plan, request.throttleBytesPerSecond(),
+                            request.waveSize());
+                    return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+                })
+                .exceptionally(ReassignmentController::failure);
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<ReassignmentStatus> status() {
+        ReassignmentStatus status = executor.status();
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/cancel")
+    public ResponseEntity<ReassignmentStatus> cancel() {
+        ReassignmentStatus status = executor.cancel();
+        return status != null ? ResponseEntity.status(HttpStatus.ACCEPTED).body(status)
+                : ResponseEntity.notFound().build();
+    }
+
+    // Request errors raised while planning are rethrown so the exception handlers answer 400 or 409.
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        Throwable cause = KafkaFutures.unwrap(error);
+        if (cause instanceof InvalidRequestException || cause instanceof ReassignmentInProgressException) {
+            throw (RuntimeException) cause;
+        }
+        return KafkaController.failure(cause);
+    }
+}
@@ -0,0 +1,111 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicSnapshotInfo;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaFutures;
+import net.rohitdhiman.springkafkaadminapi.service.TopicSnapshots;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Topic snapshots through {@link TopicSnapshots}: export a topic to a file in the snapshot directory, replay a
+ * file into a topic, and follow the job.
+ */
+@RestController
+@RequestMapping("/api")
+public class TopicSnapshotController {
+
+    private final TopicSnapshots topicSnapshots;
+    private final ClusterMetadataCache metadataCache;
+
+    public TopicSnapshotController(TopicSnapshots topicSnapshots, ClusterMetadataCache metadataCache) {
+        this.topicSnapshots = topicSnapshots;
+        this.metadataCache = metadataCache;
+    }
+
+    /**
+     * Starts exporting the topic. Answers 202 with the job's status.
+     */
+    @PostMapping("/topics/{topicName}/export")
+    public CompletableFuture<ResponseEntity<SnapshotJobStatus>> export(@PathVariable String topicName,
+                                                                       @RequestParam(required = false) String file) {
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> {
+                    TopicDescription description = snapshot.topics().get(topicName);
+                    if (description == null) {
+                        return ResponseEntity.notFound().<SnapshotJobStatus>build();
+                    }
+                    return accepted(() -> topicSnapshots.export(topicName, description.partitions().size(), file));
+                })
+                .exceptionally(TopicSnapshotController::failure);
+    }
+
+    /**
+     * Starts replaying a snapshot file into the topic, which must exist. Answers 202 with the job's status.
+     */
+    @PostMapping("/topics/{topicName}/import")
+    public CompletableFuture<ResponseEntity<SnapshotJobStatus>> importSnapshot(
+            @PathVariable String topicName,
+            @RequestParam String file,
+            @RequestParam(defaultValue = "true") boolean keepTimestamps) {
+        return metadataCache.snapshot()
+                .thenApply(snapshot -> {
+                    TopicDescription description = snapshot.topics().get(topicName);
+                    if (description == null) {
+                        return ResponseEntity.notFound().<SnapshotJobStatus>build();
+                    }
+                    return accepted(() -> topicSnapshots.importSnapshot(file, topicName,
+                            description.partitions().size(), keepTimestamps));
+                })
+                .exceptionally(TopicSnapshotController::failure);
+    }
+
+    @GetMapping("/snapshots")
+    public ResponseEntity<List<TopicSnapshotInfo>> list() throws IOException {
+        return ResponseEntity.ok(topicSnapshots.list());
+    }
+
+    @GetMapping("/snapshots/jobs/{id}")
+    public ResponseEntity<SnapshotJobStatus> status(@PathVariable String id) {
+        SnapshotJobStatus status = topicSnapshots.status(id);
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping("/snapshots/jobs/{id}")
+    public ResponseEntity<SnapshotJobStatus> cancel(@PathVariable String id) {
+        SnapshotJobStatus status = topicSnapshots.cancel(id);
+        return status != null ? ResponseEntity.status(HttpStatus.ACCEPTED).body(status)
+                : ResponseEntity.notFound().build();
+    }
+
+    private interface Start {
+        SnapshotJobStatus start() throws IOException;
+    }
+
+    // Runs inside the metadata future, where checked exceptions cannot be thrown.
+    private static ResponseEntity<SnapshotJobStatus> accepted(Start start) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(start.start());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Invalid file names and files that cannot be imported are rethrown so the exception handler answers 400.
+    private static <T> ResponseEntity<T> failure(Throwable error) {
+        Throwable cause = KafkaFutures.unwrap(error);
+        if (cause instanceof InvalidRequestException invalid) {
+            throw invalid;
+        }
+        return KafkaController.failure(cause);
+    }
+}
@@ -0,0 +1,28 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Bytes a broker holds on disk, over all of its log directories, including replicas still being copied to it.
+ * {@code error} is set, and the sizes are zero, if the broker could not be described in the last refresh.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BrokerDiskUsage(
+        int id,
+        String host,
+        String rack,
+        int replicas,
+        long bytes,
+        Double bytesPerSecond,
+        List<LogDirUsage> logDirs,
+        String error
+) {
+    /**
+     * One log directory. {@code totalBytes} and {@code usableBytes} describe the volume and are only reported
+     * by brokers that support it.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record LogDirUsage(String path, int replicas, long bytes, Long totalBytes, Long usableBytes, String error) {}
+}
@@ -0,0 +1,13 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a bulk create or delete: the number of topics per status, and every topic's outcome
+ * in request order.
+ */
+public record BulkTopicResult(
+        Map<TopicOperationResult.Status, Integer> summary,
+        List<TopicOperationResult> results
+) {}
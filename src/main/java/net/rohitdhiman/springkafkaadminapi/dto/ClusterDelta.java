@@ -0,0 +1,33 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * What changed between two consecutive metadata snapshots. Empty lists are left out of the JSON.
+ * {@code resync} is set when the partition changes could not be computed incrementally, in which case
+ * clients should reload partition health in full.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ClusterDelta(
+        long sequence,
+        Instant fetchedAt,
+        List<String> topicsAdded,
+        List<String> topicsRemoved,
+        List<PartitionHealthChange> partitions,
+        List<NodeInfo> brokersJoined,
+        List<Integer> brokersLeft,
+        List<GroupStateChange> groups,
+        boolean resync,
+        ClusterTotals totals
+) {
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return topicsAdded.isEmpty() && topicsRemoved.isEmpty() && partitions.isEmpty()
+                && brokersJoined.isEmpty() && brokersLeft.isEmpty() && groups.isEmpty() && !resync;
+    }
+}
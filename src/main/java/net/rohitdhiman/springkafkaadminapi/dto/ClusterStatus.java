@@ -0,0 +1,21 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * A registered cluster and the state of its AdminClient. {@code connected} is false while no client is open
+ * (never used, or evicted when idle); {@code healthy} is null until the first health check has run.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClusterStatus(
+        String name,
+        String bootstrapServers,
+        boolean connected,
+        Boolean healthy,
+        Instant checkedAt,
+        String error,
+        int inFlight,
+        int queued
+) {}
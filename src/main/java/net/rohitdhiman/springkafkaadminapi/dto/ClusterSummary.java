@@ -0,0 +1,17 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One cluster's part of a federated summary. When the cluster could not be reached in time,
+ * {@code available} is false and only {@code error} is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClusterSummary(
+        String cluster,
+        boolean available,
+        String clusterId,
+        ClusterTotals totals,
+        Long metadataAgeMs,
+        String error
+) {}
@@ -0,0 +1,11 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+/**
+ * Headline counts of the cluster as of one metadata snapshot.
+ */
+public record ClusterTotals(
+        int brokers,
+        int topics,
+        int consumerGroups,
+        int underReplicatedPartitions
+) {}
@@ -0,0 +1,25 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a batch of config changes, one result per resource in request order. With {@code validateOnly}
+ * the brokers only checked the changes, and successful resources are VALIDATED instead of ALTERED.
+ */
+public record ConfigAlterResult(
+        boolean validateOnly,
+        Map<Status, Integer> summary,
+        List<ResourceResult> resources
+) {
+    public enum Status {
+        VALIDATED,
+        ALTERED,
+        FAILED
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ResourceResult(ConfigResourceType type, String name, Status status, String error) {}
+}
@@ -0,0 +1,15 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes to one topic's or broker's configs: values to {@code set} and names to {@code delete} (revert to the
+ * default). A broker {@code name} is its id; an empty name changes the cluster-wide broker default.
+ */
+public record ConfigChange(
+        ConfigResourceType type,
+        String name,
+        Map<String, String> set,
+        List<String> delete
+) {}
@@ -0,0 +1,28 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Topics whose effective configs differ from a template. {@code driftByConfig} counts drifted topics per config
+ * name; {@code failed} lists topics that could not be described. Topics that match the template are only counted.
+ */
+public record ConfigDriftReport(
+        int topicsChecked,
+        int topicsDrifted,
+        Map<String, Integer> driftByConfig,
+        List<TopicDrift> topics,
+        List<String> failed,
+        int describeCalls,
+        long durationMs
+) {
+    public record TopicDrift(String topic, List<Difference> differences) {}
+
+    /**
+     * {@code actual} and {@code source} are absent when the topic has no config of that name.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Difference(String name, String expected, String actual, String source) {}
+}
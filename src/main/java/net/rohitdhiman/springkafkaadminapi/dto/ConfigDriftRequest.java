@@ -0,0 +1,14 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expected topic config values to compare topics against. {@code topics} or {@code prefix} narrow the check;
+ * without either, every non-internal topic is checked.
+ */
+public record ConfigDriftRequest(
+        Map<String, String> template,
+        List<String> topics,
+        String prefix
+) {}
@@ -0,0 +1,9 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+/**
+ * The kinds of resources whose configs can be read and changed.
+ */
+public enum ConfigResourceType {
+    TOPIC,
+    BROKER
+}
@@ -0,0 +1,118 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact description of a consumer group. Each member's assignment maps a topic name to its partition
+ * numbers instead of repeating the topic in every partition. Written by {@link Serializer} without reflection.
+ */
+@JsonSerialize(using = ConsumerGroupDetails.Serializer.class)
+public record ConsumerGroupDetails(
+        String groupId,
+        boolean simple,
+        String state,
+        String partitionAssignor,
+        NodeInfo coordinator,
+        List<MemberDetails> members
+) {
+
+    public record MemberDetails(
+            String memberId,
+            String groupInstanceId,
+            String clientId,
+            String host,
+            Map<String, int[]> assignment
+    ) {}
+
+    public static ConsumerGroupDetails of(ConsumerGroupDescription description) {
+        List<MemberDetails> members = new ArrayList<>(description.members().size());
+        for (MemberDescription member : description.members()) {
+            members.add(new MemberDetails(member.consumerId(), member.groupInstanceId().orElse(null),
+                    member.clientId(), member.host(), assignment(member)));
+        }
+        Node coordinator = description.coordinator();
+        return new ConsumerGroupDetails(description.groupId(), description.isSimpleConsumerGroup(),
+                description.state() == null ? null : description.state().name(), description.partitionAssignor(),
+                coordinator == null || coordinator.isEmpty() ? null : new NodeInfo(coordinator), members);
+    }
+
+    // Sorted by topic then partition, so each topic's partitions are one contiguous run.
+    private static Map<String, int[]> assignment(MemberDescription member) {
+        List<TopicPartition> partitions = new ArrayList<>(member.assignment().topicPartitions());
+        partitions.sort(Comparator.comparing(TopicPartition::topic).thenComparingInt(TopicPartition::partition));
+        Map<String, int[]> byTopic = new LinkedHashMap<>();
+        int start = 0;
+        while (start < partitions.size()) {
+            String topic = partitions.get(start).topic();
+            int end = start + 1;
+            while (end < partitions.size() && partitions.get(end).topic().equals(topic)) {
+                end++;
+            }
+            int[] ids = new int[end - start];
+            for (int i = start; i < end; i++) {
+                ids[i - start] = partitions.get(i).partition();
+            }
+            byTopic.put(topic, ids);
+            start = end;
+        }
+        return byTopic;
+    }
+
+    public static class Serializer extends StdSerializer<ConsumerGroupDetails> {
+
+        public Serializer() {
+            super(ConsumerGroupDetails.class);
+        }
+
+        @Override
+        public void serialize(ConsumerGroupDetails group, JsonGenerator json, SerializerProvider provider)
+                throws IOException {
+            json.writeStartObject();
+            json.writeStringField("groupId", group.groupId());
+            json.writeBooleanField("simple", group.simple());
+            if (group.state() != null) {
+                json.writeStringField("state", group.state());
+            }
+            if (group.partitionAssignor() != null && !group.partitionAssignor().isEmpty()) {
+                json.writeStringField("partitionAssignor", group.partitionAssignor());
+            }
+            if (group.coordinator() != null) {
+                json.writeFieldName("coordinator");
+                TopicDetails.Serializer.writeNode(json, group.coordinator());
+            }
+            json.writeArrayFieldStart("members");
+            for (MemberDetails member : group.members()) {
+                json.writeStartObject();
+                json.writeStringField("memberId", member.memberId());
+                if (member.groupInstanceId() != null) {
+                    json.writeStringField("groupInstanceId", member.groupInstanceId());
+                }
+                json.writeStringField("clientId", member.clientId());
+                json.writeStringField("host", member.host());
+                json.writeObjectFieldStart("assignment");
+                for (Map.Entry<String, int[]> topic : member.assignment().entrySet()) {
+                    json.writeFieldName(topic.getKey());
+                    json.writeArray(topic.getValue(), 0, topic.getValue().length);
+                }
+                json.writeEndObject();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A page of a disk usage listing, cut from the lists sorted by the last refresh. {@code total} counts every
+ * entry; {@code fetchedAt} is when the sizes were collected and {@code previousFetchedAt} when the sample the
+ * growth rates compare against was.
+ */
+public record DiskUsagePage<T>(
+        List<T> content,
+        int offset,
+        int total,
+        Instant fetchedAt,
+        Instant previousFetchedAt
+) {}
@@ -0,0 +1,12 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+
+/**
+ * Summaries of every registered cluster and their totals summed over the available ones.
+ */
+public record FederatedSummary(
+        List<ClusterSummary> clusters,
+        int available,
+        ClusterTotals totals
+) {}
@@ -0,0 +1,14 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Lag of a consumer group across every partition it has committed offsets for, broken down per topic.
+ */
+public record GroupLag(
+        String groupId,
+        long lag,
+        List<TopicLag> topics,
+        Instant computedAt
+) {}
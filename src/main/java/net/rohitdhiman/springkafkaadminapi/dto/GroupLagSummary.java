@@ -0,0 +1,8 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+public record GroupLagSummary(
+        String groupId,
+        long lag,
+        int topics,
+        int partitions
+) {}
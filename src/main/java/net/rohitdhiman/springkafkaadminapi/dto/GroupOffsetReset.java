@@ -0,0 +1,28 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Outcome of an offset reset for one group: its state, its status and every partition's old and new offset.
+ * A dry run reports PLANNED; ACTIVE means the group has members, so nothing was committed.
+ * {@code currentOffset} is null for a partition the group has not committed yet.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GroupOffsetReset(
+        String groupId,
+        String state,
+        Status status,
+        String error,
+        List<PartitionReset> partitions
+) {
+    public enum Status {
+        PLANNED,
+        RESET,
+        ACTIVE,
+        FAILED
+    }
+
+    public record PartitionReset(String topic, int partition, Long currentOffset, long newOffset) {}
+}
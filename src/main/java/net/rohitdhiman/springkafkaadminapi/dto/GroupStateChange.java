@@ -0,0 +1,14 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A consumer group that appeared, disappeared or changed state between two snapshots.
+ * {@code previousState} is null for a new group and {@code state} is null for a removed one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GroupStateChange(
+        String groupId,
+        String previousState,
+        String state
+) {}
@@ -0,0 +1,14 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+
+/**
+ * Samples of one series that fall into one time bucket, reduced to their minimum, maximum and mean.
+ */
+public record HistoryBucket(
+        Instant start,
+        double min,
+        double max,
+        double avg,
+        int samples
+) {}
@@ -0,0 +1,18 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+
+/**
+ * Cost of one lag refresh cycle: how much it covered and how many AdminClient calls it took.
+ * Groups or partitions whose offsets could not be fetched are counted as failed and left out.
+ */
+public record LagRefreshStats(
+        Instant startedAt,
+        long durationMs,
+        int groups,
+        int partitions,
+        int groupOffsetRequests,
+        int endOffsetRequests,
+        int failedGroups,
+        int failedPartitions
+) {}
@@ -0,0 +1,33 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+/**
+ * A synthetic load to produce to one topic. The run stops after {@code records} records or {@code durationMs},
+ * whichever comes first; without either it sends 100,000 records. {@code recordsPerSecond} paces the sends
+ * (as fast as possible if omitted).
+ * <p>
+ * Records carry {@code valueSize} random bytes (1024 by default). With {@code keyCount} they get one of that many
+ * keys, picked by {@code keyDistribution} (sequential by default); without it they have no key. The producer
+ * settings ({@code batchSize}, {@code lingerMs}, {@code compression}, {@code acks}) fall back to the configured
+ * defaults.
+ */
+public record LoadTestRequest(
+        Long records,
+        Long durationMs,
+        Integer recordsPerSecond,
+        Integer valueSize,
+        Integer keyCount,
+        KeyDistribution keyDistribution,
+        Integer batchSize,
+        Integer lingerMs,
+        String compression,
+        String acks
+) {
+    public enum KeyDistribution {
+        /** Keys in turn. */
+        SEQUENTIAL,
+        /** Every key equally likely. */
+        UNIFORM,
+        /** Zipf-distributed (exponent 1): the first keys are hot. */
+        ZIPF
+    }
+}
@@ -0,0 +1,39 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * Progress of a load test. Rates are for acknowledged records since the start, in MB (10^6 bytes of keys and
+ * values) per second. {@code latency} is the time from send to acknowledgement. {@code error} is the first
+ * failed send, or why the run failed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LoadTestStatus(
+        String topic,
+        State state,
+        long records,
+        Integer recordsPerSecondTarget,
+        long sent,
+        long acknowledged,
+        long failed,
+        long bytes,
+        double recordsPerSecond,
+        double megabytesPerSecond,
+        Latency latency,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+    public enum State {
+        RUNNING,
+        CANCELLING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    /** Acknowledgement latency percentiles in milliseconds. */
+    public record Latency(double p50Ms, double p95Ms, double p99Ms, double p999Ms, double maxMs, double meanMs) {}
+}
@@ -0,0 +1,23 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Records to find in the given topics between {@code from} and {@code to} (default: the last hour up to now).
+ * Every condition given must hold: {@code key} equals the record key, {@code header} is present (with
+ * {@code headerValue}, if given), the value contains {@code valueContains}, and the JSON value has
+ * {@code jsonPath} (equal to {@code jsonValue}, if given). Keys, header values and texts are compared as UTF-8.
+ */
+public record MessageSearchRequest(
+        List<String> topics,
+        Instant from,
+        Instant to,
+        String key,
+        String header,
+        String headerValue,
+        String valueContains,
+        String jsonPath,
+        String jsonValue,
+        Integer limit
+) {}
@@ -0,0 +1,34 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * How the recorded cluster metadata differs between two points in time. {@code fromSnapshotAt} and
+ * {@code toSnapshotAt} are the refreshes that were current at {@code from} and {@code to}. {@code isrChanges}
+ * lists every ISR change recorded in between, oldest first, up to a limit; {@code isrChangesTruncated} is set
+ * when there were more. Empty lists are left out of the JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record MetadataDiff(
+        Instant from,
+        Instant to,
+        Instant fromSnapshotAt,
+        Instant toSnapshotAt,
+        List<String> topicsCreated,
+        List<String> topicsDeleted,
+        List<PartitionCountChange> partitionCounts,
+        List<String> groupsCreated,
+        List<String> groupsDeleted,
+        List<IsrChange> isrChanges,
+        boolean isrChangesTruncated
+) {
+
+    public record PartitionCountChange(String topic, int before, int after) {
+    }
+
+    public record IsrChange(Instant at, String topic, int partition, List<Integer> previousIsr, List<Integer> isr) {
+    }
+}
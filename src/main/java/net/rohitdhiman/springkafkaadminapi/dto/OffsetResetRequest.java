@@ -0,0 +1,28 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offsets to reset for a set of consumer groups. {@code topics} limits the reset to every partition of those
+ * topics; without it, each group's partitions with a committed offset are reset. {@code timestamp} is used by
+ * TIMESTAMP, {@code shift} by SHIFT, and {@code offsets} (topic to partition to offset) by EXPLICIT, which
+ * resets exactly the partitions it lists.
+ */
+public record OffsetResetRequest(
+        List<String> groups,
+        List<String> topics,
+        Strategy strategy,
+        Instant timestamp,
+        Long shift,
+        Map<String, Map<Integer, Long>> offsets
+) {
+    public enum Strategy {
+        EARLIEST,
+        LATEST,
+        TIMESTAMP,
+        SHIFT,
+        EXPLICIT
+    }
+}
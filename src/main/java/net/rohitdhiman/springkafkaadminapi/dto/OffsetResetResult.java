@@ -0,0 +1,16 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of an offset reset: the number of groups per status, each group's outcome in request order,
+ * requested topics or partitions that are not in the cluster, and the {@code listOffsets} calls it took.
+ */
+public record OffsetResetResult(
+        boolean dryRun,
+        Map<GroupOffsetReset.Status, Integer> summary,
+        List<GroupOffsetReset> groups,
+        List<String> unknown,
+        int offsetLookups
+) {}
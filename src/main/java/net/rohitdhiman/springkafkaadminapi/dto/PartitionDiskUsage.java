@@ -0,0 +1,16 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Size of a partition: {@code bytes} is its largest replica, {@code diskBytes} the sum of all of its replicas.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PartitionDiskUsage(
+        String topic,
+        int partition,
+        int replicas,
+        long bytes,
+        long diskBytes,
+        Double bytesPerSecond
+) {}
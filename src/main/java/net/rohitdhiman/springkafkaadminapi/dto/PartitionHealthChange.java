@@ -0,0 +1,23 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+/**
+ * A partition whose replication state changed in a health index refresh.
+ * {@code leader} is -1 when the partition has no leader; a {@code REMOVED} change means the topic was deleted.
+ */
+public record PartitionHealthChange(
+        long version,
+        String topic,
+        int partition,
+        int leader,
+        int replicas,
+        int isr,
+        State state
+) {
+
+    public enum State {
+        HEALTHY,
+        UNDER_REPLICATED,
+        OFFLINE,
+        REMOVED
+    }
+}
@@ -0,0 +1,13 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+
+/**
+ * Partition changes since a client-supplied version. When the requested version is older than the
+ * retained change log, {@code resync} is set and {@code changes} holds the full current state instead.
+ */
+public record PartitionHealthChanges(
+        long version,
+        boolean resync,
+        List<PartitionHealthChange> changes
+) {}
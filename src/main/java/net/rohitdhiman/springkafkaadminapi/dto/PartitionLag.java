@@ -0,0 +1,8 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+public record PartitionLag(
+        int partition,
+        long committedOffset,
+        long endOffset,
+        long lag
+) {}
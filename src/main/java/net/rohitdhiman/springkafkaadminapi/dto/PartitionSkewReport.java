@@ -0,0 +1,57 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * How evenly replicas and leaders are spread over the brokers in one metadata snapshot.
+ * <p>
+ * {@code replicaSkew} and {@code leaderSkew} say how far the busiest broker is above the average, as a
+ * fraction of it (0 when balanced, 1 when it carries twice its share). {@code score} is the percentage of
+ * replicas and leaders that sit above their broker's fair share (the rounded-up average) and would have to
+ * move for the cluster to be balanced. {@code electablePartitions} are led by another replica while the
+ * preferred one is in sync, so a preferred leader election moves them back.
+ */
+public record PartitionSkewReport(
+        int partitions,
+        int replicas,
+        double score,
+        double replicaSkew,
+        double leaderSkew,
+        int preferredLeaderMismatches,
+        int electablePartitions,
+        int leaderlessPartitions,
+        int rackViolations,
+        Map<String, Integer> rackViolationsByTopic,
+        List<BrokerSkew> brokers,
+        List<SkewFix> fixes,
+        Instant fetchedAt,
+        long analysisMicros
+) {
+    /**
+     * One broker's load. {@code preferredLeaders} counts the partitions whose first replica is this broker,
+     * i.e. how many leaders it would have after every partition had its preferred leader elected.
+     */
+    public record BrokerSkew(
+            int id,
+            String rack,
+            boolean online,
+            int replicas,
+            int leaders,
+            int preferredLeaders
+    ) {}
+
+    public record SkewFix(Action action, Integer broker, int partitions, String description) {}
+
+    public enum Action {
+        /** Leaders have drifted from the preferred replicas; {@code POST /api/cluster/skew/elect-preferred-leaders}. */
+        ELECT_PREFERRED_LEADERS,
+        /** A broker holds more replicas than its share; plan a reassignment. */
+        MOVE_REPLICAS,
+        /** Preferred leaders themselves are unevenly spread; a reassignment reorders replicas without copying data. */
+        REORDER_PREFERRED_LEADERS,
+        /** Partitions have several replicas in one rack; a reassignment spreads them. */
+        SPREAD_ACROSS_RACKS
+    }
+}
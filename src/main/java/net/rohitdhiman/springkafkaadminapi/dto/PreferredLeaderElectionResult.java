@@ -0,0 +1,18 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a batched preferred leader election. {@code notNeeded} partitions were already led by their
+ * preferred replica when the brokers received the request.
+ */
+public record PreferredLeaderElectionResult(
+        int requested,
+        int elected,
+        int notNeeded,
+        int failed,
+        int batches,
+        List<PartitionFailure> failures
+) {
+    public record PartitionFailure(String topic, int partition, String error) {}
+}
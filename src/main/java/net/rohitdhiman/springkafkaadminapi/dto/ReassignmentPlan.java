@@ -0,0 +1,31 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+
+/**
+ * A computed partition reassignment: how replicas and preferred leaders are spread over the brokers before
+ * and after, and the partitions whose replica list changes. {@code movedReplicas} counts replicas that have
+ * to be copied to a new broker; a move that only reorders replicas changes the preferred leader and copies
+ * no data.
+ */
+public record ReassignmentPlan(
+        int partitions,
+        int replicas,
+        int movedReplicas,
+        int leaderChanges,
+        long planningMs,
+        List<BrokerLoad> brokers,
+        List<PartitionMove> moves
+) {
+    public record BrokerLoad(
+            int id,
+            String rack,
+            boolean target,
+            int replicasBefore,
+            int replicasAfter,
+            int leadersBefore,
+            int leadersAfter
+    ) {}
+
+    public record PartitionMove(String topic, int partition, int[] currentReplicas, int[] targetReplicas) {}
+}
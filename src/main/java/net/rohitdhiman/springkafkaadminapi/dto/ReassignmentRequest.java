@@ -0,0 +1,16 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+
+/**
+ * What to rebalance. {@code brokers} are the brokers that should hold replicas afterwards (all live brokers
+ * if omitted; replicas on brokers left out are moved off them). {@code topics} limits which topics are moved
+ * (all if omitted). {@code throttleBytesPerSecond} and {@code waveSize} only apply to an execution and fall
+ * back to the configured defaults.
+ */
+public record ReassignmentRequest(
+        List<Integer> brokers,
+        List<String> topics,
+        Long throttleBytesPerSecond,
+        Integer waveSize
+) {}
@@ -0,0 +1,31 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * Progress of a reassignment execution. {@code inProgress} is the number of partitions of the current wave
+ * the brokers were still moving at the last poll.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReassignmentStatus(
+        State state,
+        int partitions,
+        int completedPartitions,
+        int waves,
+        int currentWave,
+        int inProgress,
+        long throttleBytesPerSecond,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+    public enum State {
+        RUNNING,
+        CANCELLING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
@@ -0,0 +1,26 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Configs of one topic or broker. Unless defaults were asked for, {@code entries} only lists values set
+ * somewhere other than Kafka's built-in defaults (on the topic, or dynamically or statically on the brokers).
+ * {@code error} is set instead of the entries if the resource could not be described.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ResourceConfig(
+        ConfigResourceType type,
+        String name,
+        List<Entry> entries,
+        Instant fetchedAt,
+        String error
+) {
+    /**
+     * One config value; {@code value} is null for sensitive configs, which the brokers never return.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Entry(String name, String value, String source, boolean sensitive, boolean readOnly) {}
+}
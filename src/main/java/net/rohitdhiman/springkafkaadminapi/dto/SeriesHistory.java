@@ -0,0 +1,16 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A downsampled range of one history series. Buckets without samples are left out.
+ */
+public record SeriesHistory(
+        String series,
+        String unit,
+        Instant from,
+        Instant to,
+        long bucketMs,
+        List<HistoryBucket> buckets
+) {}
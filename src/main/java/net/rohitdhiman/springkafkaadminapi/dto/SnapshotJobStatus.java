@@ -0,0 +1,39 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.Instant;
+
+/**
+ * Progress of a topic snapshot export or import. {@code records} counts records written to the file (export)
+ * or acknowledged by the target topic (import), out of about {@code totalRecords}: the offsets in the topic when
+ * the export started, or the records in the file. {@code fileBytes} is the size written or read so far.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SnapshotJobStatus(
+        String id,
+        Type type,
+        String topic,
+        String file,
+        State state,
+        long records,
+        long totalRecords,
+        long failed,
+        long fileBytes,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+) {
+    public enum Type {
+        EXPORT,
+        IMPORT
+    }
+
+    public enum State {
+        RUNNING,
+        CANCELLING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
@@ -0,0 +1,11 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+
+/**
+ * The groups with the highest total lag, together with the cost of the refresh that produced them.
+ */
+public record TopGroupLag(
+        List<GroupLagSummary> groups,
+        LagRefreshStats refresh
+) {}
@@ -0,0 +1,13 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a batch describe: descriptions keyed by topic name, and the requested names that do not exist.
+ * The descriptions are {@link TopicDetails}, or Kafka's own {@code TopicDescription} in the legacy shape.
+ */
+public record TopicDescriptions<T>(
+        Map<String, T> topics,
+        List<String> missing
+) {}
@@ -0,0 +1,107 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact description of a topic. Each broker is listed once in {@code brokers}; partitions refer to
+ * brokers by id, with replicas and ISR as plain int arrays. {@code leader} is -1 when the partition has
+ * no leader. Written by {@link Serializer} without reflection.
+ */
+@JsonSerialize(using = TopicDetails.Serializer.class)
+public record TopicDetails(
+        String name,
+        String topicId,
+        boolean internal,
+        List<NodeInfo> brokers,
+        List<PartitionDetails> partitions
+) {
+
+    public record PartitionDetails(int partition, int leader, int[] replicas, int[] isr) {}
+
+    public static TopicDetails of(TopicDescription description) {
+        Map<Integer, NodeInfo> brokers = new TreeMap<>();
+        List<PartitionDetails> partitions = new ArrayList<>(description.partitions().size());
+        for (TopicPartitionInfo partition : description.partitions()) {
+            Node leader = partition.leader();
+            int leaderId = leader == null || leader.isEmpty() ? -1 : leader.id();
+            partitions.add(new PartitionDetails(partition.partition(), leaderId,
+                    brokerIds(partition.replicas(), brokers), brokerIds(partition.isr(), brokers)));
+        }
+        Uuid topicId = description.topicId();
+        return new TopicDetails(description.name(),
+                topicId == null || Uuid.ZERO_UUID.equals(topicId) ? null : topicId.toString(),
+                description.isInternal(), List.copyOf(brokers.values()), partitions);
+    }
+
+    // Collects every broker seen into the shared table; the leader is always among the replicas.
+    private static int[] brokerIds(List<Node> nodes, Map<Integer, NodeInfo> brokers) {
+        int[] ids = new int[nodes.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Node node = nodes.get(i);
+            ids[i] = node.id();
+            if (!node.host().isEmpty()) {
+                brokers.putIfAbsent(node.id(), new NodeInfo(node));
+            }
+        }
+        return ids;
+    }
+
+    public static class Serializer extends StdSerializer<TopicDetails> {
+
+        public Serializer() {
+            super(TopicDetails.class);
+        }
+
+        @Override
+        public void serialize(TopicDetails topic, JsonGenerator json, SerializerProvider provider) throws IOException {
+            json.writeStartObject();
+            json.writeStringField("name", topic.name());
+            if (topic.topicId() != null) {
+                json.writeStringField("topicId", topic.topicId());
+            }
+            json.writeBooleanField("internal", topic.internal());
+            json.writeArrayFieldStart("brokers");
+            for (NodeInfo broker : topic.brokers()) {
+                writeNode(json, broker);
+            }
+            json.writeEndArray();
+            json.writeArrayFieldStart("partitions");
+            for (PartitionDetails partition : topic.partitions()) {
+                json.writeStartObject();
+                json.writeNumberField("partition", partition.partition());
+                json.writeNumberField("leader", partition.leader());
+                json.writeFieldName("replicas");
+                json.writeArray(partition.replicas(), 0, partition.replicas().length);
+                json.writeFieldName("isr");
+                json.writeArray(partition.isr(), 0, partition.isr().length);
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+
+        static void writeNode(JsonGenerator json, NodeInfo node) throws IOException {
+            json.writeStartObject();
+            json.writeNumberField("id", node.getId());
+            json.writeStringField("host", node.getHost());
+            json.writeNumberField("port", node.getPort());
+            if (node.getRack() != null) {
+                json.writeStringField("rack", node.getRack());
+            }
+            json.writeEndObject();
+        }
+    }
+}
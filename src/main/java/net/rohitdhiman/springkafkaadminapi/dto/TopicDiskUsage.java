@@ -0,0 +1,16 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Size of a topic: {@code bytes} sums the largest replica of each partition, {@code diskBytes} every replica.
+ * {@code bytesPerSecond} is the growth of {@code bytes} since the previous refresh; absent on the first one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TopicDiskUsage(
+        String topic,
+        int partitions,
+        long bytes,
+        long diskBytes,
+        Double bytesPerSecond
+) {}
@@ -0,0 +1,12 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.List;
+
+/**
+ * Lag of one consumer group on one topic: the sum over its partitions, and each partition's lag.
+ */
+public record TopicLag(
+        String topic,
+        long lag,
+        List<PartitionLag> partitions
+) {}
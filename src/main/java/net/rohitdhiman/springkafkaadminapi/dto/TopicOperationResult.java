@@ -0,0 +1,29 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of a bulk create or delete for one topic. {@code error} is only set when the status is FAILED.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TopicOperationResult(
+        String topic,
+        Status status,
+        String error
+) {
+    public enum Status {
+        CREATED,
+        EXISTS,
+        DELETED,
+        NOT_FOUND,
+        FAILED
+    }
+
+    public static TopicOperationResult of(String topic, Status status) {
+        return new TopicOperationResult(topic, status, null);
+    }
+
+    public static TopicOperationResult failed(String topic, String error) {
+        return new TopicOperationResult(topic, Status.FAILED, error);
+    }
+}
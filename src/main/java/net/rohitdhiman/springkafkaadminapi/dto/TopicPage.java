@@ -0,0 +1,16 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import org.springframework.hateoas.Link;
+
+import java.util.List;
+
+/**
+ * A page of the topic listing. {@code total} counts every topic matching the filters; {@code nextCursor}
+ * is null on the last page and is also exposed as the {@code next} link.
+ */
+public record TopicPage(
+        List<TopicSummary> content,
+        long total,
+        String nextCursor,
+        List<Link> links
+) {}
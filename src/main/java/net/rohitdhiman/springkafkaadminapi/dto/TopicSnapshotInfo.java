@@ -0,0 +1,18 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.time.Instant;
+
+/**
+ * A snapshot file in the snapshot directory. {@code complete} is false for an export that did not finish;
+ * such files cannot be imported.
+ */
+public record TopicSnapshotInfo(
+        String file,
+        String topic,
+        int partitions,
+        long records,
+        int blocks,
+        long sizeBytes,
+        Instant createdAt,
+        boolean complete
+) {}
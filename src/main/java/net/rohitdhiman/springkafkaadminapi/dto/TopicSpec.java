@@ -0,0 +1,13 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import java.util.Map;
+
+/**
+ * A topic to create in a bulk request. Partitions and replication factor default to 1; configs are optional.
+ */
+public record TopicSpec(
+        String topicName,
+        Integer numPartitions,
+        Short replicationFactor,
+        Map<String, String> configs
+) {}
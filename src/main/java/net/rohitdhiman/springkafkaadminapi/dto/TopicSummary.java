@@ -0,0 +1,16 @@
+package net.rohitdhiman.springkafkaadminapi.dto;
+
+import org.springframework.hateoas.Link;
+
+import java.util.List;
+
+/**
+ * One entry of the topic listing. The NDJSON stream writes the same fields directly, one object per line.
+ */
+public record TopicSummary(
+        String name,
+        int partitions,
+        String status,
+        String message,
+        List<Link> links
+) {}
@@ -0,0 +1,11 @@
+package net.rohitdhiman.springkafkaadminapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ClusterNotFoundException extends RuntimeException {
+    public ClusterNotFoundException(String cluster) {
+        super("Cluster '" + cluster + "' is not configured.");
+    }
+}
@@ -0,0 +1,11 @@
+package net.rohitdhiman.springkafkaadminapi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ReassignmentInProgressException extends RuntimeException {
+    public ReassignmentInProgressException(String message) {
+        super(message);
+    }
+}
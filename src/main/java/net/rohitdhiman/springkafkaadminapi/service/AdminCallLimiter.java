@@ -0,0 +1,172 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of AdminClient calls in flight at once. Calls beyond the limit wait in a FIFO queue
+ * and are started as earlier calls complete; no thread blocks while waiting for a permit.
+ * <p>
+ * Publishes {@code kafka.admin.calls.queue.wait} (time spent queued, per operation),
+ * {@code kafka.admin.calls.in.flight} and {@code kafka.admin.calls.queued}, tagged with the cluster.
+ * Each cluster in the {@link ClusterRegistry} has its own limiter, so one cluster's slow calls never use
+ * up another's permits.
+ */
+@Component
+public class AdminCallLimiter {
+
+    private final int maxInFlight;
+    private final Semaphore permits;
+    private final Queue<PendingCall<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    // Drain requests not yet served; only the caller that raises it from zero runs the drain loop.
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final Map<AdminOperation, Timer> queueWaitTimers = new EnumMap<>(AdminOperation.class);
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters = new ArrayList<>();
+
+    @Autowired
+    public AdminCallLimiter(@Value("${kafka.admin.concurrency.max-in-flight:64}") int maxInFlight,
+                            MeterRegistry meterRegistry) {
+        this(maxInFlight, meterRegistry, ClusterRegistry.DEFAULT_CLUSTER);
+    }
+
+    AdminCallLimiter(int maxInFlight, MeterRegistry meterRegistry, String cluster) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("kafka.admin.concurrency.max-in-flight must be at least 1");
+        }
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+        this.meterRegistry = meterRegistry;
+
+        for (AdminOperation operation : AdminOperation.values()) {
+            Timer queueWait = Timer.builder("kafka.admin.calls.queue.wait")
+                    .description("Time AdminClient calls wait for a concurrency permit")
+                    .tag("operation", operation.name())
+                    .tag("cluster", cluster)
+                    .register(meterRegistry);
+            queueWaitTimers.put(operation, queueWait);
+            meters.add(queueWait);
+        }
+        meters.add(Gauge.builder("kafka.admin.calls.in.flight", this, AdminCallLimiter::inFlight)
+                .description("AdminClient calls currently running")
+                .tag("cluster", cluster)
+                .register(meterRegistry));
+        meters.add(Gauge.builder("kafka.admin.calls.queued", this, AdminCallLimiter::queued)
+                .description("AdminClient calls waiting for a concurrency permit")
+                .tag("cluster", cluster)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Starts the call once a permit is free. Completing the returned future early (cancellation or a deadline)
+     * drops the call if it is still queued, or cancels the call's own future if it is already running.
+     */
+    public <T> CompletableFuture<T> submit(AdminOperation operation, Supplier<CompletableFuture<T>> call) {
+        PendingCall<T> pending = new PendingCall<>(operation, call, System.nanoTime());
+        queue.add(pending);
+        queued.incrementAndGet();
+        drain();
+        return pending.result;
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    /**
+     * Unregisters this limiter's meters. The gauges only hold the limiter weakly and a later limiter for the
+     * same cluster could not register its own while these are still there.
+     */
+    void removeMeters() {
+        meters.forEach(meterRegistry::remove);
+    }
+
+    // A permit is always released before drain() runs, so a call queued concurrently is never stranded.
+    // A call that completes synchronously drains again from inside start(); that nested request (or one from
+    // another thread) only bumps the counter and the running loop goes round again, so the stack stays flat
+    // however long the queue is.
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (!queue.isEmpty() && permits.tryAcquire()) {
+                PendingCall<?> pending = queue.poll();
+                if (pending == null) {
+                    permits.release();
+                    continue;
+                }
+                queued.decrementAndGet();
+                start(pending);
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private <T> void start(PendingCall<T> pending) {
+        if (pending.result.isDone()) {
+            // Timed out or cancelled while queued; the broker never sees it.
+            permits.release();
+            return;
+        }
+        queueWaitTimers.get(pending.operation).record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        CompletableFuture<T> running;
+        try {
+            running = pending.call.get();
+        } catch (RuntimeException e) {
+            running = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<T> call = running;
+        call.whenComplete((value, error) -> {
+            permits.release();
+            drain();
+            if (error != null) {
+                pending.result.completeExceptionally(error);
+            } else {
+                pending.result.complete(value);
+            }
+        });
+        pending.result.whenComplete((value, error) -> {
+            if (!call.isDone()) {
+                call.cancel(true);
+            }
+        });
+    }
+
+    private static final class PendingCall<T> {
+        private final AdminOperation operation;
+        private final Supplier<CompletableFuture<T>> call;
+        private final long enqueuedAt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        private PendingCall(AdminOperation operation, Supplier<CompletableFuture<T>> call, long enqueuedAt) {
+            this.operation = operation;
+            this.call = call;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
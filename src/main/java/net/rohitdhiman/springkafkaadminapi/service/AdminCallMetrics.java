@@ -0,0 +1,149 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Records every AdminClient call a {@link KafkaService} issues, tagged with the operation and the cluster:
+ * <ul>
+ *   <li>{@code kafka.admin.calls}: time from the moment the call starts (after any wait in the
+ *   {@link AdminCallLimiter} queue) until it completes or its deadline passes, with an {@code outcome} tag
+ *   and a percentile histogram;</li>
+ *   <li>{@code kafka.admin.calls.errors}: failed calls by {@code exception} type, including calls that ran
+ *   out of time while still queued;</li>
+ *   <li>{@code kafka.admin.calls.active}: calls of the operation running right now;</li>
+ *   <li>{@code kafka.admin.calls.result.size}: items returned by successful calls, counted in the unit
+ *   natural to the operation (topics, partitions, groups or brokers).</li>
+ * </ul>
+ */
+@Component
+public class AdminCallMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final String cluster;
+    private final Map<AdminOperation, Timer> succeeded = new EnumMap<>(AdminOperation.class);
+    private final Map<AdminOperation, Timer> failed = new EnumMap<>(AdminOperation.class);
+    private final Map<AdminOperation, AtomicInteger> active = new EnumMap<>(AdminOperation.class);
+    private final Map<AdminOperation, DistributionSummary> resultSizes = new EnumMap<>(AdminOperation.class);
+    private final List<Meter> meters = new ArrayList<>();
+
+    @Autowired
+    public AdminCallMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, ClusterRegistry.DEFAULT_CLUSTER);
+    }
+
+    AdminCallMetrics(MeterRegistry meterRegistry, String cluster) {
+        this.meterRegistry = meterRegistry;
+        this.cluster = cluster;
+        for (AdminOperation operation : AdminOperation.values()) {
+            succeeded.put(operation, timer(operation, "success"));
+            failed.put(operation, timer(operation, "error"));
+            AtomicInteger running = new AtomicInteger();
+            active.put(operation, running);
+            meters.add(Gauge.builder("kafka.admin.calls.active", running, AtomicInteger::get)
+                    .description("AdminClient calls of this operation currently running")
+                    .tag("operation", operation.name())
+                    .tag("cluster", cluster)
+                    .register(meterRegistry));
+            resultSizes.put(operation, DistributionSummary.builder("kafka.admin.calls.result.size")
+                    .description("Topics, partitions, groups or brokers returned by an AdminClient call")
+                    .tag("operation", operation.name())
+                    .tag("cluster", cluster)
+                    .register(meterRegistry));
+        }
+        meters.addAll(succeeded.values());
+        meters.addAll(failed.values());
+        meters.addAll(resultSizes.values());
+    }
+
+    private Timer timer(AdminOperation operation, String outcome) {
+        return Timer.builder("kafka.admin.calls")
+                .description("Duration of AdminClient calls, excluding time queued for a permit")
+                .tag("operation", operation.name())
+                .tag("outcome", outcome)
+                .tag("cluster", cluster)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Begins tracking one call; {@link Call#start()} marks when it is actually issued and
+     * {@link Call#complete} when its result (or failure) is known.
+     */
+    public Call track(AdminOperation operation) {
+        return new Call(operation);
+    }
+
+    public int active(AdminOperation operation) {
+        return active.get(operation).get();
+    }
+
+    /**
+     * Unregisters the meters of this cluster, including the error counters registered as errors occurred.
+     */
+    void removeMeters() {
+        meters.forEach(meterRegistry::remove);
+        meterRegistry.find("kafka.admin.calls.errors").tag("cluster", cluster).meters()
+                .forEach(meterRegistry::remove);
+    }
+
+    public final class Call {
+
+        private static final int NEW = 0;
+        private static final int STARTED = 1;
+        private static final int DONE = 2;
+
+        private final AdminOperation operation;
+        private final AtomicInteger state = new AtomicInteger(NEW);
+        private long startedAt;
+
+        private Call(AdminOperation operation) {
+            this.operation = operation;
+        }
+
+        public void start() {
+            startedAt = System.nanoTime();
+            // A call whose deadline passed just before it left the queue is never counted as running.
+            if (state.compareAndSet(NEW, STARTED)) {
+                active.get(operation).incrementAndGet();
+            }
+        }
+
+        public <T> void complete(T value, Throwable error, ToIntFunction<? super T> resultSize) {
+            int previous = state.getAndSet(DONE);
+            if (previous == DONE) {
+                return;
+            }
+            if (previous == STARTED) {
+                active.get(operation).decrementAndGet();
+                (error == null ? succeeded : failed).get(operation)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            if (error != null) {
+                Counter.builder("kafka.admin.calls.errors")
+                        .description("Failed AdminClient calls by exception type")
+                        .tag("operation", operation.name())
+                        .tag("exception", KafkaFutures.unwrap(error).getClass().getSimpleName())
+                        .tag("cluster", cluster)
+                        .register(meterRegistry)
+                        .increment();
+            } else if (value != null) {
+                resultSizes.get(operation).record(resultSize.applyAsInt(value));
+            }
+        }
+    }
+}
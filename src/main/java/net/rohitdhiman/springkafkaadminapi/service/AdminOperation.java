@@ -0,0 +1,24 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+/**
+ * The AdminClient operations issued by this service. Each one can be given its own timeout
+ * under {@code kafka.admin.timeouts.operations.<name>}, e.g. {@code ...operations.describe-topics=10s}.
+ */
+public enum AdminOperation {
+    CREATE_TOPICS,
+    DELETE_TOPICS,
+    LIST_TOPICS,
+    DESCRIBE_TOPICS,
+    DESCRIBE_CLUSTER,
+    LIST_CONSUMER_GROUPS,
+    DESCRIBE_CONSUMER_GROUPS,
+    LIST_CONSUMER_GROUP_OFFSETS,
+    ALTER_CONSUMER_GROUP_OFFSETS,
+    LIST_OFFSETS,
+    ALTER_PARTITION_REASSIGNMENTS,
+    LIST_PARTITION_REASSIGNMENTS,
+    DESCRIBE_CONFIGS,
+    INCREMENTAL_ALTER_CONFIGS,
+    ELECT_LEADERS,
+    DESCRIBE_LOG_DIRS
+}
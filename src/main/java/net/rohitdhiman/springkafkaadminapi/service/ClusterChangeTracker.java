@@ -0,0 +1,144 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterDelta;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterTotals;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupStateChange;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChanges;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Diffs each metadata snapshot against the previous one and publishes the result as a {@link ClusterDelta}
+ * application event, unless nothing changed.
+ * <p>
+ * Topics are compared by walking both name-sorted maps together; partition replication changes come
+ * from the {@link PartitionHealthIndex} change log, which has already applied the same snapshot. The first
+ * snapshot only sets the baseline.
+ */
+@Service
+public class ClusterChangeTracker {
+
+    private final PartitionHealthIndex healthIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Object lock = new Object();
+    private ClusterSnapshot previous;
+    private long healthVersion;
+    private long sequence;
+    private volatile ClusterTotals totals;
+
+    public ClusterChangeTracker(PartitionHealthIndex healthIndex, ApplicationEventPublisher eventPublisher) {
+        this.healthIndex = healthIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener
+    public void onSnapshot(ClusterSnapshot snapshot) {
+        ClusterDelta delta = null;
+        synchronized (lock) {
+            PartitionHealthChanges partitions = healthIndex.changesSince(healthVersion);
+            healthVersion = partitions.version();
+            totals = totalsOf(snapshot, healthIndex.underReplicatedCount());
+            if (previous != null) {
+                delta = diff(sequence + 1, previous, snapshot, partitions, totals);
+                if (!delta.isEmpty()) {
+                    sequence++;
+                }
+            }
+            previous = snapshot;
+        }
+        if (delta != null && !delta.isEmpty()) {
+            eventPublisher.publishEvent(delta);
+        }
+    }
+
+    /**
+     * Counts as of the latest snapshot, or null before the first one.
+     */
+    public ClusterTotals totals() {
+        return totals;
+    }
+
+    static ClusterDelta diff(long sequence, ClusterSnapshot before, ClusterSnapshot after,
+                             PartitionHealthChanges partitions, ClusterTotals totals) {
+        List<String> topicsAdded = new ArrayList<>();
+        List<String> topicsRemoved = new ArrayList<>();
+        Iterator<String> old = before.topics().keySet().iterator();
+        Iterator<String> current = after.topics().keySet().iterator();
+        String o = old.hasNext() ? old.next() : null;
+        String c = current.hasNext() ? current.next() : null;
+        while (o != null || c != null) {
+            int order = o == null ? 1 : c == null ? -1 : o.compareTo(c);
+            if (order < 0) {
+                topicsRemoved.add(o);
+            } else if (order > 0) {
+                topicsAdded.add(c);
+            }
+            if (order <= 0) {
+                o = old.hasNext() ? old.next() : null;
+            }
+            if (order >= 0) {
+                c = current.hasNext() ? current.next() : null;
+            }
+        }
+
+        Map<Integer, NodeInfo> oldBrokers = brokersById(before.cluster());
+        List<NodeInfo> brokersJoined = new ArrayList<>();
+        for (NodeInfo node : brokersById(after.cluster()).values()) {
+            if (oldBrokers.remove(node.getId()) == null) {
+                brokersJoined.add(node);
+            }
+        }
+        List<Integer> brokersLeft = new ArrayList<>(oldBrokers.keySet());
+
+        Map<String, String> oldGroups = groupStates(before.consumerGroups());
+        List<GroupStateChange> groups = new ArrayList<>();
+        for (ConsumerGroupListing group : after.consumerGroups()) {
+            String state = stateOf(group);
+            boolean known = oldGroups.containsKey(group.groupId());
+            String previousState = oldGroups.remove(group.groupId());
+            if (!known || !Objects.equals(previousState, state)) {
+                groups.add(new GroupStateChange(group.groupId(), previousState, state));
+            }
+        }
+        oldGroups.keySet().forEach(groupId -> groups.add(new GroupStateChange(groupId, oldGroups.get(groupId), null)));
+
+        return new ClusterDelta(sequence, after.fetchedAt(), topicsAdded, topicsRemoved,
+                partitions.resync() ? List.of() : partitions.changes(), brokersJoined, brokersLeft, groups,
+                partitions.resync(), totals);
+    }
+
+    private static ClusterTotals totalsOf(ClusterSnapshot snapshot, int underReplicated) {
+        int brokers = snapshot.cluster() != null ? snapshot.cluster().nodes().size() : 0;
+        return new ClusterTotals(brokers, snapshot.topics().size(), snapshot.consumerGroups().size(), underReplicated);
+    }
+
+    private static Map<Integer, NodeInfo> brokersById(ClusterInfo cluster) {
+        Map<Integer, NodeInfo> brokers = new HashMap<>();
+        if (cluster != null) {
+            cluster.nodes().forEach(node -> brokers.put(node.getId(), node));
+        }
+        return brokers;
+    }
+
+    private static Map<String, String> groupStates(List<ConsumerGroupListing> groups) {
+        Map<String, String> states = new HashMap<>(groups.size() * 2);
+        groups.forEach(group -> states.put(group.groupId(), stateOf(group)));
+        return states;
+    }
+
+    private static String stateOf(ConsumerGroupListing group) {
+        return group.state().map(Enum::name).orElse("UNKNOWN");
+    }
+}
@@ -0,0 +1,113 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+import org.apache.kafka.clients.admin.AdminClient;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Everything the API needs to serve one cluster: its AdminClient, the service and concurrency limiter
+ * bound to it, its own metadata cache and the {@link PartitionHealthIndex} that cache's snapshots are
+ * applied to. Obtained from {@link ClusterRegistry}.
+ */
+public final class ClusterContext {
+
+    private final String name;
+    private final AdminClient adminClient;
+    private final AdminCallLimiter limiter;
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final PartitionHealthIndex healthIndex;
+    private final AdminCallMetrics callMetrics;
+    private final KafkaClientMetrics clientMetrics;
+
+    private volatile long lastUsedNanos;
+    private volatile Health health;
+
+    ClusterContext(String name, AdminClient adminClient, AdminCallLimiter limiter, KafkaService kafkaService,
+                   ClusterMetadataCache metadataCache, PartitionHealthIndex healthIndex) {
+        this(name, adminClient, limiter, kafkaService, metadataCache, healthIndex, null, null);
+    }
+
+    // callMetrics and clientMetrics are null for the default cluster, whose meters belong to its beans.
+    ClusterContext(String name, AdminClient adminClient, AdminCallLimiter limiter, KafkaService kafkaService,
+                   ClusterMetadataCache metadataCache, PartitionHealthIndex healthIndex, AdminCallMetrics callMetrics,
+                   KafkaClientMetrics clientMetrics) {
+        this.name = name;
+        this.adminClient = adminClient;
+        this.limiter = limiter;
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.healthIndex = healthIndex;
+        this.callMetrics = callMetrics;
+        this.clientMetrics = clientMetrics;
+        this.lastUsedNanos = System.nanoTime();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public KafkaService kafkaService() {
+        return kafkaService;
+    }
+
+    public ClusterMetadataCache metadataCache() {
+        return metadataCache;
+    }
+
+    /**
+     * Under-replicated partitions as of the latest snapshot of {@link #metadataCache()}, kept up to date
+     * incrementally so reads never rescan the snapshot.
+     */
+    public PartitionHealthIndex healthIndex() {
+        return healthIndex;
+    }
+
+    public AdminCallLimiter limiter() {
+        return limiter;
+    }
+
+    AdminClient adminClient() {
+        return adminClient;
+    }
+
+    // Removes the meters tagged with this cluster, so that a context opened again under the same name can
+    // register its own. Does nothing for the default cluster.
+    void removeMeters() {
+        if (callMetrics == null) {
+            return;
+        }
+        clientMetrics.close();
+        callMetrics.removeMeters();
+        limiter.removeMeters();
+    }
+
+    // Blocks until the client's network thread stops.
+    void close(Duration timeout) {
+        adminClient.close(timeout);
+    }
+
+    /**
+     * Result of the latest health check, or null if none has completed yet.
+     */
+    public Health health() {
+        return health;
+    }
+
+    void recordHealth(Health health) {
+        this.health = health;
+    }
+
+    ClusterContext touch() {
+        lastUsedNanos = System.nanoTime();
+        return this;
+    }
+
+    long idleNanos(long now) {
+        return now - lastUsedNanos;
+    }
+
+    public record Health(boolean healthy, Instant checkedAt, String error) {}
+}
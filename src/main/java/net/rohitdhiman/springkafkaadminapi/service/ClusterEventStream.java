@@ -0,0 +1,216 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterDelta;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterTotals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Pushes {@link ClusterDelta}s to server-sent event subscribers.
+ * <p>
+ * All subscribers share the metadata refresh loop; each delta is serialized once and queued for every
+ * subscriber. Every subscriber has its own bounded queue ({@code kafka.admin.events.queue-capacity}),
+ * drained on the task executor. A slow subscriber therefore never holds up the others. If its queue fills
+ * up, the queued deltas are replaced by a single {@code resync} event telling it to reload in full.
+ * <p>
+ * Events: {@code totals} on connect, {@code delta} per change and {@code resync} after an overflow. A
+ * comment line is sent as a heartbeat to idle subscribers so dead connections are noticed.
+ */
+@Service
+public class ClusterEventStream {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterEventStream.class);
+
+    public static final String TOTALS_EVENT = "totals";
+    public static final String DELTA_EVENT = "delta";
+    public static final String RESYNC_EVENT = "resync";
+
+    private static final PendingEvent HEARTBEAT = new PendingEvent(null, null, null);
+    private static final PendingEvent RESYNC = new PendingEvent(RESYNC_EVENT, null, "{}");
+
+    private final ClusterChangeTracker changeTracker;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final long emitterTimeoutMs;
+    private final Counter overflows;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ClusterEventStream(ClusterChangeTracker changeTracker, ObjectMapper objectMapper,
+                              @Qualifier("applicationTaskExecutor") Executor executor,
+                              @Value("${kafka.admin.events.max-subscribers:500}") int maxSubscribers,
+                              @Value("${kafka.admin.events.queue-capacity:16}") int queueCapacity,
+                              @Value("${kafka.admin.events.timeout-ms:1800000}") long emitterTimeoutMs,
+                              MeterRegistry meterRegistry) {
+        this.changeTracker = changeTracker;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.overflows = Counter.builder("kafka.admin.events.overflows")
+                .description("Times a slow subscriber's queue filled up and was replaced by a resync")
+                .register(meterRegistry);
+        Gauge.builder("kafka.admin.events.subscribers", subscribers, Set::size)
+                .description("Connected cluster event subscribers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for a new subscriber, or returns null if the subscriber limit is reached.
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        register(emitter);
+        return emitter;
+    }
+
+    void register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        ClusterTotals totals = changeTracker.totals();
+        if (totals != null) {
+            PendingEvent event = serialize(TOTALS_EVENT, null, totals);
+            if (event != null) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDelta(ClusterDelta delta) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        PendingEvent event = serialize(DELTA_EVENT, String.valueOf(delta.sequence()), delta);
+        if (event != null) {
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${kafka.admin.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        // A subscriber with events still queued needs no heartbeat, and must not have one counted against it.
+        subscribers.forEach(subscriber -> subscriber.offerIfIdle(HEARTBEAT));
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private PendingEvent serialize(String name, String id, Object data) {
+        try {
+            return new PendingEvent(name, id, objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} event: {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private record PendingEvent(String name, String id, String json) {
+
+        // A builder is consumed when sent, so one is made per subscriber from the shared payload.
+        SseEmitter.SseEventBuilder toBuilder() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON);
+            return id != null ? builder.id(id) : builder;
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayDeque<PendingEvent> queue = new ArrayDeque<>();
+        private boolean draining;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(PendingEvent event) {
+            synchronized (this) {
+                if (queue.size() >= queueCapacity) {
+                    queue.clear();
+                    queue.add(RESYNC);
+                    overflows.increment();
+                } else {
+                    queue.add(event);
+                }
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        void offerIfIdle(PendingEvent event) {
+            synchronized (this) {
+                if (!queue.isEmpty()) {
+                    return;
+                }
+            }
+            offer(event);
+        }
+
+        private void drain() {
+            while (true) {
+                PendingEvent next;
+                synchronized (this) {
+                    next = queue.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next.toBuilder());
+                } catch (IOException | IllegalStateException e) {
+                    // The client went away; the emitter callbacks may not fire for a failed write.
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            subscribers.remove(this);
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the latest {@link ClusterSnapshot} and keeps it fresh in the background.
+ * <p>
+ * Reads are served from the current snapshot without touching the brokers. A snapshot older than
+ * {@code kafka.admin.metadata.max-staleness-ms} (or one that was invalidated after a topic change)
+ * is reloaded first. Concurrent reloads are collapsed into a single set of AdminClient calls:
+ * every caller that arrives while a load is running gets the same future. Snapshot assembly and
+ * event publication run on the application task executor, never on the AdminClient network thread.
+ * <p>
+ * Every new snapshot is published as an application event so derived views (e.g. the
+ * {@link PartitionHealthIndex}) can update themselves from it instead of querying the brokers again.
+ * <p>
+ * At startup the {@link MetadataStore} may {@link #warm} the cache with the metadata it recorded before the
+ * restart. That snapshot is served regardless of its age until the first load from the brokers replaces it.
+ */
+@Service
+public class ClusterMetadataCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMetadataCache.class);
+
+    private final KafkaService kafkaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+    private final Duration maxStaleness;
+    private final Clock clock;
+
+    private volatile ClusterSnapshot snapshot;
+    private volatile boolean invalidated;
+    private volatile boolean restored;
+    private final AtomicReference<CompletableFuture<ClusterSnapshot>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public ClusterMetadataCache(KafkaService kafkaService, ApplicationEventPublisher eventPublisher,
+                                @Qualifier("applicationTaskExecutor") Executor executor,
+                                @Value("${kafka.admin.metadata.max-staleness-ms:120000}") long maxStalenessMs) {
+        this(kafkaService, eventPublisher, executor, Duration.ofMillis(maxStalenessMs), Clock.systemUTC());
+    }
+
+    ClusterMetadataCache(KafkaService kafkaService, ApplicationEventPublisher eventPublisher, Executor executor,
+                         Duration maxStaleness, Clock clock) {
+        this.kafkaService = kafkaService;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the current snapshot, loading it first if there is none yet or it is too old to serve.
+     */
+    public CompletableFuture<ClusterSnapshot> snapshot() {
+        ClusterSnapshot current = snapshot;
+        if (current != null && !invalidated && restored) {
+            // Reconcile in the background; refresh() only starts a load if none is running yet.
+            refresh();
+            return CompletableFuture.completedFuture(current);
+        }
+        if (current != null && !invalidated && current.age(clock.instant()).compareTo(maxStaleness) <= 0) {
+            return CompletableFuture.completedFuture(current);
+        }
+        return refresh();
+    }
+
+    /**
+     * Starts a reload unless one is already running, and returns the future of the load in progress.
+     */
+    public CompletableFuture<ClusterSnapshot> refresh() {
+        while (true) {
+            CompletableFuture<ClusterSnapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<ClusterSnapshot> load = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, load)) {
+                invalidated = false;
+                try {
+                    load().whenCompleteAsync((loaded, error) -> {
+                        if (error == null) {
+                            snapshot = loaded;
+                            restored = false;
+                            publish(loaded);
+                        }
+                        inFlight.compareAndSet(load, null);
+                        if (error != null) {
+                            load.completeExceptionally(KafkaFutures.unwrap(error));
+                        } else {
+                            load.complete(loaded);
+                        }
+                    }, executor);
+                } catch (RuntimeException e) {
+                    // Starting the load failed before it was in flight; release the slot so the next call retries.
+                    inFlight.compareAndSet(load, null);
+                    load.completeExceptionally(e);
+                }
+                return load;
+            }
+        }
+    }
+
+    /**
+     * Serves a snapshot restored from disk until the first load completes, and publishes it like a loaded one.
+     * Ignored once a snapshot has been loaded from the brokers.
+     */
+    public void warm(ClusterSnapshot restoredSnapshot) {
+        if (snapshot != null) {
+            return;
+        }
+        snapshot = restoredSnapshot;
+        restored = true;
+        publish(restoredSnapshot);
+    }
+
+    /**
+     * Marks the current snapshot as outdated so the next read reloads it, e.g. after a topic was created.
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    @Scheduled(initialDelayString = "${kafka.admin.metadata.initial-delay-ms:0}",
+            fixedDelayString = "${kafka.admin.metadata.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        try {
+            refresh().join();
+        } catch (Exception e) {
+            log.warn("Background metadata refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private CompletableFuture<ClusterSnapshot> load() {
+        CompletableFuture<ClusterInfo> cluster = kafkaService.describeCluster();
+        CompletableFuture<Map<String, TopicDescription>> topics = kafkaService.listTopics()
+                .thenCompose(kafkaService::describeTopics);
+        CompletableFuture<Collection<ConsumerGroupListing>> consumerGroups = kafkaService.listConsumerGroups();
+        return CompletableFuture.allOf(cluster, topics, consumerGroups)
+                .thenApply(ignored -> ClusterSnapshot.of(cluster.join(), topics.join(),
+                        new ArrayList<>(consumerGroups.join()), clock.instant()));
+    }
+
+    private void publish(ClusterSnapshot loaded) {
+        try {
+            eventPublisher.publishEvent(loaded);
+        } catch (RuntimeException e) {
+            log.warn("Metadata snapshot listener failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+import jakarta.annotation.PreDestroy;
+import net.rohitdhiman.springkafkaadminapi.config.AdminTimeoutProperties;
+import net.rohitdhiman.springkafkaadminapi.config.ClusterRegistryProperties;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterStatus;
+import net.rohitdhiman.springkafkaadminapi.exception.ClusterNotFoundException;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Named Kafka clusters served by this API.
+ * <p>
+ * The {@value #DEFAULT_CLUSTER} cluster is the one behind the plain {@code /api/...} routes and uses the
+ * application's own beans. Every cluster under {@code kafka.admin.registry.clusters} gets a
+ * {@link ClusterContext} of its own. The context is created when the cluster is first used, and has its
+ * own AdminClient, its own {@link AdminCallLimiter} budget ({@code max-in-flight}) and its own metadata
+ * cache. A degraded cluster can therefore only queue its own calls. Contexts idle for longer than
+ * {@code idle-timeout} are closed.
+ * <p>
+ * Open clusters are health-checked in the background with a {@code describeCluster} call.
+ */
+@Service
+public class ClusterRegistry {
+
+    public static final String DEFAULT_CLUSTER = "default";
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterRegistry.class);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+    // Registry clusters only serve the under-replicated set; their health change log is never read.
+    private static final int CHANGE_LOG_CAPACITY = 1;
+
+    private final ClusterRegistryProperties properties;
+    private final AdminTimeoutProperties timeouts;
+    private final Executor executor;
+    private final Duration maxStaleness;
+    private final MeterRegistry meterRegistry;
+    private final Function<Map<String, Object>, AdminClient> clientFactory;
+    private final Clock clock;
+
+    private final ClusterContext defaultContext;
+    private final String defaultBootstrapServers;
+    private final Map<String, ClusterContext> contexts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ClusterRegistry(ClusterRegistryProperties properties, AdminTimeoutProperties timeouts,
+                           AdminClient adminClient, AdminCallLimiter limiter, KafkaService kafkaService,
+                           ClusterMetadataCache metadataCache, PartitionHealthIndex healthIndex,
+                           @Value("${spring.kafka.bootstrap-servers}") String defaultBootstrapServers,
+                           @Qualifier("applicationTaskExecutor") Executor executor,
+                           @Value("${kafka.admin.metadata.max-staleness-ms:120000}") long maxStalenessMs,
+                           MeterRegistry meterRegistry) {
+        this(properties, timeouts,
+                new ClusterContext(DEFAULT_CLUSTER, adminClient, limiter, kafkaService, metadataCache, healthIndex),
+                defaultBootstrapServers, executor, Duration.ofMillis(maxStalenessMs), meterRegistry, AdminClient::create, Clock.systemUTC());
+    }
+
+    ClusterRegistry(ClusterRegistryProperties properties, AdminTimeoutProperties timeouts,
+                    ClusterContext defaultContext, String defaultBootstrapServers, Executor executor,
+                    Duration maxStaleness,
+                    MeterRegistry meterRegistry, Function<Map<String, Object>, AdminClient> clientFactory,
+                    Clock clock) {
+        if (properties.getClusters().containsKey(DEFAULT_CLUSTER)) {
+            throw new IllegalArgumentException("'" + DEFAULT_CLUSTER
+                    + "' is the cluster from spring.kafka.bootstrap-servers and cannot be configured in the registry");
+        }
+        properties.getClusters().forEach((name, cluster) -> {
+            if (cluster.getBootstrapServers() == null || cluster.getBootstrapServers().isBlank()) {
+                throw new IllegalArgumentException("kafka.admin.registry.clusters." + name
+                        + ".bootstrap-servers is required");
+            }
+        });
+        this.properties = properties;
+        this.timeouts = timeouts;
+        this.defaultContext = defaultContext;
+        this.defaultBootstrapServers = defaultBootstrapServers;
+        this.executor = executor;
+        this.maxStaleness = maxStaleness;
+        this.meterRegistry = meterRegistry;
+        this.clientFactory = clientFactory;
+        this.clock = clock;
+        Gauge.builder("kafka.admin.registry.clients", contexts, Map::size)
+                .description("AdminClients currently open for registry clusters")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Names of all clusters, the default one first.
+     */
+    public List<String> names() {
+        List<String> names = new ArrayList<>(properties.getClusters().size() + 1);
+        names.add(DEFAULT_CLUSTER);
+        names.addAll(properties.getClusters().keySet());
+        return names;
+    }
+
+    /**
+     * The context of a cluster, opening its AdminClient if it is not open yet.
+     *
+     * @throws ClusterNotFoundException if no cluster of that name is configured
+     */
+    public ClusterContext get(String name) {
+        if (DEFAULT_CLUSTER.equals(name)) {
+            return defaultContext.touch();
+        }
+        ClusterRegistryProperties.Cluster cluster = properties.getClusters().get(name);
+        if (cluster == null) {
+            throw new ClusterNotFoundException(name);
+        }
+        return contexts.compute(name, (key, existing) -> existing != null ? existing.touch() : open(name, cluster));
+    }
+
+    public List<ClusterStatus> status() {
+        List<ClusterStatus> status = new ArrayList<>();
+        status.add(statusOf(DEFAULT_CLUSTER, defaultBootstrapServers, defaultContext));
+        properties.getClusters().forEach((name, cluster) ->
+                status.add(statusOf(name, cluster.getBootstrapServers(), contexts.get(name))));
+        return status;
+    }
+
+    @Scheduled(initialDelayString = "${kafka.admin.registry.health-check-interval-ms:30000}",
+            fixedDelayString = "${kafka.admin.registry.health-check-interval-ms:30000}")
+    public void checkHealth() {
+        List<ClusterContext> open = new ArrayList<>(contexts.values());
+        open.add(defaultContext);
+        for (ClusterContext context : open) {
+            context.kafkaService().describeCluster()
+                    .orTimeout(properties.getHealthCheckTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((cluster, error) -> {
+                        if (error == null) {
+                            context.recordHealth(new ClusterContext.Health(true, clock.instant(), null));
+                        } else {
+                            Throwable cause = KafkaFutures.unwrap(error);
+                            String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+                            context.recordHealth(new ClusterContext.Health(false, clock.instant(), message));
+                            log.warn("Health check of cluster '{}' failed: {}", context.name(), message);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Closes the AdminClients of clusters not used within the idle timeout. A cluster with calls still
+     * running or queued is kept.
+     */
+    @Scheduled(fixedDelayString = "${kafka.admin.registry.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        for (String name : List.copyOf(contexts.keySet())) {
+            ClusterContext[] evicted = new ClusterContext[1];
+            contexts.computeIfPresent(name, (key, context) -> {
+                boolean idle = context.idleNanos(now) >= idleNanos
+                        && context.limiter().inFlight() == 0 && context.limiter().queued() == 0;
+                if (!idle) {
+                    return context;
+                }
+                // Done while the cluster's entry is still locked, before a new context can register its meters.
+                context.removeMeters();
+                evicted[0] = context;
+                return null;
+            });
+            if (evicted[0] != null) {
+                log.info("Closing idle AdminClient of cluster '{}'", name);
+                close(evicted[0]);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        contexts.values().forEach(context -> {
+            context.removeMeters();
+            context.close(CLOSE_TIMEOUT);
+        });
+        contexts.clear();
+    }
+
+    private ClusterContext open(String name, ClusterRegistryProperties.Cluster cluster) {
+        Map<String, Object> config = new HashMap<>(cluster.getProperties());
+        config.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers());
+        config.putIfAbsent(AdminClientConfig.CLIENT_ID_CONFIG, "kafka-admin-api-" + name);
+
+        AdminClient client = clientFactory.apply(config);
+        AdminCallLimiter limiter = new AdminCallLimiter(cluster.getMaxInFlight(), meterRegistry, name);
+        AdminCallMetrics callMetrics = new AdminCallMetrics(meterRegistry, name);
+        KafkaService kafkaService = new KafkaService(client, timeouts, limiter, callMetrics);
+        // Snapshots of other clusters must not reach the default cluster's listeners; only the cluster's own
+        // health index sees them.
+        PartitionHealthIndex healthIndex = new PartitionHealthIndex(CHANGE_LOG_CAPACITY);
+        ClusterMetadataCache metadataCache = new ClusterMetadataCache(kafkaService, event -> {
+            if (event instanceof ClusterSnapshot snapshot) {
+                healthIndex.onSnapshot(snapshot);
+            }
+        }, executor, maxStaleness, clock);
+        KafkaClientMetrics clientMetrics = new KafkaClientMetrics(client, Tags.of("cluster", name));
+        clientMetrics.bindTo(meterRegistry);
+        log.info("Opened AdminClient for cluster '{}' ({})", name, cluster.getBootstrapServers());
+        return new ClusterContext(name, client, limiter, kafkaService, metadataCache, healthIndex, callMetrics,
+                clientMetrics);
+    }
+
+    // AdminClient.close blocks until its network thread stops, so it runs off the scheduler thread.
+    private void close(ClusterContext context) {
+        executor.execute(() -> context.close(CLOSE_TIMEOUT));
+    }
+
+    private static ClusterStatus statusOf(String name, String bootstrapServers, ClusterContext context) {
+        if (context == null) {
+            return new ClusterStatus(name, bootstrapServers, false, null, null, null, 0, 0);
+        }
+        ClusterContext.Health health = context.health();
+        return new ClusterStatus(name, bootstrapServers, true,
+                health != null ? health.healthy() : null,
+                health != null ? health.checkedAt() : null,
+                health != null ? health.error() : null,
+                context.limiter().inFlight(), context.limiter().queued());
+    }
+}
@@ -0,0 +1,83 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable view of the cluster metadata captured by a single refresh of {@link ClusterMetadataCache}.
+ * Topics are kept sorted by name so listings are stable between refreshes and can be paged by range.
+ */
+public record ClusterSnapshot(
+        ClusterInfo cluster,
+        NavigableMap<String, TopicDescription> topics,
+        List<ConsumerGroupListing> consumerGroups,
+        Instant fetchedAt
+) {
+
+    /**
+     * Returned by {@link #leaderOf} when the partition or its leader is not in the snapshot.
+     */
+    public static final int NO_LEADER = -1;
+
+    public ClusterSnapshot {
+        topics = Collections.unmodifiableNavigableMap(new TreeMap<>(topics));
+        consumerGroups = List.copyOf(consumerGroups);
+    }
+
+    public static ClusterSnapshot of(ClusterInfo cluster, Map<String, TopicDescription> topics,
+                                     List<ConsumerGroupListing> consumerGroups, Instant fetchedAt) {
+        return new ClusterSnapshot(cluster, new TreeMap<>(topics), consumerGroups, fetchedAt);
+    }
+
+    public Duration age(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+
+    /**
+     * Broker id of the partition's leader, or {@link #NO_LEADER}.
+     */
+    public int leaderOf(TopicPartition partition) {
+        TopicDescription topic = topics.get(partition.topic());
+        if (topic == null) {
+            return NO_LEADER;
+        }
+        List<TopicPartitionInfo> partitions = topic.partitions();
+        int index = partition.partition();
+        // Partitions are normally listed in id order, so try the direct index before searching.
+        TopicPartitionInfo info = index >= 0 && index < partitions.size() && partitions.get(index).partition() == index
+                ? partitions.get(index)
+                : partitions.stream().filter(p -> p.partition() == index).findFirst().orElse(null);
+        Node leader = info != null ? info.leader() : null;
+        return leader != null ? leader.id() : NO_LEADER;
+    }
+
+    /**
+     * Partitions whose ISR is smaller than their replica set, by topic. Computed from the snapshot on each
+     * call; the API serves this from each cluster's incrementally maintained {@link PartitionHealthIndex}.
+     */
+    public Map<String, List<Integer>> underReplicatedPartitions() {
+        Map<String, List<Integer>> result = new LinkedHashMap<>();
+        topics.forEach((name, description) -> {
+            for (TopicPartitionInfo partition : description.partitions()) {
+                if (partition.isr().size() < partition.replicas().size()) {
+                    result.computeIfAbsent(name, ignored -> new ArrayList<>()).add(partition.partition());
+                }
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,343 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult.ResourceResult;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult.Status;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigChange;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftReport;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftReport.Difference;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftReport.TopicDrift;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigResourceType;
+import net.rohitdhiman.springkafkaadminapi.dto.ResourceConfig;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and changes topic and broker configs.
+ * <p>
+ * Describes are batched: every resource of a request that is not cached goes into one {@code describeConfigs}
+ * call (split at {@code kafka.admin.configs.describe-batch-size}). The non-default values of each resource are
+ * cached for {@code kafka.admin.configs.cache-ttl-ms}; a change to a resource drops its entry, and topics that
+ * disappear from the metadata snapshot are dropped with it. Changes go through {@code incrementalAlterConfigs}
+ * in batches of {@code kafka.admin.configs.alter-batch-size} resources, optionally validate-only.
+ * <p>
+ * The drift report compares the effective configs of many topics with a template in one pass: the topics are
+ * described in as few calls as the batch size allows, and each topic is compared by config name lookups.
+ */
+@Service
+public class ConfigService {
+
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final int describeBatchSize;
+    private final int alterBatchSize;
+    private final int maxResources;
+    private final Duration cacheTtl;
+    private final Clock clock;
+
+    private final Map<ConfigResource, CachedConfig> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ConfigService(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                         @Value("${kafka.admin.configs.describe-batch-size:1000}") int describeBatchSize,
+                         @Value("${kafka.admin.configs.alter-batch-size:500}") int alterBatchSize,
+                         @Value("${kafka.admin.configs.max-resources:10000}") int maxResources,
+                         @Value("${kafka.admin.configs.cache-ttl-ms:60000}") long cacheTtlMs) {
+        this(kafkaService, metadataCache, describeBatchSize, alterBatchSize, maxResources,
+                Duration.ofMillis(cacheTtlMs), Clock.systemUTC());
+    }
+
+    ConfigService(KafkaService kafkaService, ClusterMetadataCache metadataCache, int describeBatchSize,
+                  int alterBatchSize, int maxResources, Duration cacheTtl, Clock clock) {
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.describeBatchSize = Math.max(1, describeBatchSize);
+        this.alterBatchSize = Math.max(1, alterBatchSize);
+        this.maxResources = maxResources;
+        this.cacheTtl = cacheTtl;
+        this.clock = clock;
+    }
+
+    @EventListener
+    public void onSnapshot(ClusterSnapshot snapshot) {
+        cache.keySet().removeIf(resource -> resource.type() == ConfigResource.Type.TOPIC
+                && !snapshot.topics().containsKey(resource.name()));
+    }
+
+    /**
+     * Configs of the given resources, in request order. Without {@code includeDefaults} cached non-default values
+     * are served where fresh and the rest are described together; with it, every resource is described.
+     */
+    public CompletableFuture<List<ResourceConfig>> describe(ConfigResourceType type, List<String> names,
+                                                            boolean includeDefaults) {
+        if (names == null || names.isEmpty()) {
+            throw new InvalidRequestException("At least one " + type.name().toLowerCase() + " is required.");
+        }
+        if (names.size() > maxResources) {
+            throw new InvalidRequestException("At most " + maxResources + " resources can be described per request.");
+        }
+        List<ConfigResource> resources = new ArrayList<>(names.size());
+        for (String name : names) {
+            resources.add(resource(type, name));
+        }
+
+        Instant now = clock.instant();
+        Map<ConfigResource, CachedConfig> found = new HashMap<>();
+        Set<ConfigResource> missing = new HashSet<>();
+        for (ConfigResource resource : resources) {
+            CachedConfig cached = includeDefaults ? null : cache.get(resource);
+            if (cached != null && Duration.between(cached.fetchedAt(), now).compareTo(cacheTtl) <= 0) {
+                found.put(resource, cached);
+            } else {
+                missing.add(resource);
+            }
+        }
+
+        return describeAll(missing).thenApply(described -> {
+            Instant fetchedAt = clock.instant();
+            described.configs().forEach((resource, config) -> {
+                CachedConfig nonDefault = new CachedConfig(entries(config, false), fetchedAt);
+                cache.put(resource, nonDefault);
+                found.put(resource, includeDefaults ? new CachedConfig(entries(config, true), fetchedAt) : nonDefault);
+            });
+            List<ResourceConfig> configs = new ArrayList<>(resources.size());
+            for (ConfigResource resource : resources) {
+                CachedConfig config = found.get(resource);
+                configs.add(config != null
+                        ? new ResourceConfig(type, resource.name(), config.entries(), config.fetchedAt(), null)
+                        : new ResourceConfig(type, resource.name(), null, fetchedAt, "Could not be described."));
+            }
+            return configs;
+        });
+    }
+
+    /**
+     * Applies (or with {@code validateOnly}, validates) config changes. A failed resource or batch never fails
+     * the whole request; every resource gets its own result.
+     */
+    public CompletableFuture<ConfigAlterResult> alter(List<ConfigChange> changes, boolean validateOnly) {
+        if (changes == null || changes.isEmpty()) {
+            throw new InvalidRequestException("At least one config change is required.");
+        }
+        if (changes.size() > maxResources) {
+            throw new InvalidRequestException("At most " + maxResources + " resources can be changed per request.");
+        }
+        Map<ConfigResource, Collection<AlterConfigOp>> operations = new LinkedHashMap<>();
+        for (ConfigChange change : changes) {
+            if (change == null || change.type() == null) {
+                throw new InvalidRequestException("Every change needs a type (TOPIC or BROKER).");
+            }
+            ConfigResource resource = resource(change.type(), change.name());
+            List<AlterConfigOp> ops = new ArrayList<>();
+            if (change.set() != null) {
+                change.set().forEach((name, value) ->
+                        ops.add(new AlterConfigOp(new ConfigEntry(name, value), AlterConfigOp.OpType.SET)));
+            }
+            if (change.delete() != null) {
+                change.delete().forEach(name ->
+                        ops.add(new AlterConfigOp(new ConfigEntry(name, null), AlterConfigOp.OpType.DELETE)));
+            }
+            if (ops.isEmpty()) {
+                throw new InvalidRequestException("No config to set or delete for " + describe(resource) + ".");
+            }
+            if (operations.put(resource, ops) != null) {
+                throw new InvalidRequestException(describe(resource) + " appears more than once in the request.");
+            }
+        }
+
+        List<ConfigResource> resources = new ArrayList<>(operations.keySet());
+        List<CompletableFuture<Map<ConfigResource, Optional<Throwable>>>> calls = new ArrayList<>();
+        for (int from = 0; from < resources.size(); from += alterBatchSize) {
+            Map<ConfigResource, Collection<AlterConfigOp>> batch = new HashMap<>();
+            for (ConfigResource resource : resources.subList(from, Math.min(resources.size(), from + alterBatchSize))) {
+                batch.put(resource, operations.get(resource));
+            }
+            calls.add(kafkaService.incrementalAlterConfigs(batch, validateOnly).handle((outcomes, error) -> {
+                if (error == null) {
+                    return outcomes;
+                }
+                Optional<Throwable> cause = Optional.of(KafkaFutures.unwrap(error));
+                Map<ConfigResource, Optional<Throwable>> failed = new HashMap<>();
+                batch.keySet().forEach(resource -> failed.put(resource, cause));
+                return failed;
+            }));
+        }
+
+        return KafkaFutures.allMerged(calls).thenApply(outcomes -> {
+            Map<Status, Integer> summary = new EnumMap<>(Status.class);
+            List<ResourceResult> results = new ArrayList<>(resources.size());
+            for (int i = 0; i < resources.size(); i++) {
+                ConfigResource resource = resources.get(i);
+                ConfigResourceType type = changes.get(i).type();
+                Optional<Throwable> outcome = outcomes.getOrDefault(resource,
+                        Optional.of(new IllegalStateException("No result returned for resource.")));
+                ResourceResult result;
+                if (outcome.isEmpty()) {
+                    result = new ResourceResult(type, resource.name(), validateOnly ? Status.VALIDATED : Status.ALTERED, null);
+                    if (!validateOnly) {
+                        cache.remove(resource);
+                    }
+                } else {
+                    result = new ResourceResult(type, resource.name(), Status.FAILED, outcome.get().toString());
+                }
+                summary.merge(result.status(), 1, Integer::sum);
+                results.add(result);
+            }
+            return new ConfigAlterResult(validateOnly, summary, results);
+        });
+    }
+
+    /**
+     * Compares the effective configs of the selected topics with the template.
+     */
+    public CompletableFuture<ConfigDriftReport> drift(ConfigDriftRequest request) {
+        if (request == null || request.template() == null || request.template().isEmpty()) {
+            throw new InvalidRequestException("A template with at least one config is required.");
+        }
+        Map<String, String> template = new TreeMap<>(request.template());
+        long startedAt = System.nanoTime();
+
+        return metadataCache.snapshot().thenCompose(snapshot -> {
+            List<String> topics = selectTopics(snapshot, request);
+            List<ConfigResource> resources = new ArrayList<>(topics.size());
+            for (String topic : topics) {
+                resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topic));
+            }
+            return describeAll(resources).thenApply(described -> {
+                Instant fetchedAt = clock.instant();
+                List<TopicDrift> drifted = new ArrayList<>();
+                Map<String, Integer> driftByConfig = new TreeMap<>();
+                List<String> failed = new ArrayList<>();
+                for (ConfigResource resource : resources) {
+                    Config config = described.configs().get(resource);
+                    if (config == null) {
+                        failed.add(resource.name());
+                        continue;
+                    }
+                    cache.put(resource, new CachedConfig(entries(config, false), fetchedAt));
+                    List<Difference> differences = null;
+                    for (Map.Entry<String, String> expected : template.entrySet()) {
+                        ConfigEntry actual = config.get(expected.getKey());
+                        if (actual == null || !expected.getValue().equals(actual.value())) {
+                            if (differences == null) {
+                                differences = new ArrayList<>();
+                            }
+                            differences.add(new Difference(expected.getKey(), expected.getValue(),
+                                    actual == null ? null : actual.value(),
+                                    actual == null ? null : actual.source().name()));
+                            driftByConfig.merge(expected.getKey(), 1, Integer::sum);
+                        }
+                    }
+                    if (differences != null) {
+                        drifted.add(new TopicDrift(resource.name(), differences));
+                    }
+                }
+                return new ConfigDriftReport(resources.size() - failed.size(), drifted.size(), driftByConfig,
+                        drifted, failed, described.calls(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+            });
+        });
+    }
+
+    // Listed topics are checked as given, so an unknown one is reported as failed rather than skipped.
+    private List<String> selectTopics(ClusterSnapshot snapshot, ConfigDriftRequest request) {
+        List<String> topics = new ArrayList<>();
+        if (request.topics() != null && !request.topics().isEmpty()) {
+            topics.addAll(new TreeSet<>(request.topics()));
+        } else {
+            Map<String, TopicDescription> candidates = request.prefix() == null || request.prefix().isEmpty()
+                    ? snapshot.topics()
+                    : snapshot.topics().subMap(request.prefix(), true, request.prefix() + Character.MAX_VALUE, true);
+            for (TopicDescription description : candidates.values()) {
+                if (!description.isInternal()) {
+                    topics.add(description.name());
+                }
+            }
+        }
+        if (topics.size() > maxResources) {
+            throw new InvalidRequestException("At most " + maxResources + " topics can be checked per request; "
+                    + topics.size() + " were selected. Narrow them with topics or prefix.");
+        }
+        return topics;
+    }
+
+    // Describes the resources in batches, all sent at once; the limiter bounds how many run together.
+    private CompletableFuture<Described> describeAll(Collection<ConfigResource> resources) {
+        if (resources.isEmpty()) {
+            return CompletableFuture.completedFuture(new Described(Map.of(), 0));
+        }
+        List<ConfigResource> all = new ArrayList<>(resources);
+        List<CompletableFuture<Map<ConfigResource, Config>>> calls = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += describeBatchSize) {
+            calls.add(kafkaService.describeConfigs(all.subList(from, Math.min(all.size(), from + describeBatchSize))));
+        }
+        return KafkaFutures.allMerged(calls).thenApply(configs -> new Described(configs, calls.size()));
+    }
+
+    private static List<ResourceConfig.Entry> entries(Config config, boolean includeDefaults) {
+        List<ResourceConfig.Entry> entries = new ArrayList<>();
+        for (ConfigEntry entry : config.entries()) {
+            if (includeDefaults || entry.source() != ConfigEntry.ConfigSource.DEFAULT_CONFIG) {
+                entries.add(new ResourceConfig.Entry(entry.name(), entry.isSensitive() ? null : entry.value(),
+                        entry.source().name(), entry.isSensitive(), entry.isReadOnly()));
+            }
+        }
+        entries.sort(Comparator.comparing(ResourceConfig.Entry::name));
+        return List.copyOf(entries);
+    }
+
+    private static ConfigResource resource(ConfigResourceType type, String name) {
+        if (type == ConfigResourceType.TOPIC) {
+            if (name == null || name.isBlank()) {
+                throw new InvalidRequestException("Topic name is required.");
+            }
+            return new ConfigResource(ConfigResource.Type.TOPIC, name);
+        }
+        // An empty broker name addresses the cluster-wide default.
+        String id = name == null ? "" : name.trim();
+        if (!id.isEmpty()) {
+            try {
+                Integer.parseInt(id);
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestException("Broker must be a broker id, got '" + name + "'.");
+            }
+        }
+        return new ConfigResource(ConfigResource.Type.BROKER, id);
+    }
+
+    private static String describe(ConfigResource resource) {
+        return resource.type() == ConfigResource.Type.TOPIC ? "Topic " + resource.name()
+                : resource.name().isEmpty() ? "The broker default" : "Broker " + resource.name();
+    }
+
+    private record CachedConfig(List<ResourceConfig.Entry> entries, Instant fetchedAt) {}
+
+    private record Described(Map<ConfigResource, Config> configs, int calls) {}
+}
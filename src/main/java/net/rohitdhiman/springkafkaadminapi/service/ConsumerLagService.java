@@ -0,0 +1,263 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLag;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLagSummary;
+import net.rohitdhiman.springkafkaadminapi.dto.LagRefreshStats;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionLag;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicLag;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Computes consumer group lag for the whole cluster with as few AdminClient calls as possible.
+ * <p>
+ * A refresh fetches committed offsets for many groups per {@code listConsumerGroupOffsets} call
+ * ({@code kafka.admin.lag.group-batch-size} groups each). It then merges the partitions of all groups so each
+ * partition's end offset is requested once, and sends one {@code listOffsets} call per partition leader
+ * (taken from the metadata snapshot). A full refresh asks for the end offset of every partition in the
+ * snapshot, not just the consumed ones, so the end offsets double as a throughput sample for each topic.
+ * Lag is then summed per partition, topic and group.
+ * <p>
+ * The result is kept as the latest {@link ConsumerLagSnapshot} and published as an application event.
+ * Concurrent refreshes share one run, like {@link ClusterMetadataCache}, and the result is stored and published
+ * on the task executor rather than the AdminClient's network thread. Refresh durations are published as
+ * {@code kafka.admin.lag.refresh}.
+ */
+@Service
+public class ConsumerLagService {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsumerLagService.class);
+
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+    private final int groupBatchSize;
+    private final Clock clock;
+    private final Timer refreshTimer;
+
+    private volatile ConsumerLagSnapshot latest;
+    private final AtomicReference<CompletableFuture<ConsumerLagSnapshot>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public ConsumerLagService(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                              ApplicationEventPublisher eventPublisher,
+                              @Qualifier("applicationTaskExecutor") Executor executor,
+                              @Value("${kafka.admin.lag.group-batch-size:200}") int groupBatchSize,
+                              MeterRegistry meterRegistry) {
+        this(kafkaService, metadataCache, eventPublisher, executor, groupBatchSize, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    ConsumerLagService(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                       ApplicationEventPublisher eventPublisher, Executor executor, int groupBatchSize,
+                       MeterRegistry meterRegistry, Clock clock) {
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.groupBatchSize = Math.max(1, groupBatchSize);
+        this.clock = clock;
+        this.refreshTimer = Timer.builder("kafka.admin.lag.refresh")
+                .description("Time taken to compute lag for every consumer group")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The latest cluster-wide lag, computing it first if no refresh has completed yet.
+     */
+    public CompletableFuture<ConsumerLagSnapshot> snapshot() {
+        ConsumerLagSnapshot current = latest;
+        return current != null ? CompletableFuture.completedFuture(current) : refresh();
+    }
+
+    /**
+     * Lag of one group: from the latest refresh if it covered the group, otherwise computed for this group
+     * alone. Completes with null if the group has no committed offsets.
+     */
+    public CompletableFuture<GroupLag> groupLag(String groupId) {
+        ConsumerLagSnapshot current = latest;
+        if (current != null && current.groups().containsKey(groupId)) {
+            return CompletableFuture.completedFuture(current.groups().get(groupId));
+        }
+        return metadataCache.snapshot()
+                .thenCompose(metadata -> compute(metadata, List.of(groupId), false))
+                .thenApply(computed -> computed.groups().get(groupId));
+    }
+
+    /**
+     * Recomputes lag for every group in the metadata snapshot, unless a refresh is already running.
+     */
+    public CompletableFuture<ConsumerLagSnapshot> refresh() {
+        while (true) {
+            CompletableFuture<ConsumerLagSnapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<ConsumerLagSnapshot> refresh = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, refresh)) {
+                Timer.Sample sample = Timer.start();
+                metadataCache.snapshot()
+                        .thenCompose(metadata -> compute(metadata, metadata.consumerGroups().stream()
+                                .map(ConsumerGroupListing::groupId)
+                                .toList(), true))
+                        .whenCompleteAsync((computed, error) -> {
+                            sample.stop(refreshTimer);
+                            if (error == null) {
+                                latest = computed;
+                                publish(computed);
+                            }
+                            inFlight.compareAndSet(refresh, null);
+                            if (error != null) {
+                                refresh.completeExceptionally(KafkaFutures.unwrap(error));
+                            } else {
+                                refresh.complete(computed);
+                            }
+                        }, executor);
+                return refresh;
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${kafka.admin.lag.initial-delay-ms:10000}",
+            fixedDelayString = "${kafka.admin.lag.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        try {
+            LagRefreshStats stats = refresh().join().stats();
+            log.debug("Lag refresh: {} groups, {} partitions, {} + {} AdminClient calls in {} ms",
+                    stats.groups(), stats.partitions(), stats.groupOffsetRequests(), stats.endOffsetRequests(),
+                    stats.durationMs());
+        } catch (Exception e) {
+            log.warn("Background lag refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private CompletableFuture<ConsumerLagSnapshot> compute(ClusterSnapshot metadata, List<String> groupIds,
+                                                           boolean allPartitions) {
+        Instant startedAt = clock.instant();
+
+        // 1. Committed offsets, many groups per call.
+        List<CompletableFuture<Map<String, Map<TopicPartition, OffsetAndMetadata>>>> offsetCalls = new ArrayList<>();
+        for (int from = 0; from < groupIds.size(); from += groupBatchSize) {
+            offsetCalls.add(kafkaService.listConsumerGroupOffsets(
+                    groupIds.subList(from, Math.min(groupIds.size(), from + groupBatchSize))));
+        }
+        int groupOffsetRequests = offsetCalls.size();
+
+        return KafkaFutures.allMerged(offsetCalls).thenCompose(committed -> {
+            // 2. End offsets, each partition once, one call per leader.
+            Map<Integer, Set<TopicPartition>> byLeader = new HashMap<>();
+            if (allPartitions) {
+                for (TopicDescription topic : metadata.topics().values()) {
+                    for (TopicPartitionInfo partition : topic.partitions()) {
+                        // Partitions without a known leader are sent together; the AdminClient routes them.
+                        int leader = partition.leader() != null ? partition.leader().id() : ClusterSnapshot.NO_LEADER;
+                        byLeader.computeIfAbsent(leader, id -> new HashSet<>())
+                                .add(new TopicPartition(topic.name(), partition.partition()));
+                    }
+                }
+            }
+            for (Map<TopicPartition, OffsetAndMetadata> offsets : committed.values()) {
+                for (TopicPartition partition : offsets.keySet()) {
+                    byLeader.computeIfAbsent(metadata.leaderOf(partition), leader -> new HashSet<>()).add(partition);
+                }
+            }
+            int partitionCount = byLeader.values().stream().mapToInt(Set::size).sum();
+            List<CompletableFuture<Map<TopicPartition, Long>>> endOffsetCalls = new ArrayList<>(byLeader.size());
+            for (Set<TopicPartition> partitions : byLeader.values()) {
+                endOffsetCalls.add(kafkaService.listOffsets(partitions, OffsetSpec.latest()));
+            }
+
+            return KafkaFutures.allMerged(endOffsetCalls).thenApply(endOffsets -> {
+                Instant computedAt = clock.instant();
+                LagRefreshStats stats = new LagRefreshStats(startedAt,
+                        Duration.between(startedAt, computedAt).toMillis(), committed.size(), partitionCount,
+                        groupOffsetRequests, endOffsetCalls.size(), groupIds.size() - committed.size(),
+                        partitionCount - endOffsets.size());
+                return assemble(committed, endOffsets, stats, computedAt);
+            });
+        });
+    }
+
+    /**
+     * Turns committed and end offsets into per-partition, per-topic and per-group lag. Groups without
+     * committed offsets (the brokers answer an unknown group with none) and partitions without an end offset
+     * are skipped; lag never goes below zero.
+     */
+    static ConsumerLagSnapshot assemble(Map<String, Map<TopicPartition, OffsetAndMetadata>> committed,
+                                        Map<TopicPartition, Long> endOffsets, LagRefreshStats stats,
+                                        Instant computedAt) {
+        Map<String, GroupLag> groups = new HashMap<>(committed.size() * 2);
+        List<GroupLagSummary> ranked = new ArrayList<>(committed.size());
+
+        committed.forEach((groupId, offsets) -> {
+            if (offsets.isEmpty()) {
+                return;
+            }
+            Map<String, List<PartitionLag>> byTopic = new TreeMap<>();
+            offsets.forEach((partition, offset) -> {
+                Long endOffset = endOffsets.get(partition);
+                if (endOffset != null) {
+                    long lag = Math.max(0, endOffset - offset.offset());
+                    byTopic.computeIfAbsent(partition.topic(), topic -> new ArrayList<>())
+                            .add(new PartitionLag(partition.partition(), offset.offset(), endOffset, lag));
+                }
+            });
+
+            long groupLag = 0;
+            int partitionCount = 0;
+            List<TopicLag> topics = new ArrayList<>(byTopic.size());
+            for (Map.Entry<String, List<PartitionLag>> entry : byTopic.entrySet()) {
+                List<PartitionLag> partitions = entry.getValue();
+                partitions.sort(Comparator.comparingInt(PartitionLag::partition));
+                long topicLag = partitions.stream().mapToLong(PartitionLag::lag).sum();
+                topics.add(new TopicLag(entry.getKey(), topicLag, List.copyOf(partitions)));
+                groupLag += topicLag;
+                partitionCount += partitions.size();
+            }
+            groups.put(groupId, new GroupLag(groupId, groupLag, List.copyOf(topics), computedAt));
+            ranked.add(new GroupLagSummary(groupId, groupLag, topics.size(), partitionCount));
+        });
+
+        ranked.sort(Comparator.comparingLong(GroupLagSummary::lag).reversed()
+                .thenComparing(GroupLagSummary::groupId));
+        return new ConsumerLagSnapshot(groups, ranked, endOffsets, stats, computedAt);
+    }
+
+    private void publish(ConsumerLagSnapshot computed) {
+        try {
+            eventPublisher.publishEvent(computed);
+        } catch (RuntimeException e) {
+            log.warn("Lag snapshot listener failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLag;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLagSummary;
+import net.rohitdhiman.springkafkaadminapi.dto.LagRefreshStats;
+import org.apache.kafka.common.TopicPartition;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lag of every consumer group computed by one refresh of {@link ConsumerLagService}, plus the end offsets
+ * it was computed against. {@code ranked} lists the groups by descending total lag.
+ */
+public record ConsumerLagSnapshot(
+        Map<String, GroupLag> groups,
+        List<GroupLagSummary> ranked,
+        Map<TopicPartition, Long> endOffsets,
+        LagRefreshStats stats,
+        Instant computedAt
+) {
+
+    public ConsumerLagSnapshot {
+        groups = Map.copyOf(groups);
+        ranked = List.copyOf(ranked);
+        endOffsets = Map.copyOf(endOffsets);
+    }
+
+    public List<GroupLagSummary> top(int limit) {
+        return ranked.subList(0, Math.min(Math.max(limit, 0), ranked.size()));
+    }
+}
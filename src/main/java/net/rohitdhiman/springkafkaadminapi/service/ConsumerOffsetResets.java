@@ -0,0 +1,353 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.GroupOffsetReset;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupOffsetReset.PartitionReset;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetRequest.Strategy;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetResult;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Resets the committed offsets of many consumer groups in one request: to the earliest or latest offset, to
+ * the first offset at or after a timestamp, by a relative shift, or to explicit offsets.
+ * <p>
+ * Offsets are resolved for all groups together. Each partition in scope is looked up once, however many
+ * groups read it, with one {@code listOffsets} call per partition leader (taken from the metadata snapshot)
+ * and kind of offset needed. Shifted and explicit offsets are clamped to the partition's earliest and latest
+ * offsets, and a timestamp after the last message resets to the latest offset, as
+ * {@code kafka-consumer-groups.sh} does. A group is left untouched if any of its partitions cannot be resolved.
+ * <p>
+ * Only groups without members (EMPTY, or DEAD for a group that has never committed) are changed, since the
+ * brokers refuse commits for a group with members. A group that cannot be described, or whose committed
+ * offsets cannot be looked up when the reset depends on them, is reported as failed without affecting the
+ * others. Each group is committed with its own AdminClient call. A dry run returns the same plan without
+ * committing anything.
+ */
+@Service
+public class ConsumerOffsetResets {
+
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final int groupBatchSize;
+    private final int maxGroups;
+
+    public ConsumerOffsetResets(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                                @Value("${kafka.admin.offsets.group-batch-size:200}") int groupBatchSize,
+                                @Value("${kafka.admin.offsets.max-groups:500}") int maxGroups) {
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.groupBatchSize = Math.max(1, groupBatchSize);
+        this.maxGroups = maxGroups;
+    }
+
+    public CompletableFuture<OffsetResetResult> reset(OffsetResetRequest request, boolean dryRun) {
+        List<String> groupIds = validate(request);
+        return metadataCache.snapshot().thenCompose(snapshot -> {
+            List<String> unknown = new ArrayList<>();
+            Map<TopicPartition, Long> explicit = request.strategy() == Strategy.EXPLICIT
+                    ? explicitOffsets(request.offsets(), snapshot, unknown)
+                    : Map.of();
+            Set<TopicPartition> scope = request.strategy() == Strategy.EXPLICIT
+                    ? explicit.keySet()
+                    : topicPartitions(request.topics(), snapshot, unknown);
+
+            CompletableFuture<Map<String, ConsumerGroupDescription>> described =
+                    kafkaService.describeEachConsumerGroup(groupIds);
+            return described.thenCombine(committedOffsets(groupIds), (descriptions, committed) -> {
+                        List<GroupPlan> plans = new ArrayList<>(groupIds.size());
+                        for (String groupId : groupIds) {
+                            plans.add(new GroupPlan(groupId, descriptions.get(groupId), committed.get(groupId),
+                                    scope, request.strategy()));
+                        }
+                        return plans;
+                    })
+                    .thenCompose(plans -> lookUp(request, plans, snapshot).thenCompose(lookups -> {
+                        List<CompletableFuture<GroupOffsetReset>> results = new ArrayList<>(plans.size());
+                        for (GroupPlan plan : plans) {
+                            results.add(resetGroup(plan, request, explicit, lookups, dryRun));
+                        }
+                        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                                .thenApply(ignored -> summarize(dryRun, results.stream()
+                                        .map(CompletableFuture::join)
+                                        .toList(), unknown, lookups.calls()));
+                    }));
+        });
+    }
+
+    private List<String> validate(OffsetResetRequest request) {
+        if (request.groups() == null || request.groups().isEmpty()) {
+            throw new InvalidRequestException("At least one consumer group is required.");
+        }
+        Set<String> groupIds = new LinkedHashSet<>(request.groups());
+        if (groupIds.contains(null) || groupIds.stream().anyMatch(String::isBlank)) {
+            throw new InvalidRequestException("Consumer group ids must not be blank.");
+        }
+        if (groupIds.size() > maxGroups) {
+            throw new InvalidRequestException("At most " + maxGroups + " groups can be reset per request.");
+        }
+        if (request.strategy() == null) {
+            throw new InvalidRequestException("strategy is required: EARLIEST, LATEST, TIMESTAMP, SHIFT or EXPLICIT.");
+        }
+        switch (request.strategy()) {
+            case TIMESTAMP -> {
+                if (request.timestamp() == null) {
+                    throw new InvalidRequestException("timestamp is required for TIMESTAMP.");
+                }
+            }
+            case SHIFT -> {
+                if (request.shift() == null) {
+                    throw new InvalidRequestException("shift is required for SHIFT.");
+                }
+            }
+            case EXPLICIT -> {
+                if (request.offsets() == null || request.offsets().isEmpty()) {
+                    throw new InvalidRequestException("offsets is required for EXPLICIT.");
+                }
+                if (request.topics() != null && !request.topics().isEmpty()) {
+                    throw new InvalidRequestException(
+                            "topics cannot be combined with EXPLICIT; offsets lists the partitions.");
+                }
+                request.offsets().forEach((topic, partitions) -> partitions.forEach((partition, offset) -> {
+                    if (offset == null || offset < 0) {
+                        throw new InvalidRequestException(
+                                "Offset for " + topic + "-" + partition + " must be zero or more.");
+                    }
+                }));
+            }
+            default -> {
+            }
+        }
+        return List.copyOf(groupIds);
+    }
+
+    // Every partition of the requested topics, or null to reset each group's committed partitions.
+    private static Set<TopicPartition> topicPartitions(List<String> topics, ClusterSnapshot snapshot,
+                                                       List<String> unknown) {
+        if (topics == null || topics.isEmpty()) {
+            return null;
+        }
+        Set<TopicPartition> partitions = new LinkedHashSet<>();
+        for (String topic : new LinkedHashSet<>(topics)) {
+            TopicDescription description = snapshot.topics().get(topic);
+            if (description == null) {
+                unknown.add(topic);
+                continue;
+            }
+            for (TopicPartitionInfo partition : description.partitions()) {
+                partitions.add(new TopicPartition(topic, partition.partition()));
+            }
+        }
+        return partitions;
+    }
+
+    private static Map<TopicPartition, Long> explicitOffsets(Map<String, Map<Integer, Long>> offsets,
+                                                             ClusterSnapshot snapshot, List<String> unknown) {
+        Map<TopicPartition, Long> explicit = new LinkedHashMap<>();
+        offsets.forEach((topic, partitions) -> {
+            if (!snapshot.topics().containsKey(topic)) {
+                unknown.add(topic);
+                return;
+            }
+            partitions.forEach((partition, offset) -> {
+                TopicPartition topicPartition = new TopicPartition(topic, partition);
+                if (snapshot.topics().get(topic).partitions().stream().noneMatch(p -> p.partition() == partition)) {
+                    unknown.add(topicPartition.toString());
+                } else {
+                    explicit.put(topicPartition, offset);
+                }
+            });
+        });
+        return explicit;
+    }
+
+    private CompletableFuture<Map<String, Map<TopicPartition, OffsetAndMetadata>>> committedOffsets(
+            List<String> groupIds) {
+        List<CompletableFuture<Map<String, Map<TopicPartition, OffsetAndMetadata>>>> calls = new ArrayList<>();
+        for (int from = 0; from < groupIds.size(); from += groupBatchSize) {
+            calls.add(kafkaService.listConsumerGroupOffsets(
+                    groupIds.subList(from, Math.min(groupIds.size(), from + groupBatchSize))));
+        }
+        return KafkaFutures.allMerged(calls);
+    }
+
+    /**
+     * Looks up the offsets the strategy needs for every partition of every plan, each partition once,
+     * with one call per leader and kind of offset.
+     */
+    private CompletableFuture<Lookups> lookUp(OffsetResetRequest request, List<GroupPlan> plans,
+                                              ClusterSnapshot snapshot) {
+        Map<Integer, Set<TopicPartition>> byLeader = new HashMap<>();
+        for (GroupPlan plan : plans) {
+            for (TopicPartition partition : plan.partitions) {
+                byLeader.computeIfAbsent(snapshot.leaderOf(partition), leader -> new HashSet<>()).add(partition);
+            }
+        }
+        Strategy strategy = request.strategy();
+        boolean earliest = strategy != Strategy.LATEST && strategy != Strategy.TIMESTAMP;
+        boolean latest = strategy != Strategy.EARLIEST;
+        boolean atTimestamp = strategy == Strategy.TIMESTAMP;
+
+        CompletableFuture<Map<TopicPartition, Long>> earliestOffsets = earliest
+                ? perLeader(byLeader, OffsetSpec.earliest())
+                : CompletableFuture.completedFuture(Map.of());
+        CompletableFuture<Map<TopicPartition, Long>> latestOffsets = latest
+                ? perLeader(byLeader, OffsetSpec.latest())
+                : CompletableFuture.completedFuture(Map.of());
+        CompletableFuture<Map<TopicPartition, Long>> timestampOffsets = atTimestamp
+                ? perLeader(byLeader, OffsetSpec.forTimestamp(request.timestamp().toEpochMilli()))
+                : CompletableFuture.completedFuture(Map.of());
+        int calls = byLeader.size() * ((earliest ? 1 : 0) + (latest ? 1 : 0) + (atTimestamp ? 1 : 0));
+
+        return CompletableFuture.allOf(earliestOffsets, latestOffsets, timestampOffsets)
+                .thenApply(ignored -> new Lookups(earliestOffsets.join(), latestOffsets.join(),
+                        timestampOffsets.join(), calls));
+    }
+
+    private CompletableFuture<Map<TopicPartition, Long>> perLeader(Map<Integer, Set<TopicPartition>> byLeader,
+                                                                   OffsetSpec spec) {
+        List<CompletableFuture<Map<TopicPartition, Long>>> calls = new ArrayList<>(byLeader.size());
+        for (Set<TopicPartition> partitions : byLeader.values()) {
+            calls.add(kafkaService.listOffsets(partitions, spec));
+        }
+        return KafkaFutures.allMerged(calls);
+    }
+
+    private CompletableFuture<GroupOffsetReset> resetGroup(GroupPlan plan, OffsetResetRequest request,
+                                                           Map<TopicPartition, Long> explicit, Lookups lookups,
+                                                           boolean dryRun) {
+        String state = plan.state != null ? plan.state.name() : null;
+        List<PartitionReset> partitions = new ArrayList<>(plan.partitions.size());
+        Map<TopicPartition, OffsetAndMetadata> commit = new HashMap<>(plan.partitions.size() * 2);
+        int unresolved = 0;
+        for (TopicPartition partition : plan.partitions) {
+            OffsetAndMetadata current = plan.committed.get(partition);
+            Long target = target(request, partition, current, explicit.get(partition), lookups);
+            if (target == null) {
+                unresolved++;
+                continue;
+            }
+            partitions.add(new PartitionReset(partition.topic(), partition.partition(),
+                    current != null ? current.offset() : null, target));
+            commit.put(partition, new OffsetAndMetadata(target));
+        }
+        partitions.sort(Comparator.comparing(PartitionReset::topic).thenComparingInt(PartitionReset::partition));
+
+        if (plan.state == null) {
+            return done(plan, null, GroupOffsetReset.Status.FAILED, "Group could not be described.", List.of());
+        }
+        if (plan.committedUnknown) {
+            return done(plan, state, GroupOffsetReset.Status.FAILED,
+                    "Committed offsets could not be looked up; nothing was reset.", List.of());
+        }
+        if (unresolved > 0) {
+            return done(plan, state, GroupOffsetReset.Status.FAILED,
+                    "Offsets of " + unresolved + " partitions could not be looked up; nothing was reset.", partitions);
+        }
+        if (plan.state != ConsumerGroupState.EMPTY && plan.state != ConsumerGroupState.DEAD) {
+            return done(plan, state, GroupOffsetReset.Status.ACTIVE,
+                    "Group has active members; stop its consumers before resetting offsets.", partitions);
+        }
+        if (dryRun || commit.isEmpty()) {
+            return done(plan, state, dryRun ? GroupOffsetReset.Status.PLANNED : GroupOffsetReset.Status.RESET,
+                    null, partitions);
+        }
+        return kafkaService.alterConsumerGroupOffsets(plan.groupId, commit).handle((ignored, error) -> error == null
+                ? new GroupOffsetReset(plan.groupId, state, GroupOffsetReset.Status.RESET, null, partitions)
+                : new GroupOffsetReset(plan.groupId, state, GroupOffsetReset.Status.FAILED,
+                        KafkaFutures.unwrap(error).toString(), partitions));
+    }
+
+    private static CompletableFuture<GroupOffsetReset> done(GroupPlan plan, String state,
+                                                            GroupOffsetReset.Status status, String error,
+                                                            List<PartitionReset> partitions) {
+        return CompletableFuture.completedFuture(new GroupOffsetReset(plan.groupId, state, status, error, partitions));
+    }
+
+    /**
+     * The offset to reset one partition to, or null if an offset it depends on could not be looked up.
+     */
+    private static Long target(OffsetResetRequest request, TopicPartition partition, OffsetAndMetadata current,
+                       Long explicit, Lookups lookups) {
+        Long earliest = lookups.earliest().get(partition);
+        Long latest = lookups.latest().get(partition);
+        return switch (request.strategy()) {
+            case EARLIEST -> earliest;
+            case LATEST -> latest;
+            case TIMESTAMP -> {
+                Long atTimestamp = lookups.atTimestamp().get(partition);
+                // -1: no message at or after the timestamp.
+                yield atTimestamp != null && atTimestamp >= 0 ? atTimestamp : latest;
+            }
+            case SHIFT -> clamp(current.offset() + request.shift(), earliest, latest);
+            case EXPLICIT -> clamp(explicit, earliest, latest);
+        };
+    }
+
+    private static Long clamp(long offset, Long earliest, Long latest) {
+        if (earliest == null || latest == null) {
+            return null;
+        }
+        return Math.max(earliest, Math.min(latest, offset));
+    }
+
+    private static OffsetResetResult summarize(boolean dryRun, List<GroupOffsetReset> groups, List<String> unknown,
+                                               int offsetLookups) {
+        Map<GroupOffsetReset.Status, Integer> summary = new EnumMap<>(GroupOffsetReset.Status.class);
+        for (GroupOffsetReset group : groups) {
+            summary.merge(group.status(), 1, Integer::sum);
+        }
+        return new OffsetResetResult(dryRun, summary, groups, List.copyOf(unknown), offsetLookups);
+    }
+
+    private record Lookups(Map<TopicPartition, Long> earliest, Map<TopicPartition, Long> latest,
+                   Map<TopicPartition, Long> atTimestamp, int calls) {}
+
+    // The partitions one group will have reset: the requested scope, or its committed partitions. A shift is
+    // relative to the committed offset, so it only applies to partitions that have one. If the committed offsets
+    // could not be looked up (null) and the plan depends on them, the plan is empty and the group fails.
+    private static final class GroupPlan {
+        private final String groupId;
+        private final ConsumerGroupState state;
+        private final Map<TopicPartition, OffsetAndMetadata> committed;
+        private final Set<TopicPartition> partitions;
+        private final boolean committedUnknown;
+
+        private GroupPlan(String groupId, ConsumerGroupDescription description,
+                          Map<TopicPartition, OffsetAndMetadata> committed, Set<TopicPartition> scope,
+                          Strategy strategy) {
+            this.groupId = groupId;
+            this.state = description != null ? description.state() : null;
+            this.committed = committed != null ? committed : Map.of();
+            this.committedUnknown = committed == null && (scope == null || strategy == Strategy.SHIFT);
+            Set<TopicPartition> partitions = new LinkedHashSet<>();
+            if (!committedUnknown) {
+                partitions.addAll(scope != null ? scope : this.committed.keySet());
+                if (strategy == Strategy.SHIFT) {
+                    partitions.retainAll(this.committed.keySet());
+                }
+            }
+            this.partitions = partitions;
+        }
+    }
+}
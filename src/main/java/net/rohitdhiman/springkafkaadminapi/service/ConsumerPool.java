@@ -0,0 +1,195 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Reusable byte-array consumers for {@link MessageBrowser}, so a peek does not pay for a new consumer (and its
+ * connections and metadata fetch) every time. At most {@code kafka.admin.messages.pool-size} consumers exist;
+ * they are created on first demand and kept idle between reads. The consumers have no group: partitions are
+ * assigned and seeked explicitly, and nothing is committed.
+ * <p>
+ * A consumer is used by one lease holder at a time. Closing the lease clears its assignment and returns it to the
+ * pool; a lease that saw an error is closed with its consumer instead.
+ * <p>
+ * Reads that poll several consumers at once run them on {@link #readers()}, which has one thread per consumer.
+ * The HTTP request threads waiting for those reads come from the shared task executor, so readers queued behind
+ * them there could never start.
+ */
+@Component
+public class ConsumerPool {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsumerPool.class);
+
+    private final Supplier<Consumer<byte[], byte[]>> factory;
+    private final int size;
+    private final Semaphore permits;
+    private final Deque<Consumer<byte[], byte[]>> idle = new ConcurrentLinkedDeque<>();
+    private final ExecutorService readers;
+    private volatile boolean closed;
+
+    @Autowired
+    public ConsumerPool(@Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+                        @Value("${kafka.admin.messages.pool-size:8}") int size,
+                        @Value("${kafka.admin.messages.fetch-bytes:1048576}") int fetchBytes) {
+        this(consumerFactory(bootstrapServers, fetchBytes), size);
+    }
+
+    ConsumerPool(Supplier<Consumer<byte[], byte[]>> factory, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("kafka.admin.messages.pool-size must be at least 1");
+        }
+        this.factory = factory;
+        this.size = size;
+        this.permits = new Semaphore(size, true);
+        AtomicInteger threadIds = new AtomicInteger();
+        this.readers = Executors.newFixedThreadPool(size, task -> {
+            Thread thread = new Thread(task, "consumer-pool-reader-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Small polls keep each batch that is held on the heap at once bounded by fetch-bytes.
+    private static Supplier<Consumer<byte[], byte[]>> consumerFactory(String bootstrapServers, int fetchBytes) {
+        AtomicInteger clientIds = new AtomicInteger();
+        return () -> {
+            Properties props = new Properties();
+            props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+            props.put(ConsumerConfig.CLIENT_ID_CONFIG, "kafka-admin-api-browser-" + clientIds.incrementAndGet());
+            props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+            props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+            props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+            props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100);
+            props.put(ConsumerConfig.FETCH_MAX_BYTES_CONFIG, fetchBytes);
+            props.put(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, fetchBytes);
+            return new KafkaConsumer<>(props);
+        };
+    }
+
+    /**
+     * Takes a consumer, waiting up to {@code maxWait} for one to be returned if all are leased.
+     *
+     * @throws TimeoutException if every consumer is still leased after {@code maxWait}
+     */
+    public Lease borrow(Duration maxWait) throws InterruptedException, TimeoutException {
+        if (!permits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("All " + size + " message browser consumers are in use.");
+        }
+        return lease();
+    }
+
+    /** Takes a consumer if one is free right now, or returns null. */
+    public Lease tryBorrow() {
+        return permits.tryAcquire() ? lease() : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Threads for polling leased consumers in the background. Every task holds a lease, so there is always a
+     * thread free for it.
+     */
+    public Executor readers() {
+        return readers;
+    }
+
+    private Lease lease() {
+        Consumer<byte[], byte[]> consumer = idle.pollFirst();
+        if (consumer == null) {
+            try {
+                consumer = factory.get();
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+        return new Lease(consumer);
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        readers.shutdownNow();
+        Consumer<byte[], byte[]> consumer;
+        while ((consumer = idle.pollFirst()) != null) {
+            closeQuietly(consumer);
+        }
+    }
+
+    private static void closeQuietly(Consumer<byte[], byte[]> consumer) {
+        try {
+            consumer.close(Duration.ZERO);
+        } catch (RuntimeException e) {
+            log.debug("Closing a message browser consumer failed", e);
+        }
+    }
+
+    public final class Lease implements AutoCloseable {
+
+        private final Consumer<byte[], byte[]> consumer;
+        private boolean broken;
+        private boolean returned;
+
+        private Lease(Consumer<byte[], byte[]> consumer) {
+            this.consumer = consumer;
+        }
+
+        public Consumer<byte[], byte[]> consumer() {
+            return consumer;
+        }
+
+        /** Marks the consumer as unusable; it is closed instead of being returned to the pool. */
+        public void discard() {
+            broken = true;
+        }
+
+        @Override
+        public void close() {
+            if (returned) {
+                return;
+            }
+            returned = true;
+            try {
+                if (!broken && !closed) {
+                    consumer.unsubscribe();
+                    idle.addFirst(consumer);
+                    // Closed while this consumer was being returned: nothing else will close it.
+                    if (closed && idle.remove(consumer)) {
+                        closeQuietly(consumer);
+                    }
+                } else {
+                    closeQuietly(consumer);
+                }
+            } catch (RuntimeException e) {
+                closeQuietly(consumer);
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
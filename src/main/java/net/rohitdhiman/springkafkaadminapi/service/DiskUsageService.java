@@ -0,0 +1,298 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.BrokerDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.BrokerDiskUsage.LogDirUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDiskUsage;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bytes on disk per broker, topic and partition, from {@code describeLogDirs}.
+ * <p>
+ * Describing the log directories of a large broker is heavy, so it is never done per request: a refresh,
+ * every {@code kafka.admin.disk-usage.refresh-interval-ms}, describes every broker at once (one call each,
+ * bounded by the AdminClient concurrency limit) and keeps the result as the latest {@link DiskUsageSnapshot}.
+ * Replica sizes are summed into per-topic {@code long[]} arrays indexed by partition id, then sorted by size
+ * and by growth, so the requests only cut pages from sorted lists. Growth rates compare each size with the
+ * previous refresh. A broker that fails is reported with its error and the refresh still succeeds; a
+ * partition's size is its largest replica, so it does not shrink when one broker is missing.
+ * Concurrent refreshes share one run, like {@link ClusterMetadataCache}, and the result is assembled on the task
+ * executor rather than the AdminClient's network thread.
+ */
+@Service
+public class DiskUsageService {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskUsageService.class);
+
+    private static final Comparator<TopicDiskUsage> TOPICS_BY_SIZE =
+            Comparator.comparingLong(TopicDiskUsage::bytes).reversed().thenComparing(TopicDiskUsage::topic);
+    private static final Comparator<TopicDiskUsage> TOPICS_BY_GROWTH =
+            Comparator.comparing(TopicDiskUsage::bytesPerSecond, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(TOPICS_BY_SIZE);
+    private static final Comparator<PartitionDiskUsage> PARTITIONS_BY_SIZE =
+            Comparator.comparingLong(PartitionDiskUsage::bytes).reversed()
+                    .thenComparing(PartitionDiskUsage::topic)
+                    .thenComparingInt(PartitionDiskUsage::partition);
+    private static final Comparator<PartitionDiskUsage> PARTITIONS_BY_GROWTH =
+            Comparator.comparing(PartitionDiskUsage::bytesPerSecond, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(PARTITIONS_BY_SIZE);
+
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final Executor executor;
+    private final Clock clock;
+
+    private volatile DiskUsageSnapshot latest;
+    private final AtomicReference<CompletableFuture<DiskUsageSnapshot>> inFlight = new AtomicReference<>();
+
+    @Autowired
+    public DiskUsageService(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                            @Qualifier("applicationTaskExecutor") Executor executor) {
+        this(kafkaService, metadataCache, executor, Clock.systemUTC());
+    }
+
+    DiskUsageService(KafkaService kafkaService, ClusterMetadataCache metadataCache, Executor executor, Clock clock) {
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * The latest disk usage, collecting it first if no refresh has completed yet.
+     */
+    public CompletableFuture<DiskUsageSnapshot> snapshot() {
+        DiskUsageSnapshot current = latest;
+        return current != null ? CompletableFuture.completedFuture(current) : refresh();
+    }
+
+    /**
+     * Describes the log directories of every broker again, unless a refresh is already running.
+     */
+    public CompletableFuture<DiskUsageSnapshot> refresh() {
+        while (true) {
+            CompletableFuture<DiskUsageSnapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<DiskUsageSnapshot> refresh = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, refresh)) {
+                metadataCache.snapshot()
+                        .thenCompose(this::collect)
+                        .whenComplete((collected, error) -> {
+                            if (error == null) {
+                                latest = collected;
+                            }
+                            inFlight.compareAndSet(refresh, null);
+                            if (error != null) {
+                                refresh.completeExceptionally(KafkaFutures.unwrap(error));
+                            } else {
+                                refresh.complete(collected);
+                            }
+                        });
+                return refresh;
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${kafka.admin.disk-usage.initial-delay-ms:20000}",
+            fixedDelayString = "${kafka.admin.disk-usage.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        try {
+            DiskUsageSnapshot refreshed = refresh().join();
+            log.debug("Disk usage refresh: {} brokers, {} topics, {} partitions in {} ms", refreshed.brokers().size(),
+                    refreshed.topicsBySize().size(), refreshed.partitionsBySize().size(), refreshed.durationMs());
+        } catch (Exception e) {
+            log.warn("Background disk usage refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private CompletableFuture<DiskUsageSnapshot> collect(ClusterSnapshot metadata) {
+        Instant startedAt = clock.instant();
+        List<NodeInfo> brokers = metadata.cluster() == null || metadata.cluster().nodes() == null
+                ? List.of() : metadata.cluster().nodes();
+        Map<Integer, Map<String, LogDirDescription>> described = new ConcurrentHashMap<>();
+        Map<Integer, Throwable> failed = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] calls = brokers.stream()
+                .map(broker -> kafkaService.describeLogDirs(broker.getId()).handle((dirs, error) -> {
+                    if (error != null) {
+                        failed.put(broker.getId(), KafkaFutures.unwrap(error));
+                    } else {
+                        described.put(broker.getId(), dirs);
+                    }
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        // The last describeLogDirs completes on the AdminClient's network thread; sorting every replica does not.
+        return CompletableFuture.allOf(calls).thenApplyAsync(ignored -> {
+            if (described.isEmpty() && !failed.isEmpty()) {
+                // Keep serving the previous refresh rather than one without any sizes.
+                throw new CompletionException(failed.values().iterator().next());
+            }
+            return assemble(metadata, brokers, described, failed, latest, startedAt, clock.instant());
+        }, executor);
+    }
+
+    static DiskUsageSnapshot assemble(ClusterSnapshot metadata, List<NodeInfo> brokers,
+                                      Map<Integer, Map<String, LogDirDescription>> described,
+                                      Map<Integer, Throwable> failed, DiskUsageSnapshot previous,
+                                      Instant startedAt, Instant fetchedAt) {
+        double seconds = previous == null ? 0 : Duration.between(previous.fetchedAt(), fetchedAt).toMillis() / 1000.0;
+        Map<Integer, Long> previousBrokerBytes = new HashMap<>();
+        Map<String, Long> previousTopicBytes = new HashMap<>();
+        if (previous != null) {
+            previous.brokers().stream()
+                    .filter(broker -> broker.error() == null)
+                    .forEach(broker -> previousBrokerBytes.put(broker.id(), broker.bytes()));
+            previous.topicsBySize().forEach(topic -> previousTopicBytes.put(topic.topic(), topic.bytes()));
+        }
+
+        // 1. Replica sizes into per-topic arrays, and per-broker and per-directory totals.
+        Map<String, TopicSizes> sizes = new TreeMap<>();
+        List<BrokerDiskUsage> brokerUsage = new ArrayList<>(brokers.size());
+        for (NodeInfo broker : brokers) {
+            Map<String, LogDirDescription> dirs = described.get(broker.getId());
+            if (dirs == null) {
+                Throwable error = failed.get(broker.getId());
+                brokerUsage.add(new BrokerDiskUsage(broker.getId(), broker.getHost(), broker.getRack(), 0, 0, null,
+                        List.of(), error != null ? error.toString() : "No log directories returned."));
+                continue;
+            }
+            int brokerReplicas = 0;
+            long brokerBytes = 0;
+            List<LogDirUsage> dirUsage = new ArrayList<>(dirs.size());
+            for (Map.Entry<String, LogDirDescription> dir : new TreeMap<>(dirs).entrySet()) {
+                LogDirDescription description = dir.getValue();
+                long dirBytes = 0;
+                for (Map.Entry<TopicPartition, ReplicaInfo> replica : description.replicaInfos().entrySet()) {
+                    TopicPartition partition = replica.getKey();
+                    long size = replica.getValue().size();
+                    dirBytes += size;
+                    sizes.computeIfAbsent(partition.topic(), topic -> new TopicSizes(partitionCount(metadata, topic)))
+                            .add(partition.partition(), size, replica.getValue().isFuture());
+                }
+                brokerReplicas += description.replicaInfos().size();
+                brokerBytes += dirBytes;
+                dirUsage.add(new LogDirUsage(dir.getKey(), description.replicaInfos().size(), dirBytes,
+                        boxed(description.totalBytes()), boxed(description.usableBytes()),
+                        description.error() != null ? description.error().toString() : null));
+            }
+            brokerUsage.add(new BrokerDiskUsage(broker.getId(), broker.getHost(), broker.getRack(), brokerReplicas,
+                    brokerBytes, rate(brokerBytes, previousBrokerBytes.get(broker.getId()), seconds), dirUsage,
+                    null));
+        }
+        brokerUsage.sort(Comparator.comparingInt(BrokerDiskUsage::id));
+
+        // 2. Partition and topic totals, with growth against the previous refresh.
+        List<TopicDiskUsage> topics = new ArrayList<>(sizes.size());
+        List<PartitionDiskUsage> partitions = new ArrayList<>();
+        Map<String, List<PartitionDiskUsage>> partitionsByTopic = new HashMap<>(sizes.size() * 2);
+        Map<String, long[]> partitionBytes = new HashMap<>(sizes.size() * 2);
+        for (Map.Entry<String, TopicSizes> entry : sizes.entrySet()) {
+            String topic = entry.getKey();
+            TopicSizes topicSizes = entry.getValue();
+            long[] previousBytes = previous == null ? null : previous.partitionBytes().get(topic);
+            List<PartitionDiskUsage> topicPartitions = new ArrayList<>();
+            long bytes = 0;
+            long diskBytes = 0;
+            for (int p = 0; p < topicSizes.replicas.length; p++) {
+                if (topicSizes.replicas[p] == 0) {
+                    topicSizes.bytes[p] = -1;
+                    continue;
+                }
+                Long before = previousBytes != null && p < previousBytes.length && previousBytes[p] >= 0
+                        ? previousBytes[p] : null;
+                topicPartitions.add(new PartitionDiskUsage(topic, p, topicSizes.replicas[p], topicSizes.bytes[p],
+                        topicSizes.diskBytes[p], rate(topicSizes.bytes[p], before, seconds)));
+                bytes += topicSizes.bytes[p];
+                diskBytes += topicSizes.diskBytes[p];
+            }
+            topics.add(new TopicDiskUsage(topic, topicPartitions.size(), bytes, diskBytes,
+                    rate(bytes, previousTopicBytes.get(topic), seconds)));
+            partitions.addAll(topicPartitions);
+            partitionsByTopic.put(topic, List.copyOf(topicPartitions));
+            partitionBytes.put(topic, topicSizes.bytes);
+        }
+
+        return new DiskUsageSnapshot(List.copyOf(brokerUsage), sorted(topics, TOPICS_BY_SIZE),
+                sorted(topics, TOPICS_BY_GROWTH), sorted(partitions, PARTITIONS_BY_SIZE),
+                sorted(partitions, PARTITIONS_BY_GROWTH), partitionsByTopic, partitionBytes,
+                Duration.between(startedAt, fetchedAt).toMillis(), fetchedAt,
+                previous == null ? null : previous.fetchedAt());
+    }
+
+    private static int partitionCount(ClusterSnapshot metadata, String topic) {
+        TopicDescription description = metadata.topics().get(topic);
+        return description == null ? 0 : description.partitions().size();
+    }
+
+    private static Double rate(long bytes, Long before, double seconds) {
+        return before == null || seconds <= 0 ? null : (bytes - before) / seconds;
+    }
+
+    private static Long boxed(OptionalLong value) {
+        return value.isPresent() ? value.getAsLong() : null;
+    }
+
+    private static <T> List<T> sorted(List<T> items, Comparator<? super T> order) {
+        List<T> copy = new ArrayList<>(items);
+        copy.sort(order);
+        return List.copyOf(copy);
+    }
+
+    // Sizes of one topic's partitions by partition id; sized from the metadata and grown for newer partitions.
+    private static final class TopicSizes {
+        long[] bytes;
+        long[] diskBytes;
+        int[] replicas;
+
+        TopicSizes(int partitions) {
+            bytes = new long[partitions];
+            diskBytes = new long[partitions];
+            replicas = new int[partitions];
+        }
+
+        void add(int partition, long size, boolean future) {
+            if (partition >= replicas.length) {
+                int length = Math.max(partition + 1, replicas.length * 2);
+                bytes = Arrays.copyOf(bytes, length);
+                diskBytes = Arrays.copyOf(diskBytes, length);
+                replicas = Arrays.copyOf(replicas, length);
+            }
+            replicas[partition]++;
+            diskBytes[partition] += size;
+            // A future replica is still being copied by a reassignment and is not yet a full copy.
+            if (!future) {
+                bytes[partition] = Math.max(bytes[partition], size);
+            }
+        }
+    }
+}
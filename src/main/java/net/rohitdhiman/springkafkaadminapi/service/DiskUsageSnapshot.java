@@ -0,0 +1,62 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.BrokerDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.DiskUsagePage;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDiskUsage;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Disk usage collected by one refresh of {@link DiskUsageService}. Topics and partitions are sorted once per
+ * refresh, by size and by growth (both descending), so a page of either order is a sublist.
+ * {@code partitionBytes} keeps each topic's partition sizes by partition id (-1 where no replica was reported)
+ * for the growth rates of the next refresh.
+ */
+public record DiskUsageSnapshot(
+        List<BrokerDiskUsage> brokers,
+        List<TopicDiskUsage> topicsBySize,
+        List<TopicDiskUsage> topicsByGrowth,
+        List<PartitionDiskUsage> partitionsBySize,
+        List<PartitionDiskUsage> partitionsByGrowth,
+        Map<String, List<PartitionDiskUsage>> partitionsByTopic,
+        Map<String, long[]> partitionBytes,
+        long durationMs,
+        Instant fetchedAt,
+        Instant previousFetchedAt
+) {
+
+    public enum Order {
+        SIZE,
+        GROWTH
+    }
+
+    public DiskUsagePage<BrokerDiskUsage> brokerPage() {
+        return new DiskUsagePage<>(brokers, 0, brokers.size(), fetchedAt, previousFetchedAt);
+    }
+
+    public DiskUsagePage<TopicDiskUsage> topicPage(Order order, int offset, int limit) {
+        return page(order == Order.GROWTH ? topicsByGrowth : topicsBySize, offset, limit);
+    }
+
+    public DiskUsagePage<PartitionDiskUsage> partitionPage(Order order, int offset, int limit) {
+        return page(order == Order.GROWTH ? partitionsByGrowth : partitionsBySize, offset, limit);
+    }
+
+    /**
+     * Every partition of one topic by partition id, or null if the topic had no replicas in this refresh.
+     */
+    public DiskUsagePage<PartitionDiskUsage> topicPartitions(String topic) {
+        List<PartitionDiskUsage> partitions = partitionsByTopic.get(topic);
+        return partitions == null ? null
+                : new DiskUsagePage<>(partitions, 0, partitions.size(), fetchedAt, previousFetchedAt);
+    }
+
+    private <T> DiskUsagePage<T> page(List<T> sorted, int offset, int limit) {
+        int from = Math.min(Math.max(offset, 0), sorted.size());
+        int to = Math.min(sorted.size(), from + Math.max(limit, 0));
+        return new DiskUsagePage<>(sorted.subList(from, to), from, sorted.size(), fetchedAt, previousFetchedAt);
+    }
+}
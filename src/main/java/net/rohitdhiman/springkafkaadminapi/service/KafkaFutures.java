@@ -0,0 +1,78 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import org.apache.kafka.common.KafkaFuture;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Bridges {@link KafkaFuture} results into {@link CompletableFuture}s without blocking a thread on {@code get()}.
+ */
+public final class KafkaFutures {
+
+    private KafkaFutures() {
+    }
+
+    /**
+     * Adapts a KafkaFuture. Completing the returned future early (cancellation or {@code orTimeout})
+     * cancels the underlying KafkaFuture so nothing keeps waiting on the broker's answer.
+     */
+    public static <T> CompletableFuture<T> toCompletable(KafkaFuture<T> kafkaFuture) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        kafkaFuture.whenComplete((value, error) -> {
+            if (error != null) {
+                future.completeExceptionally(unwrap(error));
+            } else {
+                future.complete(value);
+            }
+        });
+        future.whenComplete((value, error) -> {
+            if (!kafkaFuture.isDone()) {
+                kafkaFuture.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the value of a KafkaFuture that is known to be complete, e.g. inside {@link KafkaFuture#allOf}.
+     */
+    public static <T> T resolved(KafkaFuture<T> kafkaFuture) {
+        try {
+            return kafkaFuture.getNow(null);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            // Cannot happen for a completed future, but KafkaFuture.getNow declares it.
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Waits for every call and merges their maps into one. Fails if any call fails.
+     */
+    public static <K, V> CompletableFuture<Map<K, V>> allMerged(Collection<CompletableFuture<Map<K, V>>> calls) {
+        Map<K, V> merged = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] all = calls.stream()
+                .map(call -> call.thenAccept(merged::putAll))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(all).thenApply(ignored -> merged);
+    }
+
+    /**
+     * Strips the {@link CompletionException}/{@link ExecutionException} wrappers added by future composition.
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
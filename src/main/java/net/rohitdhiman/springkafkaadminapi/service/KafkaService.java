@@ -1,93 +1,422 @@
 package net.rohitdhiman.springkafkaadminapi.service;
 
+import net.rohitdhiman.springkafkaadminapi.config.AdminTimeoutProperties;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicOperationResult;
 import net.rohitdhiman.springkafkaadminapi.exception.TopicAlreadyExistsException;
 import org.apache.kafka.clients.admin.*;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.ElectionType;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
-import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
+/**
+ * Non-blocking facade over the AdminClient. Every method returns as soon as the request is queued;
+ * the returned future completes on the AdminClient's network thread, or fails with a
+ * {@link java.util.concurrent.TimeoutException} once the operation's configured deadline passes.
+ */
 @Service
 public class KafkaService {
 
+    // Result size of calls acting on a single topic.
+    private static final ToIntFunction<Object> ONE = ignored -> 1;
+
     private final AdminClient adminClient;
+    private final AdminTimeoutProperties timeouts;
+    private final AdminCallLimiter limiter;
+    private final AdminCallMetrics metrics;
 
-    public KafkaService(AdminClient adminClient) {
+    public KafkaService(AdminClient adminClient, AdminTimeoutProperties timeouts, AdminCallLimiter limiter,
+                        AdminCallMetrics metrics) {
         this.adminClient = adminClient;
+        this.timeouts = timeouts;
+        this.limiter = limiter;
+        this.metrics = metrics;
     }
 
-    public void createTopic(String topicName, Integer numPartitions, Short replicationFactor) throws ExecutionException, InterruptedException {
+    public CompletableFuture<Void> createTopic(String topicName, Integer numPartitions, Short replicationFactor) {
         int finalNumPartitions = (numPartitions != null) ? numPartitions : 1;
         short finalReplicationFactor = (replicationFactor != null) ? replicationFactor : 1;
         NewTopic newTopic = new NewTopic(topicName, finalNumPartitions, finalReplicationFactor);
-        CreateTopicsResult createTopicsResult = adminClient.createTopics(Collections.singleton(newTopic));
-        try {
-            createTopicsResult.all().get();
-        } catch (ExecutionException e) {
-            if (e.getCause() instanceof TopicExistsException) {
-                throw new TopicAlreadyExistsException("Topic '" + topicName + "' already exists.");
+        return execute(AdminOperation.CREATE_TOPICS, timeoutMs -> adminClient
+                .createTopics(Collections.singleton(newTopic), new CreateTopicsOptions().timeoutMs(timeoutMs))
+                .all(), ONE)
+                .exceptionally(error -> {
+                    Throwable cause = KafkaFutures.unwrap(error);
+                    if (cause instanceof TopicExistsException) {
+                        throw new TopicAlreadyExistsException("Topic '" + topicName + "' already exists.");
+                    }
+                    throw new CompletionException(cause);
+                });
+    }
+
+    /**
+     * Creates a batch of topics in one AdminClient call and reports each topic's outcome from its own
+     * future, so one bad spec does not fail the rest of the batch.
+     */
+    public CompletableFuture<List<TopicOperationResult>> createTopics(Collection<NewTopic> newTopics) {
+        return executeAsync(AdminOperation.CREATE_TOPICS, timeoutMs -> perTopicResults(
+                adminClient.createTopics(newTopics, new CreateTopicsOptions().timeoutMs(timeoutMs)).values(),
+                TopicOperationResult.Status.CREATED, TopicExistsException.class, TopicOperationResult.Status.EXISTS),
+                List::size);
+    }
+
+    public CompletableFuture<Set<String>> listTopics() {
+        return execute(AdminOperation.LIST_TOPICS, timeoutMs -> adminClient
+                .listTopics(new ListTopicsOptions().timeoutMs(timeoutMs))
+                .names(), Set::size);
+    }
+
+    public CompletableFuture<Map<String, TopicDescription>> describeTopics(Collection<String> topics) {
+        return execute(AdminOperation.DESCRIBE_TOPICS, timeoutMs -> adminClient
+                .describeTopics(topics, new DescribeTopicsOptions().timeoutMs(timeoutMs))
+                .allTopicNames(), KafkaService::partitionCount);
+    }
+
+    /**
+     * Describes the given topics in one AdminClient call, leaving out topics that do not exist instead of
+     * failing the whole batch. Any other per-topic error fails the returned future.
+     */
+    public CompletableFuture<Map<String, TopicDescription>> describeExistingTopics(Collection<String> topics) {
+        return executeAsync(AdminOperation.DESCRIBE_TOPICS, timeoutMs -> {
+            Map<String, KafkaFuture<TopicDescription>> values = adminClient
+                    .describeTopics(topics, new DescribeTopicsOptions().timeoutMs(timeoutMs))
+                    .topicNameValues();
+            Map<String, TopicDescription> found = new ConcurrentHashMap<>();
+            CompletableFuture<?>[] perTopic = values.entrySet().stream()
+                    .map(entry -> KafkaFutures.toCompletable(entry.getValue()).handle((description, error) -> {
+                        if (error == null) {
+                            found.put(entry.getKey(), description);
+                        } else if (!(KafkaFutures.unwrap(error) instanceof UnknownTopicOrPartitionException)) {
+                            throw new CompletionException(KafkaFutures.unwrap(error));
+                        }
+                        return null;
+                    }))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture<Map<String, TopicDescription>> result = CompletableFuture.allOf(perTopic)
+                    .thenApply(ignored -> Map.copyOf(found));
+            result.whenComplete((value, error) -> values.values().forEach(future -> future.cancel(true)));
+            return result;
+        }, KafkaService::partitionCount);
+    }
+
+    public CompletableFuture<Void> deleteTopic(String topicName) {
+        return execute(AdminOperation.DELETE_TOPICS, timeoutMs -> adminClient
+                .deleteTopics(Collections.singleton(topicName), new DeleteTopicsOptions().timeoutMs(timeoutMs))
+                .all(), ONE);
+    }
+
+    /**
+     * Deletes a batch of topics in one AdminClient call, reporting each topic's outcome separately.
+     */
+    public CompletableFuture<List<TopicOperationResult>> deleteTopics(Collection<String> topicNames) {
+        return executeAsync(AdminOperation.DELETE_TOPICS, timeoutMs -> perTopicResults(
+                adminClient.deleteTopics(topicNames, new DeleteTopicsOptions().timeoutMs(timeoutMs)).topicNameValues(),
+                TopicOperationResult.Status.DELETED, UnknownTopicOrPartitionException.class,
+                TopicOperationResult.Status.NOT_FOUND), List::size);
+    }
+
+    public CompletableFuture<ClusterInfo> describeCluster() {
+        return execute(AdminOperation.DESCRIBE_CLUSTER, timeoutMs -> {
+            DescribeClusterResult clusterResult = adminClient.describeCluster(new DescribeClusterOptions().timeoutMs(timeoutMs));
+            KafkaFuture<String> clusterId = clusterResult.clusterId();
+            KafkaFuture<Node> controller = clusterResult.controller();
+            KafkaFuture<Collection<Node>> nodes = clusterResult.nodes();
+            return KafkaFuture.allOf(clusterId, controller, nodes).thenApply(ignored -> toClusterInfo(
+                    KafkaFutures.resolved(clusterId), KafkaFutures.resolved(controller), KafkaFutures.resolved(nodes)));
+        }, cluster -> cluster.nodes().size());
+    }
+
+    public CompletableFuture<Collection<ConsumerGroupListing>> listConsumerGroups() {
+        return execute(AdminOperation.LIST_CONSUMER_GROUPS, timeoutMs -> adminClient
+                .listConsumerGroups(new ListConsumerGroupsOptions().timeoutMs(timeoutMs))
+                .all(), Collection::size);
+    }
+
+    public CompletableFuture<Map<String, ConsumerGroupDescription>> describeConsumerGroups(Collection<String> groupIds) {
+        return execute(AdminOperation.DESCRIBE_CONSUMER_GROUPS, timeoutMs -> adminClient
+                .describeConsumerGroups(groupIds, new DescribeConsumerGroupsOptions().timeoutMs(timeoutMs))
+                .all(), Map::size);
+    }
+
+    /**
+     * Describes many groups in one AdminClient call, leaving out groups whose description fails instead of
+     * failing the whole batch.
+     */
+    public CompletableFuture<Map<String, ConsumerGroupDescription>> describeEachConsumerGroup(
+            Collection<String> groupIds) {
+        return executeAsync(AdminOperation.DESCRIBE_CONSUMER_GROUPS, timeoutMs -> successfulValues(adminClient
+                .describeConsumerGroups(groupIds, new DescribeConsumerGroupsOptions().timeoutMs(timeoutMs))
+                .describedGroups()), Map::size);
+    }
+
+    /**
+     * Fetches the committed offsets of many groups in one AdminClient call (the client batches them per
+     * group coordinator). Groups whose lookup fails are left out; partitions without a committed offset
+     * are dropped.
+     */
+    public CompletableFuture<Map<String, Map<TopicPartition, OffsetAndMetadata>>> listConsumerGroupOffsets(
+            Collection<String> groupIds) {
+        return executeAsync(AdminOperation.LIST_CONSUMER_GROUP_OFFSETS, timeoutMs -> {
+            Map<String, ListConsumerGroupOffsetsSpec> specs = new HashMap<>();
+            for (String groupId : groupIds) {
+                specs.put(groupId, new ListConsumerGroupOffsetsSpec());
             }
-            throw e;
-        }
+            ListConsumerGroupOffsetsResult result = adminClient.listConsumerGroupOffsets(specs,
+                    new ListConsumerGroupOffsetsOptions().timeoutMs(timeoutMs));
+            Map<String, KafkaFuture<Map<TopicPartition, OffsetAndMetadata>>> perGroup = new HashMap<>();
+            for (String groupId : specs.keySet()) {
+                perGroup.put(groupId, result.partitionsToOffsetAndMetadata(groupId));
+            }
+            return successfulValues(perGroup).thenApply(offsets -> {
+                offsets.replaceAll((groupId, partitions) -> withoutNullValues(partitions));
+                return offsets;
+            });
+        }, offsets -> offsets.values().stream().mapToInt(Map::size).sum());
+    }
+
+    /**
+     * Commits new offsets for one group. The brokers refuse the commit while the group has active members.
+     */
+    public CompletableFuture<Void> alterConsumerGroupOffsets(String groupId,
+                                                             Map<TopicPartition, OffsetAndMetadata> offsets) {
+        return execute(AdminOperation.ALTER_CONSUMER_GROUP_OFFSETS, timeoutMs -> adminClient
+                .alterConsumerGroupOffsets(groupId, offsets, new AlterConsumerGroupOffsetsOptions().timeoutMs(timeoutMs))
+                .all(), ignored -> offsets.size());
     }
 
-    public ListTopicsResult listTopics() {
-        return adminClient.listTopics();
+    /**
+     * Looks up offsets of the given partitions (latest, earliest or by timestamp) in one AdminClient call.
+     * Partitions whose lookup fails are left out of the result.
+     */
+    public CompletableFuture<Map<TopicPartition, Long>> listOffsets(Collection<TopicPartition> partitions,
+                                                                     OffsetSpec offsetSpec) {
+        return executeAsync(AdminOperation.LIST_OFFSETS, timeoutMs -> {
+            Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                request.put(partition, offsetSpec);
+            }
+            ListOffsetsResult result = adminClient.listOffsets(request, new ListOffsetsOptions().timeoutMs(timeoutMs));
+            Map<TopicPartition, KafkaFuture<ListOffsetsResult.ListOffsetsResultInfo>> perPartition = new HashMap<>();
+            for (TopicPartition partition : request.keySet()) {
+                perPartition.put(partition, result.partitionResult(partition));
+            }
+            return successfulValues(perPartition).thenApply(infos -> {
+                Map<TopicPartition, Long> offsets = new HashMap<>(infos.size() * 2);
+                infos.forEach((partition, info) -> offsets.put(partition, info.offset()));
+                return offsets;
+            });
+        }, Map::size);
     }
 
-    // New method to describe topics.
-    public Map<String, TopicDescription> describeTopics(Collection<String> topics) throws ExecutionException, InterruptedException {
-        DescribeTopicsResult result = adminClient.describeTopics(topics);
-        return result.allTopicNames().get();
+    /**
+     * Starts (or, with an empty value, cancels) reassignments of the given partitions. Completes once the
+     * controller has accepted them, not when the data has moved.
+     */
+    public CompletableFuture<Void> alterPartitionReassignments(
+            Map<TopicPartition, Optional<NewPartitionReassignment>> reassignments) {
+        return execute(AdminOperation.ALTER_PARTITION_REASSIGNMENTS, timeoutMs -> adminClient
+                .alterPartitionReassignments(reassignments, new AlterPartitionReassignmentsOptions().timeoutMs(timeoutMs))
+                .all(), ignored -> reassignments.size());
     }
 
-    // New method to delete a topic.
-    public void deleteTopic(String topicName) throws ExecutionException, InterruptedException {
-        adminClient.deleteTopics(Collections.singleton(topicName)).all().get();
+    /**
+     * Reassignments still in progress among the given partitions; finished partitions are absent.
+     */
+    public CompletableFuture<Map<TopicPartition, PartitionReassignment>> listPartitionReassignments(
+            Set<TopicPartition> partitions) {
+        return execute(AdminOperation.LIST_PARTITION_REASSIGNMENTS, timeoutMs -> adminClient
+                .listPartitionReassignments(partitions, new ListPartitionReassignmentsOptions().timeoutMs(timeoutMs))
+                .reassignments(), Map::size);
     }
 
-    public net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo describeCluster() throws ExecutionException, InterruptedException {
-        DescribeClusterResult clusterResult = adminClient.describeCluster();
-        String clusterId = clusterResult.clusterId().get();
-        Node controller = clusterResult.controller().get();
-        Collection<Node> nodes = clusterResult.nodes().get();
-        
-        // Convert Node objects to NodeInfo DTOs
-        net.rohitdhiman.springkafkaadminapi.dto.NodeInfo controllerInfo = 
-            controller != null ? new net.rohitdhiman.springkafkaadminapi.dto.NodeInfo(controller) : null;
-        List<net.rohitdhiman.springkafkaadminapi.dto.NodeInfo> nodeInfoList = nodes.stream()
-            .map(net.rohitdhiman.springkafkaadminapi.dto.NodeInfo::new)
-            .collect(Collectors.toList());
-        
-        return new net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo(clusterId, controllerInfo, nodeInfoList);
+    /**
+     * Describes the configs of many topics or brokers in one AdminClient call. Resources whose describe fails
+     * (e.g. a topic that no longer exists) are left out of the result.
+     */
+    public CompletableFuture<Map<ConfigResource, Config>> describeConfigs(Collection<ConfigResource> resources) {
+        return executeAsync(AdminOperation.DESCRIBE_CONFIGS, timeoutMs -> successfulValues(adminClient
+                .describeConfigs(resources, new DescribeConfigsOptions().timeoutMs(timeoutMs))
+                .values()), Map::size);
+    }
+
+    /**
+     * Applies config changes to topics or brokers in one AdminClient call, or with {@code validateOnly} only has
+     * the brokers check them. Each resource maps to its error, or to an empty value if it succeeded.
+     */
+    public CompletableFuture<Map<ConfigResource, Optional<Throwable>>> incrementalAlterConfigs(
+            Map<ConfigResource, Collection<AlterConfigOp>> changes, boolean validateOnly) {
+        return executeAsync(AdminOperation.INCREMENTAL_ALTER_CONFIGS, timeoutMs -> outcomes(adminClient
+                .incrementalAlterConfigs(changes, new AlterConfigsOptions().validateOnly(validateOnly).timeoutMs(timeoutMs))
+                .values()), Map::size);
+    }
+
+    /**
+     * Applies config changes to topics or brokers in one AdminClient call. Fails if any resource fails.
+     */
+    public CompletableFuture<Void> incrementalAlterConfigs(Map<ConfigResource, Collection<AlterConfigOp>> changes) {
+        return execute(AdminOperation.INCREMENTAL_ALTER_CONFIGS, timeoutMs -> adminClient
+                .incrementalAlterConfigs(changes, new AlterConfigsOptions().timeoutMs(timeoutMs))
+                .all(), ignored -> changes.size());
+    }
+
+    /**
+     * Moves leadership of the given partitions back to their preferred (first) replica. Each partition maps to
+     * its error, or to an empty value if it was elected.
+     */
+    public CompletableFuture<Map<TopicPartition, Optional<Throwable>>> electPreferredLeaders(
+            Set<TopicPartition> partitions) {
+        return execute(AdminOperation.ELECT_LEADERS, timeoutMs -> adminClient
+                .electLeaders(ElectionType.PREFERRED, partitions, new ElectLeadersOptions().timeoutMs(timeoutMs))
+                .partitions(), Map::size);
+    }
+
+    /**
+     * Log directories of one broker with the size of every replica they hold. The result size recorded in the
+     * metrics is the number of replicas, since that is what makes the call heavy on large brokers.
+     */
+    public CompletableFuture<Map<String, LogDirDescription>> describeLogDirs(int brokerId) {
+        return execute(AdminOperation.DESCRIBE_LOG_DIRS, timeoutMs -> adminClient
+                .describeLogDirs(List.of(brokerId), new DescribeLogDirsOptions().timeoutMs(timeoutMs))
+                .descriptions().get(brokerId), dirs -> dirs.values().stream()
+                .mapToInt(dir -> dir.replicaInfos().size())
+                .sum());
+    }
+
+    /**
+     * Issues an AdminClient call through the concurrency limiter with the operation's deadline, both as the
+     * client-side request timeout (so the AdminClient stops retrying) and as a hard limit on the returned
+     * future. The deadline covers time spent queued for a permit. The call is recorded in
+     * {@link AdminCallMetrics}, with {@code resultSize} counting what a successful call returned.
+     */
+    private <T> CompletableFuture<T> execute(AdminOperation operation, IntFunction<KafkaFuture<T>> call,
+                                             ToIntFunction<? super T> resultSize) {
+        return executeAsync(operation, timeoutMs -> KafkaFutures.toCompletable(call.apply(timeoutMs)), resultSize);
     }
 
-    public Collection<ConsumerGroupListing> listConsumerGroups() throws ExecutionException, InterruptedException {
-        return adminClient.listConsumerGroups().all().get();
+    // Same as execute, for calls that combine several KafkaFutures themselves.
+    private <T> CompletableFuture<T> executeAsync(AdminOperation operation, IntFunction<CompletableFuture<T>> call,
+                                                  ToIntFunction<? super T> resultSize) {
+        Duration timeout = timeouts.forOperation(operation);
+        int timeoutMs = (int) Math.min(Integer.MAX_VALUE, timeout.toMillis());
+        AdminCallMetrics.Call tracked = metrics.track(operation);
+        CompletableFuture<T> result = limiter.submit(operation, () -> {
+                    tracked.start();
+                    return call.apply(timeoutMs);
+                })
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        // Recorded on the side: callers keep the limiter's future, whose completion also cancels the Kafka call.
+        result.whenComplete((value, error) -> tracked.complete(value, error, resultSize));
+        return result;
     }
 
-    public Map<String, ConsumerGroupDescription> describeConsumerGroups(Collection<String> groupIds) throws ExecutionException, InterruptedException {
-        return adminClient.describeConsumerGroups(groupIds).all().get();
+    private static int partitionCount(Map<String, TopicDescription> descriptions) {
+        int partitions = 0;
+        for (TopicDescription description : descriptions.values()) {
+            partitions += description.partitions().size();
+        }
+        return partitions;
     }
 
-    public Map<String, List<Integer>> findUnderReplicatedPartitions() throws ExecutionException, InterruptedException {
-        Collection<String> allTopicNames = adminClient.listTopics().names().get();
-        Map<String, TopicDescription> topicDescriptions = adminClient.describeTopics(allTopicNames).allTopicNames().get();
+    /**
+     * Waits for every future of a batch call and collects the values of those that succeeded.
+     */
+    private static <K, V> CompletableFuture<Map<K, V>> successfulValues(Map<K, KafkaFuture<V>> futures) {
+        Map<K, V> values = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] all = futures.entrySet().stream()
+                .map(entry -> KafkaFutures.toCompletable(entry.getValue()).handle((value, error) -> {
+                    if (error == null && value != null) {
+                        values.put(entry.getKey(), value);
+                    }
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture<Map<K, V>> result = CompletableFuture.allOf(all).thenApply(ignored -> new HashMap<>(values));
+        result.whenComplete((value, error) -> futures.values().forEach(future -> future.cancel(true)));
+        return result;
+    }
 
-        return topicDescriptions.values().stream()
-                .filter(description -> description.partitions().stream()
-                        .anyMatch(partitionInfo -> partitionInfo.isr().size() < partitionInfo.replicas().size()))
-                .collect(Collectors.toMap(TopicDescription::name,
-                        description -> description.partitions().stream()
-                                .filter(partitionInfo -> partitionInfo.isr().size() < partitionInfo.replicas().size())
-                                .map(TopicPartitionInfo::partition)
-                                .collect(Collectors.toList())));
+    /**
+     * Waits for every future of a batch call and maps each key to its error, or to an empty value on success.
+     */
+    private static <K> CompletableFuture<Map<K, Optional<Throwable>>> outcomes(Map<K, KafkaFuture<Void>> futures) {
+        Map<K, Optional<Throwable>> outcomes = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] all = futures.entrySet().stream()
+                .map(entry -> KafkaFutures.toCompletable(entry.getValue()).handle((ignored, error) -> {
+                    outcomes.put(entry.getKey(), error == null ? Optional.empty() : Optional.of(KafkaFutures.unwrap(error)));
+                    return null;
+                }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture<Map<K, Optional<Throwable>>> result = CompletableFuture.allOf(all)
+                .thenApply(ignored -> new HashMap<>(outcomes));
+        result.whenComplete((value, error) -> futures.values().forEach(future -> future.cancel(true)));
+        return result;
+    }
+
+    private static <K, V> Map<K, V> withoutNullValues(Map<K, V> map) {
+        Map<K, V> copy = new HashMap<>(map.size() * 2);
+        map.forEach((key, value) -> {
+            if (value != null) {
+                copy.put(key, value);
+            }
+        });
+        return copy;
+    }
+
+    /**
+     * Waits for every per-topic future of a batch call and maps it to a result: {@code success} when it
+     * completes, {@code expectedStatus} when it fails with {@code expectedError}, FAILED otherwise.
+     */
+    private static CompletableFuture<List<TopicOperationResult>> perTopicResults(
+            Map<String, KafkaFuture<Void>> values, TopicOperationResult.Status success,
+            Class<? extends Throwable> expectedError, TopicOperationResult.Status expectedStatus) {
+        List<CompletableFuture<TopicOperationResult>> perTopic = new ArrayList<>(values.size());
+        values.forEach((topicName, future) -> perTopic.add(KafkaFutures.toCompletable(future).handle((ignored, error) -> {
+            if (error == null) {
+                return TopicOperationResult.of(topicName, success);
+            }
+            Throwable cause = KafkaFutures.unwrap(error);
+            if (expectedError.isInstance(cause)) {
+                return TopicOperationResult.of(topicName, expectedStatus);
+            }
+            return TopicOperationResult.failed(topicName, cause.getMessage());
+        })));
+        CompletableFuture<List<TopicOperationResult>> result = CompletableFuture
+                .allOf(perTopic.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> perTopic.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+        result.whenComplete((value, error) -> values.values().forEach(future -> future.cancel(true)));
+        return result;
+    }
+
+    private static ClusterInfo toClusterInfo(String clusterId, Node controller, Collection<Node> nodes) {
+        // Convert Node objects to NodeInfo DTOs
+        NodeInfo controllerInfo = controller != null ? new NodeInfo(controller) : null;
+        List<NodeInfo> nodeInfoList = nodes.stream()
+                .map(NodeInfo::new)
+                .collect(Collectors.toList());
+        return new ClusterInfo(clusterId, controllerInfo, nodeInfoList);
     }
 }
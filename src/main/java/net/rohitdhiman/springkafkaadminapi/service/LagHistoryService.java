@@ -0,0 +1,133 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLagSummary;
+import net.rohitdhiman.springkafkaadminapi.dto.HistoryBucket;
+import net.rohitdhiman.springkafkaadminapi.dto.SeriesHistory;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * History of consumer group lag and topic throughput, sampled on every {@link ConsumerLagService} refresh.
+ * <p>
+ * Each refresh adds one sample of total lag per group and of summed end offsets per topic to a
+ * {@link TimeSeriesStore}. The samples are added straight into the store's rings, with a topic's partitions
+ * summed in place, so a refresh builds no maps of boxed values. The last {@code kafka.admin.history.capacity}
+ * samples are kept. Range queries cover {@code [from, to)} and reduce the samples to at most the requested
+ * number of equal-width buckets. Throughput is derived at query time from the growth of a topic's end
+ * offsets between consecutive samples.
+ */
+@Service
+public class LagHistoryService {
+
+    public static final int MAX_BUCKETS = 1000;
+
+    private final TimeSeriesStore groupLag;
+    private final TimeSeriesStore topicEndOffsets;
+
+    public LagHistoryService(@Value("${kafka.admin.history.capacity:240}") int capacity, MeterRegistry meterRegistry) {
+        this.groupLag = new TimeSeriesStore(capacity);
+        this.topicEndOffsets = new TimeSeriesStore(capacity);
+        Gauge.builder("kafka.admin.history.series", groupLag, TimeSeriesStore::seriesCount)
+                .description("Series held in the lag and throughput history")
+                .tag("kind", "group-lag")
+                .register(meterRegistry);
+        Gauge.builder("kafka.admin.history.series", topicEndOffsets, TimeSeriesStore::seriesCount)
+                .description("Series held in the lag and throughput history")
+                .tag("kind", "topic-end-offset")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onLagSnapshot(ConsumerLagSnapshot snapshot) {
+        long at = snapshot.computedAt().toEpochMilli();
+        groupLag.append(at, tick -> {
+            for (GroupLagSummary group : snapshot.ranked()) {
+                tick.add(group.groupId(), group.lag());
+            }
+        });
+        topicEndOffsets.append(at, tick -> snapshot.endOffsets()
+                .forEach((partition, offset) -> tick.add(partition.topic(), offset)));
+    }
+
+    public SeriesHistory groupLag(String groupId, Instant from, Instant to, int buckets) {
+        validate(from, to, buckets);
+        TimeSeriesStore.Samples samples = groupLag.read(groupId, from.toEpochMilli(), to.toEpochMilli() - 1);
+        double[] values = new double[samples.count()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = samples.values()[i];
+        }
+        return downsample(groupId, "messages", samples.timestamps(), values, values.length, from, to, buckets);
+    }
+
+    /**
+     * Messages per second appended to the topic, from the end offsets of consecutive samples. An interval
+     * in which the end offsets went down (the topic was recreated) yields no rate.
+     */
+    public SeriesHistory topicThroughput(String topic, Instant from, Instant to, int buckets) {
+        validate(from, to, buckets);
+        TimeSeriesStore.Samples samples = topicEndOffsets.read(topic, from.toEpochMilli(), to.toEpochMilli() - 1);
+        long[] times = samples.timestamps();
+        long[] offsets = samples.values();
+        long[] rateTimes = new long[Math.max(0, samples.count() - 1)];
+        double[] rates = new double[rateTimes.length];
+        int count = 0;
+        for (int i = 1; i < samples.count(); i++) {
+            long elapsedMs = times[i] - times[i - 1];
+            long appended = offsets[i] - offsets[i - 1];
+            if (elapsedMs > 0 && appended >= 0) {
+                rateTimes[count] = times[i];
+                rates[count] = appended * 1000.0 / elapsedMs;
+                count++;
+            }
+        }
+        return downsample(topic, "messages/s", rateTimes, rates, count, from, to, buckets);
+    }
+
+    static SeriesHistory downsample(String series, String unit, long[] times, double[] values, int count,
+                                    Instant from, Instant to, int buckets) {
+        long fromMs = from.toEpochMilli();
+        long span = to.toEpochMilli() - fromMs;
+        long bucketMs = Math.max(1, (span + buckets - 1) / buckets);
+
+        double[] min = new double[buckets];
+        double[] max = new double[buckets];
+        double[] sum = new double[buckets];
+        int[] samples = new int[buckets];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        for (int i = 0; i < count; i++) {
+            int bucket = (int) ((times[i] - fromMs) / bucketMs);
+            min[bucket] = Math.min(min[bucket], values[i]);
+            max[bucket] = Math.max(max[bucket], values[i]);
+            sum[bucket] += values[i];
+            samples[bucket]++;
+        }
+
+        List<HistoryBucket> result = new ArrayList<>();
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            if (samples[bucket] > 0) {
+                result.add(new HistoryBucket(Instant.ofEpochMilli(fromMs + bucket * bucketMs),
+                        min[bucket], max[bucket], sum[bucket] / samples[bucket], samples[bucket]));
+            }
+        }
+        return new SeriesHistory(series, unit, from, to, bucketMs, List.copyOf(result));
+    }
+
+    private static void validate(Instant from, Instant to, int buckets) {
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestException("from must be before to.");
+        }
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new InvalidRequestException("buckets must be between 1 and " + MAX_BUCKETS + ".");
+        }
+    }
+}
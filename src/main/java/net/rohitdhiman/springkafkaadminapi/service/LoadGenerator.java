@@ -0,0 +1,404 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import jakarta.annotation.PreDestroy;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestRequest.KeyDistribution;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestStatus.Latency;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestStatus.State;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.exception.LoadTestInProgressException;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Produces synthetic records to a topic to load test it, at a target rate or as fast as the producer accepts them.
+ * <p>
+ * Runs share one producer tuned for throughput ({@code kafka.admin.load.*}: large batches, a short linger,
+ * compression). Batching, linger, compression and acks are fixed per producer, so a run that overrides any of
+ * them gets its own producer, closed when the run ends. Payloads are built once per run: the value is one array
+ * of random bytes and the keys are a preallocated table, so sending a record allocates only the
+ * {@link ProducerRecord} and its callback.
+ * <p>
+ * Acknowledgement latencies go into an HdrHistogram {@link Recorder} from the producer's I/O thread, without
+ * locking; the status folds them into percentiles. One run executes at a time; cancelling stops sending and waits
+ * for the records in flight.
+ */
+@Service
+public class LoadGenerator {
+
+    static final Set<String> COMPRESSION_TYPES = Set.of("none", "gzip", "snappy", "lz4", "zstd");
+    static final Set<String> ACKS = Set.of("0", "1", "all", "-1");
+
+    private static final long DEFAULT_RECORDS = 100_000;
+    private static final int DEFAULT_VALUE_SIZE = 1024;
+
+    private final Function<ProducerSettings, Producer<byte[], byte[]>> producerFactory;
+    private final Executor executor;
+    private final ProducerSettings defaults;
+    private final long maxRecords;
+    private final Duration maxDuration;
+    private final int maxValueSize;
+    private final int maxKeys;
+    private final Clock clock;
+
+    private final AtomicReference<Run> current = new AtomicReference<>();
+    private Producer<byte[], byte[]> sharedProducer;
+
+    @Autowired
+    public LoadGenerator(@Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+                         @Qualifier("applicationTaskExecutor") Executor executor,
+                         @Value("${kafka.admin.load.batch-size:262144}") int batchSize,
+                         @Value("${kafka.admin.load.linger-ms:10}") int lingerMs,
+                         @Value("${kafka.admin.load.compression:lz4}") String compression,
+                         @Value("${kafka.admin.load.acks:all}") String acks,
+                         @Value("${kafka.admin.load.buffer-memory:67108864}") long bufferMemory,
+                         @Value("${kafka.admin.load.max-records:10000000}") long maxRecords,
+                         @Value("${kafka.admin.load.max-duration-ms:600000}") long maxDurationMs,
+                         @Value("${kafka.admin.load.max-value-size:1048576}") int maxValueSize,
+                         @Value("${kafka.admin.load.max-keys:1000000}") int maxKeys) {
+        this(producerFactory(bootstrapServers, bufferMemory), executor,
+                new ProducerSettings(batchSize, lingerMs, compression, acks), maxRecords,
+                Duration.ofMillis(maxDurationMs), maxValueSize, maxKeys, Clock.systemUTC());
+    }
+
+    LoadGenerator(Function<ProducerSettings, Producer<byte[], byte[]>> producerFactory, Executor executor,
+                  ProducerSettings defaults, long maxRecords, Duration maxDuration, int maxValueSize, int maxKeys,
+                  Clock clock) {
+        this.producerFactory = producerFactory;
+        this.executor = executor;
+        this.defaults = defaults;
+        this.maxRecords = maxRecords;
+        this.maxDuration = maxDuration;
+        this.maxValueSize = maxValueSize;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /** The producer settings a run may choose; everything else is the shared producer's. */
+    record ProducerSettings(int batchSize, int lingerMs, String compression, String acks) {}
+
+    private static Function<ProducerSettings, Producer<byte[], byte[]>> producerFactory(String bootstrapServers,
+                                                                                        long bufferMemory) {
+        AtomicInteger clientIds = new AtomicInteger();
+        return settings -> {
+            Properties props = new Properties();
+            props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+            props.put(ProducerConfig.CLIENT_ID_CONFIG, "kafka-admin-api-load-" + clientIds.incrementAndGet());
+            props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+            props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+            props.put(ProducerConfig.BATCH_SIZE_CONFIG, settings.batchSize());
+            props.put(ProducerConfig.LINGER_MS_CONFIG, settings.lingerMs());
+            props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, settings.compression());
+            props.put(ProducerConfig.ACKS_CONFIG, settings.acks());
+            props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+            // Idempotence needs acks=all; the load test measures the producer as configured, not exactly-once.
+            props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+            return new KafkaProducer<>(props);
+        };
+    }
+
+    /**
+     * Starts producing to {@code topic} and returns the run's initial status.
+     *
+     * @throws InvalidRequestException      if the request is out of bounds
+     * @throws LoadTestInProgressException if a run is already producing
+     */
+    public LoadTestStatus start(String topic, LoadTestRequest request) {
+        Run run = new Run(topic, validate(request), clock.instant());
+        Run previous = current.get();
+        if ((previous != null && !previous.finished()) || !current.compareAndSet(previous, run)) {
+            throw new LoadTestInProgressException("A load test is already running; cancel it or wait for it.");
+        }
+        try {
+            executor.execute(run::produce);
+        } catch (RejectedExecutionException e) {
+            run.finish(State.FAILED, "Could not start the load test: " + e.getMessage());
+        }
+        return run.status();
+    }
+
+    /** Status of the running or most recent run on {@code topic}, or null if there is none. */
+    public LoadTestStatus status(String topic) {
+        Run run = current.get();
+        return run != null && run.topic.equals(topic) ? run.status() : null;
+    }
+
+    /** Asks the run on {@code topic} to stop. Returns its status, or null if nothing is running on it. */
+    public LoadTestStatus cancel(String topic) {
+        Run run = current.get();
+        if (run == null || !run.topic.equals(topic) || run.finished()) {
+            return null;
+        }
+        run.cancelRequested = true;
+        return run.status();
+    }
+
+    @PreDestroy
+    public void close() {
+        Run run = current.get();
+        if (run != null) {
+            run.cancelRequested = true;
+        }
+        synchronized (this) {
+            if (sharedProducer != null) {
+                sharedProducer.close(Duration.ofSeconds(5));
+                sharedProducer = null;
+            }
+        }
+    }
+
+    private synchronized Producer<byte[], byte[]> sharedProducer() {
+        if (sharedProducer == null) {
+            sharedProducer = producerFactory.apply(defaults);
+        }
+        return sharedProducer;
+    }
+
+    private Plan validate(LoadTestRequest request) {
+        if (request.records() != null && (request.records() < 1 || request.records() > maxRecords)) {
+            throw new InvalidRequestException("records must be between 1 and " + maxRecords + ".");
+        }
+        if (request.durationMs() != null && (request.durationMs() < 1
+                || request.durationMs() > maxDuration.toMillis())) {
+            throw new InvalidRequestException("durationMs must be between 1 and " + maxDuration.toMillis() + ".");
+        }
+        if (request.recordsPerSecond() != null && request.recordsPerSecond() < 1) {
+            throw new InvalidRequestException("recordsPerSecond must be positive.");
+        }
+        int valueSize = request.valueSize() != null ? request.valueSize() : Math.min(DEFAULT_VALUE_SIZE, maxValueSize);
+        if (valueSize < 0 || valueSize > maxValueSize) {
+            throw new InvalidRequestException("valueSize must be between 0 and " + maxValueSize + ".");
+        }
+        int keyCount = request.keyCount() != null ? request.keyCount() : 0;
+        if (keyCount < 0 || keyCount > maxKeys) {
+            throw new InvalidRequestException("keyCount must be between 0 and " + maxKeys + ".");
+        }
+        if (request.keyDistribution() != null && keyCount == 0) {
+            throw new InvalidRequestException("keyDistribution needs a keyCount.");
+        }
+        if (request.batchSize() != null && request.batchSize() < 0) {
+            throw new InvalidRequestException("batchSize must not be negative.");
+        }
+        if (request.lingerMs() != null && request.lingerMs() < 0) {
+            throw new InvalidRequestException("lingerMs must not be negative.");
+        }
+        if (request.compression() != null && !COMPRESSION_TYPES.contains(request.compression())) {
+            throw new InvalidRequestException("compression must be one of " + COMPRESSION_TYPES + ".");
+        }
+        if (request.acks() != null && !ACKS.contains(request.acks())) {
+            throw new InvalidRequestException("acks must be one of " + ACKS + ".");
+        }
+
+        long records = request.records() != null ? request.records()
+                : request.durationMs() != null ? maxRecords : Math.min(DEFAULT_RECORDS, maxRecords);
+        Duration duration = request.durationMs() != null ? Duration.ofMillis(request.durationMs()) : maxDuration;
+        ProducerSettings settings = new ProducerSettings(
+                request.batchSize() != null ? request.batchSize() : defaults.batchSize(),
+                request.lingerMs() != null ? request.lingerMs() : defaults.lingerMs(),
+                request.compression() != null ? request.compression() : defaults.compression(),
+                request.acks() != null ? request.acks() : defaults.acks());
+        KeyDistribution distribution = request.keyDistribution() != null ? request.keyDistribution()
+                : KeyDistribution.SEQUENTIAL;
+        return new Plan(records, duration, request.recordsPerSecond(), valueSize, keyCount, distribution, settings);
+    }
+
+    private record Plan(long records, Duration duration, Integer recordsPerSecond, int valueSize, int keyCount,
+                        KeyDistribution keyDistribution, ProducerSettings settings) {}
+
+    /**
+     * Preallocated keys, and for {@link KeyDistribution#ZIPF} the cumulative probability of each, so picking a
+     * key allocates nothing.
+     */
+    static final class Keys {
+
+        private final byte[][] keys;
+        private final KeyDistribution distribution;
+        private final double[] cumulative;
+
+        Keys(int count, KeyDistribution distribution) {
+            this.keys = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                keys[i] = ("key-" + i).getBytes(StandardCharsets.UTF_8);
+            }
+            this.distribution = distribution;
+            this.cumulative = distribution == KeyDistribution.ZIPF ? zipf(count) : null;
+        }
+
+        /** The key of the {@code sequence}th record, or null when the records have no keys. */
+        byte[] next(long sequence) {
+            if (keys.length == 0) {
+                return null;
+            }
+            return switch (distribution) {
+                case SEQUENTIAL -> keys[(int) (sequence % keys.length)];
+                case UNIFORM -> keys[ThreadLocalRandom.current().nextInt(keys.length)];
+                case ZIPF -> {
+                    int at = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+                    yield keys[Math.min(at < 0 ? -at - 1 : at, keys.length - 1)];
+                }
+            };
+        }
+
+        private static double[] zipf(int count) {
+            double[] cumulative = new double[count];
+            double sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += 1.0 / (i + 1);
+                cumulative[i] = sum;
+            }
+            for (int i = 0; i < count; i++) {
+                cumulative[i] /= sum;
+            }
+            return cumulative;
+        }
+    }
+
+    // Written by the generating thread and the producer's I/O thread; read by status requests.
+    private final class Run {
+
+        private final String topic;
+        private final Plan plan;
+        private final Instant startedAt;
+        private final LongAdder acknowledged = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final AtomicReference<String> firstError = new AtomicReference<>();
+        // Microseconds from send to acknowledgement; up to an hour, to 3 significant digits.
+        private final Recorder recorder = new Recorder(TimeUnit.HOURS.toMicros(1), 3);
+        private final Histogram latencies = new Histogram(TimeUnit.HOURS.toMicros(1), 3);
+        private Histogram interval;
+
+        private volatile long startNanos = System.nanoTime();
+        private volatile long sent;
+        private volatile boolean cancelRequested;
+        private volatile State state = State.RUNNING;
+        private volatile long finishNanos;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        Run(String topic, Plan plan, Instant startedAt) {
+            this.topic = topic;
+            this.plan = plan;
+            this.startedAt = startedAt;
+        }
+
+        void produce() {
+            boolean dedicated = !plan.settings().equals(defaults);
+            Producer<byte[], byte[]> producer = null;
+            try {
+                producer = dedicated ? producerFactory.apply(plan.settings()) : sharedProducer();
+                send(producer);
+                producer.flush();
+                finish(cancelRequested ? State.CANCELLED : State.COMPLETED, firstError.get());
+            } catch (Exception e) {
+                finish(State.FAILED, KafkaFutures.unwrap(e).toString());
+            } finally {
+                if (dedicated && producer != null) {
+                    producer.close(Duration.ofSeconds(5));
+                }
+            }
+        }
+
+        private void send(Producer<byte[], byte[]> producer) {
+            byte[] value = new byte[plan.valueSize()];
+            ThreadLocalRandom.current().nextBytes(value);
+            Keys keys = new Keys(plan.keyCount(), plan.keyDistribution());
+            double nanosPerRecord = plan.recordsPerSecond() != null ? 1e9 / plan.recordsPerSecond() : 0;
+
+            startNanos = System.nanoTime();
+            long deadline = startNanos + plan.duration().toNanos();
+            for (long i = 0; i < plan.records() && !cancelRequested; i++) {
+                long now = System.nanoTime();
+                if (nanosPerRecord > 0) {
+                    // Pace against the start rather than the previous send, so pauses are caught up.
+                    long wait = startNanos + (long) (i * nanosPerRecord) - now;
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                        now = System.nanoTime();
+                    }
+                }
+                if (now - deadline >= 0) {
+                    break;
+                }
+                byte[] key = keys.next(i);
+                int size = value.length + (key != null ? key.length : 0);
+                long sentAt = System.nanoTime();
+                producer.send(new ProducerRecord<>(topic, key, value), (metadata, exception) -> {
+                    if (exception != null) {
+                        failed.increment();
+                        firstError.compareAndSet(null, exception.toString());
+                    } else {
+                        recorder.recordValue(Math.max(0, (System.nanoTime() - sentAt) / 1000));
+                        acknowledged.increment();
+                        bytes.add(size);
+                    }
+                });
+                sent = i + 1;
+            }
+        }
+
+        boolean finished() {
+            return finishedAt != null;
+        }
+
+        void finish(State state, String error) {
+            this.finishNanos = System.nanoTime();
+            this.state = state;
+            this.error = error;
+            this.finishedAt = clock.instant();
+        }
+
+        synchronized LoadTestStatus status() {
+            interval = recorder.getIntervalHistogram(interval);
+            latencies.add(interval);
+
+            long end = finished() ? finishNanos : System.nanoTime();
+            double seconds = Math.max(end - startNanos, 1) / 1e9;
+            long acked = acknowledged.sum();
+            long ackedBytes = bytes.sum();
+            Latency latency = latencies.getTotalCount() == 0 ? null : new Latency(
+                    millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(95)),
+                    millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()), round(latencies.getMean() / 1000));
+            State reported = state == State.RUNNING && cancelRequested ? State.CANCELLING : state;
+            return new LoadTestStatus(topic, reported, plan.records(), plan.recordsPerSecond(), sent, acked,
+                    failed.sum(), ackedBytes, round(acked / seconds), round(ackedBytes / 1e6 / seconds), latency,
+                    startedAt, finishedAt, error);
+        }
+
+        private static double millis(long micros) {
+            return round(micros / 1000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
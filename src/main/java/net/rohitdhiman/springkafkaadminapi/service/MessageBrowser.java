@@ -0,0 +1,555 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Reads records from a topic with consumers of the {@link ConsumerPool}.
+ * <p>
+ * A read is planned first: one consumer looks up the beginning and end offsets (and the offsets for a timestamp)
+ * of the selected partitions, and the record limit is shared out between them. Without a partition, each
+ * partition gets an even share and shares that a short partition cannot fill go to the others, so "the last 100"
+ * of a topic is the newest records of every partition rather than of whichever partition answers first.
+ * <p>
+ * The planned ranges are then read with up to {@code kafka.admin.messages.parallelism} consumers at once, each
+ * polling its own partitions. Records are handed to the caller's {@link RecordSink} one at a time as they arrive
+ * (through a small bounded queue when reading in parallel), so a read never collects its records before writing
+ * them. The record limit and {@code kafka.admin.messages.max-bytes} are hard limits, and a read stops after
+ * {@code kafka.admin.messages.max-wait-ms} with whatever it has written.
+ */
+@Service
+public class MessageBrowser {
+
+    private static final Duration MAX_POLL = Duration.ofMillis(500);
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final ConsumerPool pool;
+    private final Executor executor;
+    private final int maxRecords;
+    private final long maxBytes;
+    private final int parallelism;
+    private final Duration maxWait;
+
+    @Autowired
+    public MessageBrowser(ConsumerPool pool,
+                          @Value("${kafka.admin.messages.max-records:1000}") int maxRecords,
+                          @Value("${kafka.admin.messages.max-bytes:8388608}") long maxBytes,
+                          @Value("${kafka.admin.messages.parallelism:4}") int parallelism,
+                          @Value("${kafka.admin.messages.max-wait-ms:10000}") long maxWaitMs) {
+        this(pool, pool.readers(), maxRecords, maxBytes, parallelism, Duration.ofMillis(maxWaitMs));
+    }
+
+    MessageBrowser(ConsumerPool pool, Executor executor, int maxRecords, long maxBytes, int parallelism,
+                   Duration maxWait) {
+        this.pool = pool;
+        this.executor = executor;
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+        this.parallelism = Math.max(1, Math.min(parallelism, pool.size()));
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * What to read. {@code offset} and {@code timestamp} are start positions; with neither, the last
+     * {@code limit} records are read.
+     */
+    public record Query(String topic, List<Integer> partitions, Long offset, Long timestamp, int limit,
+                        long maxBytes) {}
+
+    /** Offsets {@code from} (inclusive) to {@code to} (exclusive) of one partition. */
+    public record Range(int partition, long from, long to) {
+
+        long size() {
+            return to - from;
+        }
+    }
+
+    public enum Outcome {
+        /** Every planned record was read. */
+        COMPLETE,
+        /** The next record would have passed the byte limit. */
+        BYTE_LIMIT,
+        /** {@code max-wait-ms} passed before every planned record was read. */
+        TIME_LIMIT,
+        /** A consumer failed; the records written before the failure stand. */
+        FAILED
+    }
+
+    /**
+     * @param nextOffsets per partition, the offset after the last record written
+     */
+    public record Result(int records, long bytes, Outcome outcome, String error, Map<Integer, Long> nextOffsets) {}
+
+    @FunctionalInterface
+    public interface RecordSink {
+        void write(ConsumerRecord<byte[], byte[]> record) throws IOException;
+    }
+
+    /**
+     * Validates a request against the topic's partition count and the configured limits.
+     */
+    public Query query(String topic, int partitionCount, Integer partition, Long offset, Long timestamp,
+                       Integer limit, Long maxBytes) {
+        if (partition != null && (partition < 0 || partition >= partitionCount)) {
+            throw new InvalidRequestException(
+                    "Topic '" + topic + "' has partitions 0 to " + (partitionCount - 1) + ".");
+        }
+        if (offset != null && timestamp != null) {
+            throw new InvalidRequestException("Give either offset or timestamp, not both.");
+        }
+        if (offset != null && partition == null) {
+            throw new InvalidRequestException("offset needs a partition.");
+        }
+        if (offset != null && offset < 0) {
+            throw new InvalidRequestException("offset must not be negative.");
+        }
+        if (timestamp != null && timestamp < 0) {
+            throw new InvalidRequestException("timestamp must not be negative.");
+        }
+        int records = limit == null ? Math.min(50, maxRecords) : limit;
+        if (records < 1 || records > maxRecords) {
+            throw new InvalidRequestException("limit must be between 1 and " + maxRecords + ".");
+        }
+        long bytes = maxBytes == null ? this.maxBytes : maxBytes;
+        if (bytes < 1 || bytes > this.maxBytes) {
+            throw new InvalidRequestException("maxBytes must be between 1 and " + this.maxBytes + ".");
+        }
+        List<Integer> partitions = new ArrayList<>();
+        if (partition != null) {
+            partitions.add(partition);
+        } else {
+            for (int i = 0; i < partitionCount; i++) {
+                partitions.add(i);
+            }
+        }
+        return new Query(topic, partitions, offset, timestamp, records, bytes);
+    }
+
+    /**
+     * Looks up the offsets to read, off the calling thread. Partitions with nothing to read are left out.
+     * Fails with a {@link TimeoutException} if no consumer is free within {@code max-wait-ms}.
+     */
+    public CompletableFuture<List<Range>> plan(Query query) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (ConsumerPool.Lease lease = pool.borrow(maxWait)) {
+                try {
+                    return plan(lease.consumer(), query);
+                } catch (RuntimeException e) {
+                    lease.discard();
+                    throw e;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (TimeoutException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    List<Range> plan(Consumer<byte[], byte[]> consumer, Query query) {
+        List<TopicPartition> partitions = new ArrayList<>(query.partitions().size());
+        for (int partition : query.partitions()) {
+            partitions.add(new TopicPartition(query.topic(), partition));
+        }
+        Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions, maxWait);
+        Map<TopicPartition, Long> end = consumer.endOffsets(partitions, maxWait);
+        Map<TopicPartition, OffsetAndTimestamp> byTime = null;
+        if (query.timestamp() != null) {
+            Map<TopicPartition, Long> timestamps = new HashMap<>();
+            partitions.forEach(partition -> timestamps.put(partition, query.timestamp()));
+            byTime = consumer.offsetsForTimes(timestamps, maxWait);
+        }
+
+        long[] starts = new long[partitions.size()];
+        long[] available = new long[partitions.size()];
+        for (int i = 0; i < partitions.size(); i++) {
+            TopicPartition partition = partitions.get(i);
+            long first = beginning.getOrDefault(partition, 0L);
+            long last = end.getOrDefault(partition, first);
+            long start = first;
+            if (query.offset() != null) {
+                start = Math.min(Math.max(query.offset(), first), last);
+            } else if (byTime != null) {
+                OffsetAndTimestamp found = byTime.get(partition);
+                start = found == null ? last : Math.max(found.offset(), first);
+            }
+            starts[i] = start;
+            available[i] = Math.max(0, last - start);
+        }
+
+        long[] shares = allocate(available, query.limit());
+        boolean latest = query.offset() == null && query.timestamp() == null;
+        List<Range> ranges = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            if (shares[i] == 0) {
+                continue;
+            }
+            long from = latest ? starts[i] + available[i] - shares[i] : starts[i];
+            ranges.add(new Range(partitions.get(i).partition(), from, from + shares[i]));
+        }
+        return ranges;
+    }
+
+    /**
+     * Shares {@code total} between partitions with the given number of available records: evenly, with what a
+     * partition cannot take passed on to the others, until the total or every partition is used up.
+     */
+    static long[] allocate(long[] available, long total) {
+        long[] shares = new long[available.length];
+        int open = 0;
+        for (long count : available) {
+            if (count > 0) {
+                open++;
+            }
+        }
+        long left = total;
+        while (left > 0 && open > 0) {
+            long each = Math.max(1, left / open);
+            for (int i = 0; i < available.length && left > 0; i++) {
+                long room = available[i] - shares[i];
+                if (room <= 0) {
+                    continue;
+                }
+                long take = Math.min(Math.min(each, room), left);
+                shares[i] += take;
+                left -= take;
+                if (take == room) {
+                    open--;
+                }
+            }
+        }
+        return shares;
+    }
+
+    /**
+     * Reads the planned ranges and writes each record to {@code sink} as it arrives, on the calling thread.
+     * Consumer failures end the read with {@link Outcome#FAILED}; only a failing sink throws.
+     */
+    public Result read(Query query, List<Range> ranges, RecordSink sink) throws IOException {
+        Collector collector = new Collector(query, sink);
+        if (ranges.isEmpty()) {
+            return collector.result();
+        }
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        List<ConsumerPool.Lease> leases = new ArrayList<>();
+        try {
+            leases.add(pool.borrow(maxWait));
+            // More consumers only if they are free now; a busy pool reads with fewer.
+            while (leases.size() < Math.min(parallelism, ranges.size())) {
+                ConsumerPool.Lease lease = pool.tryBorrow();
+                if (lease == null) {
+                    break;
+                }
+                leases.add(lease);
+            }
+            List<List<Range>> groups = split(ranges, leases.size());
+            if (groups.size() == 1) {
+                readAlone(query.topic(), leases.get(0), groups.get(0), deadline, collector);
+            } else {
+                readInParallel(query.topic(), leases, groups, deadline, collector);
+            }
+        } catch (TimeoutException e) {
+            collector.fail(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading records");
+        } finally {
+            leases.forEach(ConsumerPool.Lease::close);
+        }
+        return collector.result();
+    }
+
+    private void readAlone(String topic, ConsumerPool.Lease lease, List<Range> ranges, long deadline,
+                           Collector collector) throws IOException {
+        try {
+            if (!poll(lease.consumer(), topic, ranges, deadline, collector::accept, () -> false)) {
+                collector.timedOut();
+            }
+        } catch (RuntimeException e) {
+            lease.discard();
+            collector.fail(e);
+        }
+    }
+
+    // Readers hand records to this thread through a bounded queue and end with a true/false (done or timed out)
+    // or their exception. This thread stops waiting for them at the deadline; the queue is then still drained
+    // until every reader has ended, so no lease is returned while its consumer is still polling.
+    private void readInParallel(String topic, List<ConsumerPool.Lease> leases, List<List<Range>> groups,
+                                long deadline, Collector collector) throws IOException, InterruptedException {
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        AtomicBoolean stopped = new AtomicBoolean();
+        int running = 0;
+        for (int i = 0; i < groups.size(); i++) {
+            ConsumerPool.Lease lease = leases.get(i);
+            List<Range> group = groups.get(i);
+            try {
+                executor.execute(() -> {
+                    Object end;
+                    try {
+                        end = poll(lease.consumer(), topic, group, deadline, record -> offer(queue, record, stopped),
+                                stopped::get);
+                    } catch (Throwable e) {
+                        lease.discard();
+                        end = e;
+                    }
+                    putUninterruptibly(queue, end);
+                });
+                running++;
+            } catch (RejectedExecutionException e) {
+                collector.fail(e);
+                stopped.set(true);
+                break;
+            }
+        }
+
+        try {
+            while (running > 0) {
+                Object item = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (item == null) {
+                    collector.timedOut();
+                    break;
+                }
+                if (item instanceof ConsumerRecord<?, ?> record) {
+                    @SuppressWarnings("unchecked")
+                    ConsumerRecord<byte[], byte[]> bytes = (ConsumerRecord<byte[], byte[]>) record;
+                    if (!stopped.get() && !collector.accept(bytes)) {
+                        stopped.set(true);
+                    }
+                    continue;
+                }
+                running--;
+                if (item instanceof Throwable error) {
+                    collector.fail(error);
+                    stopped.set(true);
+                } else if (Boolean.FALSE.equals(item)) {
+                    collector.timedOut();
+                }
+            }
+        } finally {
+            stopped.set(true);
+            while (running > 0) {
+                if (!(takeUninterruptibly(queue) instanceof ConsumerRecord<?, ?>)) {
+                    running--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Polls the ranges until each is read, {@code handler} refuses a record or {@code stop} is set.
+     * Returns false only if the deadline passed first.
+     */
+    static boolean poll(Consumer<byte[], byte[]> consumer, String topic, List<Range> ranges, long deadline,
+                        RecordHandler handler, BooleanSupplier stop) throws IOException {
+        Map<TopicPartition, Range> remaining = new HashMap<>();
+        for (Range range : ranges) {
+            remaining.put(new TopicPartition(topic, range.partition()), range);
+        }
+        consumer.assign(remaining.keySet());
+        remaining.forEach((partition, range) -> consumer.seek(partition, range.from()));
+
+        while (!remaining.isEmpty()) {
+            if (stop.getAsBoolean()) {
+                return true;
+            }
+            long left = deadline - System.nanoTime();
+            if (left <= 0) {
+                return false;
+            }
+            ConsumerRecords<byte[], byte[]> records =
+                    consumer.poll(Duration.ofNanos(Math.min(left, MAX_POLL.toNanos())));
+            for (TopicPartition partition : records.partitions()) {
+                Range range = remaining.get(partition);
+                if (range == null) {
+                    continue;
+                }
+                for (ConsumerRecord<byte[], byte[]> record : records.records(partition)) {
+                    if (record.offset() >= range.to()) {
+                        break;
+                    }
+                    if (!handler.accept(record)) {
+                        return true;
+                    }
+                }
+            }
+            // The position also moves past transaction markers, which never come back as records.
+            List<TopicPartition> finished = new ArrayList<>();
+            for (Iterator<Map.Entry<TopicPartition, Range>> it = remaining.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<TopicPartition, Range> entry = it.next();
+                if (consumer.position(entry.getKey()) >= entry.getValue().to()) {
+                    finished.add(entry.getKey());
+                    it.remove();
+                }
+            }
+            if (!finished.isEmpty()) {
+                consumer.pause(finished);
+            }
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    interface RecordHandler {
+        boolean accept(ConsumerRecord<byte[], byte[]> record) throws IOException;
+    }
+
+    // Largest ranges first, each to the group with the fewest records so far.
+    static List<List<Range>> split(List<Range> ranges, int groups) {
+        List<Range> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(Range::size).reversed());
+        int count = Math.max(1, Math.min(groups, sorted.size()));
+        List<List<Range>> split = new ArrayList<>(count);
+        long[] totals = new long[count];
+        for (int i = 0; i < count; i++) {
+            split.add(new ArrayList<>());
+        }
+        for (Range range : sorted) {
+            int smallest = 0;
+            for (int i = 1; i < count; i++) {
+                if (totals[i] < totals[smallest]) {
+                    smallest = i;
+                }
+            }
+            split.get(smallest).add(range);
+            totals[smallest] += range.size();
+        }
+        return split;
+    }
+
+    // Byte-array deserializers hand over the payload as stored, so the array lengths are the serialized sizes.
+    static long sizeOf(ConsumerRecord<byte[], byte[]> record) {
+        long size = (record.key() == null ? 0 : record.key().length)
+                + (record.value() == null ? 0 : record.value().length);
+        for (Header header : record.headers()) {
+            size += header.key().length() + (header.value() == null ? 0 : header.value().length);
+        }
+        return size;
+    }
+
+    static boolean offer(BlockingQueue<Object> queue, Object item, AtomicBoolean stopped)
+            throws InterruptedIOException {
+        try {
+            while (!stopped.get()) {
+                if (queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while handing over a record");
+        }
+    }
+
+    static void putUninterruptibly(BlockingQueue<Object> queue, Object item) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(item);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static Object takeUninterruptibly(BlockingQueue<Object> queue) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return queue.take();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Applies the limits and tracks what was written; only ever used by the thread writing to the sink.
+    private static final class Collector {
+
+        private final Query query;
+        private final RecordSink sink;
+        private final Map<Integer, Long> nextOffsets = new TreeMap<>();
+        private int records;
+        private long bytes;
+        private Outcome outcome = Outcome.COMPLETE;
+        private String error;
+
+        Collector(Query query, RecordSink sink) {
+            this.query = query;
+            this.sink = sink;
+        }
+
+        boolean accept(ConsumerRecord<byte[], byte[]> record) throws IOException {
+            if (records >= query.limit()) {
+                return false;
+            }
+            long size = sizeOf(record);
+            if (bytes + size > query.maxBytes()) {
+                outcome = Outcome.BYTE_LIMIT;
+                return false;
+            }
+            sink.write(record);
+            records++;
+            bytes += size;
+            nextOffsets.put(record.partition(), record.offset() + 1);
+            return records < query.limit();
+        }
+
+        void timedOut() {
+            if (outcome == Outcome.COMPLETE) {
+                outcome = Outcome.TIME_LIMIT;
+            }
+        }
+
+        void fail(Throwable cause) {
+            if (outcome != Outcome.FAILED) {
+                outcome = Outcome.FAILED;
+                error = KafkaFutures.unwrap(cause).getMessage();
+            }
+        }
+
+        Result result() {
+            return new Result(records, bytes, outcome, error, nextOffsets);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The conditions of a message search, tested on each record's raw bytes by the consumer thread that read it.
+ * Cheap checks run first (timestamp, key bytes, headers, then a byte search of the value), so the JSON path is
+ * only parsed for records that passed the others. The JSON parser stops as soon as the path is found or ruled
+ * out, and never builds a tree. Keys, header values and texts are compared as UTF-8 bytes.
+ */
+public final class MessageFilter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final long fromMs;
+    private final long toMs;
+    private final byte[] key;
+    private final String header;
+    private final byte[] headerValue;
+    private final byte[] valueContains;
+    private final int[] valueSkip;
+    private final JsonPointer jsonPointer;
+    private final String jsonValue;
+
+    private MessageFilter(long fromMs, long toMs, byte[] key, String header, byte[] headerValue,
+                          byte[] valueContains, JsonPointer jsonPointer, String jsonValue) {
+        this.fromMs = fromMs;
+        this.toMs = toMs;
+        this.key = key;
+        this.header = header;
+        this.headerValue = headerValue;
+        this.valueContains = valueContains;
+        this.valueSkip = valueContains == null ? null : skipTable(valueContains);
+        this.jsonPointer = jsonPointer;
+        this.jsonValue = jsonValue;
+    }
+
+    /**
+     * @param fromMs earliest record timestamp, inclusive
+     * @param toMs   latest record timestamp, exclusive ({@link Long#MAX_VALUE} for none)
+     */
+    public static MessageFilter of(long fromMs, long toMs, String key, String header, String headerValue,
+                                   String valueContains, String jsonPath, String jsonValue) {
+        if (headerValue != null && header == null) {
+            throw new InvalidRequestException("headerValue needs a header.");
+        }
+        if (jsonValue != null && jsonPath == null) {
+            throw new InvalidRequestException("jsonValue needs a jsonPath.");
+        }
+        if (valueContains != null && valueContains.isEmpty()) {
+            throw new InvalidRequestException("valueContains must not be empty.");
+        }
+        if (key == null && header == null && valueContains == null && jsonPath == null) {
+            throw new InvalidRequestException("Give at least one of key, header, valueContains or jsonPath.");
+        }
+        return new MessageFilter(fromMs, toMs, utf8(key), header, utf8(headerValue), utf8(valueContains),
+                jsonPath == null ? null : pointer(jsonPath), jsonValue);
+    }
+
+    public boolean test(ConsumerRecord<byte[], byte[]> record) {
+        if (record.timestamp() < fromMs || record.timestamp() >= toMs) {
+            return false;
+        }
+        if (key != null && !Arrays.equals(key, record.key())) {
+            return false;
+        }
+        if (header != null && !hasHeader(record)) {
+            return false;
+        }
+        byte[] value = record.value();
+        if (valueContains != null && (value == null || indexOf(value, valueContains, valueSkip) < 0)) {
+            return false;
+        }
+        return jsonPointer == null || (value != null && matchesJson(value));
+    }
+
+    private boolean hasHeader(ConsumerRecord<byte[], byte[]> record) {
+        for (Header candidate : record.headers().headers(header)) {
+            if (headerValue == null || Arrays.equals(headerValue, candidate.value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesJson(byte[] value) {
+        try (JsonParser parser = new FilteringParserDelegate(JSON_FACTORY.createParser(value),
+                new JsonPointerBasedFilter(jsonPointer), TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return false;
+            }
+            return jsonValue == null || (token.isScalarValue() && jsonValue.equals(parser.getText()));
+        } catch (IOException e) {
+            // Not JSON (or cut off): cannot match.
+            return false;
+        }
+    }
+
+    /** First index of {@code needle} in {@code haystack}, or -1; Horspool's variant of Boyer-Moore. */
+    static int indexOf(byte[] haystack, byte[] needle) {
+        return indexOf(haystack, needle, skipTable(needle));
+    }
+
+    private static int indexOf(byte[] haystack, byte[] needle, int[] skip) {
+        int last = needle.length - 1;
+        for (int at = 0; at <= haystack.length - needle.length; at += skip[haystack[at + last] & 0xff]) {
+            int i = last;
+            while (haystack[at + i] == needle[i]) {
+                if (i == 0) {
+                    return at;
+                }
+                i--;
+            }
+        }
+        return -1;
+    }
+
+    // How far the window may move when its last byte is b: the distance from b's last occurrence (ignoring the
+    // needle's final byte) to the end, or the whole needle length if b does not occur.
+    private static int[] skipTable(byte[] needle) {
+        int[] skip = new int[256];
+        Arrays.fill(skip, needle.length);
+        for (int i = 0; i < needle.length - 1; i++) {
+            skip[needle[i] & 0xff] = needle.length - 1 - i;
+        }
+        return skip;
+    }
+
+    /**
+     * Accepts a JSON pointer ({@code /order/items/0/sku}) or a dotted path ({@code $.order.items[0].sku} or
+     * {@code order.items[0].sku}).
+     */
+    static JsonPointer pointer(String path) {
+        try {
+            if (path.startsWith("/")) {
+                return JsonPointer.compile(path);
+            }
+            String dotted = path.startsWith("$") ? path.substring(1) : path;
+            if (dotted.startsWith(".")) {
+                dotted = dotted.substring(1);
+            }
+            if (dotted.isEmpty()) {
+                throw new InvalidRequestException("jsonPath must name a field.");
+            }
+            StringBuilder pointer = new StringBuilder();
+            for (String segment : dotted.replace("[", ".").replace("]", "").split("\\.")) {
+                if (segment.isEmpty()) {
+                    throw new InvalidRequestException("Invalid jsonPath '" + path + "'.");
+                }
+                pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+            }
+            return JsonPointer.compile(pointer.toString());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid jsonPath '" + path + "': " + e.getMessage());
+        }
+    }
+
+    private static byte[] utf8(String text) {
+        return text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,408 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.rohitdhiman.springkafkaadminapi.dto.MessageSearchRequest;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Finds records matching a {@link MessageFilter} in a time window of one or more topics.
+ * <p>
+ * The window is turned into offsets with the brokers' time indexes: one {@code listOffsets} call for the start
+ * offsets of every partition of every topic, and one for the end offsets. The partitions are then scanned by up
+ * to {@code kafka.admin.search.parallelism} pooled consumers ({@link ConsumerPool}) on the pool's reader threads,
+ * each taking the next unscanned partition, largest first, until none are left. The filter runs on the scanning
+ * threads, so only matches are handed over to the caller's {@link SearchListener}.
+ * <p>
+ * A search stops early once {@code limit} records matched, after {@code kafka.admin.search.max-duration-ms}, or
+ * when the listener fails (the HTTP client went away). The listener gets a {@link Progress} every
+ * {@code kafka.admin.search.progress-interval-ms}, including the scan rate in MB/s. Each finished search records
+ * {@code kafka.admin.search} (duration by outcome), {@code kafka.admin.search.scanned.bytes} and
+ * {@code kafka.admin.search.throughput} (MB/s).
+ */
+@Service
+public class MessageSearch {
+
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final ConsumerPool pool;
+    private final Executor executor;
+    private final int parallelism;
+    private final int maxResults;
+    private final Duration defaultWindow;
+    private final Duration maxDuration;
+    private final Duration progressInterval;
+    private final Clock clock;
+
+    private final Map<Outcome, Timer> searchTimers = new EnumMap<>(Outcome.class);
+    private final Counter scannedBytes;
+    private final DistributionSummary throughput;
+
+    @Autowired
+    public MessageSearch(KafkaService kafkaService, ClusterMetadataCache metadataCache, ConsumerPool pool,
+                         MeterRegistry meterRegistry,
+                         @Value("${kafka.admin.search.parallelism:4}") int parallelism,
+                         @Value("${kafka.admin.search.max-results:500}") int maxResults,
+                         @Value("${kafka.admin.search.default-window-ms:3600000}") long defaultWindowMs,
+                         @Value("${kafka.admin.search.max-duration-ms:25000}") long maxDurationMs,
+                         @Value("${kafka.admin.search.progress-interval-ms:1000}") long progressIntervalMs) {
+        this(kafkaService, metadataCache, pool, pool.readers(), meterRegistry, parallelism, maxResults,
+                Duration.ofMillis(defaultWindowMs), Duration.ofMillis(maxDurationMs),
+                Duration.ofMillis(progressIntervalMs), Clock.systemUTC());
+    }
+
+    MessageSearch(KafkaService kafkaService, ClusterMetadataCache metadataCache, ConsumerPool pool, Executor executor,
+                  MeterRegistry meterRegistry, int parallelism, int maxResults, Duration defaultWindow,
+                  Duration maxDuration, Duration progressInterval, Clock clock) {
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.pool = pool;
+        this.executor = executor;
+        this.parallelism = Math.max(1, Math.min(parallelism, pool.size()));
+        this.maxResults = maxResults;
+        this.defaultWindow = defaultWindow;
+        this.maxDuration = maxDuration;
+        this.progressInterval = progressInterval;
+        this.clock = clock;
+
+        for (Outcome outcome : Outcome.values()) {
+            searchTimers.put(outcome, Timer.builder("kafka.admin.search")
+                    .description("Duration of message searches")
+                    .tag("outcome", outcome.name())
+                    .register(meterRegistry));
+        }
+        this.scannedBytes = Counter.builder("kafka.admin.search.scanned.bytes")
+                .description("Record bytes read by message searches")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.throughput = DistributionSummary.builder("kafka.admin.search.throughput")
+                .description("Scan rate of each message search in MB/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * A validated search: distinct topics, the resolved window and the result limit.
+     */
+    public record Query(List<String> topics, Instant from, Instant to, MessageFilter filter, int limit) {}
+
+    /** Offsets {@code from} (inclusive) to {@code to} (exclusive) of one partition to scan. */
+    public record PartitionRange(String topic, int partition, long from, long to) {
+
+        long size() {
+            return to - from;
+        }
+    }
+
+    public enum Outcome {
+        /** Every partition was scanned. */
+        COMPLETE,
+        /** {@code limit} records matched. */
+        LIMIT,
+        /** {@code max-duration-ms} passed first. */
+        TIME_LIMIT,
+        /** A consumer failed. */
+        FAILED,
+        /** The listener failed, e.g. the HTTP client disconnected. */
+        CANCELLED
+    }
+
+    /**
+     * @param megabytesPerSecond record bytes scanned per second so far, in MB (10^6 bytes)
+     */
+    public record Progress(int partitionsDone, int partitions, long scannedRecords, long offsets, long scannedBytes,
+                           int matches, long elapsedMs, double megabytesPerSecond) {}
+
+    public record Summary(Progress progress, Outcome outcome, String error) {}
+
+    /** Called on the thread running {@link #search}; an exception cancels the search. */
+    public interface SearchListener {
+        void match(ConsumerRecord<byte[], byte[]> record) throws IOException;
+
+        void progress(Progress progress) throws IOException;
+    }
+
+    public Query query(MessageSearchRequest request) {
+        if (request.topics() == null || request.topics().isEmpty()) {
+            throw new InvalidRequestException("At least one topic is required.");
+        }
+        int limit = request.limit() == null ? Math.min(100, maxResults) : request.limit();
+        if (limit < 1 || limit > maxResults) {
+            throw new InvalidRequestException("limit must be between 1 and " + maxResults + ".");
+        }
+        Instant to = request.to();
+        Instant from = request.from() != null ? request.from()
+                : (to != null ? to : clock.instant()).minus(defaultWindow);
+        if (to != null && !from.isBefore(to)) {
+            throw new InvalidRequestException("from must be before to.");
+        }
+        MessageFilter filter = MessageFilter.of(from.toEpochMilli(), to == null ? Long.MAX_VALUE : to.toEpochMilli(),
+                request.key(), request.header(), request.headerValue(), request.valueContains(), request.jsonPath(),
+                request.jsonValue());
+        return new Query(List.copyOf(new LinkedHashSet<>(request.topics())), from, to, filter, limit);
+    }
+
+    /**
+     * The partition ranges inside the window, largest first. Unknown topics fail with
+     * {@link InvalidRequestException}; partitions with no record in the window are left out.
+     */
+    public CompletableFuture<List<PartitionRange>> plan(Query query) {
+        return metadataCache.snapshot().thenCompose(snapshot -> {
+            List<String> unknown = new ArrayList<>();
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (String topic : query.topics()) {
+                TopicDescription description = snapshot.topics().get(topic);
+                if (description == null) {
+                    unknown.add(topic);
+                    continue;
+                }
+                for (int i = 0; i < description.partitions().size(); i++) {
+                    partitions.add(new TopicPartition(topic, i));
+                }
+            }
+            if (!unknown.isEmpty()) {
+                throw new InvalidRequestException("Unknown topics: " + String.join(", ", unknown) + ".");
+            }
+
+            CompletableFuture<Map<TopicPartition, Long>> starts = kafkaService.listOffsets(partitions,
+                    OffsetSpec.forTimestamp(query.from().toEpochMilli()));
+            CompletableFuture<Map<TopicPartition, Long>> latest = kafkaService.listOffsets(partitions,
+                    OffsetSpec.latest());
+            CompletableFuture<Map<TopicPartition, Long>> ends = query.to() == null ? latest
+                    : kafkaService.listOffsets(partitions, OffsetSpec.forTimestamp(query.to().toEpochMilli()));
+            return CompletableFuture.allOf(starts, latest, ends).thenApply(ignored -> {
+                List<PartitionRange> ranges = new ArrayList<>();
+                for (TopicPartition partition : partitions) {
+                    Long start = starts.join().get(partition);
+                    Long last = latest.join().get(partition);
+                    if (start == null || start < 0 || last == null) {
+                        continue;
+                    }
+                    // No record at or after "to" means the window reaches the end of the partition.
+                    Long end = ends.join().get(partition);
+                    long stop = end == null || end < 0 ? last : Math.min(end, last);
+                    if (start < stop) {
+                        ranges.add(new PartitionRange(partition.topic(), partition.partition(), start, stop));
+                    }
+                }
+                ranges.sort(Comparator.comparingLong(PartitionRange::size).reversed());
+                return ranges;
+            });
+        });
+    }
+
+    /**
+     * Scans the ranges, handing matches and progress to {@code listener} on the calling thread. Consumer failures
+     * end the search with {@link Outcome#FAILED}; a failing listener cancels it and its exception is rethrown.
+     */
+    public Summary search(Query query, List<PartitionRange> ranges, SearchListener listener) throws IOException {
+        Scan scan = new Scan(query, ranges);
+        List<ConsumerPool.Lease> leases = new ArrayList<>();
+        try {
+            if (!ranges.isEmpty()) {
+                leases.add(pool.borrow(maxDuration));
+                while (leases.size() < Math.min(parallelism, ranges.size())) {
+                    ConsumerPool.Lease lease = pool.tryBorrow();
+                    if (lease == null) {
+                        break;
+                    }
+                    leases.add(lease);
+                }
+            }
+            for (ConsumerPool.Lease lease : leases) {
+                try {
+                    executor.execute(() -> scan.work(lease));
+                    scan.running++;
+                } catch (RejectedExecutionException e) {
+                    scan.fail(e);
+                    break;
+                }
+            }
+            scan.collect(listener);
+        } catch (TimeoutException e) {
+            scan.fail(e);
+        } catch (IOException e) {
+            scan.outcome = Outcome.CANCELLED;
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            scan.outcome = Outcome.CANCELLED;
+            throw new InterruptedIOException("Interrupted while searching");
+        } finally {
+            scan.stopped.set(true);
+            scan.awaitWorkers();
+            leases.forEach(ConsumerPool.Lease::close);
+            scan.record();
+        }
+        return scan.summary();
+    }
+
+    // Shared with the scanning threads; the fields below the queue are only touched by the collecting thread.
+    private final class Scan {
+
+        private final Query query;
+        private final int partitions;
+        private final long offsets;
+        private final long started = System.nanoTime();
+        private final long deadline = started + maxDuration.toNanos();
+        private final Queue<PartitionRange> pending;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final AtomicInteger partitionsDone = new AtomicInteger();
+        private final LongAdder scannedRecords = new LongAdder();
+        private final LongAdder scannedBytes = new LongAdder();
+        private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        private int running;
+        private int matches;
+        private Outcome outcome = Outcome.COMPLETE;
+        private String error;
+        private Progress last;
+
+        Scan(Query query, List<PartitionRange> ranges) {
+            this.query = query;
+            this.partitions = ranges.size();
+            this.offsets = ranges.stream().mapToLong(PartitionRange::size).sum();
+            this.pending = new ConcurrentLinkedQueue<>(ranges);
+        }
+
+        // Scanning thread: takes partitions until none are left, the deadline passes or the search is stopped,
+        // then reports true (done or stopped), false (deadline) or its exception.
+        void work(ConsumerPool.Lease lease) {
+            Object end;
+            try {
+                boolean inTime = true;
+                PartitionRange range;
+                while (inTime && !stopped.get() && (range = pending.poll()) != null) {
+                    inTime = MessageBrowser.poll(lease.consumer(), range.topic(),
+                            List.of(new MessageBrowser.Range(range.partition(), range.from(), range.to())), deadline,
+                            record -> {
+                                scannedRecords.increment();
+                                scannedBytes.add(MessageBrowser.sizeOf(record));
+                                return !query.filter().test(record) || MessageBrowser.offer(queue, record, stopped);
+                            }, stopped::get);
+                    if (inTime && !stopped.get()) {
+                        partitionsDone.incrementAndGet();
+                    }
+                }
+                end = inTime;
+            } catch (Throwable e) {
+                lease.discard();
+                end = e;
+            }
+            MessageBrowser.putUninterruptibly(queue, end);
+        }
+
+        // Collecting thread: passes on matches until every worker has ended or the deadline passes, with progress
+        // in between. Workers still running at the deadline are left to awaitWorkers().
+        void collect(SearchListener listener) throws IOException, InterruptedException {
+            long nextProgress = System.nanoTime() + progressInterval.toNanos();
+            while (running > 0) {
+                long now = System.nanoTime();
+                if (now - deadline >= 0) {
+                    if (outcome == Outcome.COMPLETE) {
+                        outcome = Outcome.TIME_LIMIT;
+                    }
+                    stopped.set(true);
+                    return;
+                }
+                long wait = Math.min(nextProgress - now, deadline - now);
+                Object item = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : null;
+                if (item == null) {
+                    if (System.nanoTime() - nextProgress >= 0) {
+                        listener.progress(progress());
+                        nextProgress = System.nanoTime() + progressInterval.toNanos();
+                    }
+                } else if (item instanceof ConsumerRecord<?, ?> record) {
+                    if (matches < query.limit()) {
+                        @SuppressWarnings("unchecked")
+                        ConsumerRecord<byte[], byte[]> match = (ConsumerRecord<byte[], byte[]>) record;
+                        listener.match(match);
+                        if (++matches == query.limit()) {
+                            outcome = Outcome.LIMIT;
+                            stopped.set(true);
+                        }
+                    }
+                } else {
+                    running--;
+                    if (item instanceof Throwable failure) {
+                        fail(failure);
+                    } else if (Boolean.FALSE.equals(item) && outcome == Outcome.COMPLETE) {
+                        outcome = Outcome.TIME_LIMIT;
+                    }
+                }
+            }
+        }
+
+        // Drains the queue until every worker has ended, so no lease is returned while it is still polling.
+        void awaitWorkers() {
+            while (running > 0) {
+                if (!(MessageBrowser.takeUninterruptibly(queue) instanceof ConsumerRecord<?, ?>)) {
+                    running--;
+                }
+            }
+        }
+
+        void fail(Throwable cause) {
+            stopped.set(true);
+            if (outcome == Outcome.COMPLETE || outcome == Outcome.TIME_LIMIT) {
+                outcome = Outcome.FAILED;
+                error = KafkaFutures.unwrap(cause).getMessage();
+            }
+        }
+
+        Progress progress() {
+            long elapsedNanos = System.nanoTime() - started;
+            long bytes = scannedBytes.sum();
+            double seconds = elapsedNanos / 1e9;
+            double rate = seconds > 0 ? bytes / 1e6 / seconds : 0;
+            last = new Progress(partitionsDone.get(), partitions, scannedRecords.sum(), offsets, bytes, matches,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(rate * 100) / 100.0);
+            return last;
+        }
+
+        void record() {
+            Progress progress = progress();
+            searchTimers.get(outcome).record(progress.elapsedMs(), TimeUnit.MILLISECONDS);
+            MessageSearch.this.scannedBytes.increment(progress.scannedBytes());
+            throughput.record(progress.megabytesPerSecond());
+        }
+
+        Summary summary() {
+            return new Summary(last, outcome, error);
+        }
+    }
+}
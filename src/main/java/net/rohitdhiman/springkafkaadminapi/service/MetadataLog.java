@@ -0,0 +1,557 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import com.github.luben.zstd.Zstd;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.GroupType;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * The file format of the metadata store: append-only segments, each starting with the full cluster metadata
+ * and followed by the changes seen after it.
+ * <pre>
+ * segment: magic "KMDS", version, then records
+ * record:  body length, CRC32C of the body, then the body: type, fetched-at ms, raw length, compressed payload
+ * payload: cluster (if changed), topics added or changed, topics removed, groups added or changed, groups removed
+ * </pre>
+ * Every topic, consumer group and the cluster itself is stored as a self-contained entry, so replaying a segment
+ * only moves byte arrays around, and two snapshots can be compared entry by entry without decoding them. A topic
+ * entry refers to brokers by id; the broker addresses come from the cluster entry.
+ * <p>
+ * Records are appended with plain channel writes and read back through a read-only mapping of the segment. A
+ * record cut short by a crash fails its length or checksum check, so a reader stops in front of it and
+ * {@link Writer#reopen} drops it.
+ */
+final class MetadataLog {
+
+    static final int MAGIC = 0x4B4D4453;
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 4 + 1;
+
+    private static final int RECORD_HEADER_BYTES = 4 + 4;
+    private static final int COMPRESSION_LEVEL = 3;
+
+    private MetadataLog() {
+    }
+
+    enum Type {
+        /** Replaces everything replayed before it. Every segment starts with one. */
+        FULL,
+        /** Applies on top of the records before it. */
+        CHANGES
+    }
+
+    /**
+     * One record. {@code cluster} is null when it did not change; a FULL record always has it.
+     */
+    record Changes(Type type, Instant at, byte[] cluster, NavigableMap<String, byte[]> topics,
+                   List<String> removedTopics, NavigableMap<String, byte[]> groups, List<String> removedGroups) {
+
+        boolean isEmpty() {
+            return cluster == null && topics.isEmpty() && removedTopics.isEmpty() && groups.isEmpty()
+                    && removedGroups.isEmpty();
+        }
+    }
+
+    /** A partition of a topic entry, with brokers by id. {@code leader} is -1 when there is none. */
+    record Partition(int partition, int leader, int[] replicas, int[] isr) {
+    }
+
+    /**
+     * The metadata as of the last record applied, as encoded entries.
+     */
+    static final class State {
+
+        private Instant at;
+        private byte[] cluster;
+        private final NavigableMap<String, byte[]> topics;
+        private final NavigableMap<String, byte[]> groups;
+
+        State() {
+            this(null, null, new TreeMap<>(), new TreeMap<>());
+        }
+
+        private State(Instant at, byte[] cluster, NavigableMap<String, byte[]> topics,
+                      NavigableMap<String, byte[]> groups) {
+            this.at = at;
+            this.cluster = cluster;
+            this.topics = topics;
+            this.groups = groups;
+        }
+
+        void apply(Changes changes) {
+            if (changes.type() == Type.FULL) {
+                topics.clear();
+                groups.clear();
+            }
+            at = changes.at();
+            if (changes.cluster() != null) {
+                cluster = changes.cluster();
+            }
+            topics.putAll(changes.topics());
+            changes.removedTopics().forEach(topics::remove);
+            groups.putAll(changes.groups());
+            changes.removedGroups().forEach(groups::remove);
+        }
+
+        /** A copy that later {@link #apply} calls leave alone. Entries are never modified, so they are shared. */
+        State copy() {
+            return new State(at, cluster, new TreeMap<>(topics), new TreeMap<>(groups));
+        }
+
+        /** Time of the last record applied, or null if there was none. */
+        Instant at() {
+            return at;
+        }
+
+        byte[] cluster() {
+            return cluster;
+        }
+
+        NavigableMap<String, byte[]> topics() {
+            return topics;
+        }
+
+        NavigableMap<String, byte[]> groups() {
+            return groups;
+        }
+
+        /** Everything in this state as one FULL record. */
+        Changes full() {
+            return new Changes(Type.FULL, at, cluster, topics, List.of(), groups, List.of());
+        }
+
+        ClusterSnapshot toSnapshot() {
+            ClusterInfo info = decodeCluster(cluster);
+            Map<Integer, Node> brokers = new HashMap<>();
+            for (NodeInfo node : info.nodes()) {
+                brokers.put(node.getId(), new Node(node.getId(), node.getHost(), node.getPort(), node.getRack()));
+            }
+            Map<String, TopicDescription> descriptions = new HashMap<>(topics.size() * 2);
+            topics.forEach((name, entry) -> descriptions.put(name, decodeTopic(entry, brokers)));
+            List<ConsumerGroupListing> listings = new ArrayList<>(groups.size());
+            groups.values().forEach(entry -> listings.add(decodeGroup(entry)));
+            return ClusterSnapshot.of(info, descriptions, listings, at);
+        }
+    }
+
+    static byte[] encodeCluster(ClusterInfo cluster) {
+        return encode(out -> {
+            writeNullable(out, cluster.clusterId());
+            out.writeBoolean(cluster.controller() != null);
+            if (cluster.controller() != null) {
+                writeNode(out, cluster.controller());
+            }
+            out.writeInt(cluster.nodes().size());
+            for (NodeInfo node : cluster.nodes()) {
+                writeNode(out, node);
+            }
+        });
+    }
+
+    static byte[] encodeTopic(TopicDescription topic) {
+        return encode(out -> {
+            out.writeUTF(topic.name());
+            out.writeBoolean(topic.isInternal());
+            Uuid id = topic.topicId() != null ? topic.topicId() : Uuid.ZERO_UUID;
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+            out.writeInt(topic.partitions().size());
+            for (TopicPartitionInfo partition : topic.partitions()) {
+                Node leader = partition.leader();
+                out.writeInt(partition.partition());
+                out.writeInt(leader == null || leader.isEmpty() ? -1 : leader.id());
+                writeIds(out, partition.replicas());
+                writeIds(out, partition.isr());
+            }
+        });
+    }
+
+    static byte[] encodeGroup(ConsumerGroupListing group) {
+        return encode(out -> {
+            out.writeUTF(group.groupId());
+            out.writeBoolean(group.isSimpleConsumerGroup());
+            writeNullable(out, group.state().map(Enum::name).orElse(null));
+            writeNullable(out, group.type().map(Enum::name).orElse(null));
+        });
+    }
+
+    static ClusterInfo decodeCluster(byte[] entry) {
+        if (entry == null) {
+            return new ClusterInfo(null, null, List.of());
+        }
+        return decode(entry, in -> {
+            String clusterId = readNullable(in);
+            NodeInfo controller = in.readBoolean() ? readNode(in) : null;
+            int count = in.readInt();
+            List<NodeInfo> nodes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                nodes.add(readNode(in));
+            }
+            return new ClusterInfo(clusterId, controller, nodes);
+        });
+    }
+
+    /**
+     * Decodes a topic entry. Brokers missing from {@code brokers} get an address-less node, as the AdminClient
+     * reports replicas on brokers that are down.
+     */
+    static TopicDescription decodeTopic(byte[] entry, Map<Integer, Node> brokers) {
+        return decode(entry, in -> {
+            String name = in.readUTF();
+            boolean internal = in.readBoolean();
+            Uuid id = new Uuid(in.readLong(), in.readLong());
+            List<TopicPartitionInfo> partitions = new ArrayList<>();
+            for (Partition partition : readPartitions(in)) {
+                Node leader = partition.leader() < 0 ? null : node(partition.leader(), brokers);
+                partitions.add(new TopicPartitionInfo(partition.partition(), leader,
+                        nodes(partition.replicas(), brokers), nodes(partition.isr(), brokers)));
+            }
+            return new TopicDescription(name, internal, partitions, null, id);
+        });
+    }
+
+    static List<Partition> partitions(byte[] topicEntry) {
+        return decode(topicEntry, in -> {
+            in.readUTF();
+            in.readBoolean();
+            in.readLong();
+            in.readLong();
+            return readPartitions(in);
+        });
+    }
+
+    static ConsumerGroupListing decodeGroup(byte[] entry) {
+        return decode(entry, in -> new ConsumerGroupListing(in.readUTF(), in.readBoolean(),
+                Optional.ofNullable(readNullable(in)).map(ConsumerGroupState::valueOf),
+                Optional.ofNullable(readNullable(in)).map(GroupType::valueOf)));
+    }
+
+    /**
+     * Appends records to the end of one segment.
+     */
+    static final class Writer implements Closeable {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final CRC32C crc = new CRC32C();
+        private long size;
+
+        private Writer(Path path, FileChannel channel, long size) {
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+        }
+
+        static Writer create(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            try {
+                channel.write(ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).put(VERSION).flip());
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            return new Writer(path, channel, HEADER_BYTES);
+        }
+
+        /** Reopens a segment for appending after its last valid record, dropping whatever follows it. */
+        static Writer reopen(Path path, long validBytes) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+            try {
+                channel.truncate(validBytes);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+            return new Writer(path, channel, validBytes);
+        }
+
+        /** Writes the record and forces it to disk. Returns the record's size in bytes. */
+        int append(Changes changes) throws IOException {
+            byte[] raw = encodePayload(changes);
+            byte[] compressed = Zstd.compress(raw, COMPRESSION_LEVEL);
+            ByteBuffer body = ByteBuffer.allocate(1 + 8 + 4 + compressed.length);
+            body.put((byte) changes.type().ordinal()).putLong(changes.at().toEpochMilli()).putInt(raw.length)
+                    .put(compressed).flip();
+            crc.reset();
+            crc.update(body.duplicate());
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES).putInt(body.remaining())
+                    .putInt((int) crc.getValue()).flip();
+            int length = header.remaining() + body.remaining();
+            long position = size;
+            for (ByteBuffer buffer : new ByteBuffer[]{header, body}) {
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+            channel.force(false);
+            size = position;
+            return length;
+        }
+
+        Path path() {
+            return path;
+        }
+
+        long size() {
+            return size;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reads the records of one segment in order, through a read-only mapping of the bytes it held when opened.
+     */
+    static final class Reader {
+
+        private final MappedByteBuffer mapped;
+        private final CRC32C crc = new CRC32C();
+
+        private Reader(MappedByteBuffer mapped) {
+            this.mapped = mapped;
+        }
+
+        static Reader open(Path path) throws IOException {
+            MappedByteBuffer mapped;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (mapped.remaining() < HEADER_BYTES || mapped.getInt() != MAGIC) {
+                throw new IOException(path.getFileName() + " is not a metadata segment");
+            }
+            byte version = mapped.get();
+            if (version != VERSION) {
+                throw new IOException("Unsupported metadata segment version " + version);
+            }
+            return new Reader(mapped);
+        }
+
+        /**
+         * The next record, or null at the end of the segment or in front of a record that is incomplete or
+         * fails its checksum.
+         */
+        Changes next() {
+            if (mapped.remaining() < RECORD_HEADER_BYTES) {
+                return null;
+            }
+            int start = mapped.position();
+            int length = mapped.getInt();
+            int checksum = mapped.getInt();
+            if (length < 1 + 8 + 4 || length > mapped.remaining()) {
+                mapped.position(start);
+                return null;
+            }
+            ByteBuffer body = mapped.slice(mapped.position(), length);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                mapped.position(start);
+                return null;
+            }
+            Type type = Type.values()[body.get()];
+            Instant at = Instant.ofEpochMilli(body.getLong());
+            byte[] raw = new byte[body.getInt()];
+            byte[] compressed = new byte[body.remaining()];
+            body.get(compressed);
+            Zstd.decompress(raw, compressed);
+            mapped.position(start + RECORD_HEADER_BYTES + length);
+            return decodePayload(type, at, raw);
+        }
+
+        /** End of the last record returned by {@link #next}. */
+        long position() {
+            return mapped.position();
+        }
+
+        long size() {
+            return mapped.limit();
+        }
+    }
+
+    private static byte[] encodePayload(Changes changes) {
+        return encode(out -> {
+            out.writeBoolean(changes.cluster() != null);
+            if (changes.cluster() != null) {
+                writeBytes(out, changes.cluster());
+            }
+            writeEntries(out, changes.topics());
+            writeNames(out, changes.removedTopics());
+            writeEntries(out, changes.groups());
+            writeNames(out, changes.removedGroups());
+        });
+    }
+
+    private static Changes decodePayload(Type type, Instant at, byte[] raw) {
+        return decode(raw, in -> {
+            byte[] cluster = in.readBoolean() ? readBytes(in) : null;
+            NavigableMap<String, byte[]> topics = readEntries(in);
+            List<String> removedTopics = readNames(in);
+            NavigableMap<String, byte[]> groups = readEntries(in);
+            List<String> removedGroups = readNames(in);
+            return new Changes(type, at, cluster, topics, removedTopics, groups, removedGroups);
+        });
+    }
+
+    private interface Encoder {
+        void encode(DataOutputStream out) throws IOException;
+    }
+
+    private interface Decoder<T> {
+        T decode(DataInputStream in) throws IOException;
+    }
+
+    private static byte[] encode(Encoder encoder) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            encoder.encode(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Entries come from records that passed their checksum, so a decoding failure means a bug, not a bad file.
+    private static <T> T decode(byte[] bytes, Decoder<T> decoder) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return decoder.decode(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeEntries(DataOutputStream out, Map<String, byte[]> entries) throws IOException {
+        out.writeInt(entries.size());
+        for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeBytes(out, entry.getValue());
+        }
+    }
+
+    private static NavigableMap<String, byte[]> readEntries(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        NavigableMap<String, byte[]> entries = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            entries.put(in.readUTF(), readBytes(in));
+        }
+        return entries;
+    }
+
+    private static void writeNames(DataOutputStream out, List<String> names) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    private static List<String> readNames(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(in.readUTF());
+        }
+        return names;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNode(DataOutputStream out, NodeInfo node) throws IOException {
+        out.writeInt(node.getId());
+        out.writeUTF(node.getHost());
+        out.writeInt(node.getPort());
+        writeNullable(out, node.getRack());
+    }
+
+    private static NodeInfo readNode(DataInputStream in) throws IOException {
+        return new NodeInfo(in.readInt(), in.readUTF(), in.readInt(), readNullable(in));
+    }
+
+    private static void writeIds(DataOutputStream out, List<Node> nodes) throws IOException {
+        out.writeInt(nodes.size());
+        for (Node node : nodes) {
+            out.writeInt(node.id());
+        }
+    }
+
+    private static List<Partition> readPartitions(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<Partition> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int partition = in.readInt();
+            int leader = in.readInt();
+            partitions.add(new Partition(partition, leader, readIds(in), readIds(in)));
+        }
+        return partitions;
+    }
+
+    private static int[] readIds(DataInputStream in) throws IOException {
+        int[] ids = new int[in.readInt()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = in.readInt();
+        }
+        return ids;
+    }
+
+    private static Node node(int id, Map<Integer, Node> brokers) {
+        Node node = brokers.get(id);
+        return node != null ? node : new Node(id, "", -1);
+    }
+
+    private static List<Node> nodes(int[] ids, Map<Integer, Node> brokers) {
+        List<Node> nodes = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            nodes.add(node(id, brokers));
+        }
+        return nodes;
+    }
+}
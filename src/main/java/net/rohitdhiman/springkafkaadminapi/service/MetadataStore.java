@@ -0,0 +1,384 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import jakarta.annotation.PreDestroy;
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff;
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff.IsrChange;
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff.PartitionCountChange;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Records every change to the default cluster's metadata in append-only {@link MetadataLog} segments under
+ * {@code kafka.admin.metadata.store.dir}, so a restart can serve the last known metadata at once and the
+ * history can be diffed afterwards.
+ * <p>
+ * Each {@link ClusterSnapshot} is compared with the recorded state entry by entry, and only the topics, groups
+ * and cluster entry that changed are appended; a refresh that changed nothing writes nothing. A new segment is
+ * started with the full metadata once the current one reaches {@code segment-bytes} or {@code segment-ms}, and
+ * segments are deleted whole once everything in them is older than {@code retention-ms}.
+ * <p>
+ * On startup the last segment is replayed and the result handed to {@link ClusterMetadataCache#warm}, which
+ * serves it while the first refresh from the brokers runs in the background.
+ */
+@Service
+public class MetadataStore implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(MetadataStore.class);
+
+    static final String EXTENSION = ".kmeta";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("\\d{20}\\" + EXTENSION);
+
+    private final ClusterMetadataCache metadataCache;
+    private final Path directory;
+    private final long segmentBytes;
+    private final Duration segmentAge;
+    private final Duration retention;
+    private final int maxIsrChanges;
+
+    private final Object lock = new Object();
+    private MetadataLog.State state;
+    private MetadataLog.Writer writer;
+
+    @Autowired
+    public MetadataStore(ClusterMetadataCache metadataCache,
+                         @Value("${kafka.admin.metadata.store.enabled:true}") boolean enabled,
+                         @Value("${kafka.admin.metadata.store.dir:${java.io.tmpdir}/kafka-admin-metadata}") String dir,
+                         @Value("${kafka.admin.metadata.store.segment-bytes:16777216}") long segmentBytes,
+                         @Value("${kafka.admin.metadata.store.segment-ms:86400000}") long segmentMs,
+                         @Value("${kafka.admin.metadata.store.retention-ms:604800000}") long retentionMs,
+                         @Value("${kafka.admin.metadata.store.max-isr-changes:1000}") int maxIsrChanges) {
+        this(metadataCache, enabled ? Path.of(dir) : null, segmentBytes, Duration.ofMillis(segmentMs),
+                Duration.ofMillis(retentionMs), maxIsrChanges);
+    }
+
+    /**
+     * A null {@code directory} disables the store.
+     */
+    MetadataStore(ClusterMetadataCache metadataCache, Path directory, long segmentBytes, Duration segmentAge,
+                  Duration retention, int maxIsrChanges) {
+        this.metadataCache = metadataCache;
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.segmentAge = segmentAge;
+        this.retention = retention;
+        this.maxIsrChanges = maxIsrChanges;
+    }
+
+    /**
+     * Restores the last recorded metadata. Runs once every singleton exists, rather than in a post-construct
+     * callback, so the snapshot event published by the warm start reaches the {@code @EventListener}s too.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (directory == null) {
+            return;
+        }
+        ClusterSnapshot restored;
+        synchronized (lock) {
+            restored = restore();
+        }
+        if (restored != null) {
+            log.info("Restored metadata of {} topics and {} consumer groups recorded at {}",
+                    restored.topics().size(), restored.consumerGroups().size(), restored.fetchedAt());
+            metadataCache.warm(restored);
+        }
+    }
+
+    @EventListener
+    public void onSnapshot(ClusterSnapshot snapshot) {
+        if (directory == null) {
+            return;
+        }
+        synchronized (lock) {
+            // The warm start publishes the restored state itself; older snapshots would rewrite history.
+            if (state != null && !snapshot.fetchedAt().isAfter(state.at())) {
+                return;
+            }
+            MetadataLog.State current = state != null ? state : new MetadataLog.State();
+            MetadataLog.Changes changes = changes(current, snapshot);
+            // Without a writer the last append failed, so the full state still has to be written.
+            if (changes.isEmpty() && writer != null) {
+                return;
+            }
+            current.apply(changes);
+            state = current;
+            try {
+                if (writer == null || writer.size() >= segmentBytes
+                        || Duration.between(baseOf(writer.path()), snapshot.fetchedAt()).compareTo(segmentAge) >= 0) {
+                    roll(snapshot.fetchedAt());
+                    writer.append(current.full());
+                } else {
+                    writer.append(changes);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Cannot record cluster metadata in {}: {}", directory, e.getMessage());
+                closeWriter();
+            }
+        }
+    }
+
+    /**
+     * Compares the metadata recorded as current at {@code from} with that current at {@code to}, and lists the
+     * ISR changes recorded in between.
+     */
+    public MetadataDiff diff(Instant from, Instant to) throws IOException {
+        if (directory == null) {
+            throw new InvalidRequestException("The metadata store is disabled.");
+        }
+        if (to.isBefore(from)) {
+            throw new InvalidRequestException("'to' must not be before 'from'.");
+        }
+        List<Path> segments = segments();
+        int first = -1;
+        for (int i = 0; i < segments.size() && !baseOf(segments.get(i)).isAfter(from); i++) {
+            first = i;
+        }
+        if (first < 0) {
+            throw new InvalidRequestException(segments.isEmpty() ? "No cluster metadata has been recorded yet."
+                    : "Cluster metadata is recorded from " + baseOf(segments.get(0)) + " on.");
+        }
+
+        // Replay up to 'from', keep a copy, then replay on up to 'to' collecting ISR changes on the way.
+        MetadataLog.State replayed = new MetadataLog.State();
+        MetadataLog.State before = null;
+        List<IsrChange> isrChanges = new ArrayList<>();
+        boolean truncated = false;
+        replay:
+        for (int i = first; i < segments.size(); i++) {
+            MetadataLog.Reader reader = MetadataLog.Reader.open(segments.get(i));
+            MetadataLog.Changes changes;
+            while ((changes = reader.next()) != null) {
+                if (changes.at().isAfter(to)) {
+                    break replay;
+                }
+                if (changes.at().isAfter(from)) {
+                    if (before == null) {
+                        before = replayed.copy();
+                    }
+                    truncated = truncated || collectIsrChanges(replayed, changes, isrChanges);
+                }
+                replayed.apply(changes);
+            }
+        }
+        if (before == null) {
+            before = replayed;
+        }
+        if (before.at() == null) {
+            throw new InvalidRequestException("No cluster metadata was recorded at or before " + from + ".");
+        }
+        return diff(from, to, before, replayed, isrChanges, truncated);
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (lock) {
+            closeWriter();
+        }
+    }
+
+    private ClusterSnapshot restore() {
+        try {
+            List<Path> segments = segments();
+            for (int i = segments.size() - 1; i >= 0; i--) {
+                Path path = segments.get(i);
+                MetadataLog.Reader reader = MetadataLog.Reader.open(path);
+                MetadataLog.State restored = new MetadataLog.State();
+                MetadataLog.Changes changes;
+                while ((changes = reader.next()) != null) {
+                    restored.apply(changes);
+                }
+                if (restored.at() == null) {
+                    // Created just before a crash, before its first record was complete.
+                    log.warn("Deleting metadata segment {} without a complete record", path.getFileName());
+                    Files.delete(path);
+                    continue;
+                }
+                if (reader.position() < reader.size()) {
+                    log.warn("Dropping {} bytes of an incomplete record at the end of metadata segment {}",
+                            reader.size() - reader.position(), path.getFileName());
+                }
+                writer = MetadataLog.Writer.reopen(path, reader.position());
+                state = restored;
+                return restored.toSnapshot();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot restore cluster metadata from {}: {}", directory, e.getMessage());
+            closeWriter();
+            state = null;
+        }
+        return null;
+    }
+
+    private static MetadataLog.Changes changes(MetadataLog.State current, ClusterSnapshot snapshot) {
+        NavigableMap<String, byte[]> topics = new TreeMap<>();
+        List<String> removedTopics = new ArrayList<>();
+        NavigableMap<String, byte[]> recordedTopics = current.topics();
+        for (Map.Entry<String, TopicDescription> topic : snapshot.topics().entrySet()) {
+            byte[] entry = MetadataLog.encodeTopic(topic.getValue());
+            if (!Arrays.equals(recordedTopics.get(topic.getKey()), entry)) {
+                topics.put(topic.getKey(), entry);
+            }
+        }
+        for (String name : recordedTopics.keySet()) {
+            if (!snapshot.topics().containsKey(name)) {
+                removedTopics.add(name);
+            }
+        }
+
+        NavigableMap<String, byte[]> groups = new TreeMap<>();
+        Map<String, byte[]> recordedGroups = new HashMap<>(current.groups());
+        for (ConsumerGroupListing group : snapshot.consumerGroups()) {
+            byte[] entry = MetadataLog.encodeGroup(group);
+            if (!Arrays.equals(recordedGroups.remove(group.groupId()), entry)) {
+                groups.put(group.groupId(), entry);
+            }
+        }
+        List<String> removedGroups = new ArrayList<>(new TreeMap<>(recordedGroups).keySet());
+
+        byte[] cluster = snapshot.cluster() != null ? MetadataLog.encodeCluster(snapshot.cluster()) : null;
+        if (cluster != null && Arrays.equals(cluster, current.cluster())) {
+            cluster = null;
+        }
+        return new MetadataLog.Changes(MetadataLog.Type.CHANGES, snapshot.fetchedAt(), cluster, topics,
+                removedTopics, groups, removedGroups);
+    }
+
+    // Adds the ISR changes of topics that existed before this record. Returns true once the limit was hit.
+    private boolean collectIsrChanges(MetadataLog.State replayed, MetadataLog.Changes changes, List<IsrChange> out) {
+        for (Map.Entry<String, byte[]> topic : changes.topics().entrySet()) {
+            byte[] previous = replayed.topics().get(topic.getKey());
+            if (previous == null || Arrays.equals(previous, topic.getValue())) {
+                continue;
+            }
+            Map<Integer, int[]> previousIsr = new HashMap<>();
+            MetadataLog.partitions(previous).forEach(p -> previousIsr.put(p.partition(), p.isr()));
+            for (MetadataLog.Partition partition : MetadataLog.partitions(topic.getValue())) {
+                int[] isr = previousIsr.get(partition.partition());
+                if (isr == null || sameMembers(isr, partition.isr())) {
+                    continue;
+                }
+                if (out.size() >= maxIsrChanges) {
+                    return true;
+                }
+                out.add(new IsrChange(changes.at(), topic.getKey(), partition.partition(), ids(isr),
+                        ids(partition.isr())));
+            }
+        }
+        return false;
+    }
+
+    private static MetadataDiff diff(Instant from, Instant to, MetadataLog.State before, MetadataLog.State after,
+                                     List<IsrChange> isrChanges, boolean truncated) {
+        List<String> topicsCreated = new ArrayList<>();
+        List<PartitionCountChange> partitionCounts = new ArrayList<>();
+        after.topics().forEach((name, entry) -> {
+            byte[] previous = before.topics().get(name);
+            if (previous == null) {
+                topicsCreated.add(name);
+            } else if (!Arrays.equals(previous, entry)) {
+                int was = MetadataLog.partitions(previous).size();
+                int is = MetadataLog.partitions(entry).size();
+                if (was != is) {
+                    partitionCounts.add(new PartitionCountChange(name, was, is));
+                }
+            }
+        });
+        return new MetadataDiff(from, to, before.at(), after.at(), topicsCreated,
+                notIn(before.topics(), after.topics()), partitionCounts, notIn(after.groups(), before.groups()),
+                notIn(before.groups(), after.groups()), isrChanges, truncated);
+    }
+
+    // The names of 'entries' that 'other' does not have, in order.
+    private static List<String> notIn(NavigableMap<String, byte[]> entries, Map<String, byte[]> other) {
+        List<String> missing = new ArrayList<>();
+        for (String name : entries.keySet()) {
+            if (!other.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    private static boolean sameMembers(int[] a, int[] b) {
+        int[] left = a.clone();
+        int[] right = b.clone();
+        Arrays.sort(left);
+        Arrays.sort(right);
+        return Arrays.equals(left, right);
+    }
+
+    private static List<Integer> ids(int[] ids) {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    private void roll(Instant at) throws IOException {
+        closeWriter();
+        Files.createDirectories(directory);
+        writer = MetadataLog.Writer.create(directory.resolve(String.format("%020d", at.toEpochMilli()) + EXTENSION));
+        // A segment has expired once the one after it starts before the cutoff: everything in it is older.
+        Instant cutoff = at.minus(retention);
+        List<Path> segments = segments();
+        for (int i = 0; i + 1 < segments.size() && baseOf(segments.get(i + 1)).isBefore(cutoff); i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("Cannot close metadata segment {}: {}", writer.path().getFileName(), e.getMessage());
+        }
+        writer = null;
+    }
+
+    /** The segments in the store directory, oldest first. */
+    private List<Path> segments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            paths.forEach(path -> {
+                if (SEGMENT_NAME.matcher(path.getFileName().toString()).matches()) {
+                    segments.add(path);
+                }
+            });
+        }
+        // Names are zero-padded times, so name order is time order.
+        segments.sort(null);
+        return segments;
+    }
+
+    // Time of the first record in the segment, which the segment is named after.
+    private static Instant baseOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Instant.ofEpochMilli(Long.parseLong(name.substring(0, name.length() - EXTENSION.length())));
+    }
+}
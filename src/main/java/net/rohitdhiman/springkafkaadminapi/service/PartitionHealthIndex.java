@@ -0,0 +1,323 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChange;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChange.State;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChanges;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Incrementally maintained view of partition replication health.
+ * <p>
+ * For every topic the index keeps the leader, replica count, ISR count and an ISR membership
+ * signature in parallel {@code int[]} arrays indexed by partition id. Each metadata snapshot is
+ * diffed against those arrays in place; only partitions whose state actually moved are recorded in
+ * a bounded change log under a new version number, and the set of under-replicated partitions is
+ * updated as a side effect, so reads never rescan the cluster.
+ */
+@Service
+public class PartitionHealthIndex {
+
+    private static final int NO_LEADER = -1;
+
+    private final int changeLogCapacity;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, TopicState> topics = new HashMap<>();
+    private final TreeMap<String, BitSet> underReplicated = new TreeMap<>();
+    private final ArrayDeque<PartitionHealthChange> changeLog = new ArrayDeque<>();
+    private long version;
+    private long evictedUpTo;
+
+    public PartitionHealthIndex(@Value("${kafka.admin.health.change-log-capacity:50000}") int changeLogCapacity) {
+        this.changeLogCapacity = changeLogCapacity;
+    }
+
+    // Runs before other snapshot listeners so they can read this snapshot's changes from the log.
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onSnapshot(ClusterSnapshot snapshot) {
+        apply(snapshot.topics());
+    }
+
+    /**
+     * Diffs a full set of topic descriptions against the index and records the partitions that changed.
+     *
+     * @return the index version after applying the descriptions
+     */
+    public long apply(Map<String, TopicDescription> descriptions) {
+        lock.writeLock().lock();
+        try {
+            long next = version + 1;
+            List<PartitionHealthChange> changes = new ArrayList<>();
+
+            for (TopicDescription description : descriptions.values()) {
+                applyTopic(next, description, changes);
+            }
+
+            Iterator<Map.Entry<String, TopicState>> known = topics.entrySet().iterator();
+            while (known.hasNext()) {
+                Map.Entry<String, TopicState> entry = known.next();
+                if (!descriptions.containsKey(entry.getKey())) {
+                    removeTopic(next, entry.getKey(), entry.getValue(), changes);
+                    known.remove();
+                }
+            }
+
+            if (!changes.isEmpty()) {
+                version = next;
+                appendToLog(changes);
+            }
+            return version;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int underReplicatedCount() {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (BitSet partitions : underReplicated.values()) {
+                count += partitions.cardinality();
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current under-replicated partitions (ISR smaller than the replica set) by topic.
+     */
+    public Map<String, List<Integer>> underReplicatedPartitions() {
+        lock.readLock().lock();
+        try {
+            Map<String, List<Integer>> result = new LinkedHashMap<>();
+            underReplicated.forEach((topic, partitions) -> {
+                List<Integer> ids = new ArrayList<>(partitions.cardinality());
+                partitions.stream().forEach(ids::add);
+                result.put(topic, ids);
+            });
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the partitions that changed after {@code since}. If the change log no longer reaches back
+     * that far, a resync response listing every currently unhealthy partition is returned instead.
+     */
+    public PartitionHealthChanges changesSince(long since) {
+        lock.readLock().lock();
+        try {
+            if (since < evictedUpTo) {
+                return new PartitionHealthChanges(version, true, currentUnhealthy());
+            }
+            List<PartitionHealthChange> changes = new ArrayList<>();
+            Iterator<PartitionHealthChange> newestFirst = changeLog.descendingIterator();
+            while (newestFirst.hasNext()) {
+                PartitionHealthChange change = newestFirst.next();
+                if (change.version() <= since) {
+                    break;
+                }
+                changes.add(change);
+            }
+            Collections.reverse(changes);
+            return new PartitionHealthChanges(version, false, changes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyTopic(long next, TopicDescription description, List<PartitionHealthChange> changes) {
+        String topic = description.name();
+        List<TopicPartitionInfo> partitions = description.partitions();
+        int size = 0;
+        for (TopicPartitionInfo info : partitions) {
+            size = Math.max(size, info.partition() + 1);
+        }
+
+        TopicState state = topics.get(topic);
+        boolean isNew = state == null;
+        if (isNew || state.size() != size) {
+            if (!isNew && size < state.size()) {
+                // Recreated with fewer partitions between two refreshes: the partitions past the end are gone.
+                removePartitions(next, topic, state, size, changes);
+            }
+            state = isNew ? new TopicState(size) : state.resize(size);
+            topics.put(topic, state);
+        }
+
+        for (TopicPartitionInfo info : partitions) {
+            int p = info.partition();
+            Node leaderNode = info.leader();
+            int leader = leaderNode == null || leaderNode.isEmpty() ? NO_LEADER : leaderNode.id();
+            int replicas = info.replicas().size();
+            int isr = info.isr().size();
+            int isrSignature = signature(info.isr());
+
+            if (!state.known.get(p)) {
+                state.set(p, leader, replicas, isr, isrSignature);
+                // A first sighting only matters to clients if the partition is not healthy.
+                if (stateOf(leader, replicas, isr) != State.HEALTHY) {
+                    recordChange(next, topic, p, leader, replicas, isr, changes);
+                }
+                continue;
+            }
+            if (state.leader[p] != leader || state.replicas[p] != replicas
+                    || state.isr[p] != isr || state.isrSignature[p] != isrSignature) {
+                state.set(p, leader, replicas, isr, isrSignature);
+                recordChange(next, topic, p, leader, replicas, isr, changes);
+            }
+        }
+    }
+
+    private void removeTopic(long next, String topic, TopicState state, List<PartitionHealthChange> changes) {
+        removePartitions(next, topic, state, 0, changes);
+    }
+
+    // Reports the unhealthy partitions from 'from' on as removed and drops them from the under-replicated set.
+    private void removePartitions(long next, String topic, TopicState state, int from,
+                                  List<PartitionHealthChange> changes) {
+        BitSet unhealthy = underReplicated.get(topic);
+        for (int p = state.known.nextSetBit(from); p >= 0; p = state.known.nextSetBit(p + 1)) {
+            boolean wasUnhealthy = (unhealthy != null && unhealthy.get(p)) || state.leader[p] == NO_LEADER;
+            if (wasUnhealthy) {
+                changes.add(new PartitionHealthChange(next, topic, p, NO_LEADER, 0, 0, State.REMOVED));
+            }
+        }
+        if (unhealthy != null) {
+            unhealthy.clear(from, Math.max(from, unhealthy.length()));
+            if (unhealthy.isEmpty()) {
+                underReplicated.remove(topic);
+            }
+        }
+    }
+
+    private void recordChange(long next, String topic, int partition, int leader, int replicas, int isr,
+                              List<PartitionHealthChange> changes) {
+        State state = stateOf(leader, replicas, isr);
+        BitSet partitions = underReplicated.get(topic);
+        if (isr < replicas) {
+            if (partitions == null) {
+                partitions = new BitSet();
+                underReplicated.put(topic, partitions);
+            }
+            partitions.set(partition);
+        } else if (partitions != null) {
+            partitions.clear(partition);
+            if (partitions.isEmpty()) {
+                underReplicated.remove(topic);
+            }
+        }
+        changes.add(new PartitionHealthChange(next, topic, partition, leader, replicas, isr, state));
+    }
+
+    private void appendToLog(List<PartitionHealthChange> changes) {
+        for (PartitionHealthChange change : changes) {
+            if (changeLog.size() == changeLogCapacity) {
+                evictedUpTo = changeLog.removeFirst().version();
+            }
+            changeLog.addLast(change);
+        }
+    }
+
+    private List<PartitionHealthChange> currentUnhealthy() {
+        List<PartitionHealthChange> current = new ArrayList<>();
+        topics.forEach((topic, state) -> {
+            for (int p = state.known.nextSetBit(0); p >= 0; p = state.known.nextSetBit(p + 1)) {
+                State health = stateOf(state.leader[p], state.replicas[p], state.isr[p]);
+                if (health != State.HEALTHY) {
+                    current.add(new PartitionHealthChange(version, topic, p, state.leader[p],
+                            state.replicas[p], state.isr[p], health));
+                }
+            }
+        });
+        return current;
+    }
+
+    private static State stateOf(int leader, int replicas, int isr) {
+        if (leader == NO_LEADER) {
+            return State.OFFLINE;
+        }
+        return isr < replicas ? State.UNDER_REPLICATED : State.HEALTHY;
+    }
+
+    // Order-independent fingerprint of the ISR membership, so a swapped replica is noticed even when the size is unchanged.
+    private static int signature(List<Node> isr) {
+        int signature = 0;
+        for (Node node : isr) {
+            int h = node.id() * 0x9E3779B9;
+            signature += h ^ (h >>> 16);
+        }
+        return signature;
+    }
+
+    private static final class TopicState {
+        final int[] leader;
+        final int[] replicas;
+        final int[] isr;
+        final int[] isrSignature;
+        final BitSet known;
+
+        TopicState(int size) {
+            this.leader = new int[size];
+            this.replicas = new int[size];
+            this.isr = new int[size];
+            this.isrSignature = new int[size];
+            this.known = new BitSet(size);
+        }
+
+        int size() {
+            return leader.length;
+        }
+
+        TopicState resize(int size) {
+            TopicState resized = new TopicState(size);
+            int common = Math.min(size, size());
+            System.arraycopy(leader, 0, resized.leader, 0, common);
+            System.arraycopy(replicas, 0, resized.replicas, 0, common);
+            System.arraycopy(isr, 0, resized.isr, 0, common);
+            System.arraycopy(isrSignature, 0, resized.isrSignature, 0, common);
+            resized.known.or(known.get(0, common));
+            return resized;
+        }
+
+        void set(int partition, int leaderId, int replicaCount, int isrCount, int signature) {
+            leader[partition] = leaderId;
+            replicas[partition] = replicaCount;
+            isr[partition] = isrCount;
+            isrSignature[partition] = signature;
+            known.set(partition);
+        }
+    }
+}
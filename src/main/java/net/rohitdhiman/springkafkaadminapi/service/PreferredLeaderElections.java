@@ -0,0 +1,107 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.PreferredLeaderElectionResult;
+import net.rohitdhiman.springkafkaadminapi.dto.PreferredLeaderElectionResult.PartitionFailure;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.ElectionNotNeededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Moves leadership back to the preferred replica of every partition the {@link PartitionSkewAnalyzer} found
+ * electable, in batches of {@code kafka.admin.skew.election-batch-size} partitions per AdminClient call.
+ * The partitions come from freshly loaded metadata, so partitions that recovered on their own are not sent.
+ */
+@Service
+public class PreferredLeaderElections {
+
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final PartitionSkewAnalyzer analyzer;
+    private final int batchSize;
+
+    public PreferredLeaderElections(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                                    PartitionSkewAnalyzer analyzer,
+                                    @Value("${kafka.admin.skew.election-batch-size:500}") int batchSize) {
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.analyzer = analyzer;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Elects the preferred leader of every electable partition of {@code topics} (every topic if null or empty).
+     * A batch that fails as a whole fails each of its partitions; the other batches still run.
+     */
+    public CompletableFuture<PreferredLeaderElectionResult> electPreferredLeaders(Collection<String> topics) {
+        Set<String> selected = topics == null || topics.isEmpty() ? null : new HashSet<>(topics);
+        return metadataCache.refresh().thenCompose(snapshot -> {
+            if (selected != null && !snapshot.topics().keySet().containsAll(selected)) {
+                Set<String> unknown = new TreeSet<>(selected);
+                unknown.removeAll(snapshot.topics().keySet());
+                throw new InvalidRequestException("Unknown topics: " + unknown);
+            }
+            List<TopicPartition> partitions = new ArrayList<>();
+            for (TopicPartition partition : analyzer.electablePartitions(snapshot)) {
+                if (selected == null || selected.contains(partition.topic())) {
+                    partitions.add(partition);
+                }
+            }
+            if (partitions.isEmpty()) {
+                return CompletableFuture.completedFuture(
+                        new PreferredLeaderElectionResult(0, 0, 0, 0, 0, List.of()));
+            }
+
+            List<CompletableFuture<Map<TopicPartition, Optional<Throwable>>>> calls = new ArrayList<>();
+            for (int from = 0; from < partitions.size(); from += batchSize) {
+                Set<TopicPartition> batch = new HashSet<>(
+                        partitions.subList(from, Math.min(partitions.size(), from + batchSize)));
+                calls.add(kafkaService.electPreferredLeaders(batch).handle((results, error) -> {
+                    if (error == null) {
+                        return results;
+                    }
+                    Optional<Throwable> cause = Optional.of(KafkaFutures.unwrap(error));
+                    Map<TopicPartition, Optional<Throwable>> failed = new HashMap<>();
+                    batch.forEach(partition -> failed.put(partition, cause));
+                    return failed;
+                }));
+            }
+            return KafkaFutures.allMerged(calls).thenApply(results -> {
+                metadataCache.invalidate();
+                return summarize(partitions.size(), calls.size(), results);
+            });
+        });
+    }
+
+    private static PreferredLeaderElectionResult summarize(int requested, int batches,
+                                                           Map<TopicPartition, Optional<Throwable>> results) {
+        int elected = 0;
+        int notNeeded = 0;
+        List<PartitionFailure> failures = new ArrayList<>();
+        for (Map.Entry<TopicPartition, Optional<Throwable>> entry : results.entrySet()) {
+            Throwable error = entry.getValue().orElse(null);
+            if (error == null) {
+                elected++;
+            } else if (error instanceof ElectionNotNeededException) {
+                notNeeded++;
+            } else {
+                failures.add(new PartitionFailure(entry.getKey().topic(), entry.getKey().partition(), error.toString()));
+            }
+        }
+        failures.sort(Comparator.comparing(PartitionFailure::topic).thenComparingInt(PartitionFailure::partition));
+        return new PreferredLeaderElectionResult(requested, elected, notNeeded, failures.size(), batches, failures);
+    }
+}
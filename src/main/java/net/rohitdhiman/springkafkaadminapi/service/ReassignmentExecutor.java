@@ -0,0 +1,324 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan.PartitionMove;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentStatus.State;
+import net.rohitdhiman.springkafkaadminapi.exception.ReassignmentInProgressException;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.NewPartitionReassignment;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes a {@link ReassignmentPlan} in waves of at most {@code waveSize} partitions, one at a time.
+ * <p>
+ * Before the first wave the brokers involved get a leader and follower replication rate limit, and before
+ * each wave the topics in it get the replicas to throttle: the current replicas of its partitions as leaders
+ * and the added replicas as followers, as {@code kafka-reassign-partitions.sh --throttle} does. The wave is
+ * submitted with {@code alterPartitionReassignments}, then polled with {@code listPartitionReassignments}
+ * every {@code kafka.admin.reassignment.poll-interval-ms} until none of its partitions is still moving.
+ * Every throttle is removed once the execution ends, however it ends.
+ * <p>
+ * One execution runs at a time. Cancelling stops after the current wave's next poll by cancelling the
+ * reassignments still in progress; waves already completed stay moved. No thread is held while waiting.
+ */
+@Service
+public class ReassignmentExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReassignmentExecutor.class);
+
+    static final String LEADER_RATE = "leader.replication.throttled.rate";
+    static final String FOLLOWER_RATE = "follower.replication.throttled.rate";
+    static final String LEADER_REPLICAS = "leader.replication.throttled.replicas";
+    static final String FOLLOWER_REPLICAS = "follower.replication.throttled.replicas";
+
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final Executor pollExecutor;
+    private final int defaultWaveSize;
+    private final long defaultThrottle;
+    private final Clock clock;
+
+    private final AtomicReference<Execution> current = new AtomicReference<>();
+
+    @Autowired
+    public ReassignmentExecutor(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                                @Qualifier("applicationTaskExecutor") Executor executor,
+                                @Value("${kafka.admin.reassignment.poll-interval-ms:5000}") long pollIntervalMs,
+                                @Value("${kafka.admin.reassignment.wave-size:50}") int defaultWaveSize,
+                                @Value("${kafka.admin.reassignment.throttle-bytes-per-second:52428800}")
+                                long defaultThrottle) {
+        this(kafkaService, metadataCache, CompletableFuture.delayedExecutor(pollIntervalMs, TimeUnit.MILLISECONDS,
+                executor), defaultWaveSize, defaultThrottle, Clock.systemUTC());
+    }
+
+    ReassignmentExecutor(KafkaService kafkaService, ClusterMetadataCache metadataCache, Executor pollExecutor,
+                         int defaultWaveSize, long defaultThrottle, Clock clock) {
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.pollExecutor = pollExecutor;
+        this.defaultWaveSize = Math.max(1, defaultWaveSize);
+        this.defaultThrottle = defaultThrottle;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts executing the plan and returns its initial status. {@code throttleBytesPerSecond} of zero
+     * disables throttling; null values fall back to the configured defaults.
+     *
+     * @throws ReassignmentInProgressException if an execution is already running
+     */
+    public ReassignmentStatus start(ReassignmentPlan plan, Long throttleBytesPerSecond, Integer waveSize) {
+        long throttle = throttleBytesPerSecond != null ? Math.max(0, throttleBytesPerSecond) : defaultThrottle;
+        int size = waveSize != null ? Math.max(1, waveSize) : defaultWaveSize;
+        Execution execution = new Execution(plan.moves(), throttle, size, clock.instant());
+
+        Execution previous = current.get();
+        if ((previous != null && !previous.finished()) || !current.compareAndSet(previous, execution)) {
+            throw new ReassignmentInProgressException("A reassignment is already running; cancel it or wait for it.");
+        }
+        if (plan.moves().isEmpty()) {
+            execution.finish(State.COMPLETED, null, clock.instant());
+            return execution.status();
+        }
+
+        throttleBrokers(execution)
+                .thenCompose(ignored -> runWave(execution, 0))
+                .handle((ignored, error) -> error)
+                .thenCompose(error -> removeThrottles(execution).handle((ignored, cleanupError) -> {
+                    metadataCache.invalidate();
+                    String message = error != null ? KafkaFutures.unwrap(error).toString() : null;
+                    if (cleanupError != null) {
+                        Throwable cause = KafkaFutures.unwrap(cleanupError);
+                        log.warn("Could not remove reassignment throttles: {}", cause.toString());
+                        message = (message != null ? message + "; " : "") + "throttles could not be removed: " + cause;
+                    }
+                    State state = error != null ? State.FAILED
+                            : execution.cancelRequested ? State.CANCELLED : State.COMPLETED;
+                    execution.finish(state, message, clock.instant());
+                    return null;
+                }));
+        return execution.status();
+    }
+
+    /**
+     * Status of the running or most recent execution, or null if none has been started.
+     */
+    public ReassignmentStatus status() {
+        Execution execution = current.get();
+        return execution != null ? execution.status() : null;
+    }
+
+    /**
+     * Asks the running execution to stop. Returns its status, or null if nothing is running.
+     */
+    public ReassignmentStatus cancel() {
+        Execution execution = current.get();
+        if (execution == null || execution.finished()) {
+            return null;
+        }
+        execution.cancelRequested = true;
+        return execution.status();
+    }
+
+    private CompletableFuture<Void> runWave(Execution execution, int wave) {
+        if (execution.cancelRequested || wave >= execution.waves) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<PartitionMove> moves = execution.wave(wave);
+        execution.currentWave = wave + 1;
+        execution.inProgress = moves.size();
+
+        Map<TopicPartition, Optional<NewPartitionReassignment>> reassignments = new LinkedHashMap<>();
+        for (PartitionMove move : moves) {
+            reassignments.put(new TopicPartition(move.topic(), move.partition()),
+                    Optional.of(new NewPartitionReassignment(toList(move.targetReplicas()))));
+        }
+        return throttleTopics(execution, moves)
+                .thenCompose(ignored -> kafkaService.alterPartitionReassignments(reassignments))
+                .thenCompose(ignored -> awaitWave(execution, reassignments.keySet()))
+                .thenCompose(cancelled -> {
+                    execution.completedPartitions += moves.size() - cancelled;
+                    return runWave(execution, wave + 1);
+                });
+    }
+
+    // Polls until no partition of the wave is still moving, or cancels those still moving if asked to.
+    // Completes with the number of partitions cancelled.
+    private CompletableFuture<Integer> awaitWave(Execution execution, Set<TopicPartition> partitions) {
+        return CompletableFuture.runAsync(() -> { }, pollExecutor)
+                .thenCompose(ignored -> kafkaService.listPartitionReassignments(partitions))
+                .thenCompose(running -> {
+                    execution.inProgress = running.size();
+                    if (running.isEmpty()) {
+                        return CompletableFuture.completedFuture(0);
+                    }
+                    if (execution.cancelRequested) {
+                        Map<TopicPartition, Optional<NewPartitionReassignment>> cancellations = new HashMap<>();
+                        running.keySet().forEach(partition -> cancellations.put(partition, Optional.empty()));
+                        return kafkaService.alterPartitionReassignments(cancellations)
+                                .thenApply(ignored -> cancellations.size());
+                    }
+                    return awaitWave(execution, partitions);
+                });
+    }
+
+    private CompletableFuture<Void> throttleBrokers(Execution execution) {
+        if (execution.throttle == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String rate = String.valueOf(execution.throttle);
+        Map<ConfigResource, Collection<AlterConfigOp>> changes = new HashMap<>();
+        for (int broker : execution.brokers) {
+            changes.put(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(broker)), List.of(
+                    new AlterConfigOp(new ConfigEntry(LEADER_RATE, rate), AlterConfigOp.OpType.SET),
+                    new AlterConfigOp(new ConfigEntry(FOLLOWER_RATE, rate), AlterConfigOp.OpType.SET)));
+        }
+        execution.throttledBrokers = true;
+        return kafkaService.incrementalAlterConfigs(changes);
+    }
+
+    private CompletableFuture<Void> throttleTopics(Execution execution, List<PartitionMove> moves) {
+        if (execution.throttle == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Map<String, List<String>> leaders = new LinkedHashMap<>();
+        Map<String, List<String>> followers = new LinkedHashMap<>();
+        for (PartitionMove move : moves) {
+            List<String> added = new ArrayList<>();
+            for (int broker : move.targetReplicas()) {
+                if (Arrays.stream(move.currentReplicas()).noneMatch(replica -> replica == broker)) {
+                    added.add(move.partition() + ":" + broker);
+                }
+            }
+            if (added.isEmpty()) {
+                // Only the order changes, so no data is copied.
+                continue;
+            }
+            List<String> topicLeaders = leaders.computeIfAbsent(move.topic(), topic -> new ArrayList<>());
+            for (int broker : move.currentReplicas()) {
+                topicLeaders.add(move.partition() + ":" + broker);
+            }
+            followers.computeIfAbsent(move.topic(), topic -> new ArrayList<>()).addAll(added);
+        }
+        if (leaders.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Map<ConfigResource, Collection<AlterConfigOp>> changes = new HashMap<>();
+        leaders.forEach((topic, topicLeaders) -> {
+            changes.put(new ConfigResource(ConfigResource.Type.TOPIC, topic), List.of(
+                    new AlterConfigOp(new ConfigEntry(LEADER_REPLICAS, String.join(",", topicLeaders)),
+                            AlterConfigOp.OpType.SET),
+                    new AlterConfigOp(new ConfigEntry(FOLLOWER_REPLICAS, String.join(",", followers.get(topic))),
+                            AlterConfigOp.OpType.SET)));
+            execution.throttledTopics.add(topic);
+        });
+        return kafkaService.incrementalAlterConfigs(changes);
+    }
+
+    private CompletableFuture<Void> removeThrottles(Execution execution) {
+        Map<ConfigResource, Collection<AlterConfigOp>> changes = new HashMap<>();
+        if (execution.throttledBrokers) {
+            for (int broker : execution.brokers) {
+                changes.put(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(broker)), List.of(
+                        new AlterConfigOp(new ConfigEntry(LEADER_RATE, ""), AlterConfigOp.OpType.DELETE),
+                        new AlterConfigOp(new ConfigEntry(FOLLOWER_RATE, ""), AlterConfigOp.OpType.DELETE)));
+            }
+        }
+        for (String topic : execution.throttledTopics) {
+            changes.put(new ConfigResource(ConfigResource.Type.TOPIC, topic), List.of(
+                    new AlterConfigOp(new ConfigEntry(LEADER_REPLICAS, ""), AlterConfigOp.OpType.DELETE),
+                    new AlterConfigOp(new ConfigEntry(FOLLOWER_REPLICAS, ""), AlterConfigOp.OpType.DELETE)));
+        }
+        return changes.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : kafkaService.incrementalAlterConfigs(changes);
+    }
+
+    private static List<Integer> toList(int[] brokers) {
+        List<Integer> list = new ArrayList<>(brokers.length);
+        for (int broker : brokers) {
+            list.add(broker);
+        }
+        return list;
+    }
+
+    // Progress is written by one wave at a time and read by status requests, hence the volatile fields.
+    private static final class Execution {
+        private final List<PartitionMove> moves;
+        private final long throttle;
+        private final int waveSize;
+        private final int waves;
+        private final Instant startedAt;
+        private final Set<Integer> brokers = new TreeSet<>();
+        private final Set<String> throttledTopics = new HashSet<>();
+
+        private volatile boolean throttledBrokers;
+        private volatile boolean cancelRequested;
+        private volatile int currentWave;
+        private volatile int completedPartitions;
+        private volatile int inProgress;
+        private volatile State state = State.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private Execution(List<PartitionMove> moves, long throttle, int waveSize, Instant startedAt) {
+            this.moves = List.copyOf(moves);
+            this.throttle = throttle;
+            this.waveSize = waveSize;
+            this.waves = (moves.size() + waveSize - 1) / waveSize;
+            this.startedAt = startedAt;
+            for (PartitionMove move : moves) {
+                Arrays.stream(move.currentReplicas()).forEach(brokers::add);
+                Arrays.stream(move.targetReplicas()).forEach(brokers::add);
+            }
+        }
+
+        List<PartitionMove> wave(int wave) {
+            return moves.subList(wave * waveSize, Math.min(moves.size(), (wave + 1) * waveSize));
+        }
+
+        boolean finished() {
+            return finishedAt != null;
+        }
+
+        void finish(State state, String error, Instant finishedAt) {
+            this.state = state;
+            this.error = error;
+            this.inProgress = 0;
+            this.finishedAt = finishedAt;
+        }
+
+        ReassignmentStatus status() {
+            State reported = state == State.RUNNING && cancelRequested ? State.CANCELLING : state;
+            return new ReassignmentStatus(reported, moves.size(), completedPartitions, waves, currentWave, inProgress,
+                    throttle, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,461 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan.BrokerLoad;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan.PartitionMove;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes a balanced replica assignment for a metadata snapshot while moving as few replicas as possible.
+ * <p>
+ * The cluster is loaded into flat {@code int[]} arrays: brokers are numbered 0..B-1 and every partition's
+ * replica list is a slice of one shared array, so planning 200k partitions allocates a handful of arrays
+ * and never boxes a broker id. The planner then
+ * <ol>
+ *   <li>moves every replica off brokers that are not in the target set,</li>
+ *   <li>moves replicas from brokers above the ceiling of the average replica count to the least loaded
+ *       broker below it, then fills brokers still below the floor,</li>
+ *   <li>balances preferred leaders by reordering replicas within partitions, which copies no data.</li>
+ * </ol>
+ * A replica is only placed on a broker whose rack holds no other replica of the partition, as long as the
+ * target brokers span at least two racks; moving a replica off a removed broker falls back to any rack if
+ * needed. Partitions are visited by partition number across all topics, so the moves are spread over
+ * topics instead of draining the first topics in name order.
+ */
+public final class ReassignmentPlanner {
+
+    private static final int NO_RACK = -1;
+
+    private ReassignmentPlanner() {
+    }
+
+    /**
+     * Plans a reassignment onto {@code brokerIds} (every live broker if null or empty), moving only partitions
+     * of {@code topics} (every topic if null or empty). Replicas of the other topics still count towards each
+     * broker's load.
+     */
+    public static ReassignmentPlan plan(ClusterSnapshot snapshot, Collection<Integer> brokerIds,
+                                        Collection<String> topics) {
+        long startedAt = System.nanoTime();
+        Assignment assignment = Assignment.load(snapshot, brokerIds, topics);
+        assignment.drainRemovedBrokers();
+        assignment.balanceReplicas();
+        assignment.balanceLeaders();
+        return assignment.toPlan(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private static final class Assignment {
+
+        // Brokers, by index: ids ascending, live brokers and brokers only seen in replica lists alike.
+        private final int[] brokerIds;
+        private final String[] rackNames;
+        private final int[] racks;
+        private final boolean[] target;
+        private final int[] targets;
+        private final boolean rackAware;
+
+        // Partitions, by index: replicas of partition p are replicas[start[p]] until start[p + 1].
+        private final String[] topicNames;
+        private final int[] topicOf;
+        private final int[] partitionIds;
+        private final int[] start;
+        private final int[] replicas;
+        private final int[] original;
+        private final boolean[] movable;
+        private final int[] order;
+
+        private final int[] replicaLoad;
+        private final int[] leaderLoad;
+
+        private Assignment(int[] brokerIds, String[] rackNames, boolean[] target, String[] topicNames, int[] topicOf,
+                           int[] partitionIds, int[] start, int[] replicas, boolean[] movable) {
+            this.brokerIds = brokerIds;
+            this.rackNames = rackNames;
+            this.target = target;
+            this.topicNames = topicNames;
+            this.topicOf = topicOf;
+            this.partitionIds = partitionIds;
+            this.start = start;
+            this.replicas = replicas;
+            this.original = replicas.clone();
+            this.movable = movable;
+
+            int brokers = brokerIds.length;
+            this.targets = new int[countTrue(target)];
+            for (int b = 0, t = 0; b < brokers; b++) {
+                if (target[b]) {
+                    targets[t++] = b;
+                }
+            }
+
+            Map<String, Integer> rackIndexes = new HashMap<>();
+            this.racks = new int[brokers];
+            Set<Integer> targetRacks = new HashSet<>();
+            for (int b = 0; b < brokers; b++) {
+                racks[b] = rackNames[b] == null ? NO_RACK
+                        : rackIndexes.computeIfAbsent(rackNames[b], name -> rackIndexes.size());
+                if (target[b] && racks[b] != NO_RACK) {
+                    targetRacks.add(racks[b]);
+                }
+            }
+            this.rackAware = targetRacks.size() > 1;
+
+            int partitions = partitionIds.length;
+            this.replicaLoad = new int[brokers];
+            this.leaderLoad = new int[brokers];
+            for (int p = 0; p < partitions; p++) {
+                for (int r = start[p]; r < start[p + 1]; r++) {
+                    replicaLoad[replicas[r]]++;
+                }
+                if (start[p + 1] > start[p]) {
+                    leaderLoad[replicas[start[p]]]++;
+                }
+            }
+
+            // Partition number first, topic second, so consecutive partitions belong to different topics.
+            long[] keys = new long[partitions];
+            for (int p = 0; p < partitions; p++) {
+                keys[p] = ((long) partitionIds[p] << 32) | p;
+            }
+            Arrays.sort(keys);
+            this.order = new int[partitions];
+            for (int i = 0; i < partitions; i++) {
+                order[i] = (int) keys[i];
+            }
+        }
+
+        static Assignment load(ClusterSnapshot snapshot, Collection<Integer> brokerIds, Collection<String> topics) {
+            ClusterInfo cluster = snapshot.cluster();
+            if (cluster == null || cluster.nodes() == null || cluster.nodes().isEmpty()) {
+                throw new InvalidRequestException("The cluster's brokers are not known yet.");
+            }
+            Map<Integer, String> liveRacks = new HashMap<>();
+            for (NodeInfo node : cluster.nodes()) {
+                liveRacks.put(node.getId(), node.getRack());
+            }
+            Set<Integer> targetIds = brokerIds == null || brokerIds.isEmpty()
+                    ? liveRacks.keySet()
+                    : new HashSet<>(brokerIds);
+            for (Integer id : targetIds) {
+                if (id == null || !liveRacks.containsKey(id)) {
+                    throw new InvalidRequestException("Broker " + id + " is not in the cluster.");
+                }
+            }
+            Set<String> selected = topics == null || topics.isEmpty() ? null : new HashSet<>(topics);
+            if (selected != null && !snapshot.topics().keySet().containsAll(selected)) {
+                Set<String> unknown = new TreeSet<>(selected);
+                unknown.removeAll(snapshot.topics().keySet());
+                throw new InvalidRequestException("Unknown topics: " + unknown);
+            }
+
+            int partitions = 0;
+            int replicaCount = 0;
+            for (TopicDescription description : snapshot.topics().values()) {
+                partitions += description.partitions().size();
+                for (TopicPartitionInfo info : description.partitions()) {
+                    replicaCount += info.replicas().size();
+                }
+            }
+
+            int[] liveIds = liveRacks.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            String[] topicNames = new String[snapshot.topics().size()];
+            int[] topicOf = new int[partitions];
+            int[] partitionIds = new int[partitions];
+            int[] start = new int[partitions + 1];
+            int[] replicas = new int[replicaCount];
+            boolean[] movable = new boolean[partitions];
+            Set<Integer> removedIds = new TreeSet<>();
+
+            int t = 0;
+            int p = 0;
+            int r = 0;
+            int maxReplicationFactor = 0;
+            for (TopicDescription description : snapshot.topics().values()) {
+                topicNames[t] = description.name();
+                boolean selectedTopic = selected == null || selected.contains(description.name());
+                for (TopicPartitionInfo info : description.partitions()) {
+                    topicOf[p] = t;
+                    partitionIds[p] = info.partition();
+                    movable[p] = selectedTopic;
+                    start[p] = r;
+                    for (Node node : info.replicas()) {
+                        replicas[r++] = node.id();
+                        if (Arrays.binarySearch(liveIds, node.id()) < 0) {
+                            removedIds.add(node.id());
+                        }
+                    }
+                    if (selectedTopic) {
+                        maxReplicationFactor = Math.max(maxReplicationFactor, info.replicas().size());
+                    }
+                    p++;
+                }
+                t++;
+            }
+            start[partitions] = r;
+            if (maxReplicationFactor > targetIds.size()) {
+                throw new InvalidRequestException("A replication factor of " + maxReplicationFactor
+                        + " needs at least as many target brokers, got " + targetIds.size() + ".");
+            }
+
+            int[] ids = new int[liveIds.length + removedIds.size()];
+            System.arraycopy(liveIds, 0, ids, 0, liveIds.length);
+            int next = liveIds.length;
+            for (int id : removedIds) {
+                ids[next++] = id;
+            }
+            Arrays.sort(ids);
+            String[] rackNames = new String[ids.length];
+            boolean[] target = new boolean[ids.length];
+            for (int b = 0; b < ids.length; b++) {
+                rackNames[b] = liveRacks.get(ids[b]);
+                target[b] = targetIds.contains(ids[b]);
+            }
+            for (int i = 0; i < replicas.length; i++) {
+                replicas[i] = Arrays.binarySearch(ids, replicas[i]);
+            }
+            return new Assignment(ids, rackNames, target, topicNames, topicOf, partitionIds, start, replicas, movable);
+        }
+
+        void drainRemovedBrokers() {
+            for (int p : order) {
+                if (!movable[p]) {
+                    continue;
+                }
+                for (int r = start[p]; r < start[p + 1]; r++) {
+                    if (target[replicas[r]]) {
+                        continue;
+                    }
+                    int destination = leastLoaded(p, r, Integer.MAX_VALUE, rackAware);
+                    if (destination < 0 && rackAware) {
+                        destination = leastLoaded(p, r, Integer.MAX_VALUE, false);
+                    }
+                    if (destination >= 0) {
+                        move(p, r, destination);
+                    }
+                }
+            }
+        }
+
+        void balanceReplicas() {
+            long total = 0;
+            for (int b : targets) {
+                total += replicaLoad[b];
+            }
+            int floor = (int) (total / targets.length);
+            int ceiling = (int) ((total + targets.length - 1) / targets.length);
+
+            // Above the ceiling: move to the least loaded broker that stays at or below it.
+            for (int p : order) {
+                if (!movable[p]) {
+                    continue;
+                }
+                for (int r = start[p]; r < start[p + 1]; r++) {
+                    if (replicaLoad[replicas[r]] > ceiling) {
+                        int destination = leastLoaded(p, r, ceiling, rackAware);
+                        if (destination >= 0) {
+                            move(p, r, destination);
+                        }
+                    }
+                }
+            }
+
+            // Below the floor (e.g. a new broker): take replicas from brokers above it.
+            int underloaded = 0;
+            for (int b : targets) {
+                if (replicaLoad[b] < floor) {
+                    underloaded++;
+                }
+            }
+            for (int i = 0; i < order.length && underloaded > 0; i++) {
+                int p = order[i];
+                if (!movable[p]) {
+                    continue;
+                }
+                for (int r = start[p]; r < start[p + 1] && underloaded > 0; r++) {
+                    if (replicaLoad[replicas[r]] > floor) {
+                        int destination = leastLoaded(p, r, floor, rackAware);
+                        if (destination >= 0) {
+                            move(p, r, destination);
+                            if (replicaLoad[destination] == floor) {
+                                underloaded--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        void balanceLeaders() {
+            int partitions = 0;
+            for (int p = 0; p < partitionIds.length; p++) {
+                if (start[p + 1] > start[p]) {
+                    partitions++;
+                }
+            }
+            int floor = partitions / targets.length;
+            int ceiling = (partitions + targets.length - 1) / targets.length;
+
+            for (int p : order) {
+                int first = start[p];
+                if (movable[p] && start[p + 1] - first > 1 && leaderLoad[replicas[first]] > ceiling) {
+                    promote(p, ceiling);
+                }
+            }
+            for (int p : order) {
+                int first = start[p];
+                if (movable[p] && start[p + 1] - first > 1 && leaderLoad[replicas[first]] > floor) {
+                    promote(p, floor);
+                }
+            }
+        }
+
+        // Makes the follower with the fewest preferred leaderships (below limit) the partition's first replica.
+        private void promote(int p, int limit) {
+            int first = start[p];
+            int best = -1;
+            for (int r = first + 1; r < start[p + 1]; r++) {
+                int candidate = replicas[r];
+                if (target[candidate] && leaderLoad[candidate] < limit
+                        && (best < 0 || leaderLoad[candidate] < leaderLoad[replicas[best]])) {
+                    best = r;
+                }
+            }
+            if (best >= 0) {
+                leaderLoad[replicas[first]]--;
+                leaderLoad[replicas[best]]++;
+                int swap = replicas[first];
+                replicas[first] = replicas[best];
+                replicas[best] = swap;
+            }
+        }
+
+        /**
+         * The target broker with the lowest replica count below {@code limit} that does not already hold a
+         * replica of the partition (nor, if {@code checkRacks}, one in the same rack), or -1.
+         */
+        private int leastLoaded(int p, int slot, int limit, boolean checkRacks) {
+            int best = -1;
+            for (int b : targets) {
+                if (replicaLoad[b] >= limit || (best >= 0 && replicaLoad[b] >= replicaLoad[best])) {
+                    continue;
+                }
+                if (!fits(p, slot, b, checkRacks)) {
+                    continue;
+                }
+                best = b;
+            }
+            return best;
+        }
+
+        private boolean fits(int p, int slot, int broker, boolean checkRacks) {
+            for (int r = start[p]; r < start[p + 1]; r++) {
+                int other = replicas[r];
+                if (other == broker) {
+                    return false;
+                }
+                if (checkRacks && r != slot && racks[broker] != NO_RACK && racks[other] == racks[broker]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Replaces one replica; moving the first replica moves the preferred leadership with it.
+        private void move(int p, int slot, int destination) {
+            int source = replicas[slot];
+            replicaLoad[source]--;
+            replicaLoad[destination]++;
+            if (slot == start[p]) {
+                leaderLoad[source]--;
+                leaderLoad[destination]++;
+            }
+            replicas[slot] = destination;
+        }
+
+        ReassignmentPlan toPlan(long planningMs) {
+            int brokers = brokerIds.length;
+            int[] replicasBefore = new int[brokers];
+            int[] leadersBefore = new int[brokers];
+            List<PartitionMove> moves = new ArrayList<>();
+            int movedReplicas = 0;
+            int leaderChanges = 0;
+
+            for (int p = 0; p < partitionIds.length; p++) {
+                int from = start[p];
+                int to = start[p + 1];
+                if (to == from) {
+                    continue;
+                }
+                leadersBefore[original[from]]++;
+                boolean changed = false;
+                for (int r = from; r < to; r++) {
+                    replicasBefore[original[r]]++;
+                    if (replicas[r] != original[r]) {
+                        changed = true;
+                        if (!contains(original, from, to, replicas[r])) {
+                            movedReplicas++;
+                        }
+                    }
+                }
+                if (changed) {
+                    if (replicas[from] != original[from]) {
+                        leaderChanges++;
+                    }
+                    moves.add(new PartitionMove(topicNames[topicOf[p]], partitionIds[p],
+                            toIds(original, from, to), toIds(replicas, from, to)));
+                }
+            }
+
+            List<BrokerLoad> loads = new ArrayList<>(brokers);
+            for (int b = 0; b < brokers; b++) {
+                loads.add(new BrokerLoad(brokerIds[b], rackNames[b], target[b], replicasBefore[b], replicaLoad[b],
+                        leadersBefore[b], leaderLoad[b]));
+            }
+            return new ReassignmentPlan(partitionIds.length, replicas.length, movedReplicas, leaderChanges,
+                    planningMs, loads, moves);
+        }
+
+        private int[] toIds(int[] brokerIndexes, int from, int to) {
+            int[] ids = new int[to - from];
+            for (int r = from; r < to; r++) {
+                ids[r - from] = brokerIds[brokerIndexes[r]];
+            }
+            return ids;
+        }
+
+        private static boolean contains(int[] values, int from, int to, int value) {
+            for (int i = from; i < to; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int countTrue(boolean[] values) {
+            int count = 0;
+            for (boolean value : values) {
+                if (value) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,471 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import com.github.luben.zstd.Zstd;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * The file format of topic snapshots: a header, then zstd-compressed blocks of records of one partition each.
+ * <pre>
+ * header: magic "KSNP", version, created-at ms, records, blocks, partitions, topic (length-prefixed UTF-8)
+ * block:  partition, records, first offset, raw length, compressed length, CRC32C of the compressed bytes,
+ *         then the compressed columns
+ * </pre>
+ * Inside a block the records are stored by column: offset deltas, timestamp deltas, timestamp types, key and
+ * value lengths and header counts as varints, then the headers, then all keys, then all values. Similar values
+ * end up next to each other, which compresses better than record by record.
+ * <p>
+ * Both sides go through memory-mapped windows of the file, so reading or writing a multi-GB snapshot only holds
+ * one window's pages and one block on the heap. A writer stores a record count of -1 until
+ * {@link Writer#finish()}, so an interrupted export is recognised as incomplete.
+ */
+final class SnapshotFile {
+
+    static final int MAGIC = 0x4B534E50;
+    static final byte VERSION = 1;
+
+    private static final int RECORDS_AT = 4 + 1 + 8;
+    private static final int BLOCKS_AT = RECORDS_AT + 8;
+    private static final int HEADER_BYTES = BLOCKS_AT + 4 + 4 + 2;
+    private static final int BLOCK_HEADER_BYTES = 4 + 4 + 8 + 4 + 4 + 4;
+    private static final int COMPRESSION_LEVEL = 3;
+    private static final TimestampType[] TIMESTAMP_TYPES = TimestampType.values();
+
+    private SnapshotFile() {
+    }
+
+    /** What the header says about a snapshot. {@code records} is -1 if it was never finished. */
+    record Info(String topic, int partitions, long records, int blocks, Instant createdAt) {
+
+        boolean complete() {
+            return records >= 0;
+        }
+    }
+
+    static Writer create(Path path, String topic, int partitions, Instant createdAt, int blockBytes, int window)
+            throws IOException {
+        return new Writer(path, topic, partitions, createdAt, blockBytes, window);
+    }
+
+    static Reader open(Path path, int window) throws IOException {
+        return new Reader(path, window);
+    }
+
+    /**
+     * Appends the records of one partition at a time to a block, and writes the block once it holds
+     * {@code blockBytes} of raw columns or the partition changes.
+     */
+    static final class Writer implements Closeable {
+
+        private final FileChannel channel;
+        private final int blockBytes;
+        private final int window;
+        private final Column offsets = new Column();
+        private final Column timestamps = new Column();
+        private final Column meta = new Column();
+        private final Column headers = new Column();
+        private final Column keys = new Column();
+        private final Column values = new Column();
+        private final CRC32C crc = new CRC32C();
+        private MappedByteBuffer mapped;
+        private byte[] raw = new byte[0];
+        private byte[] compressed = new byte[0];
+        private long position;
+        private long records;
+        private int blocks;
+        private long bytes;
+
+        private int blockPartition = -1;
+        private int blockRecords;
+        private long firstOffset;
+        private long lastTimestamp;
+
+        private Writer(Path path, String topic, int partitions, Instant createdAt, int blockBytes, int window)
+                throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.blockBytes = blockBytes;
+            this.window = window;
+            byte[] name = topic.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer out = reserve(HEADER_BYTES + name.length);
+            out.putInt(MAGIC).put(VERSION).putLong(createdAt.toEpochMilli()).putLong(-1).putInt(0)
+                    .putInt(partitions).putShort((short) name.length).put(name);
+            position += HEADER_BYTES + name.length;
+        }
+
+        void append(ConsumerRecord<byte[], byte[]> record) throws IOException {
+            if (record.partition() != blockPartition || size() >= blockBytes) {
+                flushBlock();
+                blockPartition = record.partition();
+                firstOffset = record.offset();
+                lastTimestamp = 0;
+            }
+            offsets.writeVarLong(record.offset() - firstOffset);
+            timestamps.writeVarLong(zigZag(record.timestamp() - lastTimestamp));
+            lastTimestamp = record.timestamp();
+            meta.writeVarLong(record.timestampType().ordinal());
+            meta.writeVarLong(record.key() == null ? 0 : record.key().length + 1L);
+            meta.writeVarLong(record.value() == null ? 0 : record.value().length + 1L);
+            Header[] recordHeaders = record.headers().toArray();
+            meta.writeVarLong(recordHeaders.length);
+            for (Header header : recordHeaders) {
+                byte[] key = header.key().getBytes(StandardCharsets.UTF_8);
+                headers.writeVarLong(key.length);
+                headers.write(key);
+                headers.writeVarLong(header.value() == null ? 0 : header.value().length + 1L);
+                headers.write(header.value());
+            }
+            keys.write(record.key());
+            values.write(record.value());
+            blockRecords++;
+            records++;
+        }
+
+        /** Writes the last block, then the record and block counts, and cuts the file to its length. */
+        void finish() throws IOException {
+            flushBlock();
+            if (mapped != null) {
+                mapped.force();
+            }
+            channel.write(ByteBuffer.allocate(8).putLong(0, records), RECORDS_AT);
+            channel.write(ByteBuffer.allocate(4).putInt(0, blocks), BLOCKS_AT);
+            channel.truncate(position);
+            channel.force(true);
+        }
+
+        long records() {
+            return records;
+        }
+
+        int blocks() {
+            return blocks;
+        }
+
+        /** Bytes written so far, blocks included. */
+        long bytes() {
+            return position;
+        }
+
+        /** Raw (uncompressed) column bytes written so far. */
+        long rawBytes() {
+            return bytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            mapped = null;
+            channel.close();
+        }
+
+        private int size() {
+            return offsets.size + timestamps.size + meta.size + headers.size + keys.size + values.size;
+        }
+
+        private void flushBlock() throws IOException {
+            if (blockRecords == 0) {
+                return;
+            }
+            int rawLength = size();
+            if (raw.length < rawLength) {
+                raw = new byte[Math.max(rawLength, raw.length * 2)];
+            }
+            int at = 0;
+            for (Column column : new Column[]{offsets, timestamps, meta, headers, keys, values}) {
+                System.arraycopy(column.bytes, 0, raw, at, column.size);
+                at += column.size;
+                column.size = 0;
+            }
+            int bound = (int) Zstd.compressBound(rawLength);
+            if (compressed.length < bound) {
+                compressed = new byte[Math.max(bound, compressed.length * 2)];
+            }
+            long length = Zstd.compressByteArray(compressed, 0, compressed.length, raw, 0, rawLength,
+                    COMPRESSION_LEVEL);
+            if (Zstd.isError(length)) {
+                throw new IOException("Could not compress a snapshot block: " + Zstd.getErrorName(length));
+            }
+            crc.reset();
+            crc.update(compressed, 0, (int) length);
+
+            ByteBuffer out = reserve(BLOCK_HEADER_BYTES + (int) length);
+            out.putInt(blockPartition).putInt(blockRecords).putLong(firstOffset).putInt(rawLength)
+                    .putInt((int) length).putInt((int) crc.getValue()).put(compressed, 0, (int) length);
+            position += BLOCK_HEADER_BYTES + length;
+            bytes += rawLength;
+            blocks++;
+            blockRecords = 0;
+        }
+
+        // Maps a new window at the current position when the next write does not fit in the current one.
+        private ByteBuffer reserve(int length) throws IOException {
+            if (mapped == null || mapped.remaining() < length) {
+                mapped = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(window, length));
+            }
+            return mapped;
+        }
+    }
+
+    /**
+     * Reads a snapshot block by block. Each block's records are decoded at once; blocks are bounded by the
+     * writer's block size, so memory stays flat however large the file is.
+     */
+    static final class Reader implements Closeable {
+
+        private final FileChannel channel;
+        private final int window;
+        private final Info info;
+        private final long size;
+        private final CRC32C crc = new CRC32C();
+        private MappedByteBuffer mapped;
+        private long mappedAt;
+        private long position;
+        private byte[] compressed = new byte[0];
+        private byte[] raw = new byte[0];
+
+        private Reader(Path path, int window) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.window = window;
+            this.size = channel.size();
+            try {
+                if (size < HEADER_BYTES) {
+                    throw new IOException("Not a topic snapshot: too short.");
+                }
+                ByteBuffer in = window(HEADER_BYTES);
+                if (in.getInt() != MAGIC) {
+                    throw new IOException("Not a topic snapshot.");
+                }
+                byte version = in.get();
+                if (version != VERSION) {
+                    throw new IOException("Unsupported topic snapshot version " + version + ".");
+                }
+                Instant createdAt = Instant.ofEpochMilli(in.getLong());
+                long records = in.getLong();
+                int blocks = in.getInt();
+                int partitions = in.getInt();
+                int nameLength = Short.toUnsignedInt(in.getShort());
+                position += HEADER_BYTES;
+                if (size - position < nameLength) {
+                    throw new IOException("Not a topic snapshot: too short.");
+                }
+                byte[] name = new byte[nameLength];
+                window(nameLength).get(name);
+                position += nameLength;
+                this.info = new Info(new String(name, StandardCharsets.UTF_8), partitions, records, blocks,
+                        createdAt);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        Info info() {
+            return info;
+        }
+
+        /** Bytes of the file read so far. */
+        long position() {
+            return position;
+        }
+
+        /** The next block's records, or null after the last block. */
+        List<ConsumerRecord<byte[], byte[]>> next() throws IOException {
+            if (position >= size) {
+                return null;
+            }
+            if (size - position < BLOCK_HEADER_BYTES) {
+                throw new IOException("Topic snapshot is cut off at byte " + position + ".");
+            }
+            ByteBuffer in = window(BLOCK_HEADER_BYTES);
+            int partition = in.getInt();
+            int count = in.getInt();
+            long firstOffset = in.getLong();
+            int rawLength = in.getInt();
+            int length = in.getInt();
+            int checksum = in.getInt();
+            position += BLOCK_HEADER_BYTES;
+            if (count < 0 || rawLength < 0 || length < 0 || size - position < length) {
+                throw new IOException("Topic snapshot is cut off or corrupt at byte " + position + ".");
+            }
+            if (compressed.length < length) {
+                compressed = new byte[Math.max(length, compressed.length * 2)];
+            }
+            window(length).get(compressed, 0, length);
+            position += length;
+            crc.reset();
+            crc.update(compressed, 0, length);
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Checksum mismatch in the topic snapshot block ending at byte "
+                        + position + ".");
+            }
+            if (raw.length < rawLength) {
+                raw = new byte[Math.max(rawLength, raw.length * 2)];
+            }
+            long decompressed = Zstd.decompressByteArray(raw, 0, rawLength, compressed, 0, length);
+            if (Zstd.isError(decompressed) || decompressed != rawLength) {
+                throw new IOException("Could not decompress a topic snapshot block at byte " + position + ".");
+            }
+            return decode(info.topic(), partition, count, firstOffset, raw, rawLength);
+        }
+
+        @Override
+        public void close() throws IOException {
+            mapped = null;
+            channel.close();
+        }
+
+        // The mapped window positioned at the read position, remapped if the next length bytes are not in it.
+        private ByteBuffer window(int length) throws IOException {
+            if (mapped == null || position < mappedAt || position + length > mappedAt + mapped.capacity()) {
+                mappedAt = position;
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(size - position, Math.max(window, length)));
+            }
+            return mapped.position((int) (position - mappedAt));
+        }
+    }
+
+    private static List<ConsumerRecord<byte[], byte[]>> decode(String topic, int partition, int count,
+                                                               long firstOffset, byte[] raw, int rawLength)
+            throws IOException {
+        Cursor in = new Cursor(raw, rawLength);
+        long[] offsets = new long[count];
+        long[] timestamps = new long[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = firstOffset + in.readVarLong();
+        }
+        long timestamp = 0;
+        for (int i = 0; i < count; i++) {
+            timestamp += unZigZag(in.readVarLong());
+            timestamps[i] = timestamp;
+        }
+        int[] types = new int[count];
+        int[] keyLengths = new int[count];
+        int[] valueLengths = new int[count];
+        int[] headerCounts = new int[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = (int) in.readVarLong();
+            keyLengths[i] = (int) in.readVarLong() - 1;
+            valueLengths[i] = (int) in.readVarLong() - 1;
+            headerCounts[i] = (int) in.readVarLong();
+        }
+        RecordHeaders[] headers = new RecordHeaders[count];
+        for (int i = 0; i < count; i++) {
+            headers[i] = new RecordHeaders();
+            for (int h = 0; h < headerCounts[i]; h++) {
+                String key = new String(in.read((int) in.readVarLong()), StandardCharsets.UTF_8);
+                headers[i].add(new RecordHeader(key, in.read((int) in.readVarLong() - 1)));
+            }
+        }
+        byte[][] keys = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            keys[i] = in.read(keyLengths[i]);
+        }
+        List<ConsumerRecord<byte[], byte[]>> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (types[i] < 0 || types[i] >= TIMESTAMP_TYPES.length) {
+                throw new IOException("Unknown timestamp type " + types[i] + " in a topic snapshot.");
+            }
+            byte[] value = in.read(valueLengths[i]);
+            records.add(new ConsumerRecord<>(topic, partition, offsets[i], timestamps[i], TIMESTAMP_TYPES[types[i]],
+                    keys[i] == null ? -1 : keys[i].length, value == null ? -1 : value.length, keys[i], value,
+                    headers[i], Optional.empty()));
+        }
+        return records;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // A growable byte array that is reused from block to block.
+    private static final class Column {
+
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void write(byte[] data) {
+            if (data != null) {
+                ensure(data.length);
+                System.arraycopy(data, 0, bytes, size, data.length);
+                size += data.length;
+            }
+        }
+
+        private void ensure(int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size + length, bytes.length * 2));
+            }
+        }
+    }
+
+    private static final class Cursor {
+
+        private final byte[] bytes;
+        private final int length;
+        private int at;
+
+        Cursor(byte[] bytes, int length) {
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (at >= length) {
+                    throw new IOException("Topic snapshot block is corrupt.");
+                }
+                byte b = bytes[at++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Topic snapshot block is corrupt.");
+        }
+
+        // -1 stands for null.
+        byte[] read(int length) throws IOException {
+            if (length < 0) {
+                return null;
+            }
+            if (at + length > this.length) {
+                throw new IOException("Topic snapshot block is corrupt.");
+            }
+            byte[] data = Arrays.copyOfRange(bytes, at, at + length);
+            at += length;
+            return data;
+        }
+    }
+}
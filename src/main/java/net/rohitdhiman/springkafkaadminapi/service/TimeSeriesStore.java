@@ -0,0 +1,167 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-size history of many numeric series sampled together.
+ * <p>
+ * Every {@link #append} is one tick: its timestamp goes into a shared {@code long[]} ring and each series
+ * writes its value into its own {@code long[]} ring at the same slot. A series gets its array when first
+ * seen and keeps it until it has been absent for a full ring, so memory is {@code capacity * 8} bytes per
+ * live series. Callers that write a tick through {@link Tick#add} instead of a map allocate nothing per
+ * sample once their series exist.
+ */
+public class TimeSeriesStore {
+
+    // Slot value for a tick in which the series was not sampled.
+    private static final long MISSING = Long.MIN_VALUE;
+
+    private final int capacity;
+    private final long[] timestamps;
+    private final Map<String, Series> series = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Tick writer = new Tick();
+    private long tick = -1;
+
+    public TimeSeriesStore(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+    }
+
+    /**
+     * Records one sample per series at the given time. Timestamps must not go backwards; a sample older
+     * than the latest tick is ignored.
+     */
+    public void append(long timestampMs, Map<String, Long> values) {
+        append(timestampMs, sample -> values.forEach(sample::add));
+    }
+
+    /**
+     * Records one tick at the given time, with the samples the callback adds. Same ordering rules as
+     * {@link #append(long, Map)}; the callback is not run for a tick that is ignored.
+     */
+    public void append(long timestampMs, Consumer<Tick> samples) {
+        lock.writeLock().lock();
+        try {
+            if (tick >= 0 && timestampMs < timestamps[slot(tick)]) {
+                return;
+            }
+            tick++;
+            int slot = slot(tick);
+            timestamps[slot] = timestampMs;
+            samples.accept(writer);
+            // A series absent for a whole ring has no samples left.
+            series.values().removeIf(s -> tick - s.lastTick >= capacity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Samples of one series with {@code fromMs <= timestamp <= toMs}, oldest first.
+     */
+    public Samples read(String name, long fromMs, long toMs) {
+        lock.readLock().lock();
+        try {
+            Series s = series.get(name);
+            if (s == null) {
+                return Samples.EMPTY;
+            }
+            long first = Math.max(s.firstTick, tick - capacity + 1);
+            int max = (int) (s.lastTick - first + 1);
+            long[] times = new long[max];
+            long[] values = new long[max];
+            int count = 0;
+            for (long t = first; t <= s.lastTick; t++) {
+                int slot = slot(t);
+                long at = timestamps[slot];
+                long value = s.values[slot];
+                if (value != MISSING && at >= fromMs && at <= toMs) {
+                    times[count] = at;
+                    values[count] = value;
+                    count++;
+                }
+            }
+            return new Samples(times, values, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int seriesCount() {
+        lock.readLock().lock();
+        try {
+            return series.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int slot(long t) {
+        return (int) (t % capacity);
+    }
+
+    /**
+     * Writes samples into the tick being appended; only valid inside {@link #append(long, Consumer)}.
+     */
+    public final class Tick {
+
+        private Tick() {
+        }
+
+        /**
+         * Adds a value to the series' sample in this tick, so several adds to one series sum up.
+         */
+        public void add(String name, long value) {
+            Series s = series.get(name);
+            if (s == null) {
+                s = new Series(capacity, tick);
+                series.put(name, s);
+            }
+            s.add(tick, capacity, value);
+        }
+    }
+
+    /**
+     * Timestamps and values in two parallel arrays; only the first {@code count} entries are used.
+     */
+    public record Samples(long[] timestamps, long[] values, int count) {
+
+        static final Samples EMPTY = new Samples(new long[0], new long[0], 0);
+    }
+
+    private static final class Series {
+        private final long[] values;
+        private final long firstTick;
+        private long lastTick;
+
+        private Series(int capacity, long firstTick) {
+            this.values = new long[capacity];
+            this.firstTick = firstTick;
+            this.lastTick = firstTick - 1;
+        }
+
+        private void add(long tick, int capacity, long value) {
+            if (lastTick == tick) {
+                values[(int) (tick % capacity)] += value;
+                return;
+            }
+            // Mark the ticks this series skipped, back to at most one ring ago.
+            for (long t = Math.max(lastTick + 1, tick - capacity + 1); t < tick; t++) {
+                values[(int) (t % capacity)] = MISSING;
+            }
+            values[(int) (tick % capacity)] = value;
+            lastTick = tick;
+        }
+    }
+}
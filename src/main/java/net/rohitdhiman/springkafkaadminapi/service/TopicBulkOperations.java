@@ -0,0 +1,184 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.BulkTopicResult;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicOperationResult;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicSpec;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Creates or deletes thousands of topics per request. Topics are split into batches of
+ * {@code kafka.admin.bulk.batch-size}, one AdminClient call each, and up to
+ * {@code kafka.admin.bulk.max-in-flight-batches} batches run at once; as soon as one finishes the next is sent.
+ * Every topic gets its own result, so a failed topic or batch never fails the whole request.
+ */
+@Service
+public class TopicBulkOperations {
+
+    private final KafkaService kafkaService;
+    private final ClusterMetadataCache metadataCache;
+    private final int batchSize;
+    private final int maxInFlightBatches;
+    private final int maxTopics;
+
+    public TopicBulkOperations(KafkaService kafkaService, ClusterMetadataCache metadataCache,
+                               @Value("${kafka.admin.bulk.batch-size:250}") int batchSize,
+                               @Value("${kafka.admin.bulk.max-in-flight-batches:4}") int maxInFlightBatches,
+                               @Value("${kafka.admin.bulk.max-topics:10000}") int maxTopics) {
+        this.kafkaService = kafkaService;
+        this.metadataCache = metadataCache;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxInFlightBatches = Math.max(1, maxInFlightBatches);
+        this.maxTopics = maxTopics;
+    }
+
+    public CompletableFuture<BulkTopicResult> createTopics(List<TopicSpec> specs) {
+        List<String> names = new ArrayList<>(checkSize(specs).size());
+        for (TopicSpec spec : specs) {
+            names.add(spec == null ? null : spec.topicName());
+        }
+        TopicOperationResult[] results = new TopicOperationResult[specs.size()];
+        List<Integer> accepted = accept(names, results);
+
+        List<NewTopic> newTopics = new ArrayList<>(accepted.size());
+        for (int index : accepted) {
+            newTopics.add(toNewTopic(specs.get(index)));
+        }
+        return run(newTopics, NewTopic::name, kafkaService::createTopics, accepted, results);
+    }
+
+    public CompletableFuture<BulkTopicResult> deleteTopics(List<String> topicNames) {
+        TopicOperationResult[] results = new TopicOperationResult[checkSize(topicNames).size()];
+        List<Integer> accepted = accept(topicNames, results);
+
+        List<String> toDelete = new ArrayList<>(accepted.size());
+        for (int index : accepted) {
+            toDelete.add(topicNames.get(index));
+        }
+        return run(toDelete, Function.identity(), kafkaService::deleteTopics, accepted, results);
+    }
+
+    private <T> List<T> checkSize(List<T> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidRequestException("At least one topic is required.");
+        }
+        if (items.size() > maxTopics) {
+            throw new InvalidRequestException("At most " + maxTopics + " topics can be handled per request.");
+        }
+        return items;
+    }
+
+    // Fails blank and repeated names up front; returns the indexes of the names to send to the brokers.
+    private static List<Integer> accept(List<String> names, TopicOperationResult[] results) {
+        List<Integer> accepted = new ArrayList<>(names.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            if (name == null || name.isBlank()) {
+                results[i] = TopicOperationResult.failed(name, "Topic name is required.");
+            } else if (!seen.add(name)) {
+                results[i] = TopicOperationResult.failed(name, "Topic appears more than once in the request.");
+            } else {
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    private static NewTopic toNewTopic(TopicSpec spec) {
+        int numPartitions = spec.numPartitions() != null ? spec.numPartitions() : 1;
+        short replicationFactor = spec.replicationFactor() != null ? spec.replicationFactor() : 1;
+        NewTopic newTopic = new NewTopic(spec.topicName(), numPartitions, replicationFactor);
+        if (spec.configs() != null && !spec.configs().isEmpty()) {
+            newTopic.configs(spec.configs());
+        }
+        return newTopic;
+    }
+
+    private <T> CompletableFuture<BulkTopicResult> run(List<T> items, Function<T, String> nameOf,
+                                                       Function<List<T>, CompletableFuture<List<TopicOperationResult>>> call,
+                                                       List<Integer> indexes, TopicOperationResult[] results) {
+        int batchCount = (items.size() + batchSize - 1) / batchSize;
+        AtomicInteger nextBatch = new AtomicInteger();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+
+        Function<Integer, CompletableFuture<Void>> sendBatch = batch -> {
+            int from = batch * batchSize;
+            int to = Math.min(items.size(), from + batchSize);
+            List<T> batchItems = items.subList(from, to);
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                String name = nameOf.apply(items.get(i));
+                positions.put(name, indexes.get(i));
+                // Overwritten below unless the brokers leave this topic out of the response.
+                results[indexes.get(i)] = TopicOperationResult.failed(name, "No result returned for topic.");
+            }
+            return call.apply(batchItems).handle((batchResults, error) -> {
+                if (error != null) {
+                    String message = KafkaFutures.unwrap(error).toString();
+                    positions.forEach((name, index) -> results[index] = TopicOperationResult.failed(name, message));
+                } else {
+                    for (TopicOperationResult result : batchResults) {
+                        // A topic this batch did not send has no slot in the response; ignore it.
+                        Integer index = positions.get(result.topic());
+                        if (index != null) {
+                            results[index] = result;
+                        }
+                    }
+                }
+                return null;
+            });
+        };
+
+        for (int w = 0; w < Math.min(maxInFlightBatches, batchCount); w++) {
+            CompletableFuture<Void> worker = new CompletableFuture<>();
+            workers.add(worker);
+            runWorker(nextBatch, batchCount, sendBatch, worker);
+        }
+
+        return CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    metadataCache.invalidate();
+                    return summarize(results);
+                });
+    }
+
+    // Sends batches one after another until none are left; each worker keeps one batch in flight.
+    private static void runWorker(AtomicInteger nextBatch, int batchCount,
+                                  Function<Integer, CompletableFuture<Void>> sendBatch, CompletableFuture<Void> worker) {
+        while (true) {
+            int batch = nextBatch.getAndIncrement();
+            if (batch >= batchCount) {
+                worker.complete(null);
+                return;
+            }
+            CompletableFuture<Void> sent = sendBatch.apply(batch);
+            if (!sent.isDone()) {
+                sent.whenComplete((ignored, error) -> runWorker(nextBatch, batchCount, sendBatch, worker));
+                return;
+            }
+        }
+    }
+
+    private static BulkTopicResult summarize(TopicOperationResult[] results) {
+        Map<TopicOperationResult.Status, Integer> summary = new EnumMap<>(TopicOperationResult.Status.class);
+        for (TopicOperationResult result : results) {
+            summary.merge(result.status(), 1, Integer::sum);
+        }
+        return new BulkTopicResult(summary, Arrays.asList(results));
+    }
+}
@@ -0,0 +1,129 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges single-topic describe requests that arrive within a short window into one AdminClient call.
+ * <p>
+ * The first request of a window schedules a flush {@code kafka.admin.describe.coalesce-window-ms} later;
+ * requests arriving until then join the pending batch (the same topic requested twice shares one slot).
+ * A batch that reaches {@code kafka.admin.describe.max-batch-size} is flushed at once. Each caller gets
+ * its own future, so one caller cancelling does not affect the others waiting on the same topic.
+ * <p>
+ * Publishes {@code kafka.admin.describe.requests} and {@code kafka.admin.describe.batches}; their ratio
+ * is the fan-out reduction.
+ */
+@Service
+public class TopicDescribeCoalescer {
+
+    private final KafkaService kafkaService;
+    private final Executor flushExecutor;
+    private final int maxBatchSize;
+    private final Counter requests;
+    private final Counter batches;
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<TopicDescription>> pending = new LinkedHashMap<>();
+
+    @Autowired
+    public TopicDescribeCoalescer(KafkaService kafkaService,
+                                  @Qualifier("applicationTaskExecutor") Executor executor,
+                                  @Value("${kafka.admin.describe.coalesce-window-ms:5}") long windowMs,
+                                  @Value("${kafka.admin.describe.max-batch-size:500}") int maxBatchSize,
+                                  MeterRegistry meterRegistry) {
+        this(kafkaService, CompletableFuture.delayedExecutor(windowMs, TimeUnit.MILLISECONDS, executor),
+                maxBatchSize, meterRegistry);
+    }
+
+    TopicDescribeCoalescer(KafkaService kafkaService, Executor flushExecutor, int maxBatchSize,
+                           MeterRegistry meterRegistry) {
+        this.kafkaService = kafkaService;
+        this.flushExecutor = flushExecutor;
+        this.maxBatchSize = maxBatchSize;
+        this.requests = Counter.builder("kafka.admin.describe.requests")
+                .description("Single-topic describe requests received by the coalescer")
+                .register(meterRegistry);
+        this.batches = Counter.builder("kafka.admin.describe.batches")
+                .description("AdminClient describe calls issued by the coalescer")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Describes one topic as part of the next batch. Fails with {@link UnknownTopicOrPartitionException}
+     * if the topic does not exist.
+     */
+    public CompletableFuture<TopicDescription> describe(String topicName) {
+        requests.increment();
+        CompletableFuture<TopicDescription> shared;
+        Map<String, CompletableFuture<TopicDescription>> full = null;
+        boolean scheduleFlush = false;
+
+        synchronized (lock) {
+            shared = pending.get(topicName);
+            if (shared == null) {
+                shared = new CompletableFuture<>();
+                scheduleFlush = pending.isEmpty();
+                pending.put(topicName, shared);
+                if (pending.size() >= maxBatchSize) {
+                    full = takePending();
+                    scheduleFlush = false;
+                }
+            }
+        }
+
+        if (full != null) {
+            send(full);
+        } else if (scheduleFlush) {
+            flushExecutor.execute(this::flush);
+        }
+        return shared.copy();
+    }
+
+    void flush() {
+        Map<String, CompletableFuture<TopicDescription>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    // Caller holds the lock.
+    private Map<String, CompletableFuture<TopicDescription>> takePending() {
+        Map<String, CompletableFuture<TopicDescription>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+    private void send(Map<String, CompletableFuture<TopicDescription>> batch) {
+        batches.increment();
+        kafkaService.describeExistingTopics(batch.keySet()).whenComplete((descriptions, error) ->
+                batch.forEach((topicName, future) -> {
+                    if (error != null) {
+                        future.completeExceptionally(KafkaFutures.unwrap(error));
+                        return;
+                    }
+                    TopicDescription description = descriptions.get(topicName);
+                    if (description != null) {
+                        future.complete(description);
+                    } else {
+                        future.completeExceptionally(new UnknownTopicOrPartitionException(
+                                "Topic '" + topicName + "' does not exist."));
+                    }
+                }));
+    }
+}
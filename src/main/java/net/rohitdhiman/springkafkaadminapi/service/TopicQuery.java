@@ -0,0 +1,87 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.NavigableMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
+
+/**
+ * Filter, order and position for a topic listing over the name-sorted snapshot map.
+ * The prefix and cursor are applied as range views of the map, so only the matching slice is iterated;
+ * the regex (if any) is evaluated lazily on that slice.
+ *
+ * @param prefix     only names starting with this, or null
+ * @param pattern    only names matching this regex, or null
+ * @param descending reverse name order
+ * @param after      resume strictly after this name (decoded cursor), or null
+ */
+public record TopicQuery(String prefix, Pattern pattern, boolean descending, String after) {
+
+    public static TopicQuery of(String prefix, String regex, String sort, String cursor) {
+        Pattern pattern = null;
+        if (regex != null && !regex.isEmpty()) {
+            try {
+                pattern = Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                throw new InvalidRequestException("Invalid topic pattern: " + e.getDescription());
+            }
+        }
+
+        boolean descending;
+        if (sort == null || sort.isEmpty() || sort.equalsIgnoreCase("asc")) {
+            descending = false;
+        } else if (sort.equalsIgnoreCase("desc")) {
+            descending = true;
+        } else {
+            throw new InvalidRequestException("Invalid sort '" + sort + "', expected 'asc' or 'desc'.");
+        }
+
+        return new TopicQuery(prefix == null || prefix.isEmpty() ? null : prefix, pattern, descending, decodeCursor(cursor));
+    }
+
+    /** Topic names selected by this query, in order. */
+    public <V> Stream<String> names(NavigableMap<String, V> topics) {
+        Stream<String> names = range(topics).keySet().stream();
+        return pattern == null ? names : names.filter(name -> pattern.matcher(name).matches());
+    }
+
+    /** Number of topics matching the filters, ignoring the cursor. */
+    public <V> long count(NavigableMap<String, V> topics) {
+        return new TopicQuery(prefix, pattern, descending, null).names(topics).count();
+    }
+
+    private <V> NavigableMap<String, V> range(NavigableMap<String, V> topics) {
+        NavigableMap<String, V> range = topics;
+        if (prefix != null) {
+            // Topic names are ASCII, so every name with the prefix sorts below prefix + U+FFFF.
+            range = range.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+        if (descending) {
+            range = range.descendingMap();
+        }
+        if (after != null) {
+            range = range.tailMap(after, false);
+        }
+        return range;
+    }
+
+    /** Opaque cursor pointing just past the given topic name. */
+    public static String encodeCursor(String topicName) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(topicName.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor.");
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus.State;
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus.Type;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicSnapshotInfo;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Exports a topic's records to a {@link SnapshotFile} in {@code kafka.admin.snapshots.dir}, and replays a
+ * snapshot into a topic, as background jobs.
+ * <p>
+ * An export fixes each partition's end offset when it starts, then reads the partitions one after the other with
+ * a pooled consumer ({@link ConsumerPool}), appending to blocks of {@code kafka.admin.snapshots.block-bytes}.
+ * An import produces the file's records block by block through its own producer, batched and compressed, into
+ * the same partition when the target has it and by key otherwise. Either way only a block and the producer's
+ * buffer are held in memory, however large the topic.
+ */
+@Service
+public class TopicSnapshots {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicSnapshots.class);
+
+    static final String EXTENSION = ".ksnap";
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,200}");
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+    private static final int RETAINED_JOBS = 50;
+
+    private final KafkaService kafkaService;
+    private final ConsumerPool pool;
+    private final Executor executor;
+    private final Supplier<Producer<byte[], byte[]>> producerFactory;
+    private final Path directory;
+    private final int blockBytes;
+    private final int window;
+    private final Duration maxDuration;
+    private final Clock clock;
+
+    // Running jobs and the most recent finished ones, oldest first.
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+    @Autowired
+    public TopicSnapshots(KafkaService kafkaService, ConsumerPool pool,
+                          @Qualifier("applicationTaskExecutor") Executor executor,
+                          @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+                          @Value("${kafka.admin.snapshots.dir:${java.io.tmpdir}/kafka-admin-snapshots}") String dir,
+                          @Value("${kafka.admin.snapshots.block-bytes:1048576}") int blockBytes,
+                          @Value("${kafka.admin.snapshots.window-bytes:33554432}") int window,
+                          @Value("${kafka.admin.snapshots.max-duration-ms:3600000}") long maxDurationMs) {
+        this(kafkaService, pool, executor, producerFactory(bootstrapServers), Path.of(dir), blockBytes, window,
+                Duration.ofMillis(maxDurationMs), Clock.systemUTC());
+    }
+
+    TopicSnapshots(KafkaService kafkaService, ConsumerPool pool, Executor executor,
+                   Supplier<Producer<byte[], byte[]>> producerFactory, Path directory, int blockBytes, int window,
+                   Duration maxDuration, Clock clock) {
+        this.kafkaService = kafkaService;
+        this.pool = pool;
+        this.executor = executor;
+        this.producerFactory = producerFactory;
+        this.directory = directory;
+        this.blockBytes = blockBytes;
+        this.window = window;
+        this.maxDuration = maxDuration;
+        this.clock = clock;
+    }
+
+    // Large batches and a short linger: an import is a bulk load, so throughput matters more than latency.
+    private static Supplier<Producer<byte[], byte[]>> producerFactory(String bootstrapServers) {
+        AtomicInteger clientIds = new AtomicInteger();
+        return () -> {
+            Properties props = new Properties();
+            props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+            props.put(ProducerConfig.CLIENT_ID_CONFIG, "kafka-admin-api-import-" + clientIds.incrementAndGet());
+            props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+            props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+            props.put(ProducerConfig.BATCH_SIZE_CONFIG, 262144);
+            props.put(ProducerConfig.LINGER_MS_CONFIG, 20);
+            props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+            props.put(ProducerConfig.ACKS_CONFIG, "all");
+            return new KafkaProducer<>(props);
+        };
+    }
+
+    /** The snapshot files in the snapshot directory, newest first. Unreadable files are left out. */
+    public List<TopicSnapshotInfo> list() throws IOException {
+        List<TopicSnapshotInfo> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path path : paths) {
+                try (SnapshotFile.Reader reader = SnapshotFile.open(path, 4096)) {
+                    SnapshotFile.Info info = reader.info();
+                    files.add(new TopicSnapshotInfo(path.getFileName().toString(), info.topic(), info.partitions(),
+                            info.records(), info.blocks(), Files.size(path), info.createdAt(), info.complete()));
+                } catch (IOException e) {
+                    log.debug("Skipping {}: {}", path, e.getMessage());
+                }
+            }
+        }
+        files.sort(Comparator.comparing(TopicSnapshotInfo::createdAt).reversed());
+        return files;
+    }
+
+    /**
+     * Starts exporting {@code topic} to {@code file} (named after the topic and time if null).
+     *
+     * @throws InvalidRequestException if the name is invalid or the file exists
+     */
+    public SnapshotJobStatus export(String topic, int partitions, String file) throws IOException {
+        String name = file != null ? fileName(file) : topic + "-" + FILE_TIME.format(clock.instant()) + EXTENSION;
+        Path path = directory.resolve(name);
+        Files.createDirectories(directory);
+        SnapshotFile.Writer writer;
+        try {
+            writer = SnapshotFile.create(path, topic, partitions, clock.instant(), blockBytes, window);
+        } catch (FileAlreadyExistsException e) {
+            throw new InvalidRequestException("Snapshot file '" + name + "' already exists.");
+        }
+        Job job = new Job(Type.EXPORT, topic, name);
+        SnapshotJobStatus status = submit(job, () -> runExport(job, writer, path, partitions));
+        if (status.state() == State.FAILED) {
+            writer.close();
+            Files.deleteIfExists(path);
+        }
+        return status;
+    }
+
+    /**
+     * Starts replaying {@code file} into {@code topic}, which has {@code partitions} partitions. With
+     * {@code keepTimestamps} the records keep their original timestamps; otherwise the producer stamps them.
+     *
+     * @throws InvalidRequestException if the file does not exist, is not a snapshot or is incomplete
+     */
+    public SnapshotJobStatus importSnapshot(String file, String topic, int partitions, boolean keepTimestamps)
+            throws IOException {
+        String name = fileName(file);
+        Path path = directory.resolve(name);
+        if (!Files.isRegularFile(path)) {
+            throw new InvalidRequestException("No snapshot file '" + name + "'.");
+        }
+        SnapshotFile.Reader reader;
+        try {
+            reader = SnapshotFile.open(path, window);
+        } catch (IOException e) {
+            throw new InvalidRequestException("'" + name + "' cannot be imported: " + e.getMessage());
+        }
+        if (!reader.info().complete()) {
+            reader.close();
+            throw new InvalidRequestException("'" + name + "' is an export that did not finish.");
+        }
+        Job job = new Job(Type.IMPORT, topic, name);
+        job.total = reader.info().records();
+        SnapshotJobStatus status = submit(job, () -> runImport(job, reader, partitions, keepTimestamps));
+        if (status.state() == State.FAILED) {
+            reader.close();
+        }
+        return status;
+    }
+
+    /** Status of a running or recent job, or null if there is none with that id. */
+    public SnapshotJobStatus status(String id) {
+        Job job;
+        synchronized (jobs) {
+            job = jobs.get(id);
+        }
+        return job != null ? job.status() : null;
+    }
+
+    /** Asks a running job to stop. Returns its status, or null if no such job is running. */
+    public SnapshotJobStatus cancel(String id) {
+        Job job;
+        synchronized (jobs) {
+            job = jobs.get(id);
+        }
+        if (job == null || job.finishedAt != null) {
+            return null;
+        }
+        job.cancelRequested = true;
+        return job.status();
+    }
+
+    static String fileName(String file) {
+        if (!FILE_NAME.matcher(file).matches()) {
+            throw new InvalidRequestException("Snapshot file names may only use letters, digits, '.', '_' and '-'.");
+        }
+        return file.endsWith(EXTENSION) ? file : file + EXTENSION;
+    }
+
+    private SnapshotJobStatus submit(Job job, Runnable work) {
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+            for (Iterator<Job> it = jobs.values().iterator(); jobs.size() > RETAINED_JOBS && it.hasNext(); ) {
+                if (it.next().finishedAt != null) {
+                    it.remove();
+                }
+            }
+        }
+        try {
+            executor.execute(work);
+        } catch (RejectedExecutionException e) {
+            job.finish(State.FAILED, "Could not start the job: " + e.getMessage());
+        }
+        return job.status();
+    }
+
+    private void runExport(Job job, SnapshotFile.Writer writer, Path path, int partitions) {
+        boolean finished = false;
+        try (writer) {
+            List<TopicPartition> topicPartitions = new ArrayList<>();
+            for (int i = 0; i < partitions; i++) {
+                topicPartitions.add(new TopicPartition(job.topic, i));
+            }
+            Map<TopicPartition, Long> starts = kafkaService.listOffsets(topicPartitions, OffsetSpec.earliest())
+                    .join();
+            Map<TopicPartition, Long> ends = kafkaService.listOffsets(topicPartitions, OffsetSpec.latest()).join();
+            List<MessageBrowser.Range> ranges = new ArrayList<>();
+            for (TopicPartition partition : topicPartitions) {
+                Long start = starts.get(partition);
+                Long end = ends.get(partition);
+                if (start == null || end == null) {
+                    throw new IllegalStateException("No offsets for " + partition + ".");
+                }
+                if (start < end) {
+                    ranges.add(new MessageBrowser.Range(partition.partition(), start, end));
+                    job.total += end - start;
+                }
+            }
+
+            long deadline = System.nanoTime() + maxDuration.toNanos();
+            try (ConsumerPool.Lease lease = pool.borrow(maxDuration)) {
+                for (MessageBrowser.Range range : ranges) {
+                    if (job.cancelRequested) {
+                        break;
+                    }
+                    boolean inTime;
+                    try {
+                        inTime = MessageBrowser.poll(lease.consumer(), job.topic, List.of(range), deadline,
+                                record -> {
+                                    writer.append(record);
+                                    job.records.increment();
+                                    job.fileBytes = writer.bytes();
+                                    return true;
+                                }, () -> job.cancelRequested);
+                    } catch (RuntimeException e) {
+                        lease.discard();
+                        throw e;
+                    }
+                    if (!inTime) {
+                        throw new IOException("The export took longer than " + maxDuration.toMillis() + " ms.");
+                    }
+                }
+            }
+            if (!job.cancelRequested) {
+                writer.finish();
+                job.fileBytes = writer.bytes();
+                finished = true;
+            }
+            job.finish(finished ? State.COMPLETED : State.CANCELLED, null);
+        } catch (Exception e) {
+            job.finish(State.FAILED, KafkaFutures.unwrap(e).toString());
+        } finally {
+            if (!finished) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Could not delete the unfinished snapshot {}: {}", path, e.toString());
+                }
+            }
+        }
+    }
+
+    private void runImport(Job job, SnapshotFile.Reader reader, int partitions, boolean keepTimestamps) {
+        try (reader; Producer<byte[], byte[]> producer = producerFactory.get()) {
+            AtomicReference<String> firstError = new AtomicReference<>();
+            List<ConsumerRecord<byte[], byte[]>> block;
+            while (!job.cancelRequested && (block = reader.next()) != null) {
+                for (ConsumerRecord<byte[], byte[]> record : block) {
+                    Integer partition = record.partition() < partitions ? record.partition() : null;
+                    Long timestamp = keepTimestamps ? record.timestamp() : null;
+                    producer.send(new ProducerRecord<>(job.topic, partition, timestamp, record.key(), record.value(),
+                            record.headers()), (metadata, exception) -> {
+                        if (exception != null) {
+                            job.failed.increment();
+                            firstError.compareAndSet(null, exception.toString());
+                        } else {
+                            job.records.increment();
+                        }
+                    });
+                }
+                job.fileBytes = reader.position();
+            }
+            producer.flush();
+            job.finish(job.cancelRequested ? State.CANCELLED : State.COMPLETED, firstError.get());
+        } catch (Exception e) {
+            job.finish(State.FAILED, KafkaFutures.unwrap(e).toString());
+        }
+    }
+
+    // Updated by the job's thread (and an import's producer I/O thread); read by status requests.
+    private final class Job {
+
+        private final String id = UUID.randomUUID().toString();
+        private final Type type;
+        private final String topic;
+        private final String file;
+        private final Instant startedAt = clock.instant();
+        private final LongAdder records = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private volatile long total;
+        private volatile long fileBytes;
+        private volatile boolean cancelRequested;
+        private volatile State state = State.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        Job(Type type, String topic, String file) {
+            this.type = type;
+            this.topic = topic;
+            this.file = file;
+        }
+
+        void finish(State state, String error) {
+            this.state = state;
+            this.error = error;
+            this.finishedAt = clock.instant();
+        }
+
+        SnapshotJobStatus status() {
+            State reported = state == State.RUNNING && cancelRequested ? State.CANCELLING : state;
+            return new SnapshotJobStatus(id, type, topic, file, reported, records.sum(), total, failed.sum(),
+                    fileBytes, startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package net.rohitdhiman.springkafkaadminapi.benchmark;
+
+import org.apache.kafka.clients.admin.*;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Throughput benchmark for {@code GET /api/topics/{name}} under many concurrent clients.
+ * The AdminClient is mocked with a fixed broker latency and the topic is never in the metadata snapshot,
+ * so every request goes through a live describe (and the AdminClient concurrency limiter).
+ * Subclasses choose the request thread model; run with {@code mvn test -Pbenchmark}.
+ * <p>
+ * Tunable with {@code -Dbenchmark.clients}, {@code -Dbenchmark.seconds} and {@code -Dbenchmark.broker-latency-ms}.
+ */
+@Tag("benchmark")
+abstract class AbstractTopicDescribeBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractTopicDescribeBenchmark.class);
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+    private static final int WARMUP_SECONDS = Integer.getInteger("benchmark.warmup-seconds", 5);
+    private static final int MEASURE_SECONDS = Integer.getInteger("benchmark.seconds", 15);
+    private static final int BROKER_LATENCY_MS = Integer.getInteger("benchmark.broker-latency-ms", 5);
+    private static final String TOPIC = "benchmark-topic";
+
+    @MockitoBean
+    private AdminClient adminClient;
+
+    @LocalServerPort
+    private int port;
+
+    private ScheduledExecutorService broker;
+
+    /** Label printed with the results, e.g. "platform" or "virtual". */
+    abstract String threadModel();
+
+    @BeforeEach
+    void setUpBroker() {
+        broker = Executors.newSingleThreadScheduledExecutor();
+        Node node = new Node(1, "localhost", 9092);
+
+        DescribeClusterResult clusterResult = mock(DescribeClusterResult.class);
+        when(clusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture("benchmark-cluster"));
+        when(clusterResult.controller()).thenReturn(KafkaFuture.completedFuture(node));
+        when(clusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(List.of(node)));
+        when(adminClient.describeCluster(any(DescribeClusterOptions.class))).thenReturn(clusterResult);
+
+        ListTopicsResult topicsResult = mock(ListTopicsResult.class);
+        when(topicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of()));
+        when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(topicsResult);
+
+        ListConsumerGroupsResult groupsResult = mock(ListConsumerGroupsResult.class);
+        when(groupsResult.all()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        when(adminClient.listConsumerGroups(any(ListConsumerGroupsOptions.class))).thenReturn(groupsResult);
+
+        TopicDescription description = new TopicDescription(TOPIC, false,
+                List.of(new TopicPartitionInfo(0, node, List.of(node), List.of(node))));
+        when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            Map<String, KafkaFuture<TopicDescription>> futures = new HashMap<>();
+            for (String name : names) {
+                KafkaFutureImpl<TopicDescription> future = new KafkaFutureImpl<>();
+                broker.schedule(() -> future.complete(description), BROKER_LATENCY_MS, TimeUnit.MILLISECONDS);
+                futures.put(name, future);
+            }
+            DescribeTopicsResult result = mock(DescribeTopicsResult.class);
+            when(result.topicNameValues()).thenReturn(futures);
+            // The metadata refresh describes all topics at once
+            Map<String, TopicDescription> all = new HashMap<>();
+            names.forEach(name -> all.put(name, description));
+            when(result.allTopicNames()).thenReturn(KafkaFuture.allOf(futures.values().toArray(KafkaFuture[]::new))
+                    .thenApply(ignored -> all));
+            return result;
+        });
+    }
+
+    @AfterEach
+    void tearDownBroker() {
+        broker.shutdownNow();
+    }
+
+    @Test
+    void describeTopicUnderConcurrentClients() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(32))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/topics/" + TOPIC))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        AtomicBoolean measuring = new AtomicBoolean();
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long[][] latencies = new long[CLIENTS][];
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch finished = new CountDownLatch(CLIENTS);
+
+        for (int c = 0; c < CLIENTS; c++) {
+            int clientIndex = c;
+            clients.execute(() -> {
+                long[] samples = new long[4096];
+                int count = 0;
+                try {
+                    while (running.get()) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        long elapsed = System.nanoTime() - start;
+                        if (!measuring.get()) {
+                            continue;
+                        }
+                        if (response.statusCode() != 200) {
+                            failed.increment();
+                            continue;
+                        }
+                        completed.increment();
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = elapsed;
+                    }
+                } catch (Exception e) {
+                    failed.increment();
+                } finally {
+                    latencies[clientIndex] = Arrays.copyOf(samples, count);
+                    finished.countDown();
+                }
+            });
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(WARMUP_SECONDS));
+        measuring.set(true);
+        long start = System.nanoTime();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(MEASURE_SECONDS));
+        measuring.set(false);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        running.set(false);
+        assertTrue(finished.await(60, TimeUnit.SECONDS), "clients did not stop");
+        clients.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        log.info("[{} threads] {} clients, {} ms broker latency: {} req/s, p50 {} ms, p99 {} ms, max {} ms, {} errors",
+                threadModel(), CLIENTS, BROKER_LATENCY_MS, String.format("%.0f", completed.sum() / elapsedSeconds),
+                String.format("%.1f", percentile(all, 0.50)), String.format("%.1f", percentile(all, 0.99)),
+                String.format("%.1f", percentile(all, 1.0)), failed.sum());
+
+        assertEquals(0, failed.sum());
+        assertTrue(completed.sum() > 0);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
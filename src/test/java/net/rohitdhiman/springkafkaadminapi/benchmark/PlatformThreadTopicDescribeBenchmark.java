@@ -0,0 +1,19 @@
+package net.rohitdhiman.springkafkaadminapi.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs {@link AbstractTopicDescribeBenchmark} with Tomcat's default platform-thread pool.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=false",
+        "kafka.admin.metadata.initial-delay-ms=3600000",
+        "kafka.admin.lag.initial-delay-ms=3600000"
+})
+class PlatformThreadTopicDescribeBenchmark extends AbstractTopicDescribeBenchmark {
+
+    @Override
+    String threadModel() {
+        return "platform";
+    }
+}
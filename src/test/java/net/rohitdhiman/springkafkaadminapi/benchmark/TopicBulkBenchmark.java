@@ -0,0 +1,103 @@
+package net.rohitdhiman.springkafkaadminapi.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.config.AdminTimeoutProperties;
+import net.rohitdhiman.springkafkaadminapi.dto.BulkTopicResult;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicOperationResult.Status;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicSpec;
+import net.rohitdhiman.springkafkaadminapi.service.AdminCallLimiter;
+import net.rohitdhiman.springkafkaadminapi.service.AdminCallMetrics;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.KafkaService;
+import net.rohitdhiman.springkafkaadminapi.service.TopicBulkOperations;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Creates and deletes 1000 topics against an embedded single-node KRaft broker with different batch sizes
+ * and numbers of batches in flight, from one topic per call (the old one-request-per-topic path) upwards.
+ * Run with {@code mvn test -Pbenchmark}; {@code -Dbenchmark.topics} changes the topic count.
+ */
+@Tag("benchmark")
+class TopicBulkBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(TopicBulkBenchmark.class);
+
+    private static final int TOPICS = Integer.getInteger("benchmark.topics", 1000);
+
+    // {batch size, batches in flight}
+    private static final int[][] CONFIGURATIONS = {{1, 1}, {1, 8}, {50, 1}, {100, 4}, {250, 4}, {1000, 1}};
+
+    private static EmbeddedKafkaKraftBroker broker;
+    private static AdminClient adminClient;
+    private static KafkaService kafkaService;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1);
+        broker.afterPropertiesSet();
+        adminClient = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()));
+        kafkaService = new KafkaService(adminClient, new AdminTimeoutProperties(),
+                new AdminCallLimiter(64, new SimpleMeterRegistry()), new AdminCallMetrics(new SimpleMeterRegistry()));
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        adminClient.close();
+        broker.destroy();
+    }
+
+    @Test
+    void createAndDeleteTopics() {
+        // Warm up the broker and client once so the first configuration is not penalised.
+        run(0, 100, 4, Math.min(TOPICS, 200));
+
+        for (int i = 0; i < CONFIGURATIONS.length; i++) {
+            int[] configuration = CONFIGURATIONS[i];
+            run(i + 1, configuration[0], configuration[1], TOPICS);
+        }
+    }
+
+    private void run(int round, int batchSize, int inFlight, int topicCount) {
+        TopicBulkOperations bulk = new TopicBulkOperations(kafkaService, mock(ClusterMetadataCache.class),
+                batchSize, inFlight, topicCount);
+        List<TopicSpec> specs = new ArrayList<>(topicCount);
+        List<String> names = new ArrayList<>(topicCount);
+        for (int i = 0; i < topicCount; i++) {
+            String name = "bench-" + round + "-" + i;
+            specs.add(new TopicSpec(name, 1, (short) 1, null));
+            names.add(name);
+        }
+
+        long start = System.nanoTime();
+        BulkTopicResult created = bulk.createTopics(specs).join();
+        double createSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        BulkTopicResult deleted = bulk.deleteTopics(names).join();
+        double deleteSeconds = (System.nanoTime() - start) / 1e9;
+
+        if (round > 0) {
+            log.info("{} topics, batch {} x {} in flight: create {} s ({} topics/s), delete {} s ({} topics/s)",
+                    topicCount, batchSize, inFlight, String.format("%.2f", createSeconds),
+                    String.format("%.0f", topicCount / createSeconds), String.format("%.2f", deleteSeconds),
+                    String.format("%.0f", topicCount / deleteSeconds));
+        }
+        assertEquals(topicCount, created.summary().getOrDefault(Status.CREATED, 0), created.summary().toString());
+        assertEquals(topicCount, deleted.summary().getOrDefault(Status.DELETED, 0), deleted.summary().toString());
+    }
+}
@@ -0,0 +1,22 @@
+package net.rohitdhiman.springkafkaadminapi.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs {@link AbstractTopicDescribeBenchmark} with request handling on virtual threads. Needs Java 21.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "kafka.admin.metadata.initial-delay-ms=3600000",
+        "kafka.admin.lag.initial-delay-ms=3600000"
+})
+class VirtualThreadTopicDescribeBenchmark extends AbstractTopicDescribeBenchmark {
+
+    @Override
+    String threadModel() {
+        return "virtual";
+    }
+}
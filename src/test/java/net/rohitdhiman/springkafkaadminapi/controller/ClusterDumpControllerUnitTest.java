@@ -0,0 +1,168 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.ZstdInputStream;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Unit tests for ClusterDumpController.
+ * Decodes each streamed dump the way a client would: decompress per Content-Encoding, then parse per Content-Type.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterDumpControllerUnitTest {
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @BeforeEach
+    void setUp() {
+        ClusterDumpController controller = new ClusterDumpController(metadataCache, json,
+                new MappingJackson2CborHttpMessageConverter(cbor), new MappingJackson2SmileHttpMessageConverter(smile));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void testDump_JsonWithoutCompression() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+
+        // Act
+        MvcResult result = performStreaming(get("/api/cluster/dump"));
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, result.getResponse().getContentType());
+        assertNull(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        JsonNode dump = json.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("dump-cluster", dump.path("cluster").path("clusterId").asText());
+        assertEquals(2, dump.path("topics").size());
+        assertEquals("orders", dump.path("topics").get(0).path("name").asText());
+        assertEquals(1, dump.path("topics").get(0).path("partitions").get(0).path("leader").asInt());
+        assertEquals("STABLE", dump.path("consumerGroups").get(0).path("state").asText());
+    }
+
+    @Test
+    void testDump_CborWithGzip() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+
+        // Act
+        MvcResult result = performStreaming(get("/api/cluster/dump")
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"));
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, result.getResponse().getContentType());
+        assertEquals("gzip", result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        byte[] body = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))
+                .readAllBytes();
+        JsonNode dump = cbor.readTree(body);
+        assertEquals(2, dump.path("topics").size());
+        assertEquals("payments", dump.path("topics").get(1).path("name").asText());
+    }
+
+    @Test
+    void testDump_SmilePrefersZstd() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+
+        // Act
+        MvcResult result = performStreaming(get("/api/cluster/dump")
+                .accept("application/x-jackson-smile")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, zstd"));
+
+        // Assert
+        assertEquals("zstd", result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        byte[] body = new ZstdInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))
+                .readAllBytes();
+        JsonNode dump = smile.readTree(body);
+        assertEquals("dump-cluster", dump.path("cluster").path("clusterId").asText());
+        assertEquals(1, dump.path("consumerGroups").size());
+    }
+
+    @Test
+    void testContentType_FollowsAcceptQuality() {
+        assertEquals(MediaType.APPLICATION_JSON, ClusterDumpController.contentType(null));
+        assertEquals(MediaType.APPLICATION_JSON, ClusterDumpController.contentType("*/*"));
+        assertEquals(MediaType.APPLICATION_CBOR,
+                ClusterDumpController.contentType("application/json;q=0.5, application/cbor"));
+        assertEquals("x-jackson-smile",
+                ClusterDumpController.contentType("text/html, application/x-jackson-smile").getSubtype());
+    }
+
+    @Test
+    void testContentEncoding_HonoursQualityValues() {
+        assertEquals("zstd", ClusterDumpController.contentEncoding("gzip;q=0.8, zstd"));
+        assertEquals("gzip", ClusterDumpController.contentEncoding("gzip, zstd;q=0.5"));
+        assertEquals("gzip", ClusterDumpController.contentEncoding("zstd;q=0, gzip;q=0.1"));
+        assertNull(ClusterDumpController.contentEncoding("br, deflate"));
+        assertNull(ClusterDumpController.contentEncoding("gzip;q=0"));
+        assertNull(ClusterDumpController.contentEncoding(null));
+    }
+
+    private MvcResult performStreaming(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult streaming = mockMvc.perform(asyncDispatch(started)).andReturn();
+        streaming.getAsyncResult();
+        return streaming;
+    }
+
+    private static ClusterSnapshot snapshot() {
+        Node node = new Node(1, "broker-1", 9092);
+        NodeInfo nodeInfo = new NodeInfo(node);
+        TopicPartitionInfo partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        Map<String, TopicDescription> topics = Map.of(
+                "orders", new TopicDescription("orders", false, List.of(partition)),
+                "payments", new TopicDescription("payments", false, List.of(partition)));
+        List<ConsumerGroupListing> groups = List.of(
+                new ConsumerGroupListing("order-processor", false, Optional.of(ConsumerGroupState.STABLE)));
+        return ClusterSnapshot.of(new ClusterInfo("dump-cluster", nodeInfo, List.of(nodeInfo)), topics, groups,
+                Instant.now());
+    }
+}
@@ -0,0 +1,176 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.config.ClusterRegistryProperties;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.exception.ClusterNotFoundException;
+import net.rohitdhiman.springkafkaadminapi.exception.GlobalExceptionHandler;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterContext;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterRegistry;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.PartitionHealthIndex;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ClusterRoutesController.
+ * Uses MockMvc with standalone setup; the registry hands out mocked cluster contexts.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterRoutesControllerUnitTest {
+
+    private static final Node BROKER = new Node(1, "localhost", 9092);
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ClusterRegistry registry;
+
+    @Mock
+    private ClusterContext euContext;
+
+    @Mock
+    private ClusterMetadataCache euCache;
+
+    @BeforeEach
+    void setUp() {
+        ClusterRoutesController controller = new ClusterRoutesController(registry, new ClusterRegistryProperties(), 1000);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testListTopics_ServedFromTheNamedCluster() throws Exception {
+        // Arrange
+        when(registry.get("eu")).thenReturn(euContext);
+        when(euContext.metadataCache()).thenReturn(euCache);
+        when(euCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot("eu-cluster",
+                Map.of("orders", topic("orders", List.of(BROKER)), "payments", topic("payments", List.of())))));
+
+        // Act & Assert
+        performAsync(get("/api/clusters/eu/topics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.content[0].links[0].href").value("http://localhost/api/clusters/eu/topics/orders"));
+    }
+
+    @Test
+    void testUnderReplicated_ServedFromTheClusterHealthIndex() throws Exception {
+        // Arrange - the index has applied the degraded snapshot; the route does not rescan the one it serves
+        PartitionHealthIndex healthIndex = new PartitionHealthIndex(10);
+        healthIndex.apply(Map.of("orders", topic("orders", List.of())));
+        when(registry.get("eu")).thenReturn(euContext);
+        when(euContext.metadataCache()).thenReturn(euCache);
+        when(euContext.healthIndex()).thenReturn(healthIndex);
+        when(euCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot("eu-cluster",
+                Map.of("orders", topic("orders", List.of(BROKER))))));
+
+        // Act & Assert
+        performAsync(get("/api/clusters/eu/topics/under-replicated"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0]").value(0));
+    }
+
+    @Test
+    void testUnknownCluster_NotFound() throws Exception {
+        // Arrange
+        when(registry.get("apac")).thenThrow(new ClusterNotFoundException("apac"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/clusters/apac/topics"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Cluster 'apac' is not configured."));
+    }
+
+    @Test
+    void testFederatedSummary_MergesAvailableClustersAndReportsFailures() throws Exception {
+        // Arrange
+        ClusterContext defaultContext = mock(ClusterContext.class);
+        ClusterMetadataCache defaultCache = mock(ClusterMetadataCache.class);
+        when(registry.names()).thenReturn(List.of("default", "eu"));
+        when(registry.get("default")).thenReturn(defaultContext);
+        PartitionHealthIndex defaultIndex = new PartitionHealthIndex(10);
+        Map<String, TopicDescription> topics = Map.of("orders", topic("orders", List.of()));
+        defaultIndex.apply(topics);
+        when(defaultContext.metadataCache()).thenReturn(defaultCache);
+        when(defaultContext.healthIndex()).thenReturn(defaultIndex);
+        when(defaultCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot("main-cluster", topics)));
+        when(registry.get("eu")).thenReturn(euContext);
+        when(euContext.metadataCache()).thenReturn(euCache);
+        when(euCache.snapshot()).thenReturn(CompletableFuture.failedFuture(
+                new org.apache.kafka.common.errors.TimeoutException("eu brokers unreachable")));
+
+        // Act & Assert
+        performAsync(get("/api/clusters/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(1))
+                .andExpect(jsonPath("$.totals.topics").value(1))
+                .andExpect(jsonPath("$.totals.underReplicatedPartitions").value(1))
+                .andExpect(jsonPath("$.clusters[0].clusterId").value("main-cluster"))
+                .andExpect(jsonPath("$.clusters[1].available").value(false))
+                .andExpect(jsonPath("$.clusters[1].error").value("eu brokers unreachable"));
+    }
+
+    @Test
+    void testFederatedSummary_TimeoutLeavesSharedLoadRunning() throws Exception {
+        // Arrange - eu's metadata load never finishes within the federation timeout
+        ClusterRegistryProperties properties = new ClusterRegistryProperties();
+        properties.setFederationTimeout(Duration.ofMillis(50));
+        mockMvc = MockMvcBuilders.standaloneSetup(new ClusterRoutesController(registry, properties, 1000)).build();
+        CompletableFuture<ClusterSnapshot> load = new CompletableFuture<>();
+        when(registry.names()).thenReturn(List.of("eu"));
+        when(registry.get("eu")).thenReturn(euContext);
+        when(euContext.metadataCache()).thenReturn(euCache);
+        when(euCache.snapshot()).thenReturn(load);
+
+        // Act & Assert
+        performAsync(get("/api/clusters/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(0))
+                .andExpect(jsonPath("$.clusters[0].available").value(false));
+        assertFalse(load.isDone());
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    // A single-partition topic with two replicas; an ISR of one broker makes it under-replicated.
+    private static TopicDescription topic(String name, List<Node> extraIsr) {
+        Node second = new Node(2, "localhost", 9093);
+        List<Node> isr = extraIsr.isEmpty() ? List.of(BROKER) : List.of(BROKER, second);
+        return new TopicDescription(name, false, List.of(new TopicPartitionInfo(0, BROKER, List.of(BROKER, second), isr)));
+    }
+
+    private static ClusterSnapshot snapshot(String clusterId, Map<String, TopicDescription> topics) {
+        ClusterInfo cluster = new ClusterInfo(clusterId, new NodeInfo(BROKER), List.of(new NodeInfo(BROKER)));
+        return ClusterSnapshot.of(cluster, topics, List.of(), Instant.now());
+    }
+}
@@ -0,0 +1,107 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult.ResourceResult;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult.Status;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigChange;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigResourceType;
+import net.rohitdhiman.springkafkaadminapi.dto.ResourceConfig;
+import net.rohitdhiman.springkafkaadminapi.service.ConfigService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ConfigController.
+ * Uses MockMvc with standalone setup and a mocked ConfigService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConfigControllerUnitTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ConfigService configService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ConfigController(configService)).build();
+    }
+
+    @Test
+    void testTopicConfig_NonDefaultValues() throws Exception {
+        // Arrange
+        ResourceConfig config = new ResourceConfig(ConfigResourceType.TOPIC, "orders",
+                List.of(new ResourceConfig.Entry("retention.ms", "86400000", "DYNAMIC_TOPIC_CONFIG", false, false)),
+                Instant.parse("2026-01-01T00:00:00Z"), null);
+        when(configService.describe(ConfigResourceType.TOPIC, List.of("orders"), false))
+                .thenReturn(CompletableFuture.completedFuture(List.of(config)));
+
+        // Act & Assert
+        performAsync(get("/api/configs/topics/orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[0].name").value("retention.ms"))
+                .andExpect(jsonPath("$.entries[0].source").value("DYNAMIC_TOPIC_CONFIG"))
+                .andExpect(jsonPath("$.error").doesNotExist());
+    }
+
+    @Test
+    void testTopicConfig_UnknownTopic() throws Exception {
+        // Arrange
+        ResourceConfig missing = new ResourceConfig(ConfigResourceType.TOPIC, "ghost", List.of(), null,
+                "Could not be described.");
+        when(configService.describe(ConfigResourceType.TOPIC, List.of("ghost"), true))
+                .thenReturn(CompletableFuture.completedFuture(List.of(missing)));
+
+        // Act & Assert
+        performAsync(get("/api/configs/topics/ghost").param("includeDefaults", "true"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testAlterConfigs_ValidateOnly() throws Exception {
+        // Arrange
+        ConfigAlterResult result = new ConfigAlterResult(true, Map.of(Status.VALIDATED, 1),
+                List.of(new ResourceResult(ConfigResourceType.TOPIC, "orders", Status.VALIDATED, null)));
+        when(configService.alter(anyList(), eq(true))).thenReturn(CompletableFuture.completedFuture(result));
+
+        // Act & Assert
+        performAsync(post("/api/configs/alter").param("validateOnly", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"changes": [{"type": "TOPIC", "name": "orders", "set": {"retention.ms": "86400000"}}]}
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.validateOnly").value(true))
+                .andExpect(jsonPath("$.summary.VALIDATED").value(1))
+                .andExpect(jsonPath("$.resources[0].status").value("VALIDATED"));
+        verify(configService).alter(List.of(new ConfigChange(ConfigResourceType.TOPIC, "orders",
+                Map.of("retention.ms", "86400000"), null)), true);
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,105 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLag;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLagSummary;
+import net.rohitdhiman.springkafkaadminapi.dto.LagRefreshStats;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionLag;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicLag;
+import net.rohitdhiman.springkafkaadminapi.service.ConsumerLagService;
+import net.rohitdhiman.springkafkaadminapi.service.ConsumerLagSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ConsumerLagController.
+ * Uses MockMvc with standalone setup and a mocked ConsumerLagService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConsumerLagControllerUnitTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ConsumerLagService lagService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ConsumerLagController(lagService)).build();
+    }
+
+    @Test
+    void testGroupLag_Success() throws Exception {
+        // Arrange
+        GroupLag lag = new GroupLag("billing", 10, List.of(
+                new TopicLag("orders", 10, List.of(new PartitionLag(0, 90, 100, 10)))), NOW);
+        when(lagService.groupLag("billing")).thenReturn(CompletableFuture.completedFuture(lag));
+
+        // Act & Assert
+        performAsync(get("/api/consumer-groups/billing/lag"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lag").value(10))
+                .andExpect(jsonPath("$.topics[0].partitions[0].endOffset").value(100));
+    }
+
+    @Test
+    void testGroupLag_NoCommittedOffsets() throws Exception {
+        // Arrange
+        when(lagService.groupLag("ghost")).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act & Assert
+        performAsync(get("/api/consumer-groups/ghost/lag"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testTopGroupLag_LimitsRankedGroups() throws Exception {
+        // Arrange
+        LagRefreshStats stats = new LagRefreshStats(NOW, 12, 3, 4, 2, 2, 0, 0);
+        ConsumerLagSnapshot snapshot = new ConsumerLagSnapshot(Map.of(), List.of(
+                new GroupLagSummary("billing", 50, 1, 2),
+                new GroupLagSummary("audit", 5, 1, 1),
+                new GroupLagSummary("shipping", 0, 1, 1)), Map.of(), stats, NOW);
+        when(lagService.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot));
+
+        // Act & Assert
+        performAsync(get("/api/consumer-groups/lag/top").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groups.length()").value(2))
+                .andExpect(jsonPath("$.groups[0].groupId").value("billing"))
+                .andExpect(jsonPath("$.refresh.endOffsetRequests").value(2));
+    }
+
+    @Test
+    void testTopGroupLag_RejectsInvalidLimit() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/consumer-groups/lag/top").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(lagService);
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,92 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.GroupOffsetReset;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupOffsetReset.PartitionReset;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetRequest.Strategy;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetResult;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.ConsumerOffsetResets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ConsumerOffsetsController.
+ * Uses MockMvc with standalone setup and a mocked ConsumerOffsetResets.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConsumerOffsetsControllerUnitTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ConsumerOffsetResets offsetResets;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ConsumerOffsetsController(offsetResets)).build();
+    }
+
+    @Test
+    void testResetOffsets_DryRun() throws Exception {
+        // Arrange
+        OffsetResetRequest request = new OffsetResetRequest(List.of("billing"), List.of("orders"),
+                Strategy.TIMESTAMP, Instant.parse("2026-01-01T00:00:00Z"), null, null);
+        OffsetResetResult result = new OffsetResetResult(true, Map.of(GroupOffsetReset.Status.PLANNED, 1), List.of(
+                new GroupOffsetReset("billing", "EMPTY", GroupOffsetReset.Status.PLANNED, null,
+                        List.of(new PartitionReset("orders", 0, 90L, 40)))), List.of(), 2);
+        when(offsetResets.reset(request, true)).thenReturn(CompletableFuture.completedFuture(result));
+
+        // Act & Assert
+        performAsync(post("/api/consumer-groups/offsets/reset").param("dryRun", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"groups": ["billing"], "topics": ["orders"], "strategy": "TIMESTAMP",
+                         "timestamp": "2026-01-01T00:00:00Z"}"""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dryRun").value(true))
+                .andExpect(jsonPath("$.groups[0].status").value("PLANNED"))
+                .andExpect(jsonPath("$.groups[0].error").doesNotExist())
+                .andExpect(jsonPath("$.groups[0].partitions[0].newOffset").value(40));
+    }
+
+    @Test
+    void testResetOffsets_RejectsInvalidRequest() throws Exception {
+        // Arrange
+        when(offsetResets.reset(any(OffsetResetRequest.class), eq(false)))
+                .thenThrow(new InvalidRequestException("At least one consumer group is required."));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/consumer-groups/offsets/reset")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"strategy\": \"EARLIEST\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,92 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.service.DiskUsageService;
+import net.rohitdhiman.springkafkaadminapi.service.DiskUsageSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for DiskUsageController.
+ * Uses MockMvc with standalone setup and a mocked DiskUsageService.
+ */
+@ExtendWith(MockitoExtension.class)
+class DiskUsageControllerUnitTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private DiskUsageService diskUsageService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new DiskUsageController(diskUsageService)).build();
+    }
+
+    @Test
+    void testTopics_PageOfLargest() throws Exception {
+        // Arrange
+        when(diskUsageService.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+
+        // Act & Assert
+        performAsync(get("/api/disk-usage/topics").param("limit", "1").param("offset", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.offset").value(1))
+                .andExpect(jsonPath("$.content[0].topic").value("orders"))
+                .andExpect(jsonPath("$.content[0].bytesPerSecond").doesNotExist());
+    }
+
+    @Test
+    void testTopicPartitions_UnknownTopic() throws Exception {
+        // Arrange
+        when(diskUsageService.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+
+        // Act & Assert
+        performAsync(get("/api/disk-usage/topics/ghost/partitions"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testTopics_RejectsUnknownSort() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/disk-usage/topics").param("sort", "name"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(diskUsageService);
+    }
+
+    private static DiskUsageSnapshot snapshot() {
+        List<TopicDiskUsage> topics = List.of(new TopicDiskUsage("payments", 1, 5000, 10_000, null),
+                new TopicDiskUsage("orders", 1, 1000, 2000, null));
+        PartitionDiskUsage payments = new PartitionDiskUsage("payments", 0, 2, 5000, 10_000, null);
+        PartitionDiskUsage orders = new PartitionDiskUsage("orders", 0, 2, 1000, 2000, null);
+        return new DiskUsageSnapshot(List.of(), topics, topics, List.of(payments, orders), List.of(payments, orders),
+                Map.of("payments", List.of(payments), "orders", List.of(orders)), Map.of(), 12,
+                Instant.parse("2026-01-01T00:00:00Z"), null);
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
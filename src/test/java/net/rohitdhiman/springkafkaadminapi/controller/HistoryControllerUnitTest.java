@@ -0,0 +1,104 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.HistoryBucket;
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff;
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff.PartitionCountChange;
+import net.rohitdhiman.springkafkaadminapi.dto.SeriesHistory;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.LagHistoryService;
+import net.rohitdhiman.springkafkaadminapi.service.MetadataStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for HistoryController.
+ * Uses MockMvc with standalone setup, a mocked LagHistoryService and a mocked MetadataStore.
+ */
+@ExtendWith(MockitoExtension.class)
+class HistoryControllerUnitTest {
+
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-01-01T01:00:00Z");
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private LagHistoryService historyService;
+
+    @Mock
+    private MetadataStore metadataStore;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new HistoryController(historyService, metadataStore)).build();
+    }
+
+    @Test
+    void testGroupLagHistory_PassesRangeAndBuckets() throws Exception {
+        // Arrange
+        SeriesHistory history = new SeriesHistory("billing", "messages", FROM, TO, 60_000,
+                List.of(new HistoryBucket(FROM, 5, 15, 10, 2)));
+        when(historyService.groupLag("billing", FROM, TO, 60)).thenReturn(history);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/consumer-groups/billing/lag/history")
+                        .param("from", FROM.toString())
+                        .param("to", TO.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets[0].max").value(15))
+                .andExpect(jsonPath("$.bucketMs").value(60000));
+    }
+
+    @Test
+    void testTopicThroughput_DefaultsToLastHour() throws Exception {
+        // Arrange
+        when(historyService.topicThroughput(eq("orders"), any(), any(), eq(10))).thenAnswer(invocation -> {
+            Instant from = invocation.getArgument(1);
+            Instant to = invocation.getArgument(2);
+            return new SeriesHistory("orders", "messages/s", from, to, 360_000, List.of());
+        });
+
+        // Act & Assert
+        mockMvc.perform(get("/api/topics/orders/throughput").param("buckets", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unit").value("messages/s"));
+        verify(historyService).topicThroughput(eq("orders"),
+                argThat(from -> from.plus(Duration.ofHours(1)).isBefore(Instant.now().plusSeconds(1))), any(), eq(10));
+    }
+
+    @Test
+    void testMetadataDiff_PassesRangeAndLeavesOutEmptyLists() throws Exception {
+        // Arrange
+        when(metadataStore.diff(FROM, TO)).thenReturn(new MetadataDiff(FROM, TO, FROM, TO, List.of("audit"),
+                List.of(), List.of(new PartitionCountChange("orders", 3, 6)), List.of(), List.of(), List.of(), false));
+        when(metadataStore.diff(TO, FROM)).thenThrow(new InvalidRequestException("'to' must not be before 'from'."));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/cluster/history/diff")
+                        .param("from", FROM.toString())
+                        .param("to", TO.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.topicsCreated[0]").value("audit"))
+                .andExpect(jsonPath("$.partitionCounts[0].after").value(6))
+                .andExpect(jsonPath("$.topicsDeleted").doesNotExist());
+        mockMvc.perform(get("/api/cluster/history/diff")
+                        .param("from", TO.toString())
+                        .param("to", FROM.toString()))
+                .andExpect(status().isBadRequest());
+    }
+}
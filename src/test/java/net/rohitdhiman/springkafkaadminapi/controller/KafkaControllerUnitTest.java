@@ -1,22 +1,53 @@
 package net.rohitdhiman.springkafkaadminapi.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.jayway.jsonpath.JsonPath;
+import net.rohitdhiman.springkafkaadminapi.config.KafkaJacksonModule;
+import net.rohitdhiman.springkafkaadminapi.dto.BulkTopicResult;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChange;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChanges;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicOperationResult;
 import net.rohitdhiman.springkafkaadminapi.exception.TopicAlreadyExistsException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
 import net.rohitdhiman.springkafkaadminapi.service.KafkaService;
-import org.apache.kafka.clients.admin.ListTopicsResult;
-import org.apache.kafka.common.KafkaFuture;
+import net.rohitdhiman.springkafkaadminapi.service.PartitionHealthIndex;
+import net.rohitdhiman.springkafkaadminapi.service.TopicBulkOperations;
+import net.rohitdhiman.springkafkaadminapi.service.TopicDescribeCoalescer;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberAssignment;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.ConsumerGroupState;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -26,19 +57,40 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Unit tests for KafkaController.
  * Uses MockMvc with standalone setup for lightweight testing of the web layer with mocked service.
  * These tests run fast without starting the full Spring context or any Kafka infrastructure.
+ * All endpoints are asynchronous, so requests go through {@link #performAsync} to dispatch the completed result.
  */
 @ExtendWith(MockitoExtension.class)
 class KafkaControllerUnitTest {
 
     private MockMvc mockMvc;
 
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json()
+            .factory(new CBORFactory()).modules(new KafkaJacksonModule()).build();
+
     @Mock
     private KafkaService kafkaService;
 
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @Mock
+    private PartitionHealthIndex healthIndex;
+
+    @Mock
+    private TopicDescribeCoalescer describeCoalescer;
+
+    @Mock
+    private TopicBulkOperations bulkOperations;
+
     @BeforeEach
     void setUp() {
-        KafkaController controller = new KafkaController(kafkaService);
-        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        KafkaController controller = new KafkaController(kafkaService, metadataCache, healthIndex, describeCoalescer, bulkOperations, 1000);
+        // The legacy description shape needs the module Spring Boot registers with its ObjectMappers.
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().modules(new KafkaJacksonModule()).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper),
+                        new MappingJackson2CborHttpMessageConverter(cborMapper))
+                .build();
     }
 
     @Test
@@ -51,11 +103,12 @@ class KafkaControllerUnitTest {
         List<net.rohitdhiman.springkafkaadminapi.dto.NodeInfo> nodes = Arrays.asList(nodeInfo1, nodeInfo2);
         net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo clusterInfo = 
             new net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo("test-cluster-id", nodeInfo1, nodes);
-        when(kafkaService.describeCluster()).thenReturn(clusterInfo);
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(clusterInfo, Map.of())));
 
         // Act & Assert
-        mockMvc.perform(get("/api/cluster"))
+        performAsync(get("/api/cluster"))
                 .andExpect(status().isOk())
+                .andExpect(header().exists(KafkaController.METADATA_AGE_HEADER))
                 .andExpect(jsonPath("$.clusterId").value("test-cluster-id"))
                 .andExpect(jsonPath("$.nodes").isArray())
                 .andExpect(jsonPath("$.nodes.length()").value(2));
@@ -64,39 +117,240 @@ class KafkaControllerUnitTest {
     @Test
     void testDescribeCluster_Error() throws Exception {
         // Arrange
-        when(kafkaService.describeCluster()).thenThrow(new ExecutionException(new RuntimeException("Kafka error")));
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
 
         // Act & Assert
-        mockMvc.perform(get("/api/cluster"))
+        performAsync(get("/api/cluster"))
                 .andExpect(status().isInternalServerError());
     }
 
     @Test
     void testListTopics_Success() throws Exception {
         // Arrange
-        ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
-        @SuppressWarnings("unchecked")
-        KafkaFuture<Set<String>> future = mock(KafkaFuture.class);
-        Set<String> topics = Set.of("topic1", "topic2", "topic3");
-        
-        when(kafkaService.listTopics()).thenReturn(listTopicsResult);
-        when(listTopicsResult.names()).thenReturn(future);
-        when(future.get()).thenReturn(topics);
-
-        // Act & Assert - Just verify it returns OK and service is called
-        mockMvc.perform(get("/api/topics"))
+        Map<String, TopicDescription> topics = Map.of(
+                "topic1", topicDescription("topic1"),
+                "topic2", topicDescription("topic2"),
+                "topic3", topicDescription("topic3"));
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, topics)));
+
+        // Act & Assert - topics are served from the metadata snapshot, not from the brokers
+        performAsync(get("/api/topics"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(KafkaController.METADATA_AGE_HEADER))
+                .andExpect(jsonPath("$.content.length()").value(3));
+
+        verifyNoInteractions(kafkaService);
+    }
+
+    @Test
+    void testListTopics_PagesWithCursor() throws Exception {
+        // Arrange
+        Map<String, TopicDescription> topics = Map.of(
+                "orders", topicDescription("orders"),
+                "payments", topicDescription("payments"),
+                "shipments", topicDescription("shipments"));
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, topics)));
+
+        // Act - first page
+        MvcResult first = performAsync(get("/api/topics").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("orders"))
+                .andExpect(jsonPath("$.content[0].partitions").value(1))
+                .andExpect(jsonPath("$.content[0].links[0].href").value("http://localhost/api/topics/orders"))
+                .andExpect(jsonPath("$.links[1].rel").value("next"))
+                .andReturn();
+        String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+
+        // Assert - the cursor resumes after the last topic of the previous page
+        performAsync(get("/api/topics").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("shipments"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testListTopics_FiltersAndSorts() throws Exception {
+        // Arrange
+        Map<String, TopicDescription> topics = Map.of(
+                "orders.eu", topicDescription("orders.eu"),
+                "orders.us", topicDescription("orders.us"),
+                "orders.us-dlq", topicDescription("orders.us-dlq"),
+                "payments", topicDescription("payments"));
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, topics)));
+
+        // Act & Assert
+        performAsync(get("/api/topics")
+                        .param("prefix", "orders.")
+                        .param("pattern", ".*\\.[a-z]{2}")
+                        .param("sort", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("orders.us"))
+                .andExpect(jsonPath("$.content[1].name").value("orders.eu"));
+    }
+
+    @Test
+    void testListTopics_InvalidPatternIsBadRequest() throws Exception {
+        // Act & Assert - rejected before the snapshot is consulted
+        mockMvc.perform(get("/api/topics").param("pattern", "orders.("))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(metadataCache);
+    }
+
+    @Test
+    void testStreamTopics_WritesOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        Map<String, TopicDescription> topics = Map.of(
+                "orders", topicDescription("orders"),
+                "payments", topicDescription("payments"));
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, topics)));
+
+        // Act
+        MvcResult started = mockMvc.perform(get("/api/topics").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult streaming = mockMvc.perform(asyncDispatch(started)).andReturn();
+        streaming.getAsyncResult();
+
+        // Assert
+        String[] lines = streaming.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("orders", JsonPath.read(lines[0], "$.name"));
+        assertEquals("http://localhost/api/topics/payments", JsonPath.read(lines[1], "$.links[0].href"));
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, streaming.getResponse().getContentType());
+    }
+
+    @Test
+    void testDescribeTopic_FromSnapshot() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of("topic1", topicDescription("topic1")))));
+
+        // Act & Assert
+        performAsync(get("/api/topics/topic1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(KafkaController.METADATA_AGE_HEADER));
+
+        verifyNoInteractions(kafkaService);
+    }
+
+    @Test
+    void testDescribeTopic_CompactShapeListsBrokersOnce() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of("orders", replicatedTopic("orders")))));
+
+        // Act & Assert
+        performAsync(get("/api/topics/orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("orders"))
+                .andExpect(jsonPath("$.brokers.length()").value(3))
+                .andExpect(jsonPath("$.brokers[0].host").value("broker-1"))
+                .andExpect(jsonPath("$.brokers[0].rack").doesNotExist())
+                .andExpect(jsonPath("$.partitions[0].leader").value(1))
+                .andExpect(jsonPath("$.partitions[0].replicas").value(contains(1, 2, 3)))
+                .andExpect(jsonPath("$.partitions[0].isr").value(contains(1, 2)))
+                .andExpect(jsonPath("$.partitions[1].leader").value(-1));
+    }
+
+    @Test
+    void testDescribeTopic_LegacyShapeNestsNodes() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of("orders", replicatedTopic("orders")))));
+
+        // Act & Assert
+        performAsync(get("/api/topics/orders").param("legacy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("orders"))
+                .andExpect(jsonPath("$.internal").value(false))
+                .andExpect(jsonPath("$.brokers").doesNotExist())
+                .andExpect(jsonPath("$.partitions[0].leader.host").value("broker-1"))
+                .andExpect(jsonPath("$.partitions[0].replicas[2].id").value(3))
+                .andExpect(jsonPath("$.partitions[0].isr.length()").value(2))
+                .andExpect(jsonPath("$.partitions[1].leader").value(nullValue()));
+    }
+
+    @Test
+    void testDescribeTopic_NegotiatesCbor() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of("orders", replicatedTopic("orders")))));
+
+        // Act
+        MvcResult result = performAsync(get("/api/topics/orders").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert - same document as the JSON response, in CBOR
+        assertEquals(MediaType.APPLICATION_CBOR_VALUE, result.getResponse().getContentType());
+        JsonNode topic = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("orders", topic.path("name").asText());
+        assertEquals(3, topic.path("brokers").size());
+        assertEquals(2, topic.path("partitions").get(0).path("isr").size());
+    }
+
+    @Test
+    void testDescribeTopic_NotInSnapshotFallsBackToBrokers() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of())));
+        when(describeCoalescer.describe("new-topic")).thenReturn(completed(topicDescription("new-topic")));
+
+        // Act & Assert
+        performAsync(get("/api/topics/new-topic"))
                 .andExpect(status().isOk());
-        
-        verify(kafkaService, times(1)).listTopics();
+
+        verify(describeCoalescer, times(1)).describe("new-topic");
+    }
+
+    @Test
+    void testDescribeTopic_UnknownTopicIsNotFound() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of())));
+        when(describeCoalescer.describe("ghost")).thenReturn(CompletableFuture.failedFuture(
+                new UnknownTopicOrPartitionException("Topic 'ghost' does not exist.")));
+
+        // Act & Assert
+        performAsync(get("/api/topics/ghost"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testDescribeTopics_Batch() throws Exception {
+        // Arrange - one topic is cached, the other two need a single live describe
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of("orders", topicDescription("orders")))));
+        when(kafkaService.describeExistingTopics(List.of("payments", "ghost")))
+                .thenReturn(completed(Map.of("payments", topicDescription("payments"))));
+
+        // Act & Assert
+        performAsync(post("/api/topics/describe")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"topics\": [\"orders\", \"payments\", \"ghost\", \"orders\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.topics.length()").value(2))
+                .andExpect(jsonPath("$.topics.orders").exists())
+                .andExpect(jsonPath("$.topics.payments").exists())
+                .andExpect(jsonPath("$.missing[0]").value("ghost"));
+
+        verify(kafkaService, times(1)).describeExistingTopics(anyCollection());
+    }
+
+    @Test
+    void testDescribeTopics_EmptyBatchIsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/topics/describe")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"topics\": []}"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
     void testCreateTopic_Success() throws Exception {
         // Arrange
-        doNothing().when(kafkaService).createTopic(anyString(), anyInt(), anyShort());
+        when(kafkaService.createTopic(anyString(), anyInt(), anyShort())).thenReturn(completed(null));
 
         // Act & Assert
-        mockMvc.perform(post("/api/topics")
+        performAsync(post("/api/topics")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"topicName\": \"new-topic\", \"numPartitions\": 3, \"replicationFactor\": 1}"))
                 .andExpect(status().isCreated())
@@ -106,25 +360,62 @@ class KafkaControllerUnitTest {
     @Test
     void testCreateTopic_AlreadyExists() throws Exception {
         // Arrange
-        doThrow(new TopicAlreadyExistsException("Topic 'existing-topic' already exists."))
-                .when(kafkaService).createTopic(anyString(), anyInt(), anyShort());
+        when(kafkaService.createTopic(anyString(), anyInt(), anyShort())).thenReturn(CompletableFuture.failedFuture(
+                new TopicAlreadyExistsException("Topic 'existing-topic' already exists.")));
 
         // Act & Assert
-        mockMvc.perform(post("/api/topics")
+        performAsync(post("/api/topics")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"topicName\": \"existing-topic\", \"numPartitions\": 1, \"replicationFactor\": 1}"))
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    void testCreateTopics_Bulk() throws Exception {
+        // Arrange
+        BulkTopicResult result = new BulkTopicResult(
+                Map.of(TopicOperationResult.Status.CREATED, 1, TopicOperationResult.Status.EXISTS, 1),
+                List.of(TopicOperationResult.of("tenant-a.orders", TopicOperationResult.Status.CREATED),
+                        TopicOperationResult.of("tenant-a.payments", TopicOperationResult.Status.EXISTS)));
+        when(bulkOperations.createTopics(anyList())).thenReturn(completed(result));
+
+        // Act & Assert
+        performAsync(post("/api/topics/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"topics\": [{\"topicName\": \"tenant-a.orders\", \"numPartitions\": 6},"
+                                + " {\"topicName\": \"tenant-a.payments\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary.CREATED").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("EXISTS"))
+                .andExpect(jsonPath("$.results[1].error").doesNotExist());
+    }
+
+    @Test
+    void testDeleteTopics_Bulk() throws Exception {
+        // Arrange
+        BulkTopicResult result = new BulkTopicResult(Map.of(TopicOperationResult.Status.NOT_FOUND, 1),
+                List.of(TopicOperationResult.of("ghost", TopicOperationResult.Status.NOT_FOUND)));
+        when(bulkOperations.deleteTopics(List.of("ghost"))).thenReturn(completed(result));
+
+        // Act & Assert
+        performAsync(post("/api/topics/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"topics\": [\"ghost\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("NOT_FOUND"));
+    }
+
     @Test
     void testDeleteTopic_Success() throws Exception {
         // Arrange
-        doNothing().when(kafkaService).deleteTopic(anyString());
+        when(kafkaService.deleteTopic(anyString())).thenReturn(completed(null));
 
         // Act & Assert
-        mockMvc.perform(delete("/api/topics/topic-to-delete"))
+        performAsync(delete("/api/topics/topic-to-delete"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Topic topic-to-delete deleted successfully."));
+
+        verify(metadataCache).invalidate();
     }
 
     @Test
@@ -134,14 +425,108 @@ class KafkaControllerUnitTest {
                 "topic1", List.of(0, 2),
                 "topic2", List.of(1)
         );
-        when(kafkaService.findUnderReplicatedPartitions()).thenReturn(underReplicated);
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of())));
+        when(healthIndex.version()).thenReturn(7L);
+        when(healthIndex.underReplicatedPartitions()).thenReturn(underReplicated);
 
         // Act & Assert
-        mockMvc.perform(get("/api/topics/under-replicated"))
+        performAsync(get("/api/topics/under-replicated"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(KafkaController.HEALTH_INDEX_VERSION_HEADER, "7"))
                 .andExpect(jsonPath("$.topic1").isArray())
                 .andExpect(jsonPath("$.topic1.length()").value(2))
                 .andExpect(jsonPath("$.topic2").isArray())
                 .andExpect(jsonPath("$.topic2.length()").value(1));
+
+        verifyNoInteractions(kafkaService);
+    }
+
+    @Test
+    void testGetPartitionHealthChanges_Success() throws Exception {
+        // Arrange
+        PartitionHealthChange change = new PartitionHealthChange(
+                8, "topic1", 0, 1, 3, 2, PartitionHealthChange.State.UNDER_REPLICATED);
+        when(metadataCache.snapshot()).thenReturn(completed(snapshot(null, Map.of())));
+        when(healthIndex.changesSince(7L)).thenReturn(new PartitionHealthChanges(8, false, List.of(change)));
+
+        // Act & Assert
+        performAsync(get("/api/topics/under-replicated/changes").param("since", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(8))
+                .andExpect(jsonPath("$.resync").value(false))
+                .andExpect(jsonPath("$.changes[0].topic").value("topic1"))
+                .andExpect(jsonPath("$.changes[0].state").value("UNDER_REPLICATED"));
+    }
+
+    @Test
+    void testDescribeConsumerGroup_TimeoutIsGatewayTimeout() throws Exception {
+        // Arrange
+        when(kafkaService.describeConsumerGroups(List.of("slow-group")))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // Act & Assert
+        performAsync(get("/api/consumer-groups/slow-group"))
+                .andExpect(status().isGatewayTimeout());
+    }
+
+    @Test
+    void testDescribeConsumerGroup_CompactAssignmentByTopic() throws Exception {
+        // Arrange
+        Node coordinator = new Node(2, "broker-2", 9092);
+        MemberDescription member = new MemberDescription("consumer-1-abc", Optional.empty(), "consumer-1", "/10.0.0.1",
+                new MemberAssignment(Set.of(new TopicPartition("orders", 3), new TopicPartition("orders", 0),
+                        new TopicPartition("payments", 1))));
+        ConsumerGroupDescription group = new ConsumerGroupDescription("order-processor", false, List.of(member),
+                "range", ConsumerGroupState.STABLE, coordinator);
+        when(kafkaService.describeConsumerGroups(List.of("order-processor")))
+                .thenReturn(completed(Map.of("order-processor", group)));
+
+        // Act & Assert
+        performAsync(get("/api/consumer-groups/order-processor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupId").value("order-processor"))
+                .andExpect(jsonPath("$.state").value("STABLE"))
+                .andExpect(jsonPath("$.coordinator.id").value(2))
+                .andExpect(jsonPath("$.members[0].memberId").value("consumer-1-abc"))
+                .andExpect(jsonPath("$.members[0].assignment.orders").value(contains(0, 3)))
+                .andExpect(jsonPath("$.members[0].assignment.payments").value(contains(1)));
+
+        performAsync(get("/api/consumer-groups/order-processor").param("legacy", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSimpleConsumerGroup").value(false))
+                .andExpect(jsonPath("$.members[0].consumerId").value("consumer-1-abc"))
+                .andExpect(jsonPath("$.members[0].assignment.topicPartitions.length()").value(3))
+                .andExpect(jsonPath("$.coordinator.host").value("broker-2"));
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private static <T> CompletableFuture<T> completed(T value) {
+        return CompletableFuture.completedFuture(value);
+    }
+
+    private static ClusterSnapshot snapshot(net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo cluster,
+                                            Map<String, TopicDescription> topics) {
+        return ClusterSnapshot.of(cluster, topics, List.of(), Instant.now());
+    }
+
+    // Partition 0 on brokers 1-3 with broker 3 out of sync; partition 1 has lost its leader.
+    private static TopicDescription replicatedTopic(String name) {
+        List<Node> brokers = List.of(new Node(1, "broker-1", 9092), new Node(2, "broker-2", 9092),
+                new Node(3, "broker-3", 9092));
+        return new TopicDescription(name, false, List.of(
+                new TopicPartitionInfo(0, brokers.get(0), brokers, brokers.subList(0, 2)),
+                new TopicPartitionInfo(1, null, brokers, List.of())));
+    }
+
+    private static TopicDescription topicDescription(String name) {
+        Node node = new Node(1, "localhost", 9092);
+        return new TopicDescription(name, false,
+                List.of(new TopicPartitionInfo(0, node, List.of(node), List.of(node))));
     }
 }
@@ -0,0 +1,115 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestStatus.State;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.exception.LoadTestInProgressException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.LoadGenerator;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for LoadTestController.
+ * Uses MockMvc with standalone setup, a mocked metadata cache and a mocked LoadGenerator.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoadTestControllerUnitTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @Mock
+    private LoadGenerator loadGenerator;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new LoadTestController(loadGenerator, metadataCache)).build();
+    }
+
+    @Test
+    void testStart_AcceptsRun() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+        when(loadGenerator.start(eq("orders"), any(LoadTestRequest.class))).thenReturn(new LoadTestStatus("orders",
+                State.RUNNING, 1000, 500, 0, 0, 0, 0, 0, 0, null, Instant.parse("2026-01-01T00:00:00Z"), null, null));
+
+        // Act & Assert
+        performAsync(post("/api/topics/orders/load")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"records\": 1000, \"recordsPerSecond\": 500, \"keyDistribution\": \"ZIPF\", "
+                        + "\"keyCount\": 10}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.recordsPerSecondTarget").value(500))
+                .andExpect(jsonPath("$.latency").doesNotExist());
+        verify(loadGenerator).start("orders", new LoadTestRequest(1000L, null, 500, null, 10,
+                LoadTestRequest.KeyDistribution.ZIPF, null, null, null, null));
+    }
+
+    @Test
+    void testStart_UnknownTopicAndConflict() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+        when(loadGenerator.start(eq("orders"), any(LoadTestRequest.class)))
+                .thenThrow(new LoadTestInProgressException("A load test is already running."));
+
+        // Act & Assert
+        performAsync(post("/api/topics/ghost/load").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isNotFound());
+        performAsync(post("/api/topics/orders/load").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testStatusAndCancel_NotFoundWithoutRun() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/topics/orders/load")).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/topics/orders/load")).andExpect(status().isNotFound());
+        verifyNoInteractions(metadataCache);
+    }
+
+    private static ClusterSnapshot snapshot() {
+        Node node = new Node(1, "broker-1", 9092);
+        NodeInfo nodeInfo = new NodeInfo(node);
+        TopicPartitionInfo partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        return ClusterSnapshot.of(new ClusterInfo("test", nodeInfo, List.of(nodeInfo)),
+                Map.of("orders", new TopicDescription("orders", false, List.of(partition))), List.of(),
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
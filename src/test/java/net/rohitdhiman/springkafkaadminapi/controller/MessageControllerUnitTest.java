@@ -0,0 +1,143 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Outcome;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Query;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Range;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.RecordSink;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Result;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for MessageController.
+ * Uses MockMvc with standalone setup, a mocked MessageBrowser and a mocked ClusterMetadataCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageControllerUnitTest {
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private MessageBrowser messageBrowser;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new MessageController(messageBrowser, metadataCache)).build();
+    }
+
+    @Test
+    void testMessages_StreamsRequestedPartsOfRecords() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+        Query query = new Query("orders", List.of(0), 5L, null, 2, 1024);
+        List<Range> ranges = List.of(new Range(0, 5, 7));
+        when(messageBrowser.query("orders", 1, 0, 5L, null, 2, null)).thenReturn(query);
+        when(messageBrowser.plan(query)).thenReturn(CompletableFuture.completedFuture(ranges));
+        when(messageBrowser.read(eq(query), eq(ranges), any())).thenAnswer(invocation -> {
+            RecordSink sink = invocation.getArgument(2);
+            RecordHeaders headers = new RecordHeaders(List.of(new RecordHeader("trace", "t-1".getBytes())));
+            sink.write(new ConsumerRecord<>("orders", 0, 5, 1_700_000_000_000L, TimestampType.CREATE_TIME, 2, 3,
+                    "k1".getBytes(), new byte[]{1, 2, 3}, headers, Optional.empty()));
+            return new Result(1, 8, Outcome.BYTE_LIMIT, null, Map.of(0, 6L));
+        });
+
+        // Act
+        MvcResult result = performStreaming(get("/api/topics/orders/messages")
+                .param("partition", "0").param("offset", "5").param("limit", "2")
+                .param("include", "value,headers").param("encoding", "base64"));
+
+        // Assert - no key, value and headers as base64, then where to continue
+        JsonNode body = json.readTree(result.getResponse().getContentAsByteArray());
+        JsonNode record = body.path("records").get(0);
+        assertEquals(1, body.path("records").size());
+        assertEquals(5, record.path("offset").asLong());
+        assertFalse(record.has("key"));
+        assertEquals("AQID", record.path("value").asText());
+        assertEquals("trace", record.path("headers").get(0).path("key").asText());
+        assertEquals("t-1", new String(record.path("headers").get(0).path("value").binaryValue(),
+                StandardCharsets.UTF_8));
+        assertEquals("BYTE_LIMIT", body.path("outcome").asText());
+        assertEquals(6, body.path("partitions").get(0).path("next").asLong());
+    }
+
+    @Test
+    void testMessages_UnknownTopic() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+
+        // Act & Assert
+        MvcResult started = mockMvc.perform(get("/api/topics/ghost/messages"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isNotFound());
+        verifyNoInteractions(messageBrowser);
+    }
+
+    @Test
+    void testMessages_RejectsUnknownField() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/topics/orders/messages").param("include", "payload"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(metadataCache, messageBrowser);
+    }
+
+    private MvcResult performStreaming(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult streaming = mockMvc.perform(asyncDispatch(started)).andReturn();
+        streaming.getAsyncResult();
+        return streaming;
+    }
+
+    private static ClusterSnapshot snapshot() {
+        Node node = new Node(1, "broker-1", 9092);
+        NodeInfo nodeInfo = new NodeInfo(node);
+        TopicPartitionInfo partition = new TopicPartitionInfo(0, node, List.of(node), List.of(node));
+        return ClusterSnapshot.of(new ClusterInfo("test", nodeInfo, List.of(nodeInfo)),
+                Map.of("orders", new TopicDescription("orders", false, List.of(partition))), List.of(),
+                Instant.now());
+    }
+}
@@ -0,0 +1,139 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.rohitdhiman.springkafkaadminapi.dto.MessageSearchRequest;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.MessageFilter;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Outcome;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.PartitionRange;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Progress;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Query;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.SearchListener;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Summary;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for MessageSearchController.
+ * Uses MockMvc with standalone setup and a mocked MessageSearch.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageSearchControllerUnitTest {
+
+    private static final String BODY = """
+            {"topics": ["orders"], "jsonPath": "$.tier", "jsonValue": "gold", "limit": 1}""";
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private MessageSearch messageSearch;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new MessageSearchController(messageSearch)).build();
+    }
+
+    @Test
+    void testSearch_StreamsMatchesProgressAndOutcome() throws Exception {
+        // Arrange
+        Query query = new Query(List.of("orders"), Instant.EPOCH, null,
+                MessageFilter.of(0, Long.MAX_VALUE, null, null, null, null, "$.tier", "gold"), 1);
+        List<PartitionRange> ranges = List.of(new PartitionRange("orders", 0, 0, 10));
+        when(messageSearch.query(any(MessageSearchRequest.class))).thenReturn(query);
+        when(messageSearch.plan(query)).thenReturn(CompletableFuture.completedFuture(ranges));
+        when(messageSearch.search(eq(query), eq(ranges), any())).thenAnswer(invocation -> {
+            SearchListener listener = invocation.getArgument(2);
+            listener.progress(new Progress(0, 1, 4, 10, 120, 0, 5, 0.02));
+            listener.match(new ConsumerRecord<>("orders", 0, 4, "o-4".getBytes(), "{\"tier\": \"gold\"}".getBytes()));
+            return new Summary(new Progress(0, 1, 5, 10, 150, 1, 6, 0.03), Outcome.LIMIT, null);
+        });
+
+        // Act
+        MvcResult result = performStreaming(post("/api/messages/search")
+                .contentType(MediaType.APPLICATION_JSON).content(BODY).param("include", "key"));
+
+        // Assert - one JSON object per line, the outcome last
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString().split("\n")) {
+            lines.add(json.readTree(line));
+        }
+        assertEquals(3, lines.size());
+        assertEquals("progress", lines.get(0).path("type").asText());
+        assertEquals(120, lines.get(0).path("scannedBytes").asLong());
+        assertEquals("match", lines.get(1).path("type").asText());
+        assertEquals("orders", lines.get(1).path("topic").asText());
+        assertEquals(4, lines.get(1).path("offset").asLong());
+        assertEquals("o-4", lines.get(1).path("key").asText());
+        assertFalse(lines.get(1).has("value"));
+        assertEquals("done", lines.get(2).path("type").asText());
+        assertEquals("LIMIT", lines.get(2).path("outcome").asText());
+        assertEquals(1, lines.get(2).path("matches").asInt());
+    }
+
+    @Test
+    void testSearch_UnknownTopic() throws Exception {
+        // Arrange
+        Query query = new Query(List.of("ghost"), Instant.EPOCH, null,
+                MessageFilter.of(0, Long.MAX_VALUE, "k", null, null, null, null, null), 1);
+        when(messageSearch.query(any(MessageSearchRequest.class))).thenReturn(query);
+        when(messageSearch.plan(query))
+                .thenReturn(CompletableFuture.failedFuture(new InvalidRequestException("Unknown topics: ghost.")));
+
+        // Act & Assert
+        MvcResult started = mockMvc.perform(post("/api/messages/search")
+                        .contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isBadRequest());
+        verify(messageSearch, never()).search(any(), any(), any());
+    }
+
+    @Test
+    void testSearch_RejectsInvalidRequest() throws Exception {
+        // Arrange
+        when(messageSearch.query(any(MessageSearchRequest.class)))
+                .thenThrow(new InvalidRequestException("At least one topic is required."));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/messages/search")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"key\": \"k\"}"))
+                .andExpect(status().isBadRequest());
+        verify(messageSearch, never()).plan(any());
+    }
+
+    private MvcResult performStreaming(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult streaming = mockMvc.perform(asyncDispatch(started)).andReturn();
+        streaming.getAsyncResult();
+        return streaming;
+    }
+}
@@ -0,0 +1,108 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.PreferredLeaderElectionResult;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.PartitionSkewAnalyzer;
+import net.rohitdhiman.springkafkaadminapi.service.PreferredLeaderElections;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for PartitionSkewController.
+ * Uses MockMvc with standalone setup, a mocked metadata cache and mocked PreferredLeaderElections.
+ */
+@ExtendWith(MockitoExtension.class)
+class PartitionSkewControllerUnitTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @Mock
+    private PreferredLeaderElections elections;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new PartitionSkewController(metadataCache, new PartitionSkewAnalyzer(), elections)).build();
+    }
+
+    @Test
+    void testSkew_ReportsBrokerLoadAndFixes() throws Exception {
+        // Arrange - broker 1 leads both partitions, although broker 2 is preferred for the second
+        Node broker1 = new Node(1, "broker-1", 9092);
+        Node broker2 = new Node(2, "broker-2", 9092);
+        List<TopicPartitionInfo> partitions = List.of(
+                new TopicPartitionInfo(0, broker1, List.of(broker1, broker2), List.of(broker1, broker2)),
+                new TopicPartitionInfo(1, broker1, List.of(broker2, broker1), List.of(broker1, broker2)));
+        List<NodeInfo> nodes = List.of(new NodeInfo(broker1), new NodeInfo(broker2));
+        ClusterSnapshot snapshot = ClusterSnapshot.of(new ClusterInfo("test", nodes.get(0), nodes),
+                Map.of("orders", new TopicDescription("orders", false, partitions)), List.of(),
+                Instant.parse("2026-01-01T00:00:00Z"));
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot));
+
+        // Act & Assert
+        performAsync(get("/api/cluster/skew"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.leaderSkew").value(1.0))
+                .andExpect(jsonPath("$.electablePartitions").value(1))
+                .andExpect(jsonPath("$.brokers[0].leaders").value(2))
+                .andExpect(jsonPath("$.fixes[0].action").value("ELECT_PREFERRED_LEADERS"));
+    }
+
+    @Test
+    void testElectPreferredLeaders() throws Exception {
+        // Arrange
+        when(elections.electPreferredLeaders(List.of("orders"))).thenReturn(CompletableFuture.completedFuture(
+                new PreferredLeaderElectionResult(4, 3, 1, 0, 1, List.of())));
+
+        // Act & Assert
+        performAsync(post("/api/cluster/skew/elect-preferred-leaders").param("topics", "orders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elected").value(3))
+                .andExpect(jsonPath("$.notNeeded").value(1));
+    }
+
+    @Test
+    void testElectPreferredLeaders_UnknownTopic() throws Exception {
+        // Arrange
+        when(elections.electPreferredLeaders(List.of("ghost"))).thenReturn(
+                CompletableFuture.failedFuture(new InvalidRequestException("Unknown topics: [ghost]")));
+
+        // Act & Assert
+        performAsync(post("/api/cluster/skew/elect-preferred-leaders").param("topics", "ghost"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
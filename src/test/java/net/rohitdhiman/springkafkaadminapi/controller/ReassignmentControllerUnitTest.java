@@ -0,0 +1,112 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.exception.ReassignmentInProgressException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.ReassignmentExecutor;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for ReassignmentController.
+ * Uses MockMvc with standalone setup, a mocked metadata cache and a mocked ReassignmentExecutor.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReassignmentControllerUnitTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @Mock
+    private ReassignmentExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReassignmentController(metadataCache, executor)).build();
+    }
+
+    @Test
+    void testPlan_MovesReplicasToNewBroker() throws Exception {
+        // Arrange - broker 3 holds nothing yet
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+
+        // Act & Assert
+        performAsync(post("/api/reassignments/plan")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.partitions").value(3))
+                .andExpect(jsonPath("$.movedReplicas").value(1))
+                .andExpect(jsonPath("$.brokers[2].replicasBefore").value(0))
+                .andExpect(jsonPath("$.brokers[2].replicasAfter").value(1));
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void testExecute_ConflictWhileRunning() throws Exception {
+        // Arrange
+        when(metadataCache.refresh()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+        when(executor.start(any(), any(), any())).thenThrow(new ReassignmentInProgressException(
+                "A partition reassignment is already running."));
+
+        // Act & Assert
+        performAsync(post("/api/reassignments/execute")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"throttleBytesPerSecond\": 1048576}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testStatus_NotFoundBeforeFirstExecution() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/reassignments/status"))
+                .andExpect(status().isNotFound());
+    }
+
+    // Three single-replica partitions on brokers 1 and 2, with broker 3 empty.
+    private static ClusterSnapshot snapshot() {
+        List<Node> brokers = List.of(new Node(1, "broker-1", 9092), new Node(2, "broker-2", 9092),
+                new Node(3, "broker-3", 9092));
+        List<TopicPartitionInfo> partitions = List.of(
+                new TopicPartitionInfo(0, brokers.get(0), List.of(brokers.get(0)), List.of(brokers.get(0))),
+                new TopicPartitionInfo(1, brokers.get(1), List.of(brokers.get(1)), List.of(brokers.get(1))),
+                new TopicPartitionInfo(2, brokers.get(0), List.of(brokers.get(0)), List.of(brokers.get(0))));
+        List<NodeInfo> nodes = brokers.stream().map(NodeInfo::new).toList();
+        return ClusterSnapshot.of(new ClusterInfo("test", nodes.get(0), nodes),
+                Map.of("orders", new TopicDescription("orders", false, partitions)), List.of(),
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,126 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsOptions;
+import org.apache.kafka.clients.admin.DescribeConsumerGroupsResult;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test for the asynchronous request path.
+ * Starts the real web server with only four Tomcat worker threads and a mocked AdminClient whose
+ * "slow-group" describe never answers. Far more slow requests than worker threads are parked first;
+ * healthy requests must still be served at full speed while they wait, and the parked ones must end
+ * with a gateway timeout once their operation deadline passes.
+ * <p>
+ * Waiting out the deadline takes about 25 s, so this runs with the benchmarks: {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=4",
+        "server.tomcat.threads.min-spare=4",
+        "kafka.admin.timeouts.operations.describe-consumer-groups=20s",
+        // Leave AdminClient permits free for healthy calls while the slow ones hold theirs
+        "kafka.admin.concurrency.max-in-flight=128",
+        "kafka.admin.metadata.initial-delay-ms=3600000",
+        "kafka.admin.lag.initial-delay-ms=3600000"
+})
+class SlowBrokerLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowBrokerLoadTest.class);
+
+    private static final int SLOW_REQUESTS = 64;
+    private static final int FAST_REQUESTS = 512;
+    private static final int FAST_CONCURRENCY = 32;
+
+    @MockitoBean
+    private AdminClient adminClient;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void throughputHoldsWhileBrokerIsSlow() throws Exception {
+        CountDownLatch slowCallsIssued = new CountDownLatch(SLOW_REQUESTS);
+        ConsumerGroupDescription healthy = new ConsumerGroupDescription("healthy-group", false, List.of(), "range",
+                ConsumerGroupState.STABLE, new Node(1, "localhost", 9092));
+        when(adminClient.describeConsumerGroups(anyCollection(), any(DescribeConsumerGroupsOptions.class)))
+                .thenAnswer(invocation -> {
+                    Collection<String> groupIds = invocation.getArgument(0);
+                    if (groupIds.contains("slow-group")) {
+                        slowCallsIssued.countDown();
+                        return new DescribeConsumerGroupsResult(Map.of("slow-group", new KafkaFutureImpl<>()));
+                    }
+                    return new DescribeConsumerGroupsResult(Map.of("healthy-group", KafkaFuture.completedFuture(healthy)));
+                });
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // Park far more requests on the unresponsive broker than there are servlet threads.
+        List<CompletableFuture<HttpResponse<Void>>> slow = new ArrayList<>();
+        for (int i = 0; i < SLOW_REQUESTS; i++) {
+            slow.add(client.sendAsync(request("/api/consumer-groups/slow-group"), HttpResponse.BodyHandlers.discarding()));
+        }
+        assertTrue(slowCallsIssued.await(10, TimeUnit.SECONDS), "slow requests did not reach the AdminClient");
+
+        // Drive healthy traffic in fixed-size waves while the slow requests are still pending.
+        long start = System.nanoTime();
+        int ok = 0;
+        for (int sent = 0; sent < FAST_REQUESTS; sent += FAST_CONCURRENCY) {
+            List<CompletableFuture<HttpResponse<Void>>> wave = new ArrayList<>();
+            for (int i = 0; i < FAST_CONCURRENCY; i++) {
+                wave.add(client.sendAsync(request("/api/consumer-groups/healthy-group"),
+                        HttpResponse.BodyHandlers.discarding()));
+            }
+            for (CompletableFuture<HttpResponse<Void>> response : wave) {
+                if (response.get(10, TimeUnit.SECONDS).statusCode() == 200) {
+                    ok++;
+                }
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        long slowFinished = slow.stream().filter(CompletableFuture::isDone).count();
+        log.info("Served {} healthy requests in {} s ({} req/s) with {} requests parked on a slow broker",
+                ok, String.format("%.2f", elapsedSeconds), String.format("%.0f", ok / elapsedSeconds),
+                SLOW_REQUESTS - slowFinished);
+
+        assertEquals(FAST_REQUESTS, ok);
+        assertEquals(0, slowFinished, "healthy traffic should have finished while slow requests were still waiting");
+
+        // The parked requests end once the describe-consumer-groups deadline passes.
+        for (CompletableFuture<HttpResponse<Void>> response : slow) {
+            assertEquals(504, response.get(30, TimeUnit.SECONDS).statusCode());
+        }
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+    }
+}
@@ -0,0 +1,118 @@
+package net.rohitdhiman.springkafkaadminapi.controller;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus.State;
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus.Type;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterMetadataCache;
+import net.rohitdhiman.springkafkaadminapi.service.ClusterSnapshot;
+import net.rohitdhiman.springkafkaadminapi.service.TopicSnapshots;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for TopicSnapshotController.
+ * Uses MockMvc with standalone setup, a mocked metadata cache and a mocked TopicSnapshots.
+ */
+@ExtendWith(MockitoExtension.class)
+class TopicSnapshotControllerUnitTest {
+
+    private static final Instant STARTED = Instant.parse("2026-01-01T00:00:00Z");
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @Mock
+    private TopicSnapshots topicSnapshots;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TopicSnapshotController(topicSnapshots, metadataCache)).build();
+    }
+
+    @Test
+    void testExport_AcceptsJobWithPartitionCount() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+        when(topicSnapshots.export("orders", 3, "incident")).thenReturn(new SnapshotJobStatus("job-1", Type.EXPORT,
+                "orders", "incident.ksnap", State.RUNNING, 0, 0, 0, 0, STARTED, null, null));
+
+        // Act & Assert
+        performAsync(post("/api/topics/orders/export").param("file", "incident"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.file").value("incident.ksnap"))
+                .andExpect(jsonPath("$.finishedAt").doesNotExist());
+    }
+
+    @Test
+    void testImport_UnknownTopicAndInvalidFile() throws Exception {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot()));
+        when(topicSnapshots.importSnapshot("missing", "orders", 3, false))
+                .thenThrow(new InvalidRequestException("No snapshot file 'missing.ksnap'."));
+
+        // Act & Assert
+        performAsync(post("/api/topics/ghost/import").param("file", "incident"))
+                .andExpect(status().isNotFound());
+        performAsync(post("/api/topics/orders/import").param("file", "missing").param("keepTimestamps", "false"))
+                .andExpect(status().isBadRequest());
+        verify(topicSnapshots, never()).importSnapshot(any(), eq("ghost"), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void testJobs_NotFoundForUnknownId() throws Exception {
+        // Arrange
+        when(topicSnapshots.list()).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/snapshots")).andExpect(status().isOk()).andExpect(jsonPath("$").isEmpty());
+        mockMvc.perform(get("/api/snapshots/jobs/nope")).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/snapshots/jobs/nope")).andExpect(status().isNotFound());
+        verifyNoInteractions(metadataCache);
+    }
+
+    private static ClusterSnapshot snapshot() {
+        Node node = new Node(1, "broker-1", 9092);
+        NodeInfo nodeInfo = new NodeInfo(node);
+        List<TopicPartitionInfo> partitions = List.of(
+                new TopicPartitionInfo(0, node, List.of(node), List.of(node)),
+                new TopicPartitionInfo(1, node, List.of(node), List.of(node)),
+                new TopicPartitionInfo(2, node, List.of(node), List.of(node)));
+        return ClusterSnapshot.of(new ClusterInfo("test", nodeInfo, List.of(nodeInfo)),
+                Map.of("orders", new TopicDescription("orders", false, partitions)), List.of(), STARTED);
+    }
+
+    private ResultActions performAsync(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+}
@@ -0,0 +1,140 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdminCallLimiter.
+ * Calls are plain CompletableFutures completed by the test, so permit hand-off is fully deterministic.
+ */
+class AdminCallLimiterUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdminCallLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdminCallLimiter(2, meterRegistry);
+    }
+
+    @Test
+    void testSubmit_QueuesCallsBeyondLimit() {
+        // Arrange
+        CompletableFuture<String> first = new CompletableFuture<>();
+        CompletableFuture<String> second = new CompletableFuture<>();
+        AtomicInteger thirdStarted = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> firstResult = limiter.submit(AdminOperation.DESCRIBE_TOPICS, () -> first);
+        limiter.submit(AdminOperation.DESCRIBE_TOPICS, () -> second);
+        CompletableFuture<String> thirdResult = limiter.submit(AdminOperation.DESCRIBE_TOPICS, () -> {
+            thirdStarted.incrementAndGet();
+            return CompletableFuture.completedFuture("third");
+        });
+
+        // Assert - the third call waits until a permit is released
+        assertEquals(0, thirdStarted.get());
+        assertEquals(2, limiter.inFlight());
+        assertEquals(1, limiter.queued());
+
+        first.complete("first");
+
+        assertEquals("first", firstResult.join());
+        assertEquals("third", thirdResult.join());
+        assertEquals(1, thirdStarted.get());
+        assertEquals(1, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+    }
+
+    @Test
+    void testSubmit_CallCancelledWhileQueuedNeverStarts() {
+        // Arrange
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        limiter.submit(AdminOperation.LIST_TOPICS, () -> blocker);
+        limiter.submit(AdminOperation.LIST_TOPICS, () -> blocker);
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> queued = limiter.submit(AdminOperation.LIST_TOPICS, () -> {
+            started.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+
+        // Act - e.g. the operation deadline passed while waiting for a permit
+        queued.cancel(true);
+        blocker.complete("done");
+
+        // Assert
+        assertEquals(0, started.get());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void testSubmit_CompletingResultEarlyCancelsRunningCall() {
+        // Arrange
+        CompletableFuture<String> running = new CompletableFuture<>();
+        CompletableFuture<String> result = limiter.submit(AdminOperation.DESCRIBE_CLUSTER, () -> running);
+
+        // Act
+        result.cancel(true);
+
+        // Assert - the permit comes back with the cancelled call
+        assertTrue(running.isCancelled());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void testSubmit_SynchronousFailureReleasesPermit() {
+        // Act
+        CompletableFuture<Object> result = limiter.submit(AdminOperation.CREATE_TOPICS, () -> {
+            throw new IllegalStateException("client closed");
+        });
+
+        // Assert
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void testSubmit_DeepQueueOfFastFailuresDoesNotRecurse() {
+        // Arrange - both permits held while a long queue builds up behind them
+        CompletableFuture<String> first = new CompletableFuture<>();
+        limiter.submit(AdminOperation.DESCRIBE_TOPICS, () -> first);
+        limiter.submit(AdminOperation.DESCRIBE_TOPICS, () -> new CompletableFuture<String>());
+        List<CompletableFuture<String>> failing = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            failing.add(limiter.submit(AdminOperation.DESCRIBE_TOPICS,
+                    () -> CompletableFuture.failedFuture(new IllegalStateException("client closed"))));
+        }
+
+        // Act - every queued call fails as soon as it starts
+        first.complete("first");
+
+        // Assert
+        assertTrue(failing.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+        assertEquals(1, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+    }
+
+    @Test
+    void testMetrics_RecordQueueWaitAndGauges() {
+        // Arrange
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        limiter.submit(AdminOperation.DESCRIBE_TOPICS, () -> pending);
+        limiter.submit(AdminOperation.DESCRIBE_TOPICS, () -> pending);
+        limiter.submit(AdminOperation.DESCRIBE_TOPICS, () -> pending);
+
+        // Act & Assert
+        assertEquals(2.0, meterRegistry.get("kafka.admin.calls.in.flight").gauge().value());
+        assertEquals(1.0, meterRegistry.get("kafka.admin.calls.queued").gauge().value());
+        assertEquals(2, meterRegistry.get("kafka.admin.calls.queue.wait")
+                .tag("operation", "DESCRIBE_TOPICS").timer().count());
+    }
+}
@@ -0,0 +1,83 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdminCallMetrics.
+ */
+class AdminCallMetricsUnitTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdminCallMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new AdminCallMetrics(meterRegistry, "eu");
+    }
+
+    @Test
+    void testSuccessfulCall_RecordsDurationAndResultSize() {
+        // Arrange
+        AdminCallMetrics.Call call = metrics.track(AdminOperation.LIST_TOPICS);
+
+        // Act
+        call.start();
+        int activeWhileRunning = metrics.active(AdminOperation.LIST_TOPICS);
+        call.complete(List.of("orders", "payments", "refunds"), null, List::size);
+
+        // Assert
+        assertEquals(1, activeWhileRunning);
+        assertEquals(0, metrics.active(AdminOperation.LIST_TOPICS));
+        assertEquals(1, meterRegistry.get("kafka.admin.calls")
+                .tags("operation", "LIST_TOPICS", "outcome", "success", "cluster", "eu").timer().count());
+        assertEquals(3.0, meterRegistry.get("kafka.admin.calls.result.size")
+                .tags("operation", "LIST_TOPICS").summary().totalAmount());
+    }
+
+    @Test
+    void testFailedCall_CountsErrorByUnwrappedExceptionType() {
+        // Arrange
+        AdminCallMetrics.Call call = metrics.track(AdminOperation.DESCRIBE_TOPICS);
+
+        // Act
+        call.start();
+        call.complete(null, new CompletionException(new UnknownTopicOrPartitionException("gone")), ignored -> 1);
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("kafka.admin.calls.errors")
+                .tags("operation", "DESCRIBE_TOPICS", "exception", "UnknownTopicOrPartitionException", "cluster", "eu")
+                .counter().count());
+        assertEquals(1, meterRegistry.get("kafka.admin.calls")
+                .tags("operation", "DESCRIBE_TOPICS", "outcome", "error").timer().count());
+        assertEquals(0, meterRegistry.get("kafka.admin.calls.result.size")
+                .tags("operation", "DESCRIBE_TOPICS").summary().count());
+    }
+
+    @Test
+    void testCallTimedOutWhileQueued_IsCountedButNeverRunning() {
+        // Arrange
+        AdminCallMetrics.Call call = metrics.track(AdminOperation.DESCRIBE_CLUSTER);
+
+        // Act - the deadline passes first, then the limiter hands out the permit anyway
+        call.complete(null, new TimeoutException(), ignored -> 1);
+        call.start();
+        call.complete(null, new TimeoutException(), ignored -> 1);
+
+        // Assert
+        assertEquals(0, metrics.active(AdminOperation.DESCRIBE_CLUSTER));
+        assertEquals(1.0, meterRegistry.get("kafka.admin.calls.errors")
+                .tags("operation", "DESCRIBE_CLUSTER", "exception", "TimeoutException").counter().count());
+        assertEquals(0, meterRegistry.get("kafka.admin.calls")
+                .tags("operation", "DESCRIBE_CLUSTER", "outcome", "error").timer().count());
+    }
+}
@@ -0,0 +1,130 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterDelta;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupStateChange;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChange;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClusterChangeTracker.
+ * Uses a real PartitionHealthIndex fed with the same snapshots, as it is in the application.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterChangeTrackerUnitTest {
+
+    private static final Node BROKER_1 = new Node(1, "localhost", 9092);
+    private static final Node BROKER_2 = new Node(2, "localhost", 9093);
+    private static final Node BROKER_3 = new Node(3, "localhost", 9094);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PartitionHealthIndex healthIndex;
+    private ClusterChangeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        healthIndex = new PartitionHealthIndex(1000);
+        tracker = new ClusterChangeTracker(healthIndex, eventPublisher);
+    }
+
+    @Test
+    void testOnSnapshot_FirstSnapshotOnlySetsBaseline() {
+        // Act
+        apply(snapshot(List.of(BROKER_1), Map.of("orders", topic("orders", List.of(BROKER_1), List.of(BROKER_1))), Map.of()));
+
+        // Assert
+        verifyNoInteractions(eventPublisher);
+        assertEquals(1, tracker.totals().topics());
+    }
+
+    @Test
+    void testOnSnapshot_PublishesOnlyWhatChanged() {
+        // Arrange
+        apply(snapshot(List.of(BROKER_1, BROKER_2),
+                Map.of("orders", topic("orders", List.of(BROKER_1, BROKER_2), List.of(BROKER_1, BROKER_2)),
+                        "payments", topic("payments", List.of(BROKER_1), List.of(BROKER_1))),
+                Map.of("billing", ConsumerGroupState.STABLE, "audit", ConsumerGroupState.EMPTY)));
+
+        // Act - payments deleted, refunds created, broker 2 replaced by 3 and dropped out of the orders ISR,
+        // billing rebalancing, audit gone, shipping new
+        apply(snapshot(List.of(BROKER_1, BROKER_3),
+                Map.of("orders", topic("orders", List.of(BROKER_1, BROKER_2), List.of(BROKER_1)),
+                        "refunds", topic("refunds", List.of(BROKER_1), List.of(BROKER_1))),
+                Map.of("billing", ConsumerGroupState.PREPARING_REBALANCE, "shipping", ConsumerGroupState.STABLE)));
+
+        // Assert
+        ArgumentCaptor<ClusterDelta> published = ArgumentCaptor.forClass(ClusterDelta.class);
+        verify(eventPublisher).publishEvent(published.capture());
+        ClusterDelta delta = published.getValue();
+        assertEquals(1, delta.sequence());
+        assertEquals(List.of("refunds"), delta.topicsAdded());
+        assertEquals(List.of("payments"), delta.topicsRemoved());
+        assertEquals(List.of(3), delta.brokersJoined().stream().map(NodeInfo::getId).toList());
+        assertEquals(List.of(2), delta.brokersLeft());
+        assertEquals(List.of("orders"), delta.partitions().stream().map(PartitionHealthChange::topic).toList());
+        assertTrue(delta.groups().containsAll(List.of(
+                new GroupStateChange("billing", "STABLE", "PREPARING_REBALANCE"),
+                new GroupStateChange("shipping", null, "STABLE"),
+                new GroupStateChange("audit", "EMPTY", null))));
+        assertEquals(3, delta.groups().size());
+        assertEquals(1, delta.totals().underReplicatedPartitions());
+    }
+
+    @Test
+    void testOnSnapshot_NothingPublishedWhenUnchanged() {
+        // Arrange
+        ClusterSnapshot snapshot = snapshot(List.of(BROKER_1),
+                Map.of("orders", topic("orders", List.of(BROKER_1), List.of(BROKER_1))),
+                Map.of("billing", ConsumerGroupState.STABLE));
+
+        // Act
+        apply(snapshot);
+        apply(snapshot);
+
+        // Assert
+        verifyNoInteractions(eventPublisher);
+    }
+
+    // Same order as the application: the health index applies the snapshot before the tracker reads it.
+    private void apply(ClusterSnapshot snapshot) {
+        healthIndex.onSnapshot(snapshot);
+        tracker.onSnapshot(snapshot);
+    }
+
+    private static TopicDescription topic(String name, List<Node> replicas, List<Node> isr) {
+        return new TopicDescription(name, false, List.of(new TopicPartitionInfo(0, BROKER_1, replicas, isr)));
+    }
+
+    private static ClusterSnapshot snapshot(List<Node> brokers, Map<String, TopicDescription> topics,
+                                            Map<String, ConsumerGroupState> groups) {
+        ClusterInfo cluster = new ClusterInfo("cluster-1", new NodeInfo(brokers.get(0)),
+                brokers.stream().map(NodeInfo::new).toList());
+        Map<String, ConsumerGroupListing> listings = new HashMap<>();
+        groups.forEach((groupId, state) -> listings.put(groupId,
+                new ConsumerGroupListing(groupId, false, Optional.of(state))));
+        return ClusterSnapshot.of(cluster, topics, List.copyOf(listings.values()), Instant.now());
+    }
+}
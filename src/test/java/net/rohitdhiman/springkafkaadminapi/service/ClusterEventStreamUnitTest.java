@@ -0,0 +1,121 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterDelta;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterTotals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ClusterEventStream.
+ * Drains run on a queue the test executes by hand, so a subscriber can be made to fall behind.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterEventStreamUnitTest {
+
+    @Mock
+    private ClusterChangeTracker changeTracker;
+
+    private final List<Runnable> drains = new ArrayList<>();
+    private ClusterEventStream eventStream;
+
+    @BeforeEach
+    void setUp() {
+        // Queues of three events per subscriber
+        eventStream = new ClusterEventStream(changeTracker, new ObjectMapper().findAndRegisterModules(), drains::add,
+                10, 3, 60_000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testRegister_SendsTotalsThenDeltas() {
+        // Arrange
+        when(changeTracker.totals()).thenReturn(new ClusterTotals(3, 10, 2, 0));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // Act
+        eventStream.register(emitter);
+        eventStream.onDelta(delta(1));
+        runDrains();
+
+        // Assert
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("event:totals"));
+        assertTrue(emitter.events.get(0).contains("\"topics\":10"));
+        assertTrue(emitter.events.get(1).contains("id:1"));
+        assertTrue(emitter.events.get(1).contains("event:delta"));
+        assertTrue(emitter.events.get(1).contains("\"topicsAdded\":[\"topic-1\"]"));
+    }
+
+    @Test
+    void testOnDelta_SlowSubscriberGetsResyncInsteadOfBacklog() {
+        // Arrange
+        RecordingEmitter slow = new RecordingEmitter();
+        eventStream.register(slow);
+
+        // Act - five deltas arrive before the subscriber's drain gets to run
+        for (int i = 1; i <= 5; i++) {
+            eventStream.onDelta(delta(i));
+        }
+        runDrains();
+
+        // Assert - the first three filled the queue, the fourth replaced them with a resync
+        assertEquals(2, slow.events.size());
+        assertTrue(slow.events.get(0).contains("event:resync"));
+        assertTrue(slow.events.get(1).contains("id:5"));
+    }
+
+    @Test
+    void testOnDelta_FailedSendDropsSubscriber() {
+        // Arrange
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.fail = true;
+        eventStream.register(broken);
+
+        // Act
+        eventStream.onDelta(delta(1));
+        runDrains();
+
+        // Assert
+        assertEquals(0, eventStream.subscriberCount());
+    }
+
+    private void runDrains() {
+        while (!drains.isEmpty()) {
+            drains.remove(0).run();
+        }
+    }
+
+    private static ClusterDelta delta(long sequence) {
+        return new ClusterDelta(sequence, Instant.parse("2026-01-01T00:00:00Z"), List.of("topic-" + sequence),
+                List.of(), List.of(), List.of(), List.of(), List.of(), false, new ClusterTotals(1, 1, 0, 0));
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+}
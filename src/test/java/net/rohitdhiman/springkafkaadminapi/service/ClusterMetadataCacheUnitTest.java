@@ -0,0 +1,182 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClusterMetadataCache.
+ * The KafkaService is mocked, so these tests only exercise snapshot reuse, staleness, warm starts and
+ * single-flight loading.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterMetadataCacheUnitTest {
+
+    @Mock
+    private KafkaService kafkaService;
+
+    private MutableClock clock;
+    private ClusterMetadataCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new ClusterMetadataCache(kafkaService, event -> { }, Runnable::run, Duration.ofSeconds(60), clock);
+
+        lenient().when(kafkaService.listTopics()).thenReturn(CompletableFuture.completedFuture(Set.of("topic1")));
+        lenient().when(kafkaService.describeTopics(anyCollection())).thenReturn(CompletableFuture.completedFuture(Map.of()));
+        lenient().when(kafkaService.listConsumerGroups()).thenReturn(CompletableFuture.completedFuture(List.of()));
+        lenient().when(kafkaService.describeCluster())
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(new ClusterInfo("test-cluster", null, List.of())));
+    }
+
+    @Test
+    void testGet_ServesSnapshotUntilStale() throws Exception {
+        // Act
+        ClusterSnapshot first = cache.snapshot().get();
+        clock.advance(Duration.ofSeconds(30));
+        ClusterSnapshot second = cache.snapshot().get();
+        clock.advance(Duration.ofSeconds(31));
+        ClusterSnapshot third = cache.snapshot().get();
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals("test-cluster", third.cluster().clusterId());
+        verify(kafkaService, times(2)).describeCluster();
+    }
+
+    @Test
+    void testInvalidate_ForcesReloadOnNextRead() throws Exception {
+        // Arrange
+        ClusterSnapshot first = cache.snapshot().get();
+
+        // Act
+        cache.invalidate();
+        ClusterSnapshot second = cache.snapshot().get();
+
+        // Assert
+        assertNotSame(first, second);
+        verify(kafkaService, times(2)).describeCluster();
+    }
+
+    @Test
+    void testConcurrentMisses_ShareSingleLoad() throws Exception {
+        // Arrange - the broker has not answered yet while more readers arrive
+        CompletableFuture<ClusterInfo> pendingCluster = new CompletableFuture<>();
+        when(kafkaService.describeCluster()).thenReturn(pendingCluster);
+
+        // Act
+        CompletableFuture<ClusterSnapshot> leader = cache.snapshot();
+        List<CompletableFuture<ClusterSnapshot>> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            followers.add(cache.snapshot());
+        }
+        pendingCluster.complete(new ClusterInfo("test-cluster", null, List.of()));
+
+        // Assert
+        ClusterSnapshot loaded = leader.get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<ClusterSnapshot> follower : followers) {
+            assertSame(loaded, follower.get(5, TimeUnit.SECONDS));
+        }
+        verify(kafkaService, times(1)).describeCluster();
+    }
+
+    @Test
+    void testRefresh_FailureKeepsPreviousSnapshotForScheduledRefresh() throws Exception {
+        // Arrange
+        ClusterSnapshot first = cache.snapshot().get();
+        when(kafkaService.describeCluster()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+
+        // Act
+        cache.scheduledRefresh();
+
+        // Assert
+        assertSame(first, cache.snapshot().get());
+    }
+
+    @Test
+    void testRefresh_SynchronousFailureDoesNotBlockNextLoad() throws Exception {
+        // Arrange - the admin client throws instead of returning a failed future
+        when(kafkaService.describeCluster())
+                .thenThrow(new IllegalStateException("Admin client closed"))
+                .thenReturn(CompletableFuture.completedFuture(new ClusterInfo("test-cluster", null, List.of())));
+
+        // Act
+        CompletableFuture<ClusterSnapshot> failed = cache.refresh();
+        ClusterSnapshot loaded = cache.refresh().get(5, TimeUnit.SECONDS);
+
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(0, TimeUnit.SECONDS));
+        assertEquals("Admin client closed", error.getCause().getMessage());
+        assertEquals("test-cluster", loaded.cluster().clusterId());
+        verify(kafkaService, times(2)).describeCluster();
+    }
+
+    @Test
+    void testWarm_ServesRestoredSnapshotWhileFirstLoadRuns() throws Exception {
+        // Arrange - recorded a day before the restart; the brokers have not answered yet
+        ClusterSnapshot restored = ClusterSnapshot.of(new ClusterInfo("test-cluster", null, List.of()), Map.of(),
+                List.of(), clock.instant().minus(Duration.ofDays(1)));
+        CompletableFuture<ClusterInfo> pendingCluster = new CompletableFuture<>();
+        when(kafkaService.describeCluster()).thenReturn(pendingCluster);
+
+        // Act
+        cache.warm(restored);
+        ClusterSnapshot first = cache.snapshot().get(0, TimeUnit.SECONDS);
+        ClusterSnapshot second = cache.snapshot().get(0, TimeUnit.SECONDS);
+        pendingCluster.complete(new ClusterInfo("test-cluster", null, List.of()));
+        ClusterSnapshot loaded = cache.snapshot().get();
+        cache.warm(restored);
+
+        // Assert
+        assertSame(restored, first);
+        assertSame(restored, second);
+        assertNotSame(restored, loaded);
+        assertSame(loaded, cache.snapshot().get());
+        verify(kafkaService, times(1)).describeCluster();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
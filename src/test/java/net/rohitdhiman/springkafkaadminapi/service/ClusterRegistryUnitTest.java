@@ -0,0 +1,173 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.config.AdminTimeoutProperties;
+import net.rohitdhiman.springkafkaadminapi.config.ClusterRegistryProperties;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterStatus;
+import net.rohitdhiman.springkafkaadminapi.exception.ClusterNotFoundException;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClusterRegistry.
+ * AdminClients of registry clusters come from a factory that records the configuration it was given.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClusterRegistryUnitTest {
+
+    @Mock
+    private AdminClient defaultClient;
+
+    @Mock
+    private KafkaService defaultService;
+
+    @Mock
+    private ClusterMetadataCache defaultCache;
+
+    private final List<Map<String, Object>> createdClients = new ArrayList<>();
+    private final List<AdminClient> clients = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ClusterRegistryProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ClusterRegistryProperties();
+        properties.getClusters().put("eu", cluster("eu-kafka:9092"));
+        properties.getClusters().put("us", cluster("us-kafka:9092"));
+    }
+
+    @Test
+    void testGet_OpensClusterOnFirstUseOnly() {
+        // Arrange
+        ClusterRegistry registry = registry();
+
+        // Act
+        ClusterContext first = registry.get("eu");
+        ClusterContext second = registry.get("eu");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, createdClients.size());
+        assertEquals("eu-kafka:9092", createdClients.get(0).get(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG));
+        assertEquals("SASL_SSL", createdClients.get(0).get("security.protocol"));
+        assertNotSame(registry.get(ClusterRegistry.DEFAULT_CLUSTER).limiter(), first.limiter());
+        assertNotSame(registry.get(ClusterRegistry.DEFAULT_CLUSTER).healthIndex(), first.healthIndex());
+        assertEquals(List.of("default", "eu", "us"), registry.names());
+        assertEquals(List.of(true, true, false), registry.status().stream().map(ClusterStatus::connected).toList());
+    }
+
+    @Test
+    void testGet_UnknownClusterIsNotFound() {
+        // Act & Assert
+        assertThrows(ClusterNotFoundException.class, () -> registry().get("apac"));
+        assertTrue(createdClients.isEmpty());
+    }
+
+    @Test
+    void testEvictIdle_ClosesIdleClientsButKeepsBusyOnes() {
+        // Arrange - everything counts as idle at once
+        properties.setIdleTimeout(Duration.ZERO);
+        ClusterRegistry registry = registry();
+        registry.get("eu");
+        ClusterContext busy = registry.get("us");
+        busy.limiter().submit(AdminOperation.DESCRIBE_CLUSTER, CompletableFuture::new);
+
+        // Act
+        registry.evictIdle();
+
+        // Assert
+        verify(clients.get(0)).close(any(Duration.class));
+        verify(clients.get(1), never()).close(any(Duration.class));
+        verify(defaultClient, never()).close(any(Duration.class));
+        assertEquals(List.of(false, true), registry.status().stream().skip(1).map(ClusterStatus::connected).toList());
+    }
+
+    @Test
+    void testEvictIdle_ReopenedClusterReportsItsOwnMeters() {
+        // Arrange
+        properties.setIdleTimeout(Duration.ZERO);
+        ClusterRegistry registry = registry();
+        ClusterContext first = registry.get("eu");
+        registry.evictIdle();
+        ClusterContext reopened = registry.get("eu");
+        DescribeClusterResult pending = mock(DescribeClusterResult.class);
+        when(pending.clusterId()).thenReturn(new KafkaFutureImpl<>());
+        when(pending.controller()).thenReturn(new KafkaFutureImpl<>());
+        when(pending.nodes()).thenReturn(new KafkaFutureImpl<>());
+        when(clients.get(1).describeCluster(any(DescribeClusterOptions.class))).thenReturn(pending);
+
+        // Act - one call runs and another waits behind a call submitted straight to the limiter
+        reopened.kafkaService().describeCluster();
+        reopened.limiter().submit(AdminOperation.DESCRIBE_CLUSTER, CompletableFuture::new);
+
+        // Assert - the gauges read the reopened cluster, not the evicted one
+        assertNotSame(first.limiter(), reopened.limiter());
+        assertEquals(2.0, meterRegistry.get("kafka.admin.calls.in.flight").tag("cluster", "eu").gauge().value());
+        assertEquals(1.0, meterRegistry.get("kafka.admin.calls.active")
+                .tags("operation", "DESCRIBE_CLUSTER", "cluster", "eu").gauge().value());
+        assertEquals(0.0, meterRegistry.get("kafka.admin.calls.queued").tag("cluster", "eu").gauge().value());
+    }
+
+    @Test
+    void testCheckHealth_RecordsFailure() {
+        // Arrange
+        ClusterRegistry registry = registry();
+        when(defaultService.describeCluster()).thenReturn(CompletableFuture.failedFuture(
+                new org.apache.kafka.common.errors.TimeoutException("No brokers reachable")));
+
+        // Act
+        registry.checkHealth();
+
+        // Assert
+        ClusterStatus status = registry.status().get(0);
+        assertEquals(Boolean.FALSE, status.healthy());
+        assertEquals("No brokers reachable", status.error());
+    }
+
+    @Test
+    void testConstructor_RejectsClusterWithoutBootstrapServers() {
+        // Arrange
+        properties.getClusters().put("broken", new ClusterRegistryProperties.Cluster());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, this::registry);
+    }
+
+    private ClusterRegistry registry() {
+        ClusterContext defaultContext = new ClusterContext(ClusterRegistry.DEFAULT_CLUSTER, defaultClient,
+                new AdminCallLimiter(64, meterRegistry), defaultService, defaultCache, new PartitionHealthIndex(10));
+        return new ClusterRegistry(properties, new AdminTimeoutProperties(), defaultContext, "localhost:9092",
+                Runnable::run, Duration.ofMinutes(2), meterRegistry, config -> {
+                    createdClients.add(config);
+                    AdminClient client = mock(AdminClient.class);
+                    clients.add(client);
+                    return client;
+                }, Clock.systemUTC());
+    }
+
+    private static ClusterRegistryProperties.Cluster cluster(String bootstrapServers) {
+        ClusterRegistryProperties.Cluster cluster = new ClusterRegistryProperties.Cluster();
+        cluster.setBootstrapServers(bootstrapServers);
+        cluster.getProperties().put("security.protocol", "SASL_SSL");
+        return cluster;
+    }
+}
@@ -0,0 +1,187 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigAlterResult.Status;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigChange;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftReport;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftReport.Difference;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigDriftRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.ConfigResourceType;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.ResourceConfig;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ConfigEntry.ConfigSource;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.InvalidConfigurationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConfigService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConfigServiceUnitTest {
+
+    private static final ConfigResource ORDERS = topic("orders");
+    private static final ConfigResource PAYMENTS = topic("payments");
+
+    @Mock
+    private KafkaService kafkaService;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    private ConfigService configService;
+
+    @BeforeEach
+    void setUp() {
+        // Two resources per describe or alter call
+        configService = new ConfigService(kafkaService, metadataCache, 2, 2, 100, Duration.ofMinutes(1),
+                Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void testDescribe_BatchesMissingResourcesAndCachesNonDefaultValues() {
+        // Arrange
+        when(kafkaService.describeConfigs(anyCollection())).thenReturn(CompletableFuture.completedFuture(Map.of(
+                ORDERS, config(retention("86400000", ConfigSource.DYNAMIC_TOPIC_CONFIG), cleanup("delete")),
+                PAYMENTS, config(retention("604800000", ConfigSource.DEFAULT_CONFIG), cleanup("delete")))));
+
+        // Act
+        List<ResourceConfig> first = configService.describe(ConfigResourceType.TOPIC, List.of("payments", "orders"),
+                false).join();
+        List<ResourceConfig> cached = configService.describe(ConfigResourceType.TOPIC, List.of("orders"), false).join();
+
+        // Assert - one call for both topics, and only values set on the topic are kept
+        assertEquals(List.of("payments", "orders"), first.stream().map(ResourceConfig::name).toList());
+        assertTrue(first.get(0).entries().isEmpty());
+        assertEquals(List.of(new ResourceConfig.Entry("retention.ms", "86400000", "DYNAMIC_TOPIC_CONFIG", false, false)),
+                cached.get(0).entries());
+        verify(kafkaService, times(1)).describeConfigs(anyCollection());
+
+        // Defaults bypass the cache
+        List<ResourceConfig> full = configService.describe(ConfigResourceType.TOPIC, List.of("orders"), true).join();
+        assertEquals(2, full.get(0).entries().size());
+        verify(kafkaService, times(2)).describeConfigs(anyCollection());
+    }
+
+    @Test
+    void testAlter_ValidateOnlyReportsPerResourceInBatches() {
+        // Arrange - three resources, two per call; the broker rejects one value
+        ConfigResource broker = new ConfigResource(ConfigResource.Type.BROKER, "1");
+        when(kafkaService.incrementalAlterConfigs(anyMap(), eq(true))).thenAnswer(invocation -> {
+            Map<ConfigResource, Collection<AlterConfigOp>> batch = invocation.getArgument(0);
+            Map<ConfigResource, Optional<Throwable>> outcomes = new HashMap<>();
+            batch.keySet().forEach(resource -> outcomes.put(resource, resource.equals(PAYMENTS)
+                    ? Optional.of(new InvalidConfigurationException("Invalid value -5 for retention.ms"))
+                    : Optional.empty()));
+            return CompletableFuture.completedFuture(outcomes);
+        });
+
+        // Act
+        ConfigAlterResult result = configService.alter(List.of(
+                new ConfigChange(ConfigResourceType.TOPIC, "orders", Map.of("retention.ms", "86400000"), null),
+                new ConfigChange(ConfigResourceType.TOPIC, "payments", Map.of("retention.ms", "-5"), null),
+                new ConfigChange(ConfigResourceType.BROKER, "1", null, List.of("log.cleaner.threads"))), true).join();
+
+        // Assert
+        assertTrue(result.validateOnly());
+        assertEquals(Map.of(Status.VALIDATED, 2, Status.FAILED, 1), result.summary());
+        assertEquals(List.of(Status.VALIDATED, Status.FAILED, Status.VALIDATED),
+                result.resources().stream().map(ConfigAlterResult.ResourceResult::status).toList());
+        assertTrue(result.resources().get(1).error().contains("retention.ms"));
+        verify(kafkaService, times(2)).incrementalAlterConfigs(anyMap(), eq(true));
+        verify(kafkaService).incrementalAlterConfigs(
+                argThat(batch -> batch.containsKey(broker) && batch.get(broker).iterator().next().opType()
+                        == AlterConfigOp.OpType.DELETE), eq(true));
+    }
+
+    @Test
+    void testAlter_RejectsInvalidChanges() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> configService.alter(List.of(
+                new ConfigChange(ConfigResourceType.BROKER, "broker-1", Map.of("a", "b"), null)), false));
+        assertThrows(InvalidRequestException.class, () -> configService.alter(List.of(
+                new ConfigChange(ConfigResourceType.TOPIC, "orders", Map.of(), List.of())), false));
+        assertThrows(InvalidRequestException.class, () -> configService.alter(List.of(
+                new ConfigChange(ConfigResourceType.TOPIC, "orders", Map.of("a", "b"), null),
+                new ConfigChange(ConfigResourceType.TOPIC, "orders", null, List.of("c"))), false));
+        verifyNoInteractions(kafkaService);
+    }
+
+    @Test
+    void testDrift_ComparesTopicsWithTemplate() {
+        // Arrange - the internal topic is skipped; refunds cannot be described
+        Node broker = new Node(1, "broker-1", 9092);
+        List<NodeInfo> nodes = List.of(new NodeInfo(broker));
+        ClusterSnapshot snapshot = ClusterSnapshot.of(new ClusterInfo("test", nodes.get(0), nodes), Map.of(
+                "__consumer_offsets", new TopicDescription("__consumer_offsets", true, List.of()),
+                "orders", new TopicDescription("orders", false, List.of()),
+                "payments", new TopicDescription("payments", false, List.of()),
+                "refunds", new TopicDescription("refunds", false, List.of())), List.of(), Instant.EPOCH);
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot));
+        when(kafkaService.describeConfigs(List.of(ORDERS, PAYMENTS))).thenReturn(CompletableFuture.completedFuture(Map.of(
+                ORDERS, config(retention("86400000", ConfigSource.DYNAMIC_TOPIC_CONFIG), cleanup("delete")),
+                PAYMENTS, config(retention("604800000", ConfigSource.DEFAULT_CONFIG), cleanup("delete")))));
+        when(kafkaService.describeConfigs(List.of(topic("refunds")))).thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+        // Act
+        ConfigDriftReport report = configService.drift(new ConfigDriftRequest(
+                Map.of("retention.ms", "604800000", "cleanup.policy", "delete", "min.insync.replicas", "2"),
+                null, null)).join();
+
+        // Assert
+        assertEquals(2, report.topicsChecked());
+        assertEquals(2, report.topicsDrifted());
+        assertEquals(2, report.describeCalls());
+        assertEquals(List.of("refunds"), report.failed());
+        assertEquals(Map.of("min.insync.replicas", 2, "retention.ms", 1), report.driftByConfig());
+        assertEquals(List.of(new Difference("min.insync.replicas", "2", null, null),
+                new Difference("retention.ms", "604800000", "86400000", "DYNAMIC_TOPIC_CONFIG")),
+                report.topics().get(0).differences());
+    }
+
+    private static ConfigResource topic(String name) {
+        return new ConfigResource(ConfigResource.Type.TOPIC, name);
+    }
+
+    private static Config config(ConfigEntry... entries) {
+        return new Config(List.of(entries));
+    }
+
+    private static ConfigEntry retention(String value, ConfigSource source) {
+        return new ConfigEntry("retention.ms", value, source, false, false, List.of(), ConfigEntry.ConfigType.LONG, null);
+    }
+
+    private static ConfigEntry cleanup(String value) {
+        return new ConfigEntry("cleanup.policy", value, ConfigSource.DEFAULT_CONFIG, false, false, List.of(),
+                ConfigEntry.ConfigType.LIST, null);
+    }
+}
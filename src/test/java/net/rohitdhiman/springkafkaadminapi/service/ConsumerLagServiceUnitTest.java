@@ -0,0 +1,213 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLag;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLagSummary;
+import net.rohitdhiman.springkafkaadminapi.dto.LagRefreshStats;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionLag;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConsumerLagService.
+ * KafkaService is mocked to record how committed and end offsets are requested.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConsumerLagServiceUnitTest {
+
+    private static final Node BROKER_1 = new Node(1, "localhost", 9092);
+    private static final Node BROKER_2 = new Node(2, "localhost", 9093);
+
+    @Mock
+    private KafkaService kafkaService;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ConsumerLagService lagService;
+
+    @BeforeEach
+    void setUp() {
+        // Two groups per committed-offsets call
+        lagService = new ConsumerLagService(kafkaService, metadataCache, eventPublisher, Runnable::run, 2,
+                new SimpleMeterRegistry(), Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    void testRefresh_BatchesGroupsAndRequestsEndOffsetsOncePerLeader() {
+        // Arrange - "orders" partition 0 is led by broker 1, partition 1 by broker 2
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(
+                snapshot(List.of("billing", "shipping", "audit"))));
+        when(kafkaService.listConsumerGroupOffsets(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Map<TopicPartition, OffsetAndMetadata>> offsets = new HashMap<>();
+            for (String groupId : invocation.<Collection<String>>getArgument(0)) {
+                switch (groupId) {
+                    case "billing" -> offsets.put(groupId, Map.of(
+                            new TopicPartition("orders", 0), new OffsetAndMetadata(90),
+                            new TopicPartition("orders", 1), new OffsetAndMetadata(10)));
+                    case "shipping" -> offsets.put(groupId, Map.of(
+                            new TopicPartition("orders", 0), new OffsetAndMetadata(100)));
+                    case "audit" -> offsets.put(groupId, Map.of(
+                            new TopicPartition("orders", 1), new OffsetAndMetadata(45)));
+                }
+            }
+            return CompletableFuture.completedFuture(offsets);
+        });
+        List<Collection<TopicPartition>> endOffsetCalls = new ArrayList<>();
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenAnswer(invocation -> {
+            Collection<TopicPartition> partitions = invocation.getArgument(0);
+            endOffsetCalls.add(Set.copyOf(partitions));
+            Map<TopicPartition, Long> ends = new HashMap<>();
+            partitions.forEach(partition -> ends.put(partition, partition.partition() == 0 ? 100L : 50L));
+            return CompletableFuture.completedFuture(ends);
+        });
+
+        // Act
+        ConsumerLagSnapshot snapshot = lagService.refresh().join();
+
+        // Assert
+        verify(kafkaService, times(2)).listConsumerGroupOffsets(anyCollection());
+        assertEquals(2, endOffsetCalls.size());
+        assertTrue(endOffsetCalls.contains(Set.of(new TopicPartition("orders", 0))));
+        assertTrue(endOffsetCalls.contains(Set.of(new TopicPartition("orders", 1))));
+
+        GroupLag billing = snapshot.groups().get("billing");
+        assertEquals(50, billing.lag());
+        assertEquals(List.of(new PartitionLag(0, 90, 100, 10), new PartitionLag(1, 10, 50, 40)),
+                billing.topics().get(0).partitions());
+        assertEquals(List.of("billing", "audit", "shipping"),
+                snapshot.ranked().stream().map(GroupLagSummary::groupId).toList());
+
+        LagRefreshStats stats = snapshot.stats();
+        assertEquals(3, stats.groups());
+        assertEquals(2, stats.partitions());
+        assertEquals(2, stats.groupOffsetRequests());
+        assertEquals(2, stats.endOffsetRequests());
+        verify(eventPublisher).publishEvent(snapshot);
+    }
+
+    @Test
+    void testRefresh_SkipsPartitionsWithoutEndOffsetAndClampsLag() {
+        // Arrange - the committed offset is ahead of the fetched end offset, and partition 1 fails
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot(List.of("billing"))));
+        when(kafkaService.listConsumerGroupOffsets(anyCollection())).thenReturn(CompletableFuture.completedFuture(
+                Map.of("billing", Map.of(
+                        new TopicPartition("orders", 0), new OffsetAndMetadata(120),
+                        new TopicPartition("orders", 1), new OffsetAndMetadata(10)))));
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Collection<TopicPartition>>getArgument(0)
+                        .contains(new TopicPartition("orders", 0))
+                        ? Map.of(new TopicPartition("orders", 0), 100L)
+                        : Map.of()));
+
+        // Act
+        ConsumerLagSnapshot snapshot = lagService.refresh().join();
+
+        // Assert
+        GroupLag billing = snapshot.groups().get("billing");
+        assertEquals(0, billing.lag());
+        assertEquals(List.of(new PartitionLag(0, 120, 100, 0)), billing.topics().get(0).partitions());
+        assertEquals(1, snapshot.stats().failedPartitions());
+    }
+
+    @Test
+    void testRefresh_PublishesOnTheExecutor() {
+        // Arrange - the executor only queues its tasks, like a busy pool
+        List<Runnable> tasks = new ArrayList<>();
+        ConsumerLagService queued = new ConsumerLagService(kafkaService, metadataCache, eventPublisher, tasks::add,
+                2, new SimpleMeterRegistry(), Clock.systemUTC());
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot(List.of("billing"))));
+        when(kafkaService.listConsumerGroupOffsets(anyCollection())).thenReturn(CompletableFuture.completedFuture(
+                Map.of("billing", Map.of(new TopicPartition("orders", 0), new OffsetAndMetadata(60)))));
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenReturn(
+                CompletableFuture.completedFuture(Map.of(new TopicPartition("orders", 0), 100L)));
+
+        // Act
+        CompletableFuture<ConsumerLagSnapshot> refresh = queued.refresh();
+
+        // Assert - nothing is stored or published on the thread that completed the AdminClient calls
+        assertFalse(refresh.isDone());
+        verifyNoInteractions(eventPublisher);
+        tasks.forEach(Runnable::run);
+        assertEquals(40, refresh.join().groups().get("billing").lag());
+        verify(eventPublisher).publishEvent(refresh.join());
+    }
+
+    @Test
+    void testGroupLag_ComputesGroupMissingFromLatestRefresh() {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot(List.of())));
+        when(kafkaService.listConsumerGroupOffsets(List.of("new-group"))).thenReturn(CompletableFuture.completedFuture(
+                Map.of("new-group", Map.of(new TopicPartition("orders", 0), new OffsetAndMetadata(60)))));
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenReturn(
+                CompletableFuture.completedFuture(Map.of(new TopicPartition("orders", 0), 100L)));
+
+        // Act
+        GroupLag lag = lagService.groupLag("new-group").join();
+
+        // Assert
+        assertEquals(40, lag.lag());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testGroupLag_UnknownGroupHasNoLag() {
+        // Arrange - the brokers answer a group that never committed with an empty offset map
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot(List.of("billing"))));
+        when(kafkaService.listConsumerGroupOffsets(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Map<TopicPartition, OffsetAndMetadata>> offsets = new HashMap<>();
+            invocation.<Collection<String>>getArgument(0).forEach(groupId -> offsets.put(groupId, Map.of()));
+            return CompletableFuture.completedFuture(offsets);
+        });
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenReturn(
+                CompletableFuture.completedFuture(Map.of(new TopicPartition("orders", 0), 100L)));
+
+        // Act
+        GroupLag missing = lagService.groupLag("ghost").join();
+        ConsumerLagSnapshot snapshot = lagService.refresh().join();
+
+        // Assert
+        assertNull(missing);
+        assertTrue(snapshot.groups().isEmpty());
+        assertTrue(snapshot.ranked().isEmpty());
+    }
+
+    private static ClusterSnapshot snapshot(List<String> groupIds) {
+        TopicDescription orders = new TopicDescription("orders", false, List.of(
+                new TopicPartitionInfo(0, BROKER_1, List.of(BROKER_1, BROKER_2), List.of(BROKER_1, BROKER_2)),
+                new TopicPartitionInfo(1, BROKER_2, List.of(BROKER_2, BROKER_1), List.of(BROKER_2, BROKER_1))));
+        return ClusterSnapshot.of(null, Map.of("orders", orders),
+                groupIds.stream().map(groupId -> new ConsumerGroupListing(groupId, false)).toList(),
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
@@ -0,0 +1,251 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.GroupOffsetReset;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupOffsetReset.PartitionReset;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetRequest.Strategy;
+import net.rohitdhiman.springkafkaadminapi.dto.OffsetResetResult;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConsumerOffsetResets.
+ * KafkaService is mocked to record how offsets are looked up and committed.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConsumerOffsetResetsUnitTest {
+
+    private static final Node BROKER_1 = new Node(1, "localhost", 9092);
+    private static final Node BROKER_2 = new Node(2, "localhost", 9093);
+    private static final TopicPartition ORDERS_0 = new TopicPartition("orders", 0);
+    private static final TopicPartition ORDERS_1 = new TopicPartition("orders", 1);
+
+    @Mock
+    private KafkaService kafkaService;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    private ConsumerOffsetResets offsetResets;
+
+    @BeforeEach
+    void setUp() {
+        // Two groups per committed-offsets call, at most ten groups per request
+        offsetResets = new ConsumerOffsetResets(kafkaService, metadataCache, 2, 10);
+    }
+
+    @Test
+    void testReset_TimestampLooksUpEachPartitionOncePerLeader() {
+        // Arrange - partition 0 is led by broker 1, partition 1 by broker 2 and has nothing after the timestamp
+        List<String> groups = List.of("billing", "shipping", "audit");
+        givenGroups(Map.of("billing", ConsumerGroupState.EMPTY, "shipping", ConsumerGroupState.EMPTY,
+                "audit", ConsumerGroupState.DEAD), Map.of());
+        List<Collection<TopicPartition>> lookups = new ArrayList<>();
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenAnswer(invocation -> {
+            Collection<TopicPartition> partitions = invocation.getArgument(0);
+            lookups.add(Set.copyOf(partitions));
+            boolean byTimestamp = invocation.getArgument(1) instanceof OffsetSpec.TimestampSpec;
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            for (TopicPartition partition : partitions) {
+                long latest = 100L + partition.partition();
+                offsets.put(partition, byTimestamp ? (partition.partition() == 0 ? 40L : -1L) : latest);
+            }
+            return CompletableFuture.completedFuture(offsets);
+        });
+        when(kafkaService.alterConsumerGroupOffsets(anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        OffsetResetResult result = offsetResets.reset(new OffsetResetRequest(groups, List.of("orders"),
+                Strategy.TIMESTAMP, Instant.parse("2026-01-01T00:00:00Z"), null, null), false).join();
+
+        // Assert - latest and by-timestamp, once per leader, shared by all three groups
+        assertEquals(4, lookups.size());
+        assertEquals(4, result.offsetLookups());
+        assertTrue(lookups.stream().allMatch(partitions -> partitions.size() == 1));
+        verify(kafkaService, times(2)).listConsumerGroupOffsets(anyCollection());
+        Map<TopicPartition, OffsetAndMetadata> expected = Map.of(
+                ORDERS_0, new OffsetAndMetadata(40), ORDERS_1, new OffsetAndMetadata(101));
+        for (String groupId : groups) {
+            verify(kafkaService).alterConsumerGroupOffsets(groupId, expected);
+        }
+        assertEquals(Map.of(GroupOffsetReset.Status.RESET, 3), result.summary());
+        assertEquals(groups, result.groups().stream().map(GroupOffsetReset::groupId).toList());
+        assertEquals(List.of(new PartitionReset("orders", 0, null, 40), new PartitionReset("orders", 1, null, 101)),
+                result.groups().get(0).partitions());
+    }
+
+    @Test
+    void testReset_DryRunShiftClampsOffsetsAndFlagsActiveGroups() {
+        // Arrange
+        givenGroups(Map.of("billing", ConsumerGroupState.EMPTY, "shipping", ConsumerGroupState.STABLE), Map.of(
+                "billing", Map.of(ORDERS_0, new OffsetAndMetadata(90), ORDERS_1, new OffsetAndMetadata(10)),
+                "shipping", Map.of(ORDERS_0, new OffsetAndMetadata(100))));
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenAnswer(invocation -> {
+            boolean earliest = invocation.getArgument(1) instanceof OffsetSpec.EarliestSpec;
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            for (TopicPartition partition : invocation.<Collection<TopicPartition>>getArgument(0)) {
+                offsets.put(partition, earliest ? 5L : 120L);
+            }
+            return CompletableFuture.completedFuture(offsets);
+        });
+
+        // Act
+        OffsetResetResult result = offsetResets.reset(new OffsetResetRequest(List.of("billing", "shipping"), null,
+                Strategy.SHIFT, null, -50L, null), true).join();
+
+        // Assert - 10 - 50 is clamped to the earliest offset; nothing is committed on a dry run
+        GroupOffsetReset billing = result.groups().get(0);
+        assertEquals(GroupOffsetReset.Status.PLANNED, billing.status());
+        assertEquals(List.of(new PartitionReset("orders", 0, 90L, 40), new PartitionReset("orders", 1, 10L, 5)),
+                billing.partitions());
+        GroupOffsetReset shipping = result.groups().get(1);
+        assertEquals(GroupOffsetReset.Status.ACTIVE, shipping.status());
+        assertEquals("STABLE", shipping.state());
+        assertEquals(List.of(new PartitionReset("orders", 0, 100L, 50)), shipping.partitions());
+        assertTrue(result.dryRun());
+        verify(kafkaService, never()).alterConsumerGroupOffsets(anyString(), anyMap());
+    }
+
+    @Test
+    void testReset_ExplicitOffsetsReportUnknownPartitionsAndFailedLookups() {
+        // Arrange - the brokers do not answer for partition 1
+        givenGroups(Map.of("billing", ConsumerGroupState.EMPTY), Map.of());
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenAnswer(invocation -> {
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            for (TopicPartition partition : invocation.<Collection<TopicPartition>>getArgument(0)) {
+                if (partition.partition() == 0) {
+                    offsets.put(partition, 100L);
+                }
+            }
+            return CompletableFuture.completedFuture(offsets);
+        });
+
+        // Act
+        OffsetResetResult result = offsetResets.reset(new OffsetResetRequest(List.of("billing"), null,
+                Strategy.EXPLICIT, null, null, Map.of("orders", Map.of(0, 100L, 1, 7L, 9, 1L), "ghost", Map.of(0, 1L))),
+                false).join();
+
+        // Assert - a group is never partly reset
+        assertEquals(Set.of("orders-9", "ghost"), Set.copyOf(result.unknown()));
+        assertEquals(GroupOffsetReset.Status.FAILED, result.groups().get(0).status());
+        verify(kafkaService, never()).alterConsumerGroupOffsets(anyString(), anyMap());
+    }
+
+    @Test
+    void testReset_GroupThatCannotBeDescribedFailsAlone() {
+        // Arrange - "ghost" is left out of the descriptions, as a group whose describe call failed
+        givenGroups(Map.of("billing", ConsumerGroupState.EMPTY, "shipping", ConsumerGroupState.EMPTY), Map.of());
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenAnswer(invocation -> {
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            for (TopicPartition partition : invocation.<Collection<TopicPartition>>getArgument(0)) {
+                offsets.put(partition, 0L);
+            }
+            return CompletableFuture.completedFuture(offsets);
+        });
+        when(kafkaService.alterConsumerGroupOffsets(anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        OffsetResetResult result = offsetResets.reset(new OffsetResetRequest(List.of("billing", "ghost", "shipping"),
+                List.of("orders"), Strategy.EARLIEST, null, null, null), false).join();
+
+        // Assert
+        GroupOffsetReset ghost = result.groups().get(1);
+        assertEquals(GroupOffsetReset.Status.FAILED, ghost.status());
+        assertEquals("Group could not be described.", ghost.error());
+        assertEquals(Map.of(GroupOffsetReset.Status.RESET, 2, GroupOffsetReset.Status.FAILED, 1), result.summary());
+        verify(kafkaService).alterConsumerGroupOffsets(eq("billing"), anyMap());
+        verify(kafkaService).alterConsumerGroupOffsets(eq("shipping"), anyMap());
+        verify(kafkaService, never()).alterConsumerGroupOffsets(eq("ghost"), anyMap());
+    }
+
+    @Test
+    void testReset_GroupWhoseCommittedOffsetsCannotBeLookedUpFails() {
+        // Arrange - "shipping" is left out of the committed offsets, as a group whose lookup failed
+        givenGroups(Map.of("billing", ConsumerGroupState.EMPTY, "shipping", ConsumerGroupState.EMPTY),
+                Map.of("billing", Map.of(ORDERS_0, new OffsetAndMetadata(10))));
+        when(kafkaService.listOffsets(anyCollection(), any(OffsetSpec.class))).thenAnswer(invocation -> {
+            Map<TopicPartition, Long> offsets = new HashMap<>();
+            for (TopicPartition partition : invocation.<Collection<TopicPartition>>getArgument(0)) {
+                offsets.put(partition, 0L);
+            }
+            return CompletableFuture.completedFuture(offsets);
+        });
+        when(kafkaService.alterConsumerGroupOffsets(anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act - no topics: each group's committed partitions are reset
+        OffsetResetResult result = offsetResets.reset(new OffsetResetRequest(List.of("billing", "shipping"), null,
+                Strategy.EARLIEST, null, null, null), false).join();
+
+        // Assert
+        GroupOffsetReset shipping = result.groups().get(1);
+        assertEquals(GroupOffsetReset.Status.FAILED, shipping.status());
+        assertEquals("Committed offsets could not be looked up; nothing was reset.", shipping.error());
+        assertEquals(List.of(), shipping.partitions());
+        assertEquals(Map.of(GroupOffsetReset.Status.RESET, 1, GroupOffsetReset.Status.FAILED, 1), result.summary());
+        verify(kafkaService).alterConsumerGroupOffsets("billing", Map.of(ORDERS_0, new OffsetAndMetadata(0)));
+        verify(kafkaService, never()).alterConsumerGroupOffsets(eq("shipping"), anyMap());
+    }
+
+    @Test
+    void testReset_RejectsTimestampStrategyWithoutTimestamp() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> offsetResets.reset(new OffsetResetRequest(
+                List.of("billing"), null, Strategy.TIMESTAMP, null, null, null), true));
+        verifyNoInteractions(kafkaService, metadataCache);
+    }
+
+    private void givenGroups(Map<String, ConsumerGroupState> states,
+                             Map<String, Map<TopicPartition, OffsetAndMetadata>> committed) {
+        TopicDescription orders = new TopicDescription("orders", false, List.of(
+                new TopicPartitionInfo(0, BROKER_1, List.of(BROKER_1, BROKER_2), List.of(BROKER_1, BROKER_2)),
+                new TopicPartitionInfo(1, BROKER_2, List.of(BROKER_2, BROKER_1), List.of(BROKER_2, BROKER_1))));
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(ClusterSnapshot.of(
+                null, Map.of("orders", orders), List.of(), Instant.parse("2026-01-01T00:00:00Z"))));
+
+        Map<String, ConsumerGroupDescription> descriptions = new HashMap<>();
+        states.forEach((groupId, state) -> descriptions.put(groupId,
+                new ConsumerGroupDescription(groupId, false, List.of(), "range", state, BROKER_1)));
+        when(kafkaService.describeEachConsumerGroup(anyCollection()))
+                .thenReturn(CompletableFuture.completedFuture(descriptions));
+        when(kafkaService.listConsumerGroupOffsets(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Map<TopicPartition, OffsetAndMetadata>> offsets = new HashMap<>();
+            for (String groupId : invocation.<Collection<String>>getArgument(0)) {
+                if (committed.containsKey(groupId)) {
+                    offsets.put(groupId, committed.get(groupId));
+                }
+            }
+            return CompletableFuture.completedFuture(offsets);
+        });
+    }
+}
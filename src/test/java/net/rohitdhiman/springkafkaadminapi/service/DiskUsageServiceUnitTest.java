@@ -0,0 +1,175 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.BrokerDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.DiskUsagePage;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicDiskUsage;
+import net.rohitdhiman.springkafkaadminapi.service.DiskUsageSnapshot.Order;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.KafkaStorageException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DiskUsageService.
+ */
+@ExtendWith(MockitoExtension.class)
+class DiskUsageServiceUnitTest {
+
+    private static final Instant FIRST = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant SECOND = Instant.parse("2026-01-01T00:05:00Z");
+
+    @Mock
+    private KafkaService kafkaService;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    @Mock
+    private Clock clock;
+
+    private DiskUsageService diskUsageService;
+
+    @BeforeEach
+    void setUp() {
+        diskUsageService = new DiskUsageService(kafkaService, metadataCache, Runnable::run, clock);
+        Node broker1 = new Node(1, "broker-1", 9092, "a");
+        Node broker2 = new Node(2, "broker-2", 9092, "b");
+        Node broker3 = new Node(3, "broker-3", 9092, "a");
+        List<Node> replicas = List.of(broker1, broker2);
+        List<NodeInfo> nodes = List.of(new NodeInfo(broker1), new NodeInfo(broker2), new NodeInfo(broker3));
+        ClusterSnapshot metadata = ClusterSnapshot.of(new ClusterInfo("test", nodes.get(0), nodes), Map.of(
+                "orders", new TopicDescription("orders", false, List.of(
+                        new TopicPartitionInfo(0, broker1, replicas, replicas),
+                        new TopicPartitionInfo(1, broker1, replicas, replicas))),
+                "payments", new TopicDescription("payments", false, List.of(
+                        new TopicPartitionInfo(0, broker1, replicas, replicas)))), List.of(), FIRST);
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(metadata));
+    }
+
+    @Test
+    void testRefresh_AggregatesReplicasPerPartitionTopicAndBroker() {
+        // Arrange - broker 2 lags behind on orders-0 and is still copying payments-0; broker 3 fails
+        when(clock.instant()).thenReturn(FIRST);
+        when(kafkaService.describeLogDirs(1)).thenReturn(CompletableFuture.completedFuture(Map.of(
+                "/data/1", new LogDirDescription(null, Map.of(
+                        new TopicPartition("orders", 0), replica(1000, false),
+                        new TopicPartition("orders", 1), replica(300, false),
+                        new TopicPartition("payments", 0), replica(5000, false)), 100_000, 40_000))));
+        when(kafkaService.describeLogDirs(2)).thenReturn(CompletableFuture.completedFuture(Map.of(
+                "/data/2", new LogDirDescription(null, Map.of(
+                        new TopicPartition("orders", 0), replica(900, false),
+                        new TopicPartition("orders", 1), replica(300, false),
+                        new TopicPartition("payments", 0), replica(6000, true))))));
+        when(kafkaService.describeLogDirs(3)).thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // Act
+        DiskUsageSnapshot snapshot = diskUsageService.refresh().join();
+
+        // Assert
+        DiskUsagePage<TopicDiskUsage> topics = snapshot.topicPage(Order.SIZE, 0, 10);
+        assertEquals(2, topics.total());
+        // A future replica counts on disk but not towards the partition's size
+        assertEquals(new TopicDiskUsage("payments", 1, 5000, 11_000, null), topics.content().get(0));
+        assertEquals(new TopicDiskUsage("orders", 2, 1300, 2500, null), topics.content().get(1));
+
+        DiskUsagePage<PartitionDiskUsage> largest = snapshot.partitionPage(Order.SIZE, 1, 1);
+        assertEquals(3, largest.total());
+        assertEquals(new PartitionDiskUsage("orders", 0, 2, 1000, 1900, null), largest.content().get(0));
+        assertEquals(List.of(0, 1), snapshot.topicPartitions("orders").content().stream()
+                .map(PartitionDiskUsage::partition).toList());
+        assertNull(snapshot.topicPartitions("ghost"));
+
+        List<BrokerDiskUsage> brokers = snapshot.brokers();
+        assertEquals(6300, brokers.get(0).bytes());
+        assertEquals(100_000L, brokers.get(0).logDirs().get(0).totalBytes());
+        assertNull(brokers.get(1).logDirs().get(0).totalBytes());
+        assertEquals(3, brokers.get(1).replicas());
+        assertTrue(brokers.get(2).error().contains("TimeoutException"));
+        assertSame(snapshot, diskUsageService.snapshot().join());
+    }
+
+    @Test
+    void testRefresh_GrowthRatesAgainstPreviousRefresh() {
+        // Arrange - orders-0 grows by 30 KB in five minutes
+        when(clock.instant()).thenReturn(FIRST, FIRST, SECOND, SECOND);
+        when(kafkaService.describeLogDirs(anyInt())).thenReturn(logDirs(10_000, 50_000));
+        diskUsageService.refresh().join();
+        when(kafkaService.describeLogDirs(anyInt())).thenReturn(logDirs(40_000, 50_000));
+
+        // Act
+        DiskUsageSnapshot second = diskUsageService.refresh().join();
+
+        // Assert
+        DiskUsagePage<TopicDiskUsage> fastest = second.topicPage(Order.GROWTH, 0, 1);
+        assertEquals(FIRST, fastest.previousFetchedAt());
+        assertEquals("orders", fastest.content().get(0).topic());
+        assertEquals(100.0, fastest.content().get(0).bytesPerSecond());
+        assertEquals(0.0, second.partitionPage(Order.GROWTH, 1, 1).content().get(0).bytesPerSecond());
+        assertEquals(100.0, second.brokers().get(0).bytesPerSecond());
+    }
+
+    @Test
+    void testRefresh_AssemblesOnTheExecutor() {
+        // Arrange - the executor only queues its tasks, like a busy pool
+        List<Runnable> tasks = new ArrayList<>();
+        DiskUsageService queued = new DiskUsageService(kafkaService, metadataCache, tasks::add, clock);
+        when(clock.instant()).thenReturn(FIRST);
+        when(kafkaService.describeLogDirs(anyInt())).thenReturn(logDirs(10_000, 50_000));
+
+        // Act
+        CompletableFuture<DiskUsageSnapshot> refresh = queued.refresh();
+
+        // Assert
+        assertFalse(refresh.isDone());
+        tasks.forEach(Runnable::run);
+        assertEquals(2, refresh.join().topicPage(Order.SIZE, 0, 10).total());
+    }
+
+    @Test
+    void testRefresh_FailsWhenNoBrokerAnswers() {
+        // Arrange
+        when(clock.instant()).thenReturn(FIRST);
+        when(kafkaService.describeLogDirs(anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaStorageException("Log directory offline")));
+
+        // Act
+        CompletionException error = assertThrows(CompletionException.class, () -> diskUsageService.refresh().join());
+
+        // Assert
+        assertInstanceOf(KafkaStorageException.class, error.getCause());
+    }
+
+    // The same replicas on every broker
+    private static CompletableFuture<Map<String, LogDirDescription>> logDirs(long ordersBytes, long paymentsBytes) {
+        return CompletableFuture.completedFuture(Map.of("/data", new LogDirDescription(null, Map.of(
+                new TopicPartition("orders", 0), replica(ordersBytes, false),
+                new TopicPartition("payments", 0), replica(paymentsBytes, false)))));
+    }
+
+    private static ReplicaInfo replica(long size, boolean future) {
+        return new ReplicaInfo(size, 0, future);
+    }
+}
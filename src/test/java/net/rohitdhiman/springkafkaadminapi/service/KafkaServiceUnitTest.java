@@ -1,22 +1,39 @@
 package net.rohitdhiman.springkafkaadminapi.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.config.AdminTimeoutProperties;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicOperationResult;
 import net.rohitdhiman.springkafkaadminapi.exception.TopicAlreadyExistsException;
 import org.apache.kafka.clients.admin.*;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.ConsumerGroupState;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.GroupAuthorizationException;
+import org.apache.kafka.common.errors.GroupIdNotFoundException;
+import org.apache.kafka.common.errors.InvalidReplicationFactorException;
+import org.apache.kafka.common.errors.LeaderNotAvailableException;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,11 +47,16 @@ class KafkaServiceUnitTest {
     @Mock
     private AdminClient adminClient;
 
+    private AdminTimeoutProperties timeouts;
+    private SimpleMeterRegistry meterRegistry;
     private KafkaService kafkaService;
 
     @BeforeEach
     void setUp() {
-        kafkaService = new KafkaService(adminClient);
+        timeouts = new AdminTimeoutProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        kafkaService = new KafkaService(adminClient, timeouts, new AdminCallLimiter(64, meterRegistry),
+                new AdminCallMetrics(meterRegistry));
     }
 
     @Test
@@ -42,32 +64,61 @@ class KafkaServiceUnitTest {
         // Arrange
         CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
         KafkaFuture<Void> future = KafkaFuture.completedFuture(null);
-        
-        when(adminClient.createTopics(any())).thenReturn(createTopicsResult);
+
+        when(adminClient.createTopics(any(), any(CreateTopicsOptions.class))).thenReturn(createTopicsResult);
         when(createTopicsResult.all()).thenReturn(future);
 
         // Act
-        kafkaService.createTopic("test-topic", 3, (short) 1);
+        kafkaService.createTopic("test-topic", 3, (short) 1).get();
 
         // Assert
-        verify(adminClient, times(1)).createTopics(any());
+        verify(adminClient, times(1)).createTopics(any(), any(CreateTopicsOptions.class));
     }
 
     @Test
-    void testCreateTopic_AlreadyExists() throws ExecutionException, InterruptedException {
+    void testCreateTopic_AlreadyExists() {
         // Arrange
         CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
-        @SuppressWarnings("unchecked")
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        
-        when(adminClient.createTopics(any())).thenReturn(createTopicsResult);
+        KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+        future.completeExceptionally(new TopicExistsException("Topic exists"));
+
+        when(adminClient.createTopics(any(), any(CreateTopicsOptions.class))).thenReturn(createTopicsResult);
         when(createTopicsResult.all()).thenReturn(future);
-        when(future.get()).thenThrow(new ExecutionException(new TopicExistsException("Topic exists")));
 
         // Act & Assert
-        assertThrows(TopicAlreadyExistsException.class, () -> {
-            kafkaService.createTopic("existing-topic", 1, (short) 1);
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> {
+            kafkaService.createTopic("existing-topic", 1, (short) 1).get();
         });
+        assertInstanceOf(TopicAlreadyExistsException.class, thrown.getCause());
+    }
+
+    @Test
+    void testCreateTopics_ReportsEachTopic() throws ExecutionException, InterruptedException {
+        // Arrange
+        CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
+        KafkaFutureImpl<Void> exists = new KafkaFutureImpl<>();
+        exists.completeExceptionally(new TopicExistsException("Topic exists"));
+        KafkaFutureImpl<Void> invalid = new KafkaFutureImpl<>();
+        invalid.completeExceptionally(new InvalidReplicationFactorException("Replication factor: 3 larger than available brokers: 1."));
+        Map<String, KafkaFuture<Void>> values = new LinkedHashMap<>();
+        values.put("new", KafkaFuture.completedFuture(null));
+        values.put("existing", exists);
+        values.put("invalid", invalid);
+
+        when(adminClient.createTopics(anyCollection(), any(CreateTopicsOptions.class))).thenReturn(createTopicsResult);
+        when(createTopicsResult.values()).thenReturn(values);
+
+        // Act
+        List<TopicOperationResult> results = kafkaService.createTopics(List.of(
+                new NewTopic("new", 1, (short) 1),
+                new NewTopic("existing", 1, (short) 1),
+                new NewTopic("invalid", 1, (short) 3))).get();
+
+        // Assert
+        assertEquals(TopicOperationResult.Status.CREATED, results.get(0).status());
+        assertEquals(TopicOperationResult.Status.EXISTS, results.get(1).status());
+        assertEquals(TopicOperationResult.Status.FAILED, results.get(2).status());
+        assertNotNull(results.get(2).error());
     }
 
     @Test
@@ -75,63 +126,55 @@ class KafkaServiceUnitTest {
         // Arrange
         CreateTopicsResult createTopicsResult = mock(CreateTopicsResult.class);
         KafkaFuture<Void> future = KafkaFuture.completedFuture(null);
-        
-        when(adminClient.createTopics(any())).thenReturn(createTopicsResult);
+
+        when(adminClient.createTopics(any(), any(CreateTopicsOptions.class))).thenReturn(createTopicsResult);
         when(createTopicsResult.all()).thenReturn(future);
 
         // Act - passing null for partitions and replication factor should use defaults
-        kafkaService.createTopic("default-topic", null, null);
+        kafkaService.createTopic("default-topic", null, null).get();
 
         // Assert
-        verify(adminClient, times(1)).createTopics(any());
+        verify(adminClient, times(1)).createTopics(any(), any(CreateTopicsOptions.class));
     }
 
     @Test
-    void testListTopics() {
+    void testListTopics() throws ExecutionException, InterruptedException {
         // Arrange
         ListTopicsResult listTopicsResult = mock(ListTopicsResult.class);
-        when(adminClient.listTopics()).thenReturn(listTopicsResult);
+        when(adminClient.listTopics(any(ListTopicsOptions.class))).thenReturn(listTopicsResult);
+        when(listTopicsResult.names()).thenReturn(KafkaFuture.completedFuture(Set.of("topic1", "topic2")));
 
         // Act
-        ListTopicsResult result = kafkaService.listTopics();
+        Set<String> result = kafkaService.listTopics().get();
 
         // Assert
-        assertNotNull(result);
-        verify(adminClient, times(1)).listTopics();
+        assertEquals(Set.of("topic1", "topic2"), result);
+        verify(adminClient, times(1)).listTopics(any(ListTopicsOptions.class));
     }
 
     @Test
     void testDescribeCluster() throws ExecutionException, InterruptedException {
         // Arrange
         DescribeClusterResult describeClusterResult = mock(DescribeClusterResult.class);
-        @SuppressWarnings("unchecked")
-        KafkaFuture<Collection<Node>> nodesFuture = mock(KafkaFuture.class);
-        @SuppressWarnings("unchecked")
-        KafkaFuture<String> clusterIdFuture = mock(KafkaFuture.class);
-        @SuppressWarnings("unchecked")
-        KafkaFuture<Node> controllerFuture = mock(KafkaFuture.class);
-        
+
         Node node1 = new Node(1, "localhost", 9092);
         Node node2 = new Node(2, "localhost", 9093);
         Collection<Node> nodes = Arrays.asList(node1, node2);
-        
-        when(adminClient.describeCluster()).thenReturn(describeClusterResult);
-        when(describeClusterResult.clusterId()).thenReturn(clusterIdFuture);
-        when(clusterIdFuture.get()).thenReturn("test-cluster-id");
-        when(describeClusterResult.controller()).thenReturn(controllerFuture);
-        when(controllerFuture.get()).thenReturn(node1);
-        when(describeClusterResult.nodes()).thenReturn(nodesFuture);
-        when(nodesFuture.get()).thenReturn(nodes);
+
+        when(adminClient.describeCluster(any(DescribeClusterOptions.class))).thenReturn(describeClusterResult);
+        when(describeClusterResult.clusterId()).thenReturn(KafkaFuture.completedFuture("test-cluster-id"));
+        when(describeClusterResult.controller()).thenReturn(KafkaFuture.completedFuture(node1));
+        when(describeClusterResult.nodes()).thenReturn(KafkaFuture.completedFuture(nodes));
 
         // Act
-        net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo result = kafkaService.describeCluster();
+        net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo result = kafkaService.describeCluster().get();
 
         // Assert
         assertEquals("test-cluster-id", result.clusterId());
-        assertEquals(node1, result.controller());
+        assertEquals(node1.id(), result.controller().getId());
         assertEquals(2, result.nodes().size());
-        assertTrue(result.nodes().contains(node1));
-        assertTrue(result.nodes().contains(node2));
+        assertEquals(node1.id(), result.nodes().get(0).getId());
+        assertEquals(node2.port(), result.nodes().get(1).getPort());
     }
 
     @Test
@@ -139,54 +182,197 @@ class KafkaServiceUnitTest {
         // Arrange
         DeleteTopicsResult deleteTopicsResult = mock(DeleteTopicsResult.class);
         KafkaFuture<Void> future = KafkaFuture.completedFuture(null);
-        
-        when(adminClient.deleteTopics(anyCollection())).thenReturn(deleteTopicsResult);
+
+        when(adminClient.deleteTopics(anyCollection(), any(DeleteTopicsOptions.class))).thenReturn(deleteTopicsResult);
         when(deleteTopicsResult.all()).thenReturn(future);
 
         // Act
-        kafkaService.deleteTopic("topic-to-delete");
+        kafkaService.deleteTopic("topic-to-delete").get();
 
         // Assert
-        verify(adminClient, times(1)).deleteTopics(anyCollection());
+        verify(adminClient, times(1)).deleteTopics(anyCollection(), any(DeleteTopicsOptions.class));
     }
 
     @Test
     void testListConsumerGroups() throws ExecutionException, InterruptedException {
         // Arrange
         ListConsumerGroupsResult listConsumerGroupsResult = mock(ListConsumerGroupsResult.class);
-        @SuppressWarnings("unchecked")
-        KafkaFuture<Collection<ConsumerGroupListing>> future = mock(KafkaFuture.class);
         Collection<ConsumerGroupListing> groups = Collections.emptyList();
-        
-        when(adminClient.listConsumerGroups()).thenReturn(listConsumerGroupsResult);
-        when(listConsumerGroupsResult.all()).thenReturn(future);
-        when(future.get()).thenReturn(groups);
+
+        when(adminClient.listConsumerGroups(any(ListConsumerGroupsOptions.class))).thenReturn(listConsumerGroupsResult);
+        when(listConsumerGroupsResult.all()).thenReturn(KafkaFuture.completedFuture(groups));
 
         // Act
-        Collection<ConsumerGroupListing> result = kafkaService.listConsumerGroups();
+        Collection<ConsumerGroupListing> result = kafkaService.listConsumerGroups().get();
 
         // Assert
         assertNotNull(result);
-        verify(adminClient, times(1)).listConsumerGroups();
+        verify(adminClient, times(1)).listConsumerGroups(any(ListConsumerGroupsOptions.class));
     }
 
     @Test
     void testDescribeTopics() throws ExecutionException, InterruptedException {
         // Arrange
         DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
-        @SuppressWarnings("unchecked")
-        KafkaFuture<Map<String, TopicDescription>> future = mock(KafkaFuture.class);
         Map<String, TopicDescription> descriptions = new HashMap<>();
-        
-        when(adminClient.describeTopics(anyCollection())).thenReturn(describeTopicsResult);
-        when(describeTopicsResult.allTopicNames()).thenReturn(future);
-        when(future.get()).thenReturn(descriptions);
+
+        when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames()).thenReturn(KafkaFuture.completedFuture(descriptions));
 
         // Act
-        Map<String, TopicDescription> result = kafkaService.describeTopics(Collections.singletonList("test-topic"));
+        Map<String, TopicDescription> result = kafkaService.describeTopics(Collections.singletonList("test-topic")).get();
 
         // Assert
         assertNotNull(result);
-        verify(adminClient, times(1)).describeTopics(anyCollection());
+        verify(adminClient, times(1)).describeTopics(anyCollection(), any(DescribeTopicsOptions.class));
+    }
+
+    @Test
+    void testDescribeExistingTopics_LeavesOutUnknownTopics() throws ExecutionException, InterruptedException {
+        // Arrange
+        DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+        KafkaFutureImpl<TopicDescription> unknown = new KafkaFutureImpl<>();
+        unknown.completeExceptionally(new UnknownTopicOrPartitionException("no such topic"));
+        TopicDescription orders = new TopicDescription("orders", false, List.of());
+
+        when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(
+                "orders", KafkaFuture.completedFuture(orders),
+                "ghost", unknown));
+
+        // Act
+        Map<String, TopicDescription> result = kafkaService.describeExistingTopics(List.of("orders", "ghost")).get();
+
+        // Assert
+        assertEquals(Map.of("orders", orders), result);
+        verify(adminClient, times(1)).describeTopics(anyCollection(), any(DescribeTopicsOptions.class));
+    }
+
+    @Test
+    void testDescribeExistingTopics_RecordsCallMetrics() throws ExecutionException, InterruptedException {
+        // Arrange
+        DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+        Node node = new Node(1, "localhost", 9092);
+        List<TopicPartitionInfo> partitions = List.of(
+                new TopicPartitionInfo(0, node, List.of(node), List.of(node)),
+                new TopicPartitionInfo(1, node, List.of(node), List.of(node)));
+
+        when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(
+                "orders", KafkaFuture.completedFuture(new TopicDescription("orders", false, partitions))));
+
+        // Act
+        kafkaService.describeExistingTopics(List.of("orders")).get();
+
+        // Assert - one successful call that returned two partitions
+        assertEquals(1, meterRegistry.get("kafka.admin.calls")
+                .tags("operation", "DESCRIBE_TOPICS", "outcome", "success", "cluster", "default").timer().count());
+        assertEquals(2.0, meterRegistry.get("kafka.admin.calls.result.size")
+                .tags("operation", "DESCRIBE_TOPICS").summary().totalAmount());
+        assertEquals(0.0, meterRegistry.get("kafka.admin.calls.active").tags("operation", "DESCRIBE_TOPICS").gauge().value());
+    }
+
+    @Test
+    void testListOffsets_LeavesOutFailedPartitions() throws ExecutionException, InterruptedException {
+        // Arrange
+        TopicPartition healthy = new TopicPartition("orders", 0);
+        TopicPartition leaderless = new TopicPartition("orders", 1);
+        ListOffsetsResult listOffsetsResult = mock(ListOffsetsResult.class);
+        KafkaFutureImpl<ListOffsetsResult.ListOffsetsResultInfo> failed = new KafkaFutureImpl<>();
+        failed.completeExceptionally(new LeaderNotAvailableException("no leader"));
+
+        when(adminClient.listOffsets(anyMap(), any(ListOffsetsOptions.class))).thenReturn(listOffsetsResult);
+        when(listOffsetsResult.partitionResult(healthy)).thenReturn(KafkaFuture.completedFuture(
+                new ListOffsetsResult.ListOffsetsResultInfo(42, -1, Optional.empty())));
+        when(listOffsetsResult.partitionResult(leaderless)).thenReturn(failed);
+
+        // Act
+        Map<TopicPartition, Long> result = kafkaService.listOffsets(List.of(healthy, leaderless), OffsetSpec.latest()).get();
+
+        // Assert
+        assertEquals(Map.of(healthy, 42L), result);
+    }
+
+    @Test
+    void testListConsumerGroupOffsets_FetchesAllGroupsInOneCall() throws ExecutionException, InterruptedException {
+        // Arrange
+        TopicPartition partition = new TopicPartition("orders", 0);
+        ListConsumerGroupOffsetsResult offsetsResult = mock(ListConsumerGroupOffsetsResult.class);
+        KafkaFutureImpl<Map<TopicPartition, OffsetAndMetadata>> unknownGroup = new KafkaFutureImpl<>();
+        unknownGroup.completeExceptionally(new GroupIdNotFoundException("no such group"));
+        Map<TopicPartition, OffsetAndMetadata> billingOffsets = new HashMap<>();
+        billingOffsets.put(partition, new OffsetAndMetadata(7));
+        billingOffsets.put(new TopicPartition("orders", 1), null);
+
+        when(adminClient.listConsumerGroupOffsets(anyMap(), any(ListConsumerGroupOffsetsOptions.class)))
+                .thenReturn(offsetsResult);
+        when(offsetsResult.partitionsToOffsetAndMetadata("billing")).thenReturn(KafkaFuture.completedFuture(billingOffsets));
+        when(offsetsResult.partitionsToOffsetAndMetadata("ghost")).thenReturn(unknownGroup);
+
+        // Act
+        Map<String, Map<TopicPartition, OffsetAndMetadata>> result =
+                kafkaService.listConsumerGroupOffsets(List.of("billing", "ghost")).get();
+
+        // Assert - groups without offsets are left out, as are partitions with no committed offset
+        assertEquals(Map.of("billing", Map.of(partition, new OffsetAndMetadata(7))), result);
+        verify(adminClient, times(1)).listConsumerGroupOffsets(anyMap(), any(ListConsumerGroupOffsetsOptions.class));
+    }
+
+    @Test
+    void testDescribeEachConsumerGroup_LeavesOutFailedGroups() throws ExecutionException, InterruptedException {
+        // Arrange
+        DescribeConsumerGroupsResult describeResult = mock(DescribeConsumerGroupsResult.class);
+        KafkaFutureImpl<ConsumerGroupDescription> failed = new KafkaFutureImpl<>();
+        failed.completeExceptionally(new GroupAuthorizationException("not allowed"));
+        ConsumerGroupDescription billing = new ConsumerGroupDescription("billing", false, List.of(), "range",
+                ConsumerGroupState.EMPTY, new Node(1, "localhost", 9092));
+
+        when(adminClient.describeConsumerGroups(anyCollection(), any(DescribeConsumerGroupsOptions.class)))
+                .thenReturn(describeResult);
+        when(describeResult.describedGroups()).thenReturn(Map.of(
+                "billing", KafkaFuture.completedFuture(billing),
+                "secret", failed));
+
+        // Act
+        Map<String, ConsumerGroupDescription> result =
+                kafkaService.describeEachConsumerGroup(List.of("billing", "secret")).get();
+
+        // Assert
+        assertEquals(Map.of("billing", billing), result);
+        verify(adminClient, times(1)).describeConsumerGroups(anyCollection(), any(DescribeConsumerGroupsOptions.class));
+    }
+
+    @Test
+    void testDescribeTopics_TimesOutAndCancelsKafkaFuture() {
+        // Arrange - the broker never answers
+        timeouts.getOperations().put(AdminOperation.DESCRIBE_TOPICS, Duration.ofMillis(50));
+        DescribeTopicsResult describeTopicsResult = mock(DescribeTopicsResult.class);
+        KafkaFutureImpl<Map<String, TopicDescription>> pending = new KafkaFutureImpl<>();
+
+        when(adminClient.describeTopics(anyCollection(), any(DescribeTopicsOptions.class))).thenReturn(describeTopicsResult);
+        when(describeTopicsResult.allTopicNames()).thenReturn(pending);
+
+        // Act
+        CompletableFuture<Map<String, TopicDescription>> result = kafkaService.describeTopics(List.of("slow-topic"));
+
+        // Assert
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(TimeoutException.class, thrown.getCause());
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void testMethodsDoNotBlockOnPendingResults() {
+        // Arrange
+        ListConsumerGroupsResult listConsumerGroupsResult = mock(ListConsumerGroupsResult.class);
+        when(adminClient.listConsumerGroups(any(ListConsumerGroupsOptions.class))).thenReturn(listConsumerGroupsResult);
+        when(listConsumerGroupsResult.all()).thenReturn(new KafkaFutureImpl<>());
+
+        // Act
+        CompletableFuture<Collection<ConsumerGroupListing>> result = kafkaService.listConsumerGroups();
+
+        // Assert - the call returned although the broker has not answered
+        assertFalse(result.isDone());
+        result.cancel(true);
     }
 }
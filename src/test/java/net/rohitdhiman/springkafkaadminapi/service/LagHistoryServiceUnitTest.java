@@ -0,0 +1,86 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.dto.GroupLagSummary;
+import net.rohitdhiman.springkafkaadminapi.dto.HistoryBucket;
+import net.rohitdhiman.springkafkaadminapi.dto.SeriesHistory;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LagHistoryService.
+ */
+class LagHistoryServiceUnitTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private LagHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        historyService = new LagHistoryService(100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testGroupLag_DownsamplesIntoBuckets() {
+        // Arrange - one sample every 30 s for 4 minutes, lag growing by 10 each time
+        for (int i = 0; i < 8; i++) {
+            historyService.onLagSnapshot(snapshot(START.plusSeconds(30L * i), 10L * i, Map.of()));
+        }
+
+        // Act - two-minute buckets
+        SeriesHistory history = historyService.groupLag("billing", START, START.plusSeconds(240), 2);
+
+        // Assert
+        assertEquals(2, history.buckets().size());
+        HistoryBucket first = history.buckets().get(0);
+        assertEquals(START, first.start());
+        assertEquals(0, first.min());
+        assertEquals(30, first.max());
+        assertEquals(15, first.avg());
+        assertEquals(4, first.samples());
+        assertEquals(70, history.buckets().get(1).max());
+    }
+
+    @Test
+    void testTopicThroughput_DerivedFromEndOffsetGrowth() {
+        // Arrange - "orders" grows by 300 messages per 30 s across two partitions, then is recreated
+        historyService.onLagSnapshot(snapshot(START, 0, endOffsets(100, 200)));
+        historyService.onLagSnapshot(snapshot(START.plusSeconds(30), 0, endOffsets(250, 350)));
+        historyService.onLagSnapshot(snapshot(START.plusSeconds(60), 0, endOffsets(0, 0)));
+
+        // Act
+        SeriesHistory history = historyService.topicThroughput("orders", START, START.plusSeconds(90), 1);
+
+        // Assert
+        assertEquals(1, history.buckets().size());
+        assertEquals(10.0, history.buckets().get(0).avg());
+        assertEquals(1, history.buckets().get(0).samples());
+    }
+
+    @Test
+    void testGroupLag_RejectsInvalidRange() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class,
+                () -> historyService.groupLag("billing", START.plusSeconds(60), START, 10));
+        assertThrows(InvalidRequestException.class,
+                () -> historyService.groupLag("billing", START, START.plusSeconds(60), 0));
+    }
+
+    private static Map<TopicPartition, Long> endOffsets(long partition0, long partition1) {
+        return Map.of(new TopicPartition("orders", 0), partition0, new TopicPartition("orders", 1), partition1);
+    }
+
+    private static ConsumerLagSnapshot snapshot(Instant at, long billingLag, Map<TopicPartition, Long> endOffsets) {
+        return new ConsumerLagSnapshot(Map.of(), List.of(new GroupLagSummary("billing", billingLag, 1, 1)),
+                endOffsets, null, at);
+    }
+}
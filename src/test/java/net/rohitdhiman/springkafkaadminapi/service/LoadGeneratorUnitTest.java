@@ -0,0 +1,203 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestRequest.KeyDistribution;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.LoadTestStatus.State;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.exception.LoadTestInProgressException;
+import net.rohitdhiman.springkafkaadminapi.service.LoadGenerator.Keys;
+import net.rohitdhiman.springkafkaadminapi.service.LoadGenerator.ProducerSettings;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LoadGenerator.
+ * Runs execute on the calling thread against MockProducers, one per producer the generator asks for.
+ */
+class LoadGeneratorUnitTest {
+
+    private static final ProducerSettings DEFAULTS = new ProducerSettings(262144, 10, "lz4", "all");
+
+    private final List<ProducerSettings> created = new ArrayList<>();
+    private final List<MockProducer<byte[], byte[]>> producers = new ArrayList<>();
+
+    @Test
+    void testStart_SendsSharedPayloadsAndReportsLatency() {
+        // Arrange
+        LoadGenerator generator = generator(Runnable::run, true);
+
+        // Act
+        LoadTestStatus status = generator.start("orders", request(5L, null, 16, 2, null, null));
+
+        // Assert
+        List<ProducerRecord<byte[], byte[]>> history = producers.get(0).history();
+        assertEquals(State.COMPLETED, status.state());
+        assertEquals(5, status.sent());
+        assertEquals(5, status.acknowledged());
+        assertEquals(0, status.failed());
+        assertEquals(5 * 16 + 5 * 5, status.bytes());
+        assertNotNull(status.latency());
+        assertNotNull(status.finishedAt());
+        assertEquals(5, history.size());
+        assertEquals(List.of("key-0", "key-1", "key-0", "key-1", "key-0"), history.stream()
+                .map(record -> new String(record.key(), StandardCharsets.UTF_8)).toList());
+        assertTrue(history.stream().allMatch(record -> record.value() == history.get(0).value()));
+        assertEquals(16, history.get(0).value().length);
+    }
+
+    @Test
+    void testStart_SharesDefaultProducerAndClosesDedicatedOnes() {
+        // Arrange
+        LoadGenerator generator = generator(Runnable::run, true);
+
+        // Act
+        generator.start("orders", request(3L, null, 8, null, null, null));
+        generator.start("orders", request(3L, null, 8, null, null, null));
+        generator.start("orders", request(3L, null, 8, null, "zstd", "1"));
+
+        // Assert
+        assertEquals(List.of(DEFAULTS, new ProducerSettings(262144, 10, "zstd", "1")), created);
+        assertEquals(6, producers.get(0).history().size());
+        assertFalse(producers.get(0).closed());
+        assertTrue(producers.get(1).closed());
+        generator.close();
+        assertTrue(producers.get(0).closed());
+    }
+
+    @Test
+    void testStart_PacesToTargetRate() {
+        // Arrange
+        LoadGenerator generator = generator(Runnable::run, true);
+
+        // Act
+        long started = System.nanoTime();
+        LoadTestStatus status = generator.start("orders", request(21L, null, 8, null, null, null, 200));
+
+        // Assert - 20 intervals of 5 ms
+        assertEquals(21, status.acknowledged());
+        assertTrue(System.nanoTime() - started >= Duration.ofMillis(100).toNanos());
+        assertEquals(200, status.recordsPerSecondTarget());
+    }
+
+    @Test
+    void testStart_CountsFailedSendsAndFailsOnProducerErrors() {
+        // Arrange - the broker never acknowledges, then the producer itself breaks
+        LoadGenerator generator = generator(Runnable::run, false);
+
+        // Act
+        LoadTestStatus timedOut = generator.start("orders", request(4L, null, 8, null, null, null));
+        producers.get(0).sendException = new IllegalStateException("producer closed");
+        LoadTestStatus broken = generator.start("orders", request(4L, null, 8, null, null, null));
+
+        // Assert
+        assertEquals(State.COMPLETED, timedOut.state());
+        assertEquals(4, timedOut.failed());
+        assertEquals(0, timedOut.acknowledged());
+        assertNull(timedOut.latency());
+        assertTrue(timedOut.error().contains("expired"));
+        assertEquals(State.FAILED, broken.state());
+        assertEquals(0, broken.sent());
+        assertTrue(broken.error().contains("producer closed"));
+    }
+
+    @Test
+    void testCancel_StopsRunAndAllowsNext() {
+        // Arrange - the run only starts when the test lets it
+        List<Runnable> tasks = new ArrayList<>();
+        LoadGenerator generator = generator(tasks::add, true);
+        generator.start("orders", request(1000L, null, 8, null, null, null));
+
+        // Act
+        assertThrows(LoadTestInProgressException.class,
+                () -> generator.start("payments", request(10L, null, 8, null, null, null)));
+        LoadTestStatus cancelling = generator.cancel("orders");
+        tasks.get(0).run();
+
+        // Assert
+        assertEquals(State.CANCELLING, cancelling.state());
+        assertEquals(State.CANCELLED, generator.status("orders").state());
+        assertEquals(0, generator.status("orders").sent());
+        assertNull(generator.status("payments"));
+        assertNull(generator.cancel("orders"));
+        assertEquals(State.RUNNING, generator.start("payments", request(10L, null, 8, null, null, null)).state());
+    }
+
+    @Test
+    void testStart_RejectsInvalidRequests() {
+        // Arrange
+        LoadGenerator generator = generator(Runnable::run, true);
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> generator.start("orders", request(0L, null, 8, null,
+                null, null)));
+        assertThrows(InvalidRequestException.class, () -> generator.start("orders", request(2_000_000L, null, 8,
+                null, null, null)));
+        assertThrows(InvalidRequestException.class, () -> generator.start("orders", request(10L, null, 2_000_000,
+                null, null, null)));
+        assertThrows(InvalidRequestException.class, () -> generator.start("orders", request(10L, null, 8, null,
+                "brotli", null)));
+        assertThrows(InvalidRequestException.class, () -> generator.start("orders", new LoadTestRequest(10L, null,
+                null, null, null, KeyDistribution.ZIPF, null, null, null, null)));
+        assertTrue(created.isEmpty());
+    }
+
+    @Test
+    void testKeys_ZipfFavoursFirstKeys() {
+        // Arrange
+        Keys keys = new Keys(100, KeyDistribution.ZIPF);
+        int[] counts = new int[100];
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            counts[Integer.parseInt(new String(keys.next(i), StandardCharsets.UTF_8).substring(4))]++;
+        }
+
+        // Assert - about 19% for the first key, 1.9% for the tenth, 0.19% for the last
+        assertTrue(counts[0] > 15_000);
+        assertTrue(counts[0] > 5 * counts[9]);
+        assertTrue(counts[9] > 5 * counts[99]);
+        assertNull(new Keys(0, KeyDistribution.SEQUENTIAL).next(0));
+    }
+
+    private LoadGenerator generator(Executor executor, boolean acknowledge) {
+        return new LoadGenerator(settings -> {
+            created.add(settings);
+            MockProducer<byte[], byte[]> producer = new MockProducer<>(acknowledge, new ByteArraySerializer(),
+                    new ByteArraySerializer()) {
+                @Override
+                public synchronized void flush() {
+                    // Without acknowledgements every record in flight expires.
+                    while (!acknowledge && errorNext(new TimeoutException("Expiring record: expired"))) {
+                    }
+                    super.flush();
+                }
+            };
+            producers.add(producer);
+            return producer;
+        }, executor, DEFAULTS, 1_000_000, Duration.ofMinutes(1), 1_048_576, 1000, Clock.systemUTC());
+    }
+
+    private static LoadTestRequest request(Long records, Long durationMs, Integer valueSize, Integer keyCount,
+                                           String compression, String acks) {
+        return request(records, durationMs, valueSize, keyCount, compression, acks, null);
+    }
+
+    private static LoadTestRequest request(Long records, Long durationMs, Integer valueSize, Integer keyCount,
+                                           String compression, String acks, Integer recordsPerSecond) {
+        return new LoadTestRequest(records, durationMs, recordsPerSecond, valueSize, keyCount, null, null, null,
+                compression, acks);
+    }
+}
@@ -0,0 +1,203 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Outcome;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Query;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Range;
+import net.rohitdhiman.springkafkaadminapi.service.MessageBrowser.Result;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for MessageBrowser.
+ * Reads go through a real ConsumerPool of MockConsumers holding 10-byte values.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageBrowserUnitTest {
+
+    private static final String TOPIC = "orders";
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger consumersCreated = new AtomicInteger();
+
+    @Mock
+    private Consumer<byte[], byte[]> plannerConsumer;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testRead_LastRecordsAcrossPartitionsInParallel() throws Exception {
+        // Arrange - partition 0 holds 10 records and partition 1 holds 3
+        MessageBrowser browser = browser(Map.of(0, 10, 1, 3), 1000);
+        Query query = browser.query(TOPIC, 2, null, null, null, 6, null);
+
+        // Act
+        List<Range> ranges = browser.plan(query).join();
+        List<ConsumerRecord<byte[], byte[]>> written = new ArrayList<>();
+        Result result = browser.read(query, ranges, written::add);
+
+        // Assert - an even share of the newest records of each partition, read with two consumers
+        assertEquals(List.of(new Range(0, 7, 10), new Range(1, 0, 3)), ranges);
+        assertEquals(6, result.records());
+        assertEquals(60, result.bytes());
+        assertEquals(Outcome.COMPLETE, result.outcome());
+        assertEquals(Map.of(0, 10L, 1, 3L), result.nextOffsets());
+        assertEquals(6, written.size());
+        assertEquals(2, consumersCreated.get());
+    }
+
+    @Test
+    void testRead_ReadersDoNotQueueBehindTheCallingExecutor() throws Exception {
+        // Arrange - the read itself runs on the only thread of an executor, like a streaming response body
+        ConsumerPool pool = new ConsumerPool(() -> consumer(Map.of(0, 10, 1, 3)), 4);
+        MessageBrowser browser = new MessageBrowser(pool, 1000, 1 << 20, 4, 5000);
+        Query query = browser.query(TOPIC, 2, null, null, null, 6, null);
+        List<Range> ranges = browser.plan(query).join();
+        ExecutorService requestThreads = Executors.newSingleThreadExecutor();
+
+        try {
+            // Act
+            Future<Result> read = requestThreads.submit(() -> browser.read(query, ranges, record -> { }));
+
+            // Assert
+            assertEquals(Outcome.COMPLETE, read.get(5, TimeUnit.SECONDS).outcome());
+        } finally {
+            requestThreads.shutdownNow();
+            pool.close();
+        }
+    }
+
+    @Test
+    void testRead_StopsAtByteLimitAndReusesConsumers() throws Exception {
+        // Arrange
+        MessageBrowser browser = browser(Map.of(0, 10), 1000);
+        Query query = browser.query(TOPIC, 1, 0, 2L, null, 5, 25L);
+        List<Range> ranges = browser.plan(query).join();
+
+        // Act
+        List<Long> offsets = new ArrayList<>();
+        Result first = browser.read(query, ranges, record -> offsets.add(record.offset()));
+        Result second = browser.read(query, ranges, record -> { });
+
+        // Assert - the third record would pass 25 bytes; one pooled consumer served every call
+        assertEquals(List.of(new Range(0, 2, 7)), ranges);
+        assertEquals(List.of(2L, 3L), offsets);
+        assertEquals(Outcome.BYTE_LIMIT, first.outcome());
+        assertEquals(Map.of(0, 4L), first.nextOffsets());
+        assertEquals(first, second);
+        assertEquals(1, consumersCreated.get());
+    }
+
+    @Test
+    void testPlan_FromTimestampOnEveryPartition() {
+        // Arrange - partition 1 has nothing after the timestamp, partition 2 runs out after 2 records
+        MessageBrowser browser = browser(Map.of(), 1000);
+        Query query = browser.query(TOPIC, 3, null, null, 1_700_000_000_000L, 10, null);
+        when(plannerConsumer.beginningOffsets(anyCollection(), any(Duration.class)))
+                .thenReturn(offsets(0L, 0L, 5L));
+        when(plannerConsumer.endOffsets(anyCollection(), any(Duration.class)))
+                .thenReturn(offsets(100L, 50L, 12L));
+        Map<TopicPartition, OffsetAndTimestamp> byTime = new HashMap<>();
+        byTime.put(new TopicPartition(TOPIC, 0), new OffsetAndTimestamp(40, 1_700_000_000_000L));
+        byTime.put(new TopicPartition(TOPIC, 1), null);
+        byTime.put(new TopicPartition(TOPIC, 2), new OffsetAndTimestamp(10, 1_700_000_000_000L));
+        when(plannerConsumer.offsetsForTimes(anyMap(), any(Duration.class))).thenReturn(byTime);
+
+        // Act
+        List<Range> ranges = browser.plan(plannerConsumer, query);
+
+        // Assert
+        assertEquals(List.of(new Range(0, 40, 48), new Range(2, 10, 12)), ranges);
+    }
+
+    @Test
+    void testQuery_RejectsInvalidRequests() {
+        // Arrange
+        MessageBrowser browser = browser(Map.of(), 100);
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> browser.query(TOPIC, 3, null, 5L, null, 10, null));
+        assertThrows(InvalidRequestException.class, () -> browser.query(TOPIC, 3, 3, null, null, 10, null));
+        assertThrows(InvalidRequestException.class, () -> browser.query(TOPIC, 3, 0, 5L, 1L, 10, null));
+        assertThrows(InvalidRequestException.class, () -> browser.query(TOPIC, 3, null, null, null, 101, null));
+        assertThrows(InvalidRequestException.class, () -> browser.query(TOPIC, 3, null, null, null, 10, 1L << 40));
+        assertEquals(List.of(0, 1, 2), browser.query(TOPIC, 3, null, null, null, null, null).partitions());
+    }
+
+    @Test
+    void testAllocate_PassesUnusedSharesOn() {
+        // Act & Assert
+        assertArrayEquals(new long[]{4, 2, 0, 4}, MessageBrowser.allocate(new long[]{100, 2, 0, 100}, 10));
+        assertArrayEquals(new long[]{3, 1}, MessageBrowser.allocate(new long[]{3, 1}, 10));
+    }
+
+    private MessageBrowser browser(Map<Integer, Integer> recordCounts, int maxRecords) {
+        ConsumerPool pool = new ConsumerPool(() -> {
+            consumersCreated.incrementAndGet();
+            return consumer(recordCounts);
+        }, 4);
+        return new MessageBrowser(pool, executor, maxRecords, 1 << 20, 4, Duration.ofSeconds(5));
+    }
+
+    // Every assignment refills the assigned partitions, so a reused consumer can be read again.
+    private static MockConsumer<byte[], byte[]> consumer(Map<Integer, Integer> recordCounts) {
+        MockConsumer<byte[], byte[]> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void assign(Collection<TopicPartition> partitions) {
+                super.assign(partitions);
+                for (TopicPartition partition : partitions) {
+                    for (int offset = 0; offset < recordCounts.get(partition.partition()); offset++) {
+                        addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, null, new byte[10]));
+                    }
+                }
+            }
+        };
+        Map<TopicPartition, Long> beginning = new HashMap<>();
+        Map<TopicPartition, Long> end = new HashMap<>();
+        recordCounts.forEach((partition, count) -> {
+            beginning.put(new TopicPartition(TOPIC, partition), 0L);
+            end.put(new TopicPartition(TOPIC, partition), (long) count);
+        });
+        consumer.updateBeginningOffsets(beginning);
+        consumer.updateEndOffsets(end);
+        return consumer;
+    }
+
+    private static Map<TopicPartition, Long> offsets(long... offsets) {
+        Map<TopicPartition, Long> map = new HashMap<>();
+        for (int i = 0; i < offsets.length; i++) {
+            map.put(new TopicPartition(TOPIC, i), offsets[i]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,79 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessageFilter.
+ */
+class MessageFilterUnitTest {
+
+    private static final String ORDER = """
+            {"id": "o-1", "customer": {"tier": "gold"}, "items": [{"sku": "A-7"}, {"sku": "B-2"}], "total": 42}""";
+
+    @Test
+    void testTest_CombinesConditions() {
+        // Arrange
+        ConsumerRecord<byte[], byte[]> record = record(1_000, "o-1", ORDER, "trace", "t-9");
+
+        // Act & Assert
+        assertTrue(MessageFilter.of(0, 2_000, "o-1", "trace", "t-9", "gold", "$.items[1].sku", "B-2").test(record));
+        assertTrue(MessageFilter.of(0, 2_000, null, null, null, null, "customer.tier", null).test(record));
+        assertTrue(MessageFilter.of(0, 2_000, null, null, null, null, "/total", "42").test(record));
+        assertFalse(MessageFilter.of(0, 2_000, "o-2", null, null, null, null, null).test(record));
+        assertFalse(MessageFilter.of(0, 2_000, null, "trace", "t-8", null, null, null).test(record));
+        assertFalse(MessageFilter.of(0, 2_000, null, null, null, "silver", null, null).test(record));
+        assertFalse(MessageFilter.of(0, 2_000, null, null, null, null, "$.items[2].sku", null).test(record));
+        assertFalse(MessageFilter.of(0, 1_000, "o-1", null, null, null, null, null).test(record));
+    }
+
+    @Test
+    void testTest_NonJsonValueDoesNotMatchPath() {
+        // Arrange
+        ConsumerRecord<byte[], byte[]> record = record(1_000, null, "plain text", "trace", null);
+
+        // Act & Assert
+        assertFalse(MessageFilter.of(0, 2_000, null, null, null, null, "$.id", null).test(record));
+        assertTrue(MessageFilter.of(0, 2_000, null, "trace", null, "text", null, null).test(record));
+    }
+
+    @Test
+    void testIndexOf_FindsBytes() {
+        // Arrange
+        byte[] haystack = "abcabdabcabcabd".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertEquals(3, MessageFilter.indexOf(haystack, "abd".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(0, MessageFilter.indexOf(haystack, "abcabd".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(-1, MessageFilter.indexOf(haystack, "abe".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(-1, MessageFilter.indexOf(haystack, "abcabcabdx".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testOf_RejectsInvalidConditions() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> MessageFilter.of(0, 1, null, null, null, null, null, null));
+        assertThrows(InvalidRequestException.class, () -> MessageFilter.of(0, 1, "k", null, "v", null, null, null));
+        assertThrows(InvalidRequestException.class, () -> MessageFilter.of(0, 1, "k", null, null, null, null, "v"));
+        assertThrows(InvalidRequestException.class, () -> MessageFilter.of(0, 1, null, null, null, null, "a..b", null));
+    }
+
+    private static ConsumerRecord<byte[], byte[]> record(long timestamp, String key, String value, String header,
+                                                         String headerValue) {
+        RecordHeaders headers = new RecordHeaders(List.of(new RecordHeader(header,
+                headerValue == null ? null : headerValue.getBytes(StandardCharsets.UTF_8))));
+        return new ConsumerRecord<>("orders", 0, 0, timestamp, TimestampType.CREATE_TIME, -1, -1,
+                key == null ? null : key.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8),
+                headers, Optional.empty());
+    }
+}
@@ -0,0 +1,278 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.MessageSearchRequest;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Outcome;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.PartitionRange;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Progress;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Query;
+import net.rohitdhiman.springkafkaadminapi.service.MessageSearch.Summary;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for MessageSearch.
+ * Scans go through a real ConsumerPool of MockConsumers; every partition holds 50 JSON orders, one per second.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageSearchUnitTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+    private static final long FIRST_TIMESTAMP = NOW.minusSeconds(50).toEpochMilli();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private KafkaService kafkaService;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    private MessageSearch search;
+
+    @BeforeEach
+    void setUp() {
+        ConsumerPool pool = new ConsumerPool(MessageSearchUnitTest::consumer, 4);
+        search = new MessageSearch(kafkaService, metadataCache, pool, executor, meterRegistry, 4, 100,
+                Duration.ofHours(1), Duration.ofSeconds(10), Duration.ofSeconds(10),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testPlan_ResolvesWindowToOffsets() {
+        // Arrange - partition 1 has nothing since "from"; partition 2 has nothing at or after "to"
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot("orders", 3)));
+        when(kafkaService.listOffsets(anyCollection(), isA(OffsetSpec.TimestampSpec.class)))
+                .thenReturn(CompletableFuture.completedFuture(offsets(10L, -1L, 30L)))
+                .thenReturn(CompletableFuture.completedFuture(offsets(40L, -1L, -1L)));
+        when(kafkaService.listOffsets(anyCollection(), isA(OffsetSpec.LatestSpec.class)))
+                .thenReturn(CompletableFuture.completedFuture(offsets(50L, 50L, 50L)));
+        Query query = search.query(new MessageSearchRequest(List.of("orders", "orders"), NOW.minusSeconds(40),
+                NOW.minusSeconds(10), "o-1", null, null, null, null, null, null));
+
+        // Act
+        List<PartitionRange> ranges = search.plan(query).join();
+
+        // Assert - largest range first
+        assertEquals(List.of("orders"), query.topics());
+        assertEquals(List.of(new PartitionRange("orders", 0, 10, 40), new PartitionRange("orders", 2, 30, 50)),
+                ranges);
+    }
+
+    @Test
+    void testPlan_UnknownTopic() {
+        // Arrange
+        when(metadataCache.snapshot()).thenReturn(CompletableFuture.completedFuture(snapshot("orders", 1)));
+        Query query = search.query(new MessageSearchRequest(List.of("orders", "ghost"), null, null, "o-1", null,
+                null, null, null, null, null));
+
+        // Act & Assert
+        Exception error = assertThrows(Exception.class, () -> search.plan(query).join());
+        assertInstanceOf(InvalidRequestException.class, KafkaFutures.unwrap(error));
+    }
+
+    @Test
+    void testSearch_ScansPartitionsInParallelUntilLimit() throws Exception {
+        // Arrange - every tenth order is "gold"; 20 of them in 4 partitions, but only 3 are wanted
+        Query query = search.query(new MessageSearchRequest(List.of("orders"), null, null, null, null, null,
+                null, "$.tier", "gold", 3));
+        List<PartitionRange> ranges = List.of(new PartitionRange("orders", 0, 0, 50),
+                new PartitionRange("orders", 1, 0, 50), new PartitionRange("orders", 2, 0, 50),
+                new PartitionRange("orders", 3, 0, 50));
+        List<ConsumerRecord<byte[], byte[]>> matches = new ArrayList<>();
+
+        // Act
+        Summary summary = search.search(query, ranges, new Listener(matches));
+
+        // Assert
+        assertEquals(Outcome.LIMIT, summary.outcome());
+        assertEquals(3, matches.size());
+        assertTrue(matches.stream().allMatch(record -> record.offset() % 10 == 0));
+        assertEquals(3, summary.progress().matches());
+        assertEquals(200, summary.progress().offsets());
+        assertTrue(summary.progress().scannedBytes() > 0);
+        assertEquals(1, meterRegistry.get("kafka.admin.search").tag("outcome", "LIMIT").timer().count());
+        assertEquals(summary.progress().scannedBytes(),
+                meterRegistry.get("kafka.admin.search.scanned.bytes").counter().count());
+        assertEquals(1, meterRegistry.get("kafka.admin.search.throughput").summary().count());
+    }
+
+    @Test
+    void testSearch_CompletesWindowAndStopsWhenListenerFails() throws Exception {
+        // Arrange - "from" leaves out the first 20 seconds, so each partition has one gold order left
+        Query query = search.query(new MessageSearchRequest(List.of("orders"), NOW.minusSeconds(30), null, null,
+                null, null, "\"gold\"", null, null, null));
+        List<PartitionRange> ranges = List.of(new PartitionRange("orders", 0, 0, 50),
+                new PartitionRange("orders", 1, 0, 50));
+        List<ConsumerRecord<byte[], byte[]>> matches = new ArrayList<>();
+
+        // Act
+        Summary complete = search.search(query, ranges, new Listener(matches));
+        IOException disconnected = assertThrows(IOException.class, () -> search.search(query, ranges,
+                new Listener(null)));
+
+        // Assert
+        assertEquals(Outcome.COMPLETE, complete.outcome());
+        assertEquals(List.of(20L, 20L, 30L, 30L, 40L, 40L),
+                matches.stream().map(ConsumerRecord::offset).sorted().toList());
+        assertEquals(2, complete.progress().partitionsDone());
+        assertEquals(100, complete.progress().scannedRecords());
+        assertEquals("client gone", disconnected.getMessage());
+        assertEquals(1, meterRegistry.get("kafka.admin.search").tag("outcome", "CANCELLED").timer().count());
+    }
+
+    @Test
+    void testSearch_StopsWaitingAtDeadlineWhenWorkersHaveNotStarted() throws Exception {
+        // Arrange - workers only start a second after they are submitted, long after the 200 ms deadline
+        Executor slowToStart = task -> executor.execute(() -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            task.run();
+        });
+        MessageSearch slow = new MessageSearch(kafkaService, metadataCache,
+                new ConsumerPool(MessageSearchUnitTest::consumer, 4), slowToStart, meterRegistry, 4, 100,
+                Duration.ofHours(1), Duration.ofMillis(200), Duration.ofMillis(50), Clock.fixed(NOW, ZoneOffset.UTC));
+        Query query = slow.query(new MessageSearchRequest(List.of("orders"), null, null, null, null, null,
+                "\"gold\"", null, null, null));
+        AtomicInteger progressLines = new AtomicInteger();
+
+        // Act
+        Summary summary = slow.search(query, List.of(new PartitionRange("orders", 0, 0, 50)),
+                new MessageSearch.SearchListener() {
+                    @Override
+                    public void match(ConsumerRecord<byte[], byte[]> record) {
+                    }
+
+                    @Override
+                    public void progress(Progress progress) {
+                        progressLines.incrementAndGet();
+                    }
+                });
+
+        // Assert - progress stopped at the deadline instead of running until the worker ended
+        assertEquals(Outcome.TIME_LIMIT, summary.outcome());
+        assertTrue(progressLines.get() <= 4, progressLines.get() + " progress lines");
+    }
+
+    @Test
+    void testQuery_RejectsInvalidRequests() {
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> search.query(new MessageSearchRequest(List.of(), null,
+                null, "k", null, null, null, null, null, null)));
+        assertThrows(InvalidRequestException.class, () -> search.query(new MessageSearchRequest(List.of("orders"),
+                NOW, NOW.minusSeconds(1), "k", null, null, null, null, null, null)));
+        assertThrows(InvalidRequestException.class, () -> search.query(new MessageSearchRequest(List.of("orders"),
+                null, null, "k", null, null, null, null, null, 101)));
+        assertEquals(NOW.minus(Duration.ofHours(1)), search.query(new MessageSearchRequest(List.of("orders"),
+                null, null, "k", null, null, null, null, null, null)).from());
+    }
+
+    // Collects matches; without a list it fails on the first one, like a client that went away.
+    private record Listener(List<ConsumerRecord<byte[], byte[]>> matches) implements MessageSearch.SearchListener {
+
+        @Override
+        public void match(ConsumerRecord<byte[], byte[]> record) throws IOException {
+            if (matches == null) {
+                throw new IOException("client gone");
+            }
+            matches.add(record);
+        }
+
+        @Override
+        public void progress(Progress progress) {
+        }
+    }
+
+    // Every assignment refills the assigned partitions, so a reused consumer can scan them again.
+    private static MockConsumer<byte[], byte[]> consumer() {
+        return new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void assign(Collection<TopicPartition> partitions) {
+                super.assign(partitions);
+                Map<TopicPartition, Long> beginning = new HashMap<>();
+                for (TopicPartition partition : partitions) {
+                    beginning.put(partition, 0L);
+                }
+                updateBeginningOffsets(beginning);
+                for (TopicPartition partition : partitions) {
+                    for (int offset = 0; offset < 50; offset++) {
+                        String tier = offset % 10 == 0 ? "gold" : "basic";
+                        String value = "{\"id\": \"o-" + offset + "\", \"tier\": \"" + tier + "\"}";
+                        addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(), offset,
+                                FIRST_TIMESTAMP + offset * 1000L, TimestampType.CREATE_TIME, -1, -1,
+                                ("o-" + offset).getBytes(StandardCharsets.UTF_8),
+                                value.getBytes(StandardCharsets.UTF_8), new RecordHeaders(), Optional.empty()));
+                    }
+                }
+            }
+        };
+    }
+
+    private static ClusterSnapshot snapshot(String topic, int partitions) {
+        Node node = new Node(1, "broker-1", 9092);
+        NodeInfo nodeInfo = new NodeInfo(node);
+        List<TopicPartitionInfo> infos = new ArrayList<>();
+        for (int i = 0; i < partitions; i++) {
+            infos.add(new TopicPartitionInfo(i, node, List.of(node), List.of(node)));
+        }
+        return ClusterSnapshot.of(new ClusterInfo("test", nodeInfo, List.of(nodeInfo)),
+                Map.of(topic, new TopicDescription(topic, false, infos)), List.of(), NOW);
+    }
+
+    private static Map<TopicPartition, Long> offsets(Long... offsets) {
+        Map<TopicPartition, Long> map = new HashMap<>();
+        for (int i = 0; i < offsets.length; i++) {
+            map.put(new TopicPartition("orders", i), offsets[i]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,227 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff;
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff.IsrChange;
+import net.rohitdhiman.springkafkaadminapi.dto.MetadataDiff.PartitionCountChange;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.Uuid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MetadataStore.
+ * Segments go to a temporary directory; every partition is replicated to brokers 1, 2 and 3, with broker 3
+ * out of the ISR of the partitions a test marks as shrunk.
+ */
+@ExtendWith(MockitoExtension.class)
+class MetadataStoreUnitTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Node[] BROKERS = {new Node(1, "broker-1", 9092), new Node(2, "broker-2", 9092),
+            new Node(3, "broker-3", 9092)};
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    private MetadataStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = store(Duration.ofDays(1), 100);
+    }
+
+    @Test
+    void testRestart_WarmsCacheWithLastCompleteRecord() throws IOException {
+        // Arrange - the second refresh deletes a topic, creates one and shrinks an ISR; then a crash tears a record
+        store.onSnapshot(snapshot(T0, List.of(topic("orders", 3), topic("payments", 2)), "billing"));
+        store.onSnapshot(snapshot(T0.plusSeconds(30), List.of(topic("orders", 3, 1), topic("audit", 1)), "billing"));
+        store.close();
+        Path segment = segments().get(0);
+        long complete = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+
+        // Act
+        MetadataStore restarted = store(Duration.ofDays(1), 100);
+        restarted.afterSingletonsInstantiated();
+
+        // Assert
+        ArgumentCaptor<ClusterSnapshot> warmed = ArgumentCaptor.forClass(ClusterSnapshot.class);
+        verify(metadataCache).warm(warmed.capture());
+        ClusterSnapshot restored = warmed.getValue();
+        assertEquals(T0.plusSeconds(30), restored.fetchedAt());
+        assertEquals(List.of("audit", "orders"), List.copyOf(restored.topics().keySet()));
+        assertEquals(topic("orders", 3, 1), restored.topics().get("orders"));
+        assertEquals("test", restored.cluster().clusterId());
+        assertEquals(3, restored.cluster().nodes().size());
+        assertEquals(Optional.of(ConsumerGroupState.STABLE), restored.consumerGroups().get(0).state());
+        assertEquals(complete, Files.size(segment));
+
+        // The restored snapshot comes back as an event and writes nothing; a real change is appended again.
+        restarted.onSnapshot(restored);
+        assertEquals(complete, Files.size(segment));
+        restarted.onSnapshot(snapshot(T0.plusSeconds(60), List.of(topic("orders", 3), topic("audit", 1)), "billing"));
+        assertTrue(Files.size(segment) > complete);
+        assertEquals(1, restarted.diff(T0.plusSeconds(30), T0.plusSeconds(60)).isrChanges().size());
+    }
+
+    @Test
+    void testOnSnapshot_AppendsOnlyWhatChanged() throws IOException {
+        // Arrange
+        List<TopicDescription> topics = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            topics.add(topic("topic-" + i, 12));
+        }
+        store.onSnapshot(snapshot(T0, topics, "billing"));
+        long full = Files.size(segments().get(0));
+
+        // Act
+        store.onSnapshot(snapshot(T0.plusSeconds(30), topics, "billing"));
+        long unchanged = Files.size(segments().get(0));
+        topics.set(7, topic("topic-7", 12, 4));
+        store.onSnapshot(snapshot(T0.plusSeconds(60), topics, "billing"));
+        long changed = Files.size(segments().get(0));
+
+        // Assert
+        assertEquals(full, unchanged);
+        assertTrue(changed - unchanged < full / 2,
+                "full metadata took " + full + " bytes, one changed topic " + (changed - unchanged));
+        assertEquals(1, segments().size());
+    }
+
+    @Test
+    void testDiff_TopicsPartitionCountsGroupsAndIsrHistory() throws IOException {
+        // Arrange
+        store.onSnapshot(snapshot(T0, List.of(topic("orders", 3), topic("payments", 2)), "billing"));
+        store.onSnapshot(snapshot(T0.plusSeconds(30), List.of(topic("orders", 3, 0), topic("payments", 2)),
+                "billing"));
+        store.onSnapshot(snapshot(T0.plusSeconds(60), List.of(topic("orders", 6, 0), topic("audit", 1)),
+                "billing", "shipping"));
+        store.onSnapshot(snapshot(T0.plusSeconds(90), List.of(topic("orders", 6), topic("audit", 1)), "shipping"));
+
+        // Act
+        MetadataDiff diff = store.diff(T0.plusSeconds(10), T0.plusSeconds(70));
+        MetadataDiff all = store.diff(T0, T0.plusSeconds(90));
+        MetadataDiff limited = store(Duration.ofDays(1), 1).diff(T0, T0.plusSeconds(90));
+
+        // Assert
+        assertEquals(T0, diff.fromSnapshotAt());
+        assertEquals(T0.plusSeconds(60), diff.toSnapshotAt());
+        assertEquals(List.of("audit"), diff.topicsCreated());
+        assertEquals(List.of("payments"), diff.topicsDeleted());
+        assertEquals(List.of(new PartitionCountChange("orders", 3, 6)), diff.partitionCounts());
+        assertEquals(List.of("shipping"), diff.groupsCreated());
+        assertEquals(List.of(), diff.groupsDeleted());
+        assertEquals(List.of(new IsrChange(T0.plusSeconds(30), "orders", 0, List.of(1, 2, 3), List.of(1, 2))),
+                diff.isrChanges());
+        assertFalse(diff.isrChangesTruncated());
+
+        assertEquals(List.of("billing"), all.groupsDeleted());
+        assertEquals(List.of(new IsrChange(T0.plusSeconds(90), "orders", 0, List.of(1, 2), List.of(1, 2, 3))),
+                all.isrChanges().subList(1, 2));
+        assertEquals(1, limited.isrChanges().size());
+        assertTrue(limited.isrChangesTruncated());
+    }
+
+    @Test
+    void testRoll_StartsSegmentsWithFullMetadataAndDeletesExpiredOnes() throws IOException {
+        // Arrange - hourly segments, kept for two hours
+        store = new MetadataStore(metadataCache, directory, 1 << 20, Duration.ofHours(1), Duration.ofHours(2), 100);
+
+        // Act
+        for (int hour = 0; hour <= 4; hour++) {
+            store.onSnapshot(snapshot(T0.plus(Duration.ofHours(hour)), List.of(topic("orders", 3 + hour)), "billing"));
+        }
+
+        // Assert - the first segment only holds metadata that was replaced before the cutoff
+        assertEquals(List.of(1, 2, 3, 4), segments().stream()
+                .map(path -> Duration.between(T0, Instant.ofEpochMilli(Long.parseLong(
+                        path.getFileName().toString().replace(MetadataStore.EXTENSION, "")))).toHoursPart())
+                .toList());
+        MetadataDiff diff = store.diff(T0.plus(Duration.ofHours(2)), T0.plus(Duration.ofHours(4)));
+        assertEquals(List.of(new PartitionCountChange("orders", 5, 7)), diff.partitionCounts());
+        assertTrue(diff.topicsCreated().isEmpty());
+        InvalidRequestException error = assertThrows(InvalidRequestException.class, () -> store.diff(T0, T0));
+        assertTrue(error.getMessage().startsWith("Cluster metadata is recorded from 2026-01-01T01:00:00Z"));
+    }
+
+    @Test
+    void testDiff_RejectsRangesWithoutHistory() {
+        // Arrange
+        MetadataStore disabled = new MetadataStore(metadataCache, null, 1 << 20, Duration.ofDays(1),
+                Duration.ofDays(7), 100);
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> store.diff(T0, T0.plusSeconds(60)));
+        store.onSnapshot(snapshot(T0, List.of(topic("orders", 3)), "billing"));
+        assertThrows(InvalidRequestException.class, () -> store.diff(T0.plusSeconds(60), T0));
+        assertThrows(InvalidRequestException.class, () -> store.diff(T0.minusSeconds(1), T0));
+        assertThrows(InvalidRequestException.class, () -> disabled.diff(T0, T0.plusSeconds(60)));
+        disabled.onSnapshot(snapshot(T0, List.of(topic("orders", 3)), "billing"));
+        disabled.afterSingletonsInstantiated();
+        verifyNoInteractions(metadataCache);
+    }
+
+    private MetadataStore store(Duration segmentAge, int maxIsrChanges) {
+        return new MetadataStore(metadataCache, directory, 1 << 20, segmentAge, Duration.ofDays(7), maxIsrChanges);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.sorted().toList();
+        }
+    }
+
+    private static ClusterSnapshot snapshot(Instant at, List<TopicDescription> topics, String... groups) {
+        List<NodeInfo> nodes = Arrays.stream(BROKERS).map(NodeInfo::new).toList();
+        Map<String, TopicDescription> byName = new HashMap<>();
+        topics.forEach(topic -> byName.put(topic.name(), topic));
+        List<ConsumerGroupListing> listings = Arrays.stream(groups)
+                .map(group -> new ConsumerGroupListing(group, false, Optional.of(ConsumerGroupState.STABLE)))
+                .toList();
+        return ClusterSnapshot.of(new ClusterInfo("test", nodes.get(0), nodes), byName, listings, at);
+    }
+
+    private static TopicDescription topic(String name, int partitions, int... shrunk) {
+        List<TopicPartitionInfo> infos = new ArrayList<>();
+        for (int p = 0; p < partitions; p++) {
+            int partition = p;
+            boolean outOfSync = Arrays.stream(shrunk).anyMatch(s -> s == partition);
+            List<Node> replicas = List.of(BROKERS[p % 3], BROKERS[(p + 1) % 3], BROKERS[(p + 2) % 3]);
+            List<Node> isr = outOfSync ? replicas.stream().filter(node -> node.id() != 3).toList() : replicas;
+            infos.add(new TopicPartitionInfo(p, isr.get(0), replicas, isr));
+        }
+        return new TopicDescription(name, false, infos, null, new Uuid(name.hashCode(), name.length()));
+    }
+}
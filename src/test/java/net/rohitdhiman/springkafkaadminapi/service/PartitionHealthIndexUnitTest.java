@@ -0,0 +1,150 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChange;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionHealthChanges;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PartitionHealthIndex.
+ * Feeds synthetic topic descriptions through consecutive refreshes and checks the diffing and change log.
+ */
+class PartitionHealthIndexUnitTest {
+
+    private static final Node BROKER_1 = new Node(1, "localhost", 9092);
+    private static final Node BROKER_2 = new Node(2, "localhost", 9093);
+    private static final Node BROKER_3 = new Node(3, "localhost", 9094);
+
+    private PartitionHealthIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PartitionHealthIndex(100);
+    }
+
+    @Test
+    void testApply_TracksUnderReplicatedPartitions() {
+        // Act
+        index.apply(Map.of(
+                "healthy", topic("healthy", partition(0, BROKER_1, 3), partition(1, BROKER_2, 3)),
+                "degraded", topic("degraded", partition(0, BROKER_1, 3), partition(1, BROKER_2, 2), partition(2, BROKER_3, 1))));
+
+        // Assert
+        assertEquals(Map.of("degraded", List.of(1, 2)), index.underReplicatedPartitions());
+        assertEquals(1, index.version());
+    }
+
+    @Test
+    void testApply_UnchangedStateDoesNotBumpVersion() {
+        // Arrange
+        Map<String, TopicDescription> topics = Map.of("degraded", topic("degraded", partition(0, BROKER_1, 2)));
+        index.apply(topics);
+
+        // Act
+        long version = index.apply(topics);
+
+        // Assert
+        assertEquals(1, version);
+        assertTrue(index.changesSince(1).changes().isEmpty());
+    }
+
+    @Test
+    void testChangesSince_ReturnsOnlyPartitionsThatMoved() {
+        // Arrange
+        index.apply(Map.of("orders", topic("orders", partition(0, BROKER_1, 3), partition(1, BROKER_2, 2))));
+
+        // Act - partition 1 recovers, partition 0 loses a follower
+        index.apply(Map.of("orders", topic("orders", partition(0, BROKER_1, 2), partition(1, BROKER_2, 3))));
+        PartitionHealthChanges changes = index.changesSince(1);
+
+        // Assert
+        assertEquals(2, changes.version());
+        assertFalse(changes.resync());
+        assertEquals(2, changes.changes().size());
+        assertEquals(PartitionHealthChange.State.UNDER_REPLICATED, changes.changes().get(0).state());
+        assertEquals(0, changes.changes().get(0).partition());
+        assertEquals(PartitionHealthChange.State.HEALTHY, changes.changes().get(1).state());
+        assertEquals(Map.of("orders", List.of(0)), index.underReplicatedPartitions());
+    }
+
+    @Test
+    void testChangesSince_DetectsIsrSwapWithSameSize() {
+        // Arrange
+        index.apply(Map.of("orders", topic("orders",
+                new TopicPartitionInfo(0, BROKER_1, List.of(BROKER_1, BROKER_2, BROKER_3), List.of(BROKER_1, BROKER_2)))));
+
+        // Act
+        index.apply(Map.of("orders", topic("orders",
+                new TopicPartitionInfo(0, BROKER_1, List.of(BROKER_1, BROKER_2, BROKER_3), List.of(BROKER_1, BROKER_3)))));
+
+        // Assert
+        assertEquals(1, index.changesSince(1).changes().size());
+    }
+
+    @Test
+    void testApply_DeletedTopicIsReportedAsRemoved() {
+        // Arrange
+        index.apply(Map.of("doomed", topic("doomed", partition(0, BROKER_1, 1))));
+
+        // Act
+        index.apply(Map.of());
+
+        // Assert
+        List<PartitionHealthChange> changes = index.changesSince(1).changes();
+        assertEquals(1, changes.size());
+        assertEquals(PartitionHealthChange.State.REMOVED, changes.get(0).state());
+        assertTrue(index.underReplicatedPartitions().isEmpty());
+    }
+
+    @Test
+    void testApply_RecreatedWithFewerPartitionsRemovesTheRest() {
+        // Arrange
+        index.apply(Map.of("orders", topic("orders", partition(0, BROKER_1, 2), partition(1, BROKER_2, 3),
+                partition(2, BROKER_3, 1), partition(3, null, 0))));
+
+        // Act - deleted and recreated with two healthy partitions between refreshes
+        index.apply(Map.of("orders", topic("orders", partition(0, BROKER_1, 3), partition(1, BROKER_2, 3))));
+        PartitionHealthChanges changes = index.changesSince(1);
+
+        // Assert
+        assertEquals(Map.of(), index.underReplicatedPartitions());
+        assertEquals(0, index.underReplicatedCount());
+        assertEquals(List.of(2, 3, 0), changes.changes().stream().map(PartitionHealthChange::partition).toList());
+        assertEquals(List.of(PartitionHealthChange.State.REMOVED, PartitionHealthChange.State.REMOVED,
+                PartitionHealthChange.State.HEALTHY), changes.changes().stream().map(PartitionHealthChange::state)
+                .toList());
+    }
+
+    @Test
+    void testChangesSince_ResyncWhenLogNoLongerCoversVersion() {
+        // Arrange - a two-entry log cannot hold the three changes of the second refresh
+        index = new PartitionHealthIndex(2);
+        index.apply(Map.of("orders", topic("orders", partition(0, BROKER_1, 3), partition(1, BROKER_1, 3), partition(2, BROKER_1, 3))));
+        index.apply(Map.of("orders", topic("orders", partition(0, BROKER_1, 2), partition(1, BROKER_1, 2), partition(2, BROKER_1, 2))));
+
+        // Act
+        PartitionHealthChanges changes = index.changesSince(0);
+
+        // Assert
+        assertTrue(changes.resync());
+        assertEquals(3, changes.changes().size());
+    }
+
+    private static TopicDescription topic(String name, TopicPartitionInfo... partitions) {
+        return new TopicDescription(name, false, List.of(partitions));
+    }
+
+    // Three replicas on brokers 1-3 with the first isrSize of them in sync.
+    private static TopicPartitionInfo partition(int id, Node leader, int isrSize) {
+        List<Node> replicas = List.of(BROKER_1, BROKER_2, BROKER_3);
+        return new TopicPartitionInfo(id, leader, replicas, replicas.subList(0, isrSize));
+    }
+}
@@ -0,0 +1,119 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionSkewReport;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionSkewReport.Action;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionSkewReport.BrokerSkew;
+import net.rohitdhiman.springkafkaadminapi.dto.PartitionSkewReport.SkewFix;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PartitionSkewAnalyzer.
+ */
+class PartitionSkewAnalyzerUnitTest {
+
+    private static final Node BROKER_1 = new Node(1, "broker-1", 9092, "a");
+    private static final Node BROKER_2 = new Node(2, "broker-2", 9092, "a");
+    private static final Node BROKER_3 = new Node(3, "broker-3", 9092, "b");
+    // Still assigned replicas, but no longer in the cluster.
+    private static final Node BROKER_9 = new Node(9, "broker-9", 9092, "b");
+
+    private final PartitionSkewAnalyzer analyzer = new PartitionSkewAnalyzer();
+
+    @Test
+    void testReport_BalancedCluster() {
+        // Arrange - replicas and leaders rotate over three brokers without racks
+        List<Node> brokers = List.of(new Node(1, "broker-1", 9092), new Node(2, "broker-2", 9092),
+                new Node(3, "broker-3", 9092));
+        List<TopicPartitionInfo> partitions = new ArrayList<>();
+        for (int p = 0; p < 6; p++) {
+            List<Node> replicas = List.of(brokers.get(p % 3), brokers.get((p + 1) % 3));
+            partitions.add(new TopicPartitionInfo(p, replicas.get(0), replicas, replicas));
+        }
+
+        // Act
+        PartitionSkewReport report = analyzer.report(snapshot(brokers, partitions));
+
+        // Assert
+        assertEquals(6, report.partitions());
+        assertEquals(12, report.replicas());
+        assertEquals(0.0, report.score());
+        assertEquals(0.0, report.replicaSkew());
+        assertEquals(0.0, report.leaderSkew());
+        assertEquals(0, report.preferredLeaderMismatches());
+        assertTrue(report.fixes().isEmpty());
+        assertEquals(List.of(4, 4, 4), report.brokers().stream().map(BrokerSkew::replicas).toList());
+    }
+
+    @Test
+    void testReport_FindsDriftedLeadersRackViolationsAndOfflineBrokers() {
+        // Arrange
+        List<TopicPartitionInfo> partitions = List.of(
+                // Led by its second replica while the preferred one is in sync; both replicas in rack a
+                new TopicPartitionInfo(0, BROKER_2, List.of(BROKER_1, BROKER_2), List.of(BROKER_1, BROKER_2)),
+                // Preferred replica out of sync: an election would fail
+                new TopicPartitionInfo(1, BROKER_3, List.of(BROKER_1, BROKER_3), List.of(BROKER_3)),
+                new TopicPartitionInfo(2, BROKER_1, List.of(BROKER_1, BROKER_3), List.of(BROKER_1, BROKER_3)),
+                new TopicPartitionInfo(3, BROKER_3, List.of(BROKER_9, BROKER_3), List.of(BROKER_3)));
+
+        // Act
+        PartitionSkewReport report = analyzer.report(snapshot(List.of(BROKER_1, BROKER_2, BROKER_3), partitions));
+
+        // Assert
+        assertEquals(3, report.preferredLeaderMismatches());
+        assertEquals(1, report.electablePartitions());
+        assertEquals(1, report.rackViolations());
+        assertEquals(Map.of("orders", 1), report.rackViolationsByTopic());
+        assertEquals(0.125, report.replicaSkew());
+        assertEquals(0.5, report.leaderSkew());
+        // Broker 9's replica is the only load above a fair share: 1 of 8 replicas + 4 leaders
+        assertEquals(8.33, report.score());
+
+        assertEquals(List.of(1, 2, 3, 9), report.brokers().stream().map(BrokerSkew::id).toList());
+        BrokerSkew removed = report.brokers().get(3);
+        assertFalse(removed.online());
+        assertEquals(1, removed.replicas());
+        assertEquals(3, report.brokers().get(0).preferredLeaders());
+
+        assertEquals(List.of(Action.ELECT_PREFERRED_LEADERS, Action.REORDER_PREFERRED_LEADERS, Action.MOVE_REPLICAS,
+                Action.SPREAD_ACROSS_RACKS), report.fixes().stream().map(SkewFix::action).toList());
+        assertEquals(1, report.fixes().get(1).broker());
+        assertEquals(9, report.fixes().get(2).broker());
+        assertEquals(List.of(new TopicPartition("orders", 0)),
+                analyzer.electablePartitions(snapshot(List.of(BROKER_1, BROKER_2, BROKER_3), partitions)));
+    }
+
+    @Test
+    void testReport_ServedFromLatestSnapshotAnalysis() {
+        // Arrange
+        ClusterSnapshot snapshot = snapshot(List.of(BROKER_1), List.of(
+                new TopicPartitionInfo(0, BROKER_1, List.of(BROKER_1), List.of(BROKER_1))));
+
+        // Act
+        analyzer.onSnapshot(snapshot);
+
+        // Assert - the listener's analysis is reused, another snapshot is analyzed on its own
+        assertSame(analyzer.report(snapshot), analyzer.report(snapshot));
+        ClusterSnapshot other = snapshot(List.of(BROKER_1), List.of());
+        assertEquals(0, analyzer.report(other).partitions());
+    }
+
+    private static ClusterSnapshot snapshot(List<Node> brokers, List<TopicPartitionInfo> partitions) {
+        List<NodeInfo> nodes = brokers.stream().map(NodeInfo::new).toList();
+        return ClusterSnapshot.of(new ClusterInfo("test", nodes.get(0), nodes),
+                Map.of("orders", new TopicDescription("orders", false, partitions)), List.of(),
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
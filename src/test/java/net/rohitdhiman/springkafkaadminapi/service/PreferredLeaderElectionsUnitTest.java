@@ -0,0 +1,119 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.PreferredLeaderElectionResult;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.errors.ElectionNotNeededException;
+import org.apache.kafka.common.errors.PreferredLeaderNotAvailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PreferredLeaderElections.
+ */
+@ExtendWith(MockitoExtension.class)
+class PreferredLeaderElectionsUnitTest {
+
+    private static final Node BROKER_1 = new Node(1, "broker-1", 9092);
+    private static final Node BROKER_2 = new Node(2, "broker-2", 9092);
+    private static final TopicPartition ORDERS_0 = new TopicPartition("orders", 0);
+    private static final TopicPartition ORDERS_1 = new TopicPartition("orders", 1);
+    private static final TopicPartition PAYMENTS_0 = new TopicPartition("payments", 0);
+
+    @Mock
+    private KafkaService kafkaService;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    private PreferredLeaderElections elections;
+
+    @BeforeEach
+    void setUp() {
+        // One partition per batch
+        elections = new PreferredLeaderElections(kafkaService, metadataCache, new PartitionSkewAnalyzer(), 1);
+        // Every partition is led by broker 2 although broker 1 is preferred; payments-1 is already on broker 1
+        List<NodeInfo> nodes = List.of(new NodeInfo(BROKER_1), new NodeInfo(BROKER_2));
+        ClusterSnapshot snapshot = ClusterSnapshot.of(new ClusterInfo("test", nodes.get(0), nodes), Map.of(
+                "orders", new TopicDescription("orders", false, List.of(drifted(0), drifted(1))),
+                "payments", new TopicDescription("payments", false, List.of(drifted(0),
+                        new TopicPartitionInfo(1, BROKER_1, List.of(BROKER_1, BROKER_2), List.of(BROKER_1, BROKER_2))))),
+                List.of(), Instant.parse("2026-01-01T00:00:00Z"));
+        when(metadataCache.refresh()).thenReturn(CompletableFuture.completedFuture(snapshot));
+    }
+
+    @Test
+    void testElectPreferredLeaders_BatchesElectablePartitions() {
+        // Arrange
+        when(kafkaService.electPreferredLeaders(Set.of(ORDERS_0)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(ORDERS_0, Optional.empty())));
+        when(kafkaService.electPreferredLeaders(Set.of(ORDERS_1))).thenReturn(CompletableFuture.completedFuture(
+                Map.of(ORDERS_1, Optional.of(new ElectionNotNeededException("Already preferred")))));
+        when(kafkaService.electPreferredLeaders(Set.of(PAYMENTS_0)))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // Act
+        PreferredLeaderElectionResult result = elections.electPreferredLeaders(null).join();
+
+        // Assert
+        assertEquals(3, result.requested());
+        assertEquals(3, result.batches());
+        assertEquals(1, result.elected());
+        assertEquals(1, result.notNeeded());
+        assertEquals(1, result.failed());
+        assertEquals("payments", result.failures().get(0).topic());
+        assertTrue(result.failures().get(0).error().contains("TimeoutException"));
+        verify(metadataCache).invalidate();
+    }
+
+    @Test
+    void testElectPreferredLeaders_OnlyRequestedTopics() {
+        // Arrange
+        when(kafkaService.electPreferredLeaders(Set.of(PAYMENTS_0))).thenReturn(CompletableFuture.completedFuture(
+                Map.of(PAYMENTS_0, Optional.of(new PreferredLeaderNotAvailableException("Broker 1 is down")))));
+
+        // Act
+        PreferredLeaderElectionResult result = elections.electPreferredLeaders(List.of("payments")).join();
+
+        // Assert
+        assertEquals(1, result.requested());
+        assertEquals(1, result.failed());
+        verify(kafkaService, times(1)).electPreferredLeaders(anySet());
+    }
+
+    @Test
+    void testElectPreferredLeaders_RejectsUnknownTopics() {
+        // Act
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> elections.electPreferredLeaders(List.of("ghost")).join());
+
+        // Assert
+        assertInstanceOf(InvalidRequestException.class, error.getCause());
+        verifyNoInteractions(kafkaService);
+    }
+
+    private static TopicPartitionInfo drifted(int partition) {
+        return new TopicPartitionInfo(partition, BROKER_2, List.of(BROKER_1, BROKER_2), List.of(BROKER_1, BROKER_2));
+    }
+}
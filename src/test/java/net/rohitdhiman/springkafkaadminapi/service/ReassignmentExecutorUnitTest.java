@@ -0,0 +1,184 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan.PartitionMove;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentStatus.State;
+import net.rohitdhiman.springkafkaadminapi.exception.ReassignmentInProgressException;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.NewPartitionReassignment;
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReassignmentExecutor.
+ * Polls are queued and run by the test, so each step of an execution can be observed.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReassignmentExecutorUnitTest {
+
+    private static final TopicPartition ORDERS_0 = new TopicPartition("orders", 0);
+
+    @Mock
+    private KafkaService kafkaService;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    private final List<Runnable> polls = new ArrayList<>();
+    private final List<Map<ConfigResource, Collection<AlterConfigOp>>> configChanges = new ArrayList<>();
+    private final List<Map<TopicPartition, Optional<NewPartitionReassignment>>> reassignments = new ArrayList<>();
+    private ReassignmentExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // Waves of two partitions, 1 MB/s by default
+        executor = new ReassignmentExecutor(kafkaService, metadataCache, polls::add, 2, 1_048_576,
+                Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+        lenient().when(kafkaService.incrementalAlterConfigs(anyMap())).thenAnswer(invocation -> {
+            configChanges.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(null);
+        });
+        lenient().when(kafkaService.alterPartitionReassignments(anyMap())).thenAnswer(invocation -> {
+            reassignments.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @Test
+    void testStart_RunsThrottledWavesAndRemovesThrottles() {
+        // Arrange - the first poll finds partition 0 still moving
+        ReassignmentPlan plan = plan(
+                move("orders", 0, new int[]{1, 2}, new int[]{3, 2}),
+                move("orders", 1, new int[]{2, 1}, new int[]{1, 2}),
+                move("payments", 0, new int[]{1, 2}, new int[]{1, 3}));
+        when(kafkaService.listPartitionReassignments(anySet()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(ORDERS_0, mock(PartitionReassignment.class))))
+                .thenReturn(CompletableFuture.completedFuture(Map.of()));
+
+        // Act
+        ReassignmentStatus started = executor.start(plan, null, null);
+        polls.remove(0).run();
+        ReassignmentStatus firstWave = executor.status();
+        polls.remove(0).run();
+        polls.remove(0).run();
+
+        // Assert
+        assertEquals(State.RUNNING, started.state());
+        assertEquals(2, started.waves());
+        assertEquals(1, firstWave.inProgress());
+        assertEquals(0, firstWave.completedPartitions());
+
+        ReassignmentStatus finished = executor.status();
+        assertEquals(State.COMPLETED, finished.state());
+        assertEquals(3, finished.completedPartitions());
+        assertEquals(2, reassignments.size());
+        assertEquals(List.of(ORDERS_0, new TopicPartition("orders", 1)), List.copyOf(reassignments.get(0).keySet()));
+        assertEquals(List.of(3, 2), reassignments.get(0).get(ORDERS_0).orElseThrow().targetReplicas());
+
+        // Broker rates, then one set of topic throttles per wave, then one removal of everything
+        assertEquals(4, configChanges.size());
+        assertEquals("1048576", value(configChanges.get(0), broker(3), ReassignmentExecutor.LEADER_RATE));
+        // orders-1 is only reordered, so only orders-0 is throttled in the first wave
+        assertEquals("0:1,0:2", value(configChanges.get(1), topic("orders"), ReassignmentExecutor.LEADER_REPLICAS));
+        assertEquals("0:3", value(configChanges.get(1), topic("orders"), ReassignmentExecutor.FOLLOWER_REPLICAS));
+        assertEquals("0:3", value(configChanges.get(2), topic("payments"), ReassignmentExecutor.FOLLOWER_REPLICAS));
+        Map<ConfigResource, Collection<AlterConfigOp>> removal = configChanges.get(3);
+        assertEquals(Map.of(broker(1), 2, broker(2), 2, broker(3), 2, topic("orders"), 2, topic("payments"), 2),
+                countOps(removal));
+        assertTrue(removal.values().stream().flatMap(Collection::stream)
+                .allMatch(op -> op.opType() == AlterConfigOp.OpType.DELETE));
+        verify(metadataCache).invalidate();
+    }
+
+    @Test
+    void testCancel_CancelsMovingPartitionsAndSkipsLaterWaves() {
+        // Arrange
+        ReassignmentPlan plan = plan(
+                move("orders", 0, new int[]{1, 2}, new int[]{3, 2}),
+                move("orders", 1, new int[]{2, 1}, new int[]{3, 1}),
+                move("orders", 2, new int[]{1, 2}, new int[]{1, 3}));
+        when(kafkaService.listPartitionReassignments(anySet()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(ORDERS_0, mock(PartitionReassignment.class))));
+
+        // Act
+        executor.start(plan, 0L, null);
+        ReassignmentStatus cancelling = executor.cancel();
+        polls.remove(0).run();
+
+        // Assert - without a throttle no configs are changed
+        assertEquals(State.CANCELLING, cancelling.state());
+        ReassignmentStatus cancelled = executor.status();
+        assertEquals(State.CANCELLED, cancelled.state());
+        assertEquals(1, cancelled.completedPartitions());
+        assertEquals(2, reassignments.size());
+        assertEquals(Map.of(ORDERS_0, Optional.empty()), reassignments.get(1));
+        assertTrue(polls.isEmpty());
+        assertTrue(configChanges.isEmpty());
+        assertNull(executor.cancel());
+    }
+
+    @Test
+    void testStart_RejectsSecondExecutionWhileRunning() {
+        // Arrange
+        ReassignmentPlan plan = plan(move("orders", 0, new int[]{1, 2}, new int[]{3, 2}));
+        executor.start(plan, null, null);
+
+        // Act & Assert
+        assertThrows(ReassignmentInProgressException.class, () -> executor.start(plan, null, null));
+        assertEquals(1, reassignments.size());
+    }
+
+    private static ReassignmentPlan plan(PartitionMove... moves) {
+        return new ReassignmentPlan(moves.length, moves.length * 2, moves.length, 0, 1, List.of(), List.of(moves));
+    }
+
+    private static PartitionMove move(String topic, int partition, int[] current, int[] target) {
+        return new PartitionMove(topic, partition, current, target);
+    }
+
+    private static ConfigResource broker(int id) {
+        return new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(id));
+    }
+
+    private static ConfigResource topic(String name) {
+        return new ConfigResource(ConfigResource.Type.TOPIC, name);
+    }
+
+    private static String value(Map<ConfigResource, Collection<AlterConfigOp>> changes, ConfigResource resource,
+                                String name) {
+        return changes.get(resource).stream()
+                .filter(op -> op.configEntry().name().equals(name))
+                .findFirst()
+                .orElseThrow()
+                .configEntry()
+                .value();
+    }
+
+    private static Map<ConfigResource, Integer> countOps(Map<ConfigResource, Collection<AlterConfigOp>> changes) {
+        Map<ConfigResource, Integer> counts = new java.util.HashMap<>();
+        changes.forEach((resource, ops) -> counts.put(resource, ops.size()));
+        return counts;
+    }
+}
@@ -0,0 +1,139 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.ClusterInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.NodeInfo;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan.BrokerLoad;
+import net.rohitdhiman.springkafkaadminapi.dto.ReassignmentPlan.PartitionMove;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReassignmentPlanner.
+ */
+class ReassignmentPlannerUnitTest {
+
+    @Test
+    void testPlan_NewBrokerReceivesItsShareAndNothingMore() {
+        // Arrange - 60 partitions with two replicas on brokers 1-3; broker 4 was just added
+        List<Node> brokers = List.of(node(1, null), node(2, null), node(3, null), node(4, null));
+        ClusterSnapshot snapshot = snapshot(brokers, 6, 10, p -> new int[]{1 + p % 3, 1 + (p + 1) % 3});
+
+        // Act
+        ReassignmentPlan plan = ReassignmentPlanner.plan(snapshot, null, null);
+
+        // Assert - 30 replicas each, reached by copying exactly 30 replicas to broker 4
+        assertEquals(120, plan.replicas());
+        assertEquals(30, plan.movedReplicas());
+        for (BrokerLoad broker : plan.brokers()) {
+            assertEquals(30, broker.replicasAfter());
+            assertEquals(15, broker.leadersAfter());
+        }
+        assertEquals(0, plan.brokers().get(3).replicasBefore());
+    }
+
+    @Test
+    void testPlan_KeepsReplicasOfAPartitionInDifferentRacks() {
+        // Arrange - brokers 1 and 3 in rack a, 2 and 4 in rack b; every partition has one replica per rack
+        List<Node> brokers = List.of(node(1, "a"), node(2, "b"), node(3, "a"), node(4, "b"));
+        ClusterSnapshot snapshot = snapshot(brokers, 4, 8, p -> p % 2 == 0 ? new int[]{1, 2} : new int[]{2, 1});
+        Map<Integer, String> racks = Map.of(1, "a", 2, "b", 3, "a", 4, "b");
+
+        // Act
+        ReassignmentPlan plan = ReassignmentPlanner.plan(snapshot, null, null);
+
+        // Assert
+        assertFalse(plan.moves().isEmpty());
+        for (PartitionMove move : plan.moves()) {
+            int[] target = move.targetReplicas();
+            assertNotEquals(racks.get(target[0]), racks.get(target[1]), Arrays.toString(target));
+        }
+        plan.brokers().forEach(broker -> assertEquals(16, broker.replicasAfter()));
+    }
+
+    @Test
+    void testPlan_DrainsBrokersLeftOutOfTheTarget() {
+        // Arrange
+        List<Node> brokers = List.of(node(1, null), node(2, null), node(3, null));
+        ClusterSnapshot snapshot = snapshot(brokers, 3, 6, p -> new int[]{1 + p % 3, 1 + (p + 1) % 3});
+
+        // Act
+        ReassignmentPlan plan = ReassignmentPlanner.plan(snapshot, List.of(1, 2), null);
+
+        // Assert
+        BrokerLoad removed = plan.brokers().get(2);
+        assertFalse(removed.target());
+        assertEquals(12, removed.replicasBefore());
+        assertEquals(0, removed.replicasAfter());
+        assertEquals(0, removed.leadersAfter());
+        assertEquals(12, plan.movedReplicas());
+        for (PartitionMove move : plan.moves()) {
+            assertTrue(Arrays.stream(move.targetReplicas()).noneMatch(broker -> broker == 3));
+        }
+    }
+
+    @Test
+    void testPlan_BalancedClusterNeedsNoMoves() {
+        // Arrange
+        List<Node> brokers = List.of(node(1, null), node(2, null), node(3, null));
+        ClusterSnapshot snapshot = snapshot(brokers, 2, 6, p -> new int[]{1 + p % 3, 1 + (p + 1) % 3});
+
+        // Act
+        ReassignmentPlan plan = ReassignmentPlanner.plan(snapshot, null, null);
+
+        // Assert
+        assertTrue(plan.moves().isEmpty());
+        assertEquals(0, plan.movedReplicas());
+    }
+
+    @Test
+    void testPlan_RejectsUnknownBrokersAndTopics() {
+        // Arrange
+        List<Node> brokers = List.of(node(1, null), node(2, null));
+        ClusterSnapshot snapshot = snapshot(brokers, 1, 2, p -> new int[]{1, 2});
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> ReassignmentPlanner.plan(snapshot, List.of(1, 9), null));
+        assertThrows(InvalidRequestException.class, () -> ReassignmentPlanner.plan(snapshot, List.of(1), null));
+        assertThrows(InvalidRequestException.class, () -> ReassignmentPlanner.plan(snapshot, null, List.of("ghost")));
+    }
+
+    private interface Replicas {
+        int[] of(int partition);
+    }
+
+    private static Node node(int id, String rack) {
+        return new Node(id, "broker-" + id, 9092, rack);
+    }
+
+    // Partition numbers are global across topics so the replica pattern continues from one topic to the next.
+    private static ClusterSnapshot snapshot(List<Node> brokers, int topics, int partitionsPerTopic, Replicas replicas) {
+        Map<Integer, Node> byId = new HashMap<>();
+        brokers.forEach(broker -> byId.put(broker.id(), broker));
+        Map<String, TopicDescription> descriptions = new HashMap<>();
+        int global = 0;
+        for (int t = 0; t < topics; t++) {
+            List<TopicPartitionInfo> partitions = new ArrayList<>();
+            for (int p = 0; p < partitionsPerTopic; p++, global++) {
+                List<Node> nodes = Arrays.stream(replicas.of(global)).mapToObj(byId::get).toList();
+                partitions.add(new TopicPartitionInfo(p, nodes.get(0), nodes, nodes));
+            }
+            descriptions.put("topic-" + t, new TopicDescription("topic-" + t, false, partitions));
+        }
+        List<NodeInfo> nodes = brokers.stream().map(NodeInfo::new).toList();
+        return ClusterSnapshot.of(new ClusterInfo("test", nodes.get(0), nodes), descriptions, List.of(),
+                Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
@@ -0,0 +1,130 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SnapshotFile.
+ * Small blocks and windows make every test cross block and mapping boundaries.
+ */
+class SnapshotFileUnitTest {
+
+    private static final Instant CREATED = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testWriteAndRead_RoundTripsRecordsAcrossBlocksAndWindows() throws IOException {
+        // Arrange - timestamps go backwards now and then, some keys, values and header values are null
+        Path path = directory.resolve("orders.ksnap");
+        List<ConsumerRecord<byte[], byte[]>> written = new ArrayList<>();
+        for (int partition = 0; partition < 2; partition++) {
+            for (int i = 0; i < 40; i++) {
+                RecordHeaders headers = new RecordHeaders();
+                if (i % 3 == 0) {
+                    headers.add(new RecordHeader("trace", ("t-" + i).getBytes(StandardCharsets.UTF_8)));
+                    headers.add(new RecordHeader("empty", null));
+                }
+                written.add(new ConsumerRecord<>("orders", partition, 100 + i * 2L,
+                        1_700_000_000_000L + (i % 5 == 0 ? -i : i) * 1000L,
+                        i % 7 == 0 ? TimestampType.LOG_APPEND_TIME : TimestampType.CREATE_TIME, -1, -1,
+                        i % 4 == 0 ? null : ("key-" + i).getBytes(StandardCharsets.UTF_8),
+                        i % 10 == 0 ? null : ("{\"order\": " + i + "}").getBytes(StandardCharsets.UTF_8),
+                        headers, Optional.empty()));
+            }
+        }
+
+        // Act
+        try (SnapshotFile.Writer writer = SnapshotFile.create(path, "orders", 2, CREATED, 200, 512)) {
+            for (ConsumerRecord<byte[], byte[]> record : written) {
+                writer.append(record);
+            }
+            writer.finish();
+        }
+        List<ConsumerRecord<byte[], byte[]>> read = new ArrayList<>();
+        SnapshotFile.Info info;
+        int blocks = 0;
+        try (SnapshotFile.Reader reader = SnapshotFile.open(path, 512)) {
+            info = reader.info();
+            List<ConsumerRecord<byte[], byte[]>> block;
+            while ((block = reader.next()) != null) {
+                read.addAll(block);
+                blocks++;
+            }
+            assertEquals(Files.size(path), reader.position());
+        }
+
+        // Assert
+        assertEquals(new SnapshotFile.Info("orders", 2, 80, blocks, CREATED), info);
+        assertTrue(blocks > 2);
+        assertEquals(written.size(), read.size());
+        for (int i = 0; i < written.size(); i++) {
+            ConsumerRecord<byte[], byte[]> expected = written.get(i);
+            ConsumerRecord<byte[], byte[]> actual = read.get(i);
+            assertEquals("orders", actual.topic());
+            assertEquals(expected.partition(), actual.partition());
+            assertEquals(expected.offset(), actual.offset());
+            assertEquals(expected.timestamp(), actual.timestamp());
+            assertEquals(expected.timestampType(), actual.timestampType());
+            assertArrayEquals(expected.key(), actual.key());
+            assertArrayEquals(expected.value(), actual.value());
+            assertEquals(expected.headers(), actual.headers());
+        }
+    }
+
+    @Test
+    void testOpen_UnfinishedExportIsIncomplete() throws IOException {
+        // Arrange
+        Path path = directory.resolve("partial.ksnap");
+        try (SnapshotFile.Writer writer = SnapshotFile.create(path, "orders", 1, CREATED, 1024, 4096)) {
+            writer.append(new ConsumerRecord<>("orders", 0, 0, new byte[]{1}, new byte[]{2}));
+        }
+
+        // Act
+        SnapshotFile.Info info;
+        try (SnapshotFile.Reader reader = SnapshotFile.open(path, 4096)) {
+            info = reader.info();
+        }
+
+        // Assert
+        assertFalse(info.complete());
+        assertEquals(-1, info.records());
+    }
+
+    @Test
+    void testNext_RejectsCorruptBlocksAndOtherFiles() throws IOException {
+        // Arrange - flip a byte of the only block's compressed data
+        Path path = directory.resolve("corrupt.ksnap");
+        try (SnapshotFile.Writer writer = SnapshotFile.create(path, "orders", 1, CREATED, 1024, 4096)) {
+            writer.append(new ConsumerRecord<>("orders", 0, 0, new byte[]{1}, "some value".getBytes()));
+            writer.finish();
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 2] ^= 0x55;
+        Files.write(path, bytes);
+        Path other = Files.writeString(directory.resolve("notes.ksnap"), "not a snapshot at all, just some text");
+
+        // Act & Assert
+        try (SnapshotFile.Reader reader = SnapshotFile.open(path, 4096)) {
+            IOException error = assertThrows(IOException.class, reader::next);
+            assertTrue(error.getMessage().startsWith("Checksum mismatch"));
+        }
+        assertThrows(IOException.class, () -> SnapshotFile.open(other, 4096));
+    }
+}
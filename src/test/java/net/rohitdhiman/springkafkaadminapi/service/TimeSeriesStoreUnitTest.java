@@ -0,0 +1,83 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimeSeriesStore.
+ */
+class TimeSeriesStoreUnitTest {
+
+    @Test
+    void testRead_KeepsOnlyTheLastCapacitySamples() {
+        // Arrange
+        TimeSeriesStore store = new TimeSeriesStore(3);
+
+        // Act
+        for (long t = 1; t <= 5; t++) {
+            store.append(t * 1000, Map.of("orders", t * 10));
+        }
+        TimeSeriesStore.Samples samples = store.read("orders", 0, Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(3, samples.count());
+        assertArrayEquals(new long[]{3000, 4000, 5000}, Arrays.copyOf(samples.timestamps(), samples.count()));
+        assertArrayEquals(new long[]{30, 40, 50}, Arrays.copyOf(samples.values(), samples.count()));
+    }
+
+    @Test
+    void testRead_SkipsTicksInWhichSeriesWasAbsent() {
+        // Arrange
+        TimeSeriesStore store = new TimeSeriesStore(4);
+        store.append(1000, Map.of("orders", 1L, "billing", 7L));
+        store.append(2000, Map.of("billing", 8L));
+        store.append(3000, Map.of("orders", 3L, "billing", 9L));
+
+        // Act
+        TimeSeriesStore.Samples orders = store.read("orders", 0, Long.MAX_VALUE);
+        TimeSeriesStore.Samples billing = store.read("billing", 1500, 2500);
+
+        // Assert
+        assertArrayEquals(new long[]{1, 3}, Arrays.copyOf(orders.values(), orders.count()));
+        assertArrayEquals(new long[]{8}, Arrays.copyOf(billing.values(), billing.count()));
+    }
+
+    @Test
+    void testAppend_AddsToOneSeriesInATickSumUp() {
+        // Arrange
+        TimeSeriesStore store = new TimeSeriesStore(4);
+
+        // Act - three partitions of "orders" and one of "billing"
+        store.append(1000, tick -> {
+            tick.add("orders", 10);
+            tick.add("billing", 7);
+            tick.add("orders", 20);
+            tick.add("orders", 30);
+        });
+        store.append(2000, tick -> tick.add("orders", 5));
+        TimeSeriesStore.Samples orders = store.read("orders", 0, Long.MAX_VALUE);
+
+        // Assert
+        assertArrayEquals(new long[]{60, 5}, Arrays.copyOf(orders.values(), orders.count()));
+        assertEquals(1, store.read("billing", 0, Long.MAX_VALUE).count());
+    }
+
+    @Test
+    void testAppend_DropsSeriesAbsentForAWholeRing() {
+        // Arrange
+        TimeSeriesStore store = new TimeSeriesStore(2);
+        store.append(1000, Map.of("deleted-topic", 1L, "orders", 1L));
+
+        // Act
+        store.append(2000, Map.of("orders", 2L));
+        store.append(3000, Map.of("orders", 3L));
+
+        // Assert
+        assertEquals(1, store.seriesCount());
+        assertEquals(0, store.read("deleted-topic", 0, Long.MAX_VALUE).count());
+    }
+}
@@ -0,0 +1,150 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.BulkTopicResult;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicOperationResult;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicOperationResult.Status;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicSpec;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TopicBulkOperations.
+ * KafkaService is mocked with futures the test completes, to observe how many batches are in flight.
+ */
+@ExtendWith(MockitoExtension.class)
+class TopicBulkOperationsUnitTest {
+
+    @Mock
+    private KafkaService kafkaService;
+
+    @Mock
+    private ClusterMetadataCache metadataCache;
+
+    private TopicBulkOperations bulkOperations;
+
+    @BeforeEach
+    void setUp() {
+        // Batches of two topics, at most two batches in flight
+        bulkOperations = new TopicBulkOperations(kafkaService, metadataCache, 2, 2, 10);
+    }
+
+    @Test
+    void testCreateTopics_KeepsLimitedBatchesInFlight() {
+        // Arrange
+        List<Collection<NewTopic>> sentBatches = new ArrayList<>();
+        List<CompletableFuture<List<TopicOperationResult>>> pending = new ArrayList<>();
+        when(kafkaService.createTopics(anyCollection())).thenAnswer(invocation -> {
+            sentBatches.add(List.copyOf(invocation.<Collection<NewTopic>>getArgument(0)));
+            CompletableFuture<List<TopicOperationResult>> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        // Act
+        CompletableFuture<BulkTopicResult> result = bulkOperations.createTopics(List.of(
+                spec("t1"), spec("t2"), spec("t3"), spec("t4"), spec("t5")));
+
+        // Assert - two batches start, the third waits for a free slot
+        assertEquals(2, sentBatches.size());
+        complete(pending.get(1), sentBatches.get(1), Status.CREATED);
+        assertEquals(3, sentBatches.size());
+        assertEquals(List.of("t5"), sentBatches.get(2).stream().map(NewTopic::name).toList());
+        complete(pending.get(0), sentBatches.get(0), Status.EXISTS);
+        complete(pending.get(2), sentBatches.get(2), Status.CREATED);
+
+        BulkTopicResult bulk = result.join();
+        assertEquals(List.of("t1", "t2", "t3", "t4", "t5"),
+                bulk.results().stream().map(TopicOperationResult::topic).toList());
+        assertEquals(Status.EXISTS, bulk.results().get(0).status());
+        assertEquals(3, bulk.summary().get(Status.CREATED));
+        assertEquals(2, bulk.summary().get(Status.EXISTS));
+        verify(metadataCache).invalidate();
+    }
+
+    @Test
+    void testCreateTopics_FailedBatchOnlyFailsItsTopics() {
+        // Arrange - the first batch times out, the second succeeds
+        when(kafkaService.createTopics(anyCollection()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        TopicOperationResult.of("t3", Status.CREATED))));
+
+        // Act
+        BulkTopicResult bulk = bulkOperations.createTopics(List.of(spec("t1"), spec("t2"), spec("t3"))).join();
+
+        // Assert
+        assertEquals(Status.FAILED, bulk.results().get(0).status());
+        assertEquals(Status.FAILED, bulk.results().get(1).status());
+        assertEquals(Status.CREATED, bulk.results().get(2).status());
+    }
+
+    @Test
+    void testCreateTopics_IgnoresResultsForTopicsNotInTheBatch() {
+        // Arrange - the response also names a topic that was never sent
+        when(kafkaService.createTopics(anyCollection())).thenReturn(CompletableFuture.completedFuture(List.of(
+                TopicOperationResult.of("ghost", Status.CREATED),
+                TopicOperationResult.of("t1", Status.CREATED),
+                TopicOperationResult.of("t2", Status.EXISTS))));
+
+        // Act
+        BulkTopicResult bulk = bulkOperations.createTopics(List.of(spec("t1"), spec("t2"))).join();
+
+        // Assert
+        assertEquals(List.of("t1", "t2"), bulk.results().stream().map(TopicOperationResult::topic).toList());
+        assertEquals(Status.CREATED, bulk.results().get(0).status());
+        assertEquals(Status.EXISTS, bulk.results().get(1).status());
+    }
+
+    @Test
+    void testDeleteTopics_RejectsBlankAndDuplicateNamesLocally() {
+        // Arrange
+        when(kafkaService.deleteTopics(anyCollection())).thenReturn(CompletableFuture.completedFuture(List.of(
+                TopicOperationResult.of("orders", Status.DELETED))));
+
+        // Act
+        BulkTopicResult bulk = bulkOperations.deleteTopics(java.util.Arrays.asList("orders", " ", "orders")).join();
+
+        // Assert
+        verify(kafkaService, times(1)).deleteTopics(List.of("orders"));
+        assertEquals(Status.DELETED, bulk.results().get(0).status());
+        assertEquals(Status.FAILED, bulk.results().get(1).status());
+        assertEquals(Status.FAILED, bulk.results().get(2).status());
+    }
+
+    @Test
+    void testCreateTopics_RejectsOversizedRequest() {
+        // Arrange
+        List<TopicSpec> specs = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            specs.add(spec("t" + i));
+        }
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> bulkOperations.createTopics(specs));
+        verifyNoInteractions(kafkaService);
+    }
+
+    private static TopicSpec spec(String name) {
+        return new TopicSpec(name, 1, (short) 1, null);
+    }
+
+    private static void complete(CompletableFuture<List<TopicOperationResult>> future, Collection<NewTopic> batch,
+                                 Status status) {
+        future.complete(batch.stream().map(topic -> TopicOperationResult.of(topic.name(), status)).toList());
+    }
+}
@@ -0,0 +1,137 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TopicDescribeCoalescer.
+ * The flush executor only records scheduled flushes, so each test decides when the window closes.
+ */
+@ExtendWith(MockitoExtension.class)
+class TopicDescribeCoalescerUnitTest {
+
+    @Mock
+    private KafkaService kafkaService;
+
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private TopicDescribeCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new TopicDescribeCoalescer(kafkaService, scheduledFlushes::add, 3, meterRegistry);
+    }
+
+    @Test
+    void testDescribe_RequestsInOneWindowShareOneCall() throws Exception {
+        // Arrange
+        when(kafkaService.describeExistingTopics(anyCollection())).thenReturn(CompletableFuture.completedFuture(
+                Map.of("orders", topic("orders"), "payments", topic("payments"))));
+
+        // Act
+        CompletableFuture<TopicDescription> orders = coalescer.describe("orders");
+        CompletableFuture<TopicDescription> payments = coalescer.describe("payments");
+        CompletableFuture<TopicDescription> ordersAgain = coalescer.describe("orders");
+        assertEquals(1, scheduledFlushes.size());
+        scheduledFlushes.get(0).run();
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(kafkaService, times(1)).describeExistingTopics(batch.capture());
+        assertEquals(Set.of("orders", "payments"), Set.copyOf(batch.getValue()));
+        assertEquals("orders", orders.get().name());
+        assertEquals("payments", payments.get().name());
+        assertEquals("orders", ordersAgain.get().name());
+        assertEquals(3.0, meterRegistry.get("kafka.admin.describe.requests").counter().count());
+        assertEquals(1.0, meterRegistry.get("kafka.admin.describe.batches").counter().count());
+    }
+
+    @Test
+    void testDescribe_MissingTopicFailsOnlyItsCaller() throws Exception {
+        // Arrange
+        when(kafkaService.describeExistingTopics(anyCollection()))
+                .thenReturn(CompletableFuture.completedFuture(Map.of("orders", topic("orders"))));
+
+        // Act
+        CompletableFuture<TopicDescription> orders = coalescer.describe("orders");
+        CompletableFuture<TopicDescription> ghost = coalescer.describe("ghost");
+        coalescer.flush();
+
+        // Assert
+        assertEquals("orders", orders.get().name());
+        ExecutionException thrown = assertThrows(ExecutionException.class, ghost::get);
+        assertInstanceOf(UnknownTopicOrPartitionException.class, thrown.getCause());
+    }
+
+    @Test
+    void testDescribe_FullBatchIsSentWithoutWaitingForWindow() {
+        // Arrange
+        when(kafkaService.describeExistingTopics(anyCollection())).thenReturn(new CompletableFuture<>());
+
+        // Act
+        coalescer.describe("a");
+        coalescer.describe("b");
+        coalescer.describe("c");
+
+        // Assert
+        verify(kafkaService, times(1)).describeExistingTopics(anyCollection());
+    }
+
+    @Test
+    void testDescribe_CallerCancellingDoesNotAffectOthers() throws Exception {
+        // Arrange
+        CompletableFuture<Map<String, TopicDescription>> pending = new CompletableFuture<>();
+        when(kafkaService.describeExistingTopics(anyCollection())).thenReturn(pending);
+        CompletableFuture<TopicDescription> first = coalescer.describe("orders");
+        CompletableFuture<TopicDescription> second = coalescer.describe("orders");
+        coalescer.flush();
+
+        // Act
+        first.cancel(true);
+        pending.complete(Map.of("orders", topic("orders")));
+
+        // Assert
+        assertEquals("orders", second.get().name());
+    }
+
+    @Test
+    void testDescribe_BrokerFailureFailsWholeBatch() {
+        // Arrange
+        when(kafkaService.describeExistingTopics(anyCollection()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // Act
+        CompletableFuture<TopicDescription> orders = coalescer.describe("orders");
+        CompletableFuture<TopicDescription> payments = coalescer.describe("payments");
+        coalescer.flush();
+
+        // Assert
+        assertTrue(orders.isCompletedExceptionally());
+        assertTrue(payments.isCompletedExceptionally());
+    }
+
+    private static TopicDescription topic(String name) {
+        return new TopicDescription(name, false, List.of());
+    }
+}
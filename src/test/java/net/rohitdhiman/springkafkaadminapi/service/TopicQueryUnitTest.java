@@ -0,0 +1,62 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TopicQuery.
+ */
+class TopicQueryUnitTest {
+
+    private static final NavigableMap<String, Integer> TOPICS = new TreeMap<>();
+
+    static {
+        for (String name : List.of("audit", "orders", "orders.dlq", "orders.eu", "ordersx", "payments")) {
+            TOPICS.put(name, 1);
+        }
+    }
+
+    @Test
+    void testNames_PrefixSelectsOnlyMatchingRange() {
+        // Act
+        List<String> names = TopicQuery.of("orders.", null, null, null).names(TOPICS).toList();
+
+        // Assert
+        assertEquals(List.of("orders.dlq", "orders.eu"), names);
+    }
+
+    @Test
+    void testNames_DescendingCursorResumesAfterName() {
+        // Arrange
+        String cursor = TopicQuery.encodeCursor("orders.eu");
+
+        // Act
+        TopicQuery query = TopicQuery.of("orders", null, "desc", cursor);
+
+        // Assert - the cursor moves the start, the total still counts every match
+        assertEquals(List.of("orders.dlq", "orders"), query.names(TOPICS).toList());
+        assertEquals(4, query.count(TOPICS));
+    }
+
+    @Test
+    void testNames_PatternMatchesWholeName() {
+        // Act
+        List<String> names = TopicQuery.of(null, "orders\\.[a-z]{2}", null, null).names(TOPICS).toList();
+
+        // Assert
+        assertEquals(List.of("orders.eu"), names);
+    }
+
+    @Test
+    void testOf_RejectsInvalidInput() {
+        assertThrows(InvalidRequestException.class, () -> TopicQuery.of(null, "(", null, null));
+        assertThrows(InvalidRequestException.class, () -> TopicQuery.of(null, null, "sideways", null));
+        assertThrows(InvalidRequestException.class, () -> TopicQuery.of(null, null, null, "not base64!"));
+    }
+}
@@ -0,0 +1,200 @@
+package net.rohitdhiman.springkafkaadminapi.service;
+
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus;
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus.State;
+import net.rohitdhiman.springkafkaadminapi.dto.SnapshotJobStatus.Type;
+import net.rohitdhiman.springkafkaadminapi.dto.TopicSnapshotInfo;
+import net.rohitdhiman.springkafkaadminapi.exception.InvalidRequestException;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TopicSnapshots.
+ * Jobs run on the calling thread; the topic is served by MockConsumers and imports go to MockProducers.
+ * Partition 0 of "orders" holds offsets 0 to 29 (10 to 29 still retained), partition 1 offsets 0 to 4.
+ */
+@ExtendWith(MockitoExtension.class)
+class TopicSnapshotsUnitTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private KafkaService kafkaService;
+
+    private final List<MockProducer<byte[], byte[]>> producers = new ArrayList<>();
+
+    private TopicSnapshots snapshots;
+
+    @BeforeEach
+    void setUp() {
+        ConsumerPool pool = new ConsumerPool(TopicSnapshotsUnitTest::consumer, 1);
+        snapshots = new TopicSnapshots(kafkaService, pool, Runnable::run, () -> {
+            MockProducer<byte[], byte[]> producer = new MockProducer<>(true, new ByteArraySerializer(),
+                    new ByteArraySerializer());
+            producers.add(producer);
+            return producer;
+        }, directory, 256, 1024, Duration.ofSeconds(10), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testExportAndImport_ReplaysRecordsIntoPartitions() throws Exception {
+        // Arrange
+        stubOffsets();
+
+        // Act
+        SnapshotJobStatus exported = snapshots.export("orders", 2, null);
+        SnapshotJobStatus imported = snapshots.importSnapshot(exported.file(), "orders-copy", 1, true);
+
+        // Assert - partition 1 does not exist in the target, so its records go by key
+        assertEquals(State.COMPLETED, exported.state(), exported.error());
+        assertEquals("orders-20260101-120000.ksnap", exported.file());
+        assertEquals(25, exported.records());
+        assertEquals(25, exported.totalRecords());
+        assertEquals(Files.size(directory.resolve(exported.file())), exported.fileBytes());
+        List<TopicSnapshotInfo> files = snapshots.list();
+        assertEquals(1, files.size());
+        assertEquals(new TopicSnapshotInfo(exported.file(), "orders", 2, 25, files.get(0).blocks(),
+                exported.fileBytes(), NOW, true), files.get(0));
+        assertTrue(files.get(0).blocks() > 2);
+
+        assertEquals(State.COMPLETED, imported.state(), imported.error());
+        assertEquals(Type.IMPORT, imported.type());
+        assertEquals(25, imported.records());
+        List<ProducerRecord<byte[], byte[]>> sent = producers.get(0).history();
+        assertEquals(25, sent.size());
+        assertTrue(producers.get(0).closed());
+        ProducerRecord<byte[], byte[]> first = sent.get(0);
+        assertEquals("orders-copy", first.topic());
+        assertEquals(0, first.partition());
+        assertEquals("order-10", new String(first.value(), StandardCharsets.UTF_8));
+        assertEquals(1_700_000_010_000L, first.timestamp());
+        assertEquals("t-10", new String(first.headers().lastHeader("trace").value(), StandardCharsets.UTF_8));
+        assertNull(sent.get(20).partition());
+        assertEquals("order-0", new String(sent.get(20).value(), StandardCharsets.UTF_8));
+        assertEquals(imported, snapshots.status(imported.id()));
+        assertNull(snapshots.cancel(imported.id()));
+    }
+
+    @Test
+    void testImport_WithoutTimestamps() throws Exception {
+        // Arrange
+        stubOffsets();
+        SnapshotJobStatus exported = snapshots.export("orders", 2, "incident-42");
+
+        // Act
+        SnapshotJobStatus imported = snapshots.importSnapshot("incident-42", "orders", 2, false);
+
+        // Assert
+        assertEquals("incident-42.ksnap", exported.file());
+        assertEquals(State.COMPLETED, imported.state());
+        assertTrue(producers.get(0).history().stream().allMatch(record -> record.timestamp() == null));
+        assertEquals(5, producers.get(0).history().stream().filter(record -> record.partition() == 1).count());
+    }
+
+    @Test
+    void testExport_FailureLeavesNoFile() throws Exception {
+        // Arrange
+        when(kafkaService.listOffsets(anyCollection(), isA(OffsetSpec.EarliestSpec.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // Act
+        SnapshotJobStatus status = snapshots.export("orders", 2, "broken");
+
+        // Assert
+        assertEquals(State.FAILED, status.state());
+        assertTrue(status.error().contains("broker down"));
+        assertFalse(Files.exists(directory.resolve("broken.ksnap")));
+        assertTrue(snapshots.list().isEmpty());
+    }
+
+    @Test
+    void testExportAndImport_RejectInvalidFiles() throws Exception {
+        // Arrange
+        Files.writeString(directory.resolve("taken.ksnap"), "something else");
+        try (SnapshotFile.Writer writer = SnapshotFile.create(directory.resolve("partial.ksnap"), "orders", 1, NOW,
+                256, 1024)) {
+            writer.append(new ConsumerRecord<>("orders", 0, 0, null, new byte[]{1}));
+        }
+
+        // Act & Assert
+        assertThrows(InvalidRequestException.class, () -> snapshots.export("orders", 2, "../escape"));
+        assertThrows(InvalidRequestException.class, () -> snapshots.export("orders", 2, "taken"));
+        assertThrows(InvalidRequestException.class, () -> snapshots.importSnapshot("missing", "orders", 2, true));
+        assertThrows(InvalidRequestException.class, () -> snapshots.importSnapshot("taken", "orders", 2, true));
+        assertThrows(InvalidRequestException.class, () -> snapshots.importSnapshot("partial", "orders", 2, true));
+        assertTrue(producers.isEmpty());
+    }
+
+    private void stubOffsets() {
+        when(kafkaService.listOffsets(anyCollection(), isA(OffsetSpec.EarliestSpec.class)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(new TopicPartition("orders", 0), 10L,
+                        new TopicPartition("orders", 1), 0L)));
+        when(kafkaService.listOffsets(anyCollection(), isA(OffsetSpec.LatestSpec.class)))
+                .thenReturn(CompletableFuture.completedFuture(Map.of(new TopicPartition("orders", 0), 30L,
+                        new TopicPartition("orders", 1), 5L)));
+    }
+
+    // Every assignment refills the assigned partitions, so the pooled consumer can read them again.
+    private static MockConsumer<byte[], byte[]> consumer() {
+        return new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void assign(Collection<TopicPartition> partitions) {
+                super.assign(partitions);
+                Map<TopicPartition, Long> beginning = new HashMap<>();
+                for (TopicPartition partition : partitions) {
+                    beginning.put(partition, partition.partition() == 0 ? 10L : 0L);
+                }
+                updateBeginningOffsets(beginning);
+                for (TopicPartition partition : partitions) {
+                    int end = partition.partition() == 0 ? 30 : 5;
+                    for (int offset = beginning.get(partition).intValue(); offset < end; offset++) {
+                        RecordHeaders headers = new RecordHeaders(List.of(new RecordHeader("trace",
+                                ("t-" + offset).getBytes(StandardCharsets.UTF_8))));
+                        addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(), offset,
+                                1_700_000_000_000L + offset * 1000L, TimestampType.CREATE_TIME, -1, -1,
+                                ("key-" + offset).getBytes(StandardCharsets.UTF_8),
+                                ("order-" + offset).getBytes(StandardCharsets.UTF_8), headers, Optional.empty()));
+                    }
+                }
+            }
+        };
+    }
+}